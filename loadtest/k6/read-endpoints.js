@@ -0,0 +1,59 @@
+// 조회 API 부하 테스트 (플랫폼 스레드 / 가상 스레드 모드 비교용)
+//
+// k6 run -e BASE_URL=http://localhost:5479 -e TOKEN=<access token> -e PROJECT_ID=1 \
+//   -e MODE=virtual loadtest/k6/read-endpoints.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:5479';
+const TOKEN = __ENV.TOKEN;
+const PROJECT_ID = __ENV.PROJECT_ID || '1';
+const MODE = __ENV.MODE || 'platform';
+const RATE = Number(__ENV.RATE || 50);
+const DURATION = __ENV.DURATION || '2m';
+
+const rejected = new Counter('rejected_503');
+
+export const options = {
+  scenarios: {
+    reads: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: RATE * 2,
+      maxVUs: RATE * 10,
+    },
+  },
+  tags: { mode: MODE },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    http_req_duration: ['p(95)<500'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function today() {
+  return new Date().toISOString().slice(0, 10);
+}
+
+const requests = [
+  () => `/api/v1/report`,
+  () => `/api/v1/calendar/today`,
+  () => `/api/v1/project/${PROJECT_ID}/tasks?reqDate=${today()}`,
+  () => `/api/v1/project/${PROJECT_ID}/skill-summary`,
+  () => `/api/v1/project`,
+];
+
+export default function () {
+  const path = requests[Math.floor(Math.random() * requests.length)]();
+  const res = http.get(`${BASE_URL}${path}`, {
+    headers: { Authorization: `Bearer ${TOKEN}` },
+    tags: { name: path.split('?')[0].replace(/\/\d+(?=\/|$)/g, '/{id}') },
+  });
+  if (res.status === 503) {
+    rejected.add(1);
+  }
+  check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 / 가상 스레드 모드를 같은 조건(compose.yaml의 WAS 0.2 CPU, 512M)으로 차례로 실행하고
+# 측정 결과를 loadtest/results/results.md 표에 한 행씩 추가한다.
+#
+# 필요: docker compose, k6, jq, curl
+# TOKEN=<access token> PROJECT_ID=1 RATES="50 100 200" loadtest/run-comparison.sh
+set -euo pipefail
+
+: "${TOKEN:?TOKEN(Access 토큰) 환경 변수가 필요합니다.}"
+BASE_URL=${BASE_URL:-http://localhost}
+ACTUATOR_URL=${ACTUATOR_URL:-$BASE_URL}
+PROJECT_ID=${PROJECT_ID:-1}
+RATES=${RATES:-"50 100 200"}
+DURATION=${DURATION:-2m}
+
+DIR=$(cd "$(dirname "$0")" && pwd)
+OUT=$DIR/results
+RESULTS=$OUT/results.md
+mkdir -p "$OUT"
+
+if [ ! -f "$RESULTS" ]; then
+  cat > "$RESULTS" <<'HEADER'
+| 커밋 | 모드 | RATE | p50 (ms) | p95 (ms) | p99 (ms) | 실패율 | 503 수 | 고정 이벤트 수 |
+|------|------|------|----------|----------|----------|--------|--------|----------------|
+HEADER
+fi
+COMMIT=$(git -C "$DIR" rev-parse --short HEAD)
+
+wait_ready() {
+  until curl -fsS "$ACTUATOR_URL/actuator/health" > /dev/null 2>&1; do
+    sleep 2
+  done
+}
+
+# WAS를 모드마다 새로 띄우므로 카운터는 해당 실행의 값
+pinned_count() {
+  curl -fsS "$ACTUATOR_URL/actuator/metrics/jvm.threads.virtual.pinned" 2> /dev/null \
+    | jq '.measurements[0].value // 0' || echo 0
+}
+
+for mode in platform virtual; do
+  for rate in $RATES; do
+    virtual=false
+    [ "$mode" = virtual ] && virtual=true
+    VIRTUAL_THREADS_ENABLED=$virtual \
+      docker compose -f "$DIR/../compose.yaml" up -d --force-recreate was
+    wait_ready
+
+    summary=$OUT/$mode-$rate.json
+    # 임계값을 넘겨도 다음 측정을 계속 진행
+    k6 run --quiet --summary-export "$summary" \
+      -e BASE_URL="$BASE_URL" -e TOKEN="$TOKEN" -e PROJECT_ID="$PROJECT_ID" \
+      -e MODE="$mode" -e RATE="$rate" -e DURATION="$DURATION" \
+      "$DIR/k6/read-endpoints.js" || true
+
+    jq -r --arg commit "$COMMIT" --arg mode "$mode" --arg rate "$rate" \
+      --arg pinned "$(pinned_count)" '
+      .metrics as $m
+      | $m.http_req_duration as $d
+      | "| \($commit) | \($mode) | \($rate) | \($d["p(50)"] | round) | \($d["p(95)"] | round)"
+        + " | \($d["p(99)"] | round) | \(($m.http_req_failed.value // 0) * 10000 | round / 100)%"
+        + " | \($m.rejected_503.count // 0) | \($pinned | tonumber | round) |"' \
+      "$summary" >> "$RESULTS"
+  done
+done
+
+echo "결과: $RESULTS"
@@ -1,10 +1,13 @@
 package com.trekker.domain.calender.api;
 
+import static com.trekker.global.version.DataAggregate.TASK;
+
 import com.trekker.domain.calender.api.docs.CalendarApi;
 import com.trekker.domain.calender.application.CalendarService;
 import com.trekker.domain.calender.dto.res.MonthlyTaskSummaryDto;
 import com.trekker.domain.task.dto.res.TaskResDto;
 import com.trekker.global.config.security.annotation.LoginMember;
+import com.trekker.global.version.DataVersioned;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,6 +25,7 @@ public class CalendarController implements CalendarApi {
     private final CalendarService calendarService;
 
     @GetMapping("/month")
+    @DataVersioned({TASK})
     public ResponseEntity<List<MonthlyTaskSummaryDto>> getMonthlyCalendar(
             @LoginMember Long memberId,
             @RequestParam int year,
@@ -33,6 +37,7 @@ public class CalendarController implements CalendarApi {
     }
 
     @GetMapping("/today")
+    @DataVersioned({TASK})
     public ResponseEntity<List<TaskResDto>> getTodayTask(
             @LoginMember Long memberId
     ) {
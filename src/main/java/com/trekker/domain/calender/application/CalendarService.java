@@ -1,11 +1,14 @@
 package com.trekker.domain.calender.application;
 
 import com.trekker.domain.calender.dto.res.MonthlyTaskSummaryDto;
-import com.trekker.domain.task.dao.TaskRepository;
+import com.trekker.domain.task.cache.TaskIntervalIndexCache;
+import com.trekker.domain.task.dao.RecurringTaskRepository;
+import com.trekker.domain.task.dto.RecurringTaskDto;
 import com.trekker.domain.task.dto.res.TaskResDto;
-import com.trekker.domain.task.entity.Task;
+import com.trekker.domain.task.util.RecurringTaskExpander;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -13,7 +16,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CalendarService {
 
-    private final TaskRepository taskRepository;
+    private final TaskIntervalIndexCache taskIntervalIndexCache;
+    private final RecurringTaskRepository recurringTaskRepository;
 
 
     /**
@@ -29,12 +33,16 @@ public class CalendarService {
         LocalDate startOfMonth = LocalDate.of(year,month,1);
         LocalDate endOfMonth = startOfMonth.withDayOfMonth(startOfMonth.lengthOfMonth());
 
-        // 월간 데이터 조회
-        return taskRepository.getMonthlyTaskSummary(memberId, startOfMonth, endOfMonth);
+        // 월간 데이터 조회 (종료일이 있는 할 일만 표시, 반복 할 일의 발생은 하루짜리이므로 제외)
+        return taskIntervalIndexCache.findOverlapping(memberId, startOfMonth, endOfMonth).stream()
+                .filter(span -> span.endDate() != null)
+                .map(span -> new MonthlyTaskSummaryDto(span.startDate(), span.endDate(),
+                        span.name()))
+                .toList();
     }
 
     /**
-     * 오늘의 할 일을 조회합니다.
+     * 오늘의 할 일을 조회합니다. (오늘 발생하는 반복 할 일 포함)
      * @param memberId 조회할 회원의 ID
      * @return 오늘 날짜 기준 사용자의 할 일
      */
@@ -42,12 +50,14 @@ public class CalendarService {
         // 오늘 날짜 계산
         LocalDate today = LocalDate.now();
 
-        // 오늘의 할 일 목록 조회
-        List<Task> tasksForToday = taskRepository.findTasksForToday(memberId, today);
-
-        // DTO로 변환 및 반환
-        return tasksForToday.stream()
-                .map(TaskResDto::toDto)
-                .toList();
+        // 오늘의 할 일 목록과 반복 할 일의 오늘 발생 조회 후 DTO로 변환 및 반환
+        Stream<TaskResDto> tasks = taskIntervalIndexCache.findOn(memberId, today).stream()
+                .map(TaskResDto::toDto);
+        List<RecurringTaskDto> recurringTasks = recurringTaskRepository
+                .findRecurringTasksByMemberId(memberId, today, today);
+        Stream<TaskResDto> occurrences = RecurringTaskExpander.expand(recurringTasks, today, today)
+                .stream()
+                .map(TaskResDto::toDto);
+        return Stream.concat(tasks, occurrences).toList();
     }
 }
@@ -1,17 +1,23 @@
 package com.trekker.domain.member.api;
 
 import com.trekker.domain.member.api.docs.MemberApi;
+import com.trekker.domain.member.application.MemberExportService;
 import com.trekker.domain.member.application.MemberService;
 import com.trekker.domain.member.dto.req.MemberFeedbackReqDto;
 import com.trekker.domain.member.dto.req.MemberUpdateReqDto;
 import com.trekker.domain.member.dto.req.OnboardingReqDto;
 import com.trekker.domain.member.dto.res.MemberPortfolioResDto;
 import com.trekker.domain.member.dto.res.MemberResDto;
+import com.trekker.domain.member.util.ExportFormat;
 import com.trekker.global.config.security.annotation.LoginMember;
+import com.trekker.global.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 
@@ -21,6 +27,7 @@ import jakarta.validation.Valid;
 public class MemberController implements MemberApi {
 
     private final MemberService memberService;
+    private final MemberExportService memberExportService;
 
     @GetMapping("/profile")
     public ResponseEntity<MemberResDto> getMember(@LoginMember Long memberId) {
@@ -48,8 +55,12 @@ public class MemberController implements MemberApi {
     }
 
     @GetMapping("/profile/portfolio")
-    public ResponseEntity<MemberPortfolioResDto> getPortfolio(@LoginMember Long memberId) {
-        MemberPortfolioResDto portfolio = memberService.getPortfolio(memberId);
+    public ResponseEntity<MemberPortfolioResDto> getPortfolio(
+            @LoginMember Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) int size
+    ) {
+        MemberPortfolioResDto portfolio = memberService.getPortfolio(memberId, cursor, size);
         return ResponseEntity.ok(portfolio);
     }
 
@@ -61,4 +72,20 @@ public class MemberController implements MemberApi {
         memberService.saveFeedBack(memberId, feedbackReqDto);
         return ResponseEntity.noContent().build();
     }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMemberData(
+            @LoginMember Long memberId,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = memberExportService.export(memberId, exportFormat);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("trekker-export." + exportFormat.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
 }
\ No newline at end of file
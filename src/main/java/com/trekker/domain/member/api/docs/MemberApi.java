@@ -5,6 +5,7 @@ import com.trekker.domain.member.dto.req.MemberUpdateReqDto;
 import com.trekker.domain.member.dto.req.OnboardingReqDto;
 import com.trekker.domain.member.dto.res.MemberPortfolioResDto;
 import com.trekker.domain.member.dto.res.MemberResDto;
+import com.trekker.global.pagination.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 
@@ -66,14 +68,20 @@ public interface MemberApi {
 
     @Operation(
             summary = "회원 포트폴리오 조회",
-            description = "회원의 포트폴리오 정보를 조회합니다.",
+            description = """
+                    회원의 포트폴리오 정보를 조회합니다.
+                     - 완료 프로젝트는 프로젝트 순으로 나누어 조회합니다.
+                     - 응답의 `nextCursor`를 `cursor`로 전달하면 다음 프로젝트 페이지를 조회합니다.
+                    """,
             security = @SecurityRequirement(name = "BearerAuth" )
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "회원 포트폴리오 조회 성공" )
     })
     ResponseEntity<MemberPortfolioResDto> getPortfolio(
-            @Parameter(hidden = true) Long memberId
+            @Parameter(hidden = true) Long memberId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)" ) String cursor,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "20" ) int size
     );
 
     @Operation(
@@ -88,4 +96,26 @@ public interface MemberApi {
             @Parameter(hidden = true) Long memberId,
             MemberFeedbackReqDto memberFeedbackReqDto
     );
+
+    @Operation(
+            summary = "회원 데이터 내보내기",
+            description = """
+                    회원의 전체 프로젝트, 할 일, 회고, 스킬, 반복 할 일을 파일로 내려받습니다.
+                     - `ndjson`: 할 일 하나당 JSON 한 줄 (할 일이 없는 프로젝트는 task가 null인 한 줄)
+                     - 할 일 뒤에 반복 할 일 하나당 한 줄 (recurringTask에 반복 규칙과 완료한 발생일)
+                     - `csv`: 할 일·반복 할 일 하나당 한 행, 스킬·요일·완료일은 `;`로 구분 (UTF-8 BOM 포함)
+                     - 응답은 조회하는 대로 전송되며, 동시에 실행할 수 있는 내보내기 수가 제한됩니다.
+                    """,
+            security = @SecurityRequirement(name = "BearerAuth" )
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "회원 데이터 내보내기 성공" ),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식" ),
+            @ApiResponse(responseCode = "503", description = "실행 중인 내보내기가 많아 처리할 수 없음" )
+    })
+    ResponseEntity<StreamingResponseBody> exportMemberData(
+            @Parameter(hidden = true) Long memberId,
+            @Parameter(description = "내보내기 형식 (ndjson, csv)", example = "ndjson")
+            String format
+    );
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.trekker.domain.member.application;
+
+import com.trekker.domain.member.dao.MemberPurgeRepository;
+import com.trekker.domain.report.dao.DailyTaskStatRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 탈퇴 후 보관 기간이 지난 회원의 프로젝트, 할 일, 회고를 아카이브 테이블로 옮기고 삭제
+ * <p>
+ * 한 배치는 회원 한 명의 행을 최대 batch-size 개까지 처리하고 자체 트랜잭션으로 커밋하므로,
+ * 락 유지 시간과 undo 로그 크기가 데이터 양과 무관하게 일정하다.
+ * 서비스 부하를 줄이기 위해 새벽에 실행하며, 배치 사이에 쉬고 실행 시간이 한도에 도달하면 다음 실행으로 넘긴다.
+ * 회원 행은 피드백 테이블이 참조하므로 삭제하지 않고, 정리가 끝난 시각을 기록하여 다음 대상 조회에서 제외한다.
+ */
+@Slf4j
+@Component
+public class DeletedMemberPurger {
+
+    private final MemberPurgeRepository memberPurgeRepository;
+    private final DailyTaskStatRepository dailyTaskStatRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int batchSize;
+    private final long batchPauseMillis;
+    private final long maxRunNanos;
+
+    public DeletedMemberPurger(MemberPurgeRepository memberPurgeRepository,
+            DailyTaskStatRepository dailyTaskStatRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${member-purge.retention-days:30}") int retentionDays,
+            @Value("${member-purge.batch-size:500}") int batchSize,
+            @Value("${member-purge.batch-pause-millis:200}") long batchPauseMillis,
+            @Value("${member-purge.max-run-minutes:30}") long maxRunMinutes) {
+        this.memberPurgeRepository = memberPurgeRepository;
+        this.dailyTaskStatRepository = dailyTaskStatRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+        this.maxRunNanos = TimeUnit.MINUTES.toNanos(maxRunMinutes);
+    }
+
+    /**
+     * 정리할 데이터가 없거나 실행 시간 한도에 도달할 때까지 배치를 반복한다.
+     *
+     * @return 실행한 배치 수
+     */
+    @Scheduled(cron = "${member-purge.cron:0 0 4 * * *}", zone = "${member-purge.zone:Asia/Seoul}")
+    public int purge() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minusDays(retentionDays);
+        long deadline = System.nanoTime() + maxRunNanos;
+        int batches = 0;
+
+        while (System.nanoTime() - deadline < 0) {
+            Boolean purged = transactionTemplate.execute(status -> purgeNextBatch(deletedBefore));
+            if (!Boolean.TRUE.equals(purged)) {
+                break;
+            }
+            batches++;
+            if (!pause()) {
+                break;
+            }
+        }
+
+        if (batches > 0) {
+            log.info("탈퇴 회원 데이터 정리: batches = {}, deletedBefore = {}", batches,
+                    deletedBefore);
+        }
+        return batches;
+    }
+
+    /**
+     * 가장 먼저 정리할 회원의 할 일, 프로젝트, 통계 순으로 한 배치를 정리한다.
+     * (통계를 지우는 마지막 배치에서 정리 완료를 기록)
+     *
+     * @return 정리할 대상이 없으면 false
+     */
+    private boolean purgeNextBatch(LocalDateTime deletedBefore) {
+        List<Long> memberIds = memberPurgeRepository.findPurgeTargetMemberIds(deletedBefore, 1);
+        if (memberIds.isEmpty()) {
+            return false;
+        }
+        Long memberId = memberIds.get(0);
+
+        List<Long> taskIds = memberPurgeRepository.findTaskIdsByMemberId(memberId, batchSize);
+        if (!taskIds.isEmpty()) {
+            memberPurgeRepository.archiveRetrospectiveSkills(taskIds);
+            memberPurgeRepository.deleteRetrospectiveSkills(taskIds);
+            memberPurgeRepository.archiveRetrospectives(taskIds);
+            memberPurgeRepository.deleteRetrospectives(taskIds);
+            memberPurgeRepository.archiveTasks(taskIds);
+            memberPurgeRepository.deleteTasks(taskIds);
+            return true;
+        }
+
+        List<Long> projectIds = memberPurgeRepository.findProjectIdsByMemberId(memberId,
+                batchSize);
+        if (!projectIds.isEmpty()) {
+            memberPurgeRepository.archiveProjectRetrospectives(projectIds);
+            memberPurgeRepository.deleteProjectRetrospectives(projectIds);
+            memberPurgeRepository.archiveRecurringTasks(projectIds);
+            memberPurgeRepository.deleteRecurringTasks(projectIds);
+            memberPurgeRepository.archiveProjects(projectIds);
+            memberPurgeRepository.deleteProjects(projectIds);
+            return true;
+        }
+
+        // 통계는 할 일에서 다시 만들 수 있으므로 보관하지 않는다.
+        dailyTaskStatRepository.deleteByMemberId(memberId);
+        memberPurgeRepository.markPurged(memberId, LocalDateTime.now());
+        return true;
+    }
+
+    private boolean pause() {
+        if (batchPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.trekker.domain.member.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trekker.domain.member.dto.MemberExportRecordDto;
+import com.trekker.domain.member.dto.MemberExportRecurringTaskRowDto;
+import com.trekker.domain.member.dto.MemberExportRowDto;
+import com.trekker.domain.member.util.ExportFormat;
+import com.trekker.domain.member.util.MemberExportAssembler;
+import com.trekker.domain.member.util.MemberExportWriter;
+import com.trekker.domain.project.dao.ProjectRepository;
+import com.trekker.domain.task.dao.RecurringTaskRepository;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import java.io.OutputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 회원의 전체 데이터(프로젝트, 할 일, 회고, 스킬, 반복 할 일과 완료 기록) 내보내기
+ * <p>
+ * 조회 결과를 한 행씩 읽어 바로 응답에 쓰므로, 메모리 사용량은 데이터 양과 무관하게 할 일 하나와
+ * 출력 버퍼 크기로 일정하다. 조회는 엔티티가 아닌 DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않는다.
+ * 프로젝트의 할 일 레코드를 모두 쓴 뒤 반복 할 일 레코드를 이어서 쓴다.
+ * <p>
+ * 내보내기는 응답을 다 쓸 때까지 커넥션을 점유하므로 동시에 실행하는 수를 제한한다.
+ * 실행 허가는 본문을 쓰는 동안에만 잡는다. 본문이 실행되지 않고 요청이 끝나더라도(비동기 작업 거부, 시간 초과 등)
+ * 허가가 반환되지 않는 일이 없도록, 요청 시점에는 남은 허가가 있는지만 확인한다.
+ */
+@Slf4j
+@Service
+public class MemberExportService {
+
+    // 요청 시점 확인 이후 다른 내보내기가 먼저 허가를 잡은 경우 기다리는 시간
+    private static final long PERMIT_WAIT_SECONDS = 5;
+
+    private final ProjectRepository projectRepository;
+    private final RecurringTaskRepository recurringTaskRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+
+    public MemberExportService(ProjectRepository projectRepository,
+            RecurringTaskRepository recurringTaskRepository, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${member-export.max-concurrent:2}") int maxConcurrent) {
+        this.projectRepository = projectRepository;
+        this.recurringTaskRepository = recurringTaskRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 회원 데이터를 지정한 형식으로 쓰는 응답 본문을 만든다.
+     * <p>
+     * 본문은 요청 스레드가 아닌 비동기 스레드에서 쓰이므로, 트랜잭션도 본문을 쓸 때 연다.
+     *
+     * @param memberId 회원 ID
+     * @param format   내보내기 형식
+     * @return 응답 본문
+     * @throws BusinessException 동시에 실행 중인 내보내기가 한도에 도달한 경우
+     */
+    public StreamingResponseBody export(Long memberId, ExportFormat format) {
+        if (permits.availablePermits() == 0) {
+            throw new BusinessException(memberId, "memberId", ErrorCode.SERVER_BUSY);
+        }
+        return outputStream -> {
+            acquirePermit(memberId);
+            try {
+                readOnlyTransaction.executeWithoutResult(
+                        status -> writeExport(memberId, format, outputStream));
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private void acquirePermit(Long memberId) {
+        try {
+            if (permits.tryAcquire(PERMIT_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new BusinessException(memberId, "memberId", ErrorCode.SERVER_BUSY);
+    }
+
+    private void writeExport(Long memberId, ExportFormat format, OutputStream outputStream) {
+        long start = System.nanoTime();
+        long[] records = {0};
+        try (MemberExportWriter writer = format.createWriter(outputStream, objectMapper)) {
+            // 한 커넥션에서 스트리밍 조회는 하나씩만 열 수 있으므로 앞의 스트림을 닫은 뒤 다음 조회
+            try (Stream<MemberExportRowDto> rows = projectRepository.streamExportRowsByMemberId(
+                    memberId)) {
+                MemberExportAssembler assembler = new MemberExportAssembler(record -> {
+                    writer.write(record);
+                    records[0]++;
+                });
+                rows.forEach(assembler::accept);
+                assembler.finish();
+            }
+            try (Stream<MemberExportRecurringTaskRowDto> rows = recurringTaskRepository
+                    .streamExportRowsByMemberId(memberId)) {
+                rows.forEach(row -> {
+                    writer.write(MemberExportRecordDto.from(row));
+                    records[0]++;
+                });
+            }
+        }
+        log.info("회원 데이터 내보내기 완료: memberId = {}, format = {}, records = {}, {} ms",
+                memberId, format, records[0], (System.nanoTime() - start) / 1_000_000);
+    }
+}
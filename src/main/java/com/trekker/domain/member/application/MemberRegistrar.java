@@ -0,0 +1,46 @@
+package com.trekker.domain.member.application;
+
+import com.trekker.domain.member.dao.MemberRepository;
+import com.trekker.domain.member.dto.MemberIdentityDto;
+import com.trekker.domain.member.entity.Member;
+import com.trekker.domain.member.entity.Role;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 소셜 로그인 회원 등록
+ * <p>
+ * 동시에 처음 로그인한 요청 중 하나만 등록에 성공하고, 나머지는 social_providers.provider_id의
+ * 유니크 제약으로 실패한다. 실패한 쪽이 호출한 트랜잭션을 망가뜨리지 않도록 등록과 재조회는
+ * 각각 새 트랜잭션에서 수행한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberRegistrar {
+
+    private final MemberRepository memberRepository;
+
+    /**
+     * 새 회원 등록
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException 이미 등록된 소셜 계정인 경우
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public MemberIdentityDto register(String email, String provider, String providerId) {
+        Member member = memberRepository.saveAndFlush(
+                Member.toMember(email, Role.USER, provider, providerId));
+        return new MemberIdentityDto(member.getId(), member.getRole(),
+                member.getOnboarding().getIsCompleted());
+    }
+
+    /**
+     * 다른 트랜잭션이 커밋한 회원까지 보이도록 새 트랜잭션에서 조회
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<MemberIdentityDto> findCommittedIdentity(String provider, String providerId) {
+        return memberRepository.findIdentityByProviderAndProviderId(provider, providerId);
+    }
+}
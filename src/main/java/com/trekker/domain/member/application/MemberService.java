@@ -1,9 +1,12 @@
 package com.trekker.domain.member.application;
 
+import static com.trekker.global.version.DataAggregate.MEMBER;
 import static java.util.stream.Collectors.toList;
 
+import com.trekker.domain.member.cache.MemberIdentityCache;
 import com.trekker.domain.member.dao.MemberFeedbackRepository;
 import com.trekker.domain.member.dao.MemberRepository;
+import com.trekker.domain.member.dto.MemberProfileDto;
 import com.trekker.domain.member.dto.req.MemberFeedbackReqDto;
 import com.trekker.domain.member.dto.req.MemberUpdateReqDto;
 import com.trekker.domain.member.dto.req.OnboardingReqDto;
@@ -11,12 +14,16 @@ import com.trekker.domain.member.dto.res.MemberPortfolioResDto;
 import com.trekker.domain.member.dto.res.MemberResDto;
 import com.trekker.domain.member.entity.Member;
 import com.trekker.domain.member.entity.MemberFeedback;
+import com.trekker.domain.project.dao.ProjectRepository;
 import com.trekker.domain.project.dto.ProjectSkillDto;
 import com.trekker.domain.project.dto.res.ProjectSkillResDto;
 import com.trekker.domain.retrospective.dao.RetrospectiveSkillRepository;
 import com.trekker.global.exception.custom.BusinessException;
 import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.pagination.CursorCodec;
+import com.trekker.global.pagination.CursorPage;
 import com.trekker.global.service.file.FileService;
+import com.trekker.global.version.DataVersions;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,7 +44,10 @@ public class MemberService {
     private final FileService fileService;
     private final MemberRepository memberRepository;
     private final RetrospectiveSkillRepository retrospectiveSkillRepository;
+    private final ProjectRepository projectRepository;
     private final MemberFeedbackRepository memberFeedbackRepository;
+    private final MemberIdentityCache memberIdentityCache;
+    private final DataVersions dataVersions;
 
     /**
      * 회원의 정보를 조회합니다
@@ -46,9 +56,9 @@ public class MemberService {
      * @return 회원의 이름, 직무, 프로필 경로 가 담긴 DTO
      */
     public MemberResDto getMember(Long memberId) {
-        Member member = findByIdWithJob(memberId);
+        MemberProfileDto profile = findProfileById(memberId);
 
-        return MemberResDto.toDto(member);
+        return MemberResDto.toDto(profile);
     }
 
     /**
@@ -66,6 +76,10 @@ public class MemberService {
                     ErrorCode.MEMBER_ONBOARDING_ALREADY_COMPLETED);
         }
         member.updateOnboarding(onboardingReqDto);
+
+        // 로그인 시 온보딩 완료 여부가 반영되도록 캐시 무효화
+        memberIdentityCache.invalidate(member.getSocialProvider());
+        dataVersions.bump(memberId, MEMBER);
     }
 
     /**
@@ -85,27 +99,37 @@ public class MemberService {
 
         // 나머지 멤버 정보 업데이트
         member.updateMember(reqDto);
+        dataVersions.bump(memberId, MEMBER);
     }
 
     /**
      * 회원의 포트폴리오 데이터를 반환합니다.
+     * <p>
+     * 완료 프로젝트는 프로젝트 ID 순으로 커서 단위로 나누어 조회합니다.
      *
      * @param memberId 조회할 회원의 ID
+     * @param cursor   이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @param size     프로젝트 페이지 크기
      * @return 회원 정보와 프로젝트별 상위 스킬 데이터를 포함한 포트폴리오 DTO
      */
-    public MemberPortfolioResDto getPortfolio(Long memberId) {
+    public MemberPortfolioResDto getPortfolio(Long memberId, String cursor, int size) {
         // 회원 정보 조회 (직무 포함)
-        Member member = findByIdWithJob(memberId);
+        MemberProfileDto profile = findProfileById(memberId);
 
-        // 회원의 프로젝트 스킬 데이터 조회
-        List<ProjectSkillDto> skillDto = retrospectiveSkillRepository.findProjectSkillsByMemberId(
-                memberId);
+        // 페이지에 포함할 완료 프로젝트 ID 조회
+        List<Long> projectIds = projectRepository.findPortfolioProjectIds(memberId,
+                CursorCodec.decodeId(cursor), CursorPage.fetchLimit(size));
+        CursorPage<Long> page = CursorPage.of(projectIds, size, CursorCodec::encode);
+
+        // 페이지 프로젝트의 스킬 데이터 조회
+        List<ProjectSkillDto> skillDto = page.content().isEmpty() ? List.of()
+                : retrospectiveSkillRepository.findProjectSkillsByProjectIdIn(page.content());
 
         // 프로젝트별 상위 스킬 데이터를 가공
         List<ProjectSkillResDto> projectSkillResDto = groupAndTransformProjectSkills(skillDto);
 
         // 회원 정보와 프로젝트 데이터를 기반으로 포트폴리오 생성
-        return MemberPortfolioResDto.toDto(member, projectSkillResDto);
+        return MemberPortfolioResDto.toDto(profile, page.withContent(projectSkillResDto));
     }
 
     @Transactional
@@ -228,6 +252,13 @@ public class MemberService {
      * @param memberId 회원 ID
      * @return Member
      */
+    private MemberProfileDto findProfileById(Long memberId) {
+        return memberRepository.findProfileById(memberId)
+                .orElseThrow(
+                        () -> new BusinessException(memberId, "memberId",
+                                ErrorCode.MEMBER_NOT_FOUND));
+    }
+
     private Member findByIdWithJob(Long memberId) {
         return memberRepository.findByIdWithJob(memberId)
                 .orElseThrow(
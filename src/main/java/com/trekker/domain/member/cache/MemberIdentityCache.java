@@ -0,0 +1,93 @@
+package com.trekker.domain.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trekker.domain.member.application.MemberRegistrar;
+import com.trekker.domain.member.dao.MemberRepository;
+import com.trekker.domain.member.dto.MemberIdentityDto;
+import com.trekker.domain.member.entity.SocialProvider;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 소셜 계정(provider, providerId)별 회원 정보 캐시
+ * <p>
+ * 로그인마다 회원·소셜 계정·온보딩을 조인해 조회하지 않도록 ID, 권한, 온보딩 완료 여부만 보관한다.
+ * 같은 계정의 동시 조회는 하나의 로딩으로 합쳐지며, 온보딩 완료나 회원 탈퇴 시 무효화한다.
+ */
+@Slf4j
+@Component
+public class MemberIdentityCache {
+
+    private final Cache<String, MemberIdentityDto> cache;
+    private final MemberRepository memberRepository;
+    private final MemberRegistrar memberRegistrar;
+
+    public MemberIdentityCache(MemberRepository memberRepository,
+            MemberRegistrar memberRegistrar,
+            @Value("${member.identity-cache.max-size:10000}") long maxSize,
+            @Value("${member.identity-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.memberRegistrar = memberRegistrar;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 소셜 계정의 회원 정보를 조회하고, 없으면 회원 등록
+     *
+     * @param email      등록 시 사용할 이메일
+     * @param provider   소셜 로그인 제공자
+     * @param providerId 소셜 고유 ID
+     * @return 회원 정보
+     */
+    public MemberIdentityDto getOrCreate(String email, String provider, String providerId) {
+        return cache.get(keyOf(provider, providerId), key ->
+                memberRepository.findIdentityByProviderAndProviderId(provider, providerId)
+                        .orElseGet(() -> register(email, provider, providerId)));
+    }
+
+    /**
+     * 소셜 계정의 캐시 무효화 (트랜잭션 중이면 커밋 후 한 번 더 무효화)
+     */
+    public void invalidate(SocialProvider socialProvider) {
+        if (socialProvider == null) {
+            return;
+        }
+        String key = keyOf(socialProvider.getProvider(), socialProvider.getProviderId());
+        cache.invalidate(key);
+
+        // 커밋 전에 다른 요청이 변경 전 값을 다시 캐시했을 수 있음
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            cache.invalidate(key);
+                        }
+                    });
+        }
+    }
+
+    private MemberIdentityDto register(String email, String provider, String providerId) {
+        try {
+            return memberRegistrar.register(email, provider, providerId);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 등록한 경우 등록된 회원을 사용
+            log.debug("이미 등록된 소셜 계정: provider = {}", provider);
+            return memberRegistrar.findCommittedIdentity(provider, providerId)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private String keyOf(String provider, String providerId) {
+        return provider + ":" + providerId;
+    }
+}
@@ -0,0 +1,162 @@
+package com.trekker.domain.member.dao;
+
+import com.trekker.domain.member.entity.Member;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 탈퇴 회원 데이터 정리용 네이티브 쿼리
+ * <p>
+ * 삭제된 회원은 엔티티 조회에서 제외되므로 모두 네이티브 쿼리로 작성한다.
+ * 행을 아카이브 테이블에 먼저 복사한 뒤 삭제하며, 여러 인스턴스가 같은 배치를 처리해도 안전하도록
+ * 아카이브는 INSERT IGNORE 로 복사한다.
+ */
+public interface MemberPurgeRepository extends Repository<Member, Long> {
+
+    // 보관 기간이 지났고 정리가 끝나지 않은 탈퇴 회원
+    @Query(nativeQuery = true, value = """
+           SELECT m.member_id
+           FROM members m
+           WHERE m.is_delete = true AND m.purged_time IS NULL
+           AND m.updated_time < :deletedBefore
+           ORDER BY m.member_id
+           LIMIT :limit
+           """)
+    List<Long> findPurgeTargetMemberIds(@Param("deletedBefore") LocalDateTime deletedBefore,
+            @Param("limit") int limit);
+
+    // 정리가 끝난 회원은 다음 정리 대상 조회에서 제외
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           UPDATE members
+           SET purged_time = :purgedTime
+           WHERE member_id = :memberId
+           """)
+    int markPurged(@Param("memberId") Long memberId,
+            @Param("purgedTime") LocalDateTime purgedTime);
+
+    @Query(nativeQuery = true, value = """
+           SELECT t.task_id
+           FROM tasks t
+           JOIN projects p ON p.project_id = t.project_id
+           WHERE p.member_id = :memberId
+           ORDER BY t.task_id
+           LIMIT :limit
+           """)
+    List<Long> findTaskIdsByMemberId(@Param("memberId") Long memberId,
+            @Param("limit") int limit);
+
+    @Query(nativeQuery = true, value = """
+           SELECT p.project_id
+           FROM projects p
+           WHERE p.member_id = :memberId
+           ORDER BY p.project_id
+           LIMIT :limit
+           """)
+    List<Long> findProjectIdsByMemberId(@Param("memberId") Long memberId,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           INSERT IGNORE INTO retrospective_skills_archive
+           SELECT rs.*
+           FROM retrospective_skills rs
+           JOIN retrospectives r ON r.retrospective_id = rs.retrospective_id
+           WHERE r.task_id IN (:taskIds)
+           """)
+    int archiveRetrospectiveSkills(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           DELETE rs
+           FROM retrospective_skills rs
+           JOIN retrospectives r ON r.retrospective_id = rs.retrospective_id
+           WHERE r.task_id IN (:taskIds)
+           """)
+    int deleteRetrospectiveSkills(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           INSERT IGNORE INTO retrospectives_archive
+           SELECT r.*
+           FROM retrospectives r
+           WHERE r.task_id IN (:taskIds)
+           """)
+    int archiveRetrospectives(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           DELETE FROM retrospectives
+           WHERE task_id IN (:taskIds)
+           """)
+    int deleteRetrospectives(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           INSERT IGNORE INTO tasks_archive
+           SELECT t.*
+           FROM tasks t
+           WHERE t.task_id IN (:taskIds)
+           """)
+    int archiveTasks(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           DELETE FROM tasks
+           WHERE task_id IN (:taskIds)
+           """)
+    int deleteTasks(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           INSERT IGNORE INTO project_retrospectives_archive
+           SELECT pr.*
+           FROM project_retrospectives pr
+           WHERE pr.project_id IN (:projectIds)
+           """)
+    int archiveProjectRetrospectives(@Param("projectIds") Collection<Long> projectIds);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           DELETE FROM project_retrospectives
+           WHERE project_id IN (:projectIds)
+           """)
+    int deleteProjectRetrospectives(@Param("projectIds") Collection<Long> projectIds);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           INSERT IGNORE INTO recurring_tasks_archive
+           SELECT rt.*
+           FROM recurring_tasks rt
+           WHERE rt.project_id IN (:projectIds)
+           """)
+    int archiveRecurringTasks(@Param("projectIds") Collection<Long> projectIds);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           DELETE FROM recurring_tasks
+           WHERE project_id IN (:projectIds)
+           """)
+    int deleteRecurringTasks(@Param("projectIds") Collection<Long> projectIds);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           INSERT IGNORE INTO projects_archive
+           SELECT p.*
+           FROM projects p
+           WHERE p.project_id IN (:projectIds)
+           """)
+    int archiveProjects(@Param("projectIds") Collection<Long> projectIds);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           DELETE FROM projects
+           WHERE project_id IN (:projectIds)
+           """)
+    int deleteProjects(@Param("projectIds") Collection<Long> projectIds);
+}
@@ -1,5 +1,7 @@
 package com.trekker.domain.member.dao;
 
+import com.trekker.domain.member.dto.MemberIdentityDto;
+import com.trekker.domain.member.dto.MemberProfileDto;
 import com.trekker.domain.member.entity.Member;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -27,6 +29,16 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByProviderAndProviderId(@Param("provider") String provider,
             @Param("providerId") String providerId);
 
+    @Query("""
+            SELECT new com.trekker.domain.member.dto.MemberIdentityDto(m.id, m.role, o.isCompleted)
+            FROM Member m
+            JOIN m.socialProvider s
+            JOIN m.onboarding o
+            WHERE s.provider =:provider AND s.providerId =:providerId
+            """)
+    Optional<MemberIdentityDto> findIdentityByProviderAndProviderId(
+            @Param("provider") String provider, @Param("providerId") String providerId);
+
     @Query("""
            SELECT m
            FROM Member m
@@ -35,4 +47,21 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
            WHERE m.id =:memberId
            """)
     Optional<Member> findByIdWithJob(@Param("memberId") Long memberId);
-}
\ No newline at end of file
+
+    /**
+     * 조회 전용 회원 프로필 조회
+     */
+    @Query("""
+           SELECT new com.trekker.domain.member.dto.MemberProfileDto(
+               m.name,
+               j.jobName,
+               s.provider,
+               m.profileImage
+           )
+           FROM Member m
+           LEFT JOIN m.job j
+           LEFT JOIN m.socialProvider s
+           WHERE m.id =:memberId
+           """)
+    Optional<MemberProfileDto> findProfileById(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,100 @@
+package com.trekker.domain.member.dto;
+
+import com.trekker.domain.task.util.CompletionBitmap;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 데이터 내보내기의 레코드 하나 (할 일 하나, 반복 할 일 하나, 할 일이 없는 프로젝트는 프로젝트 하나)
+ *
+ * @param project       프로젝트
+ * @param task          할 일 (nullable)
+ * @param retrospective 할 일의 회고 (nullable)
+ * @param recurringTask 반복 할 일 (nullable, 할 일 레코드에서는 null)
+ */
+public record MemberExportRecordDto(
+        ExportProject project,
+        ExportTask task,
+        ExportRetrospective retrospective,
+        ExportRecurringTask recurringTask
+) {
+
+    public static MemberExportRecordDto from(MemberExportRecurringTaskRowDto row) {
+        ExportProject project = new ExportProject(row.projectId(), row.projectType(),
+                row.projectTitle(), row.projectDescription(), row.projectStartDate(),
+                row.projectEndDate(), row.projectCompleted());
+        return new MemberExportRecordDto(project, null, null, ExportRecurringTask.from(row));
+    }
+
+    public record ExportProject(
+            Long id,
+            String type,
+            String title,
+            String description,
+            LocalDate startDate,
+            LocalDate endDate,
+            Boolean isCompleted
+    ) {
+
+        public static ExportProject from(MemberExportRowDto row) {
+            return new ExportProject(row.projectId(), row.projectType(), row.projectTitle(),
+                    row.projectDescription(), row.projectStartDate(), row.projectEndDate(),
+                    row.projectCompleted());
+        }
+    }
+
+    public record ExportTask(
+            Long id,
+            String name,
+            LocalDate startDate,
+            LocalDate endDate,
+            Boolean isCompleted
+    ) {
+
+        public static ExportTask from(MemberExportRowDto row) {
+            return new ExportTask(row.taskId(), row.taskName(), row.taskStartDate(),
+                    row.taskEndDate(), row.taskCompleted());
+        }
+    }
+
+    public record ExportRetrospective(
+            String content,
+            List<String> softSkills,
+            List<String> hardSkills
+    ) {
+
+    }
+
+    /**
+     * @param weekdays       WEEKLY의 반복 요일 (DAILY는 빈 목록)
+     * @param completedDates 완료한 발생일 (날짜 순)
+     */
+    public record ExportRecurringTask(
+            Long id,
+            String name,
+            LocalDate startDate,
+            LocalDate endDate,
+            String frequency,
+            int repeatInterval,
+            List<DayOfWeek> weekdays,
+            List<LocalDate> completedDates
+    ) {
+
+        public static ExportRecurringTask from(MemberExportRecurringTaskRowDto row) {
+            List<DayOfWeek> weekdays = new ArrayList<>();
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if ((row.weekdays() & (1 << (day.getValue() - 1))) != 0) {
+                    weekdays.add(day);
+                }
+            }
+            List<LocalDate> completedDates = new ArrayList<>();
+            CompletionBitmap.forEachSet(row.completions(),
+                    offset -> completedDates.add(row.recurringTaskStartDate().plusDays(offset)));
+            return new ExportRecurringTask(row.recurringTaskId(), row.recurringTaskName(),
+                    row.recurringTaskStartDate(), row.recurringTaskEndDate(),
+                    row.frequency().name(), row.repeatInterval(), weekdays, completedDates);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.trekker.domain.member.dto;
+
+import com.trekker.domain.task.entity.RecurrenceFrequency;
+import java.time.LocalDate;
+
+/**
+ * 회원 데이터 내보내기의 반복 할 일 조회 행 (프로젝트 - 반복 할 일을 JOIN한 한 행)
+ */
+public record MemberExportRecurringTaskRowDto(
+        Long projectId,
+        String projectType,
+        String projectTitle,
+        String projectDescription,
+        LocalDate projectStartDate,
+        LocalDate projectEndDate,
+        Boolean projectCompleted,
+        Long recurringTaskId,
+        String recurringTaskName,
+        LocalDate recurringTaskStartDate,
+        LocalDate recurringTaskEndDate,
+        RecurrenceFrequency frequency,
+        int repeatInterval,
+        int weekdays,
+        byte[] completions
+) {
+
+}
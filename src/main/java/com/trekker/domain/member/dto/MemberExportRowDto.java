@@ -0,0 +1,28 @@
+package com.trekker.domain.member.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 데이터 내보내기의 조회 행 (프로젝트 - 할 일 - 회고 - 회고 스킬을 LEFT JOIN한 한 행)
+ * <p>
+ * 할 일이 없는 프로젝트는 할 일 이후 값이, 회고나 스킬이 없는 할 일은 회고/스킬 값이 null이다.
+ */
+public record MemberExportRowDto(
+        Long projectId,
+        String projectType,
+        String projectTitle,
+        String projectDescription,
+        LocalDate projectStartDate,
+        LocalDate projectEndDate,
+        Boolean projectCompleted,
+        Long taskId,
+        String taskName,
+        LocalDate taskStartDate,
+        LocalDate taskEndDate,
+        Boolean taskCompleted,
+        String retrospectiveContent,
+        String skillType,
+        String skillName
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.trekker.domain.member.dto;
+
+import com.trekker.domain.member.entity.Role;
+
+/**
+ * 로그인에 필요한 최소한의 회원 정보
+ *
+ * @param memberId            회원 ID
+ * @param role                권한
+ * @param onboardingCompleted 온보딩 완료 여부
+ */
+public record MemberIdentityDto(Long memberId, Role role, boolean onboardingCompleted) {
+
+}
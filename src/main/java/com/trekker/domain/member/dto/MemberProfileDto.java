@@ -0,0 +1,13 @@
+package com.trekker.domain.member.dto;
+
+/**
+ * 조회 전용 회원 프로필 정보 (엔티티 대신 필요한 컬럼만 읽음)
+ *
+ * @param name         이름
+ * @param jobName      직무 이름
+ * @param provider     소셜 로그인 제공자
+ * @param profileImage 프로필 이미지 URL
+ */
+public record MemberProfileDto(String name, String jobName, String provider, String profileImage) {
+
+}
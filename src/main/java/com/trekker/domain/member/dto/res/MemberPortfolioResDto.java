@@ -1,7 +1,8 @@
 package com.trekker.domain.member.dto.res;
 
-import com.trekker.domain.member.entity.Member;
+import com.trekker.domain.member.dto.MemberProfileDto;
 import com.trekker.domain.project.dto.res.ProjectSkillResDto;
+import com.trekker.global.pagination.CursorPage;
 import java.util.List;
 import lombok.Builder;
 
@@ -14,16 +15,22 @@ public record MemberPortfolioResDto(
 
         String profileImage,
         // 프로젝트 목록
-        List<ProjectSkillResDto> projectSkillResDto
+        List<ProjectSkillResDto> projectSkillResDto,
+        // 다음 프로젝트 페이지 커서 (없으면 null)
+        String nextCursor,
+
+        boolean hasNext
 ) {
 
-    public static MemberPortfolioResDto toDto(Member member,
-            List<ProjectSkillResDto> projectSkillResDto) {
+    public static MemberPortfolioResDto toDto(MemberProfileDto member,
+            CursorPage<ProjectSkillResDto> projectSkillPage) {
         return MemberPortfolioResDto.builder()
-                .name(member.getName())
-                .jobName(member.getJob().getJobName())
-                .profileImage(member.getProfileImage())
-                .projectSkillResDto(projectSkillResDto)
+                .name(member.name())
+                .jobName(member.jobName())
+                .profileImage(member.profileImage())
+                .projectSkillResDto(projectSkillPage.content())
+                .nextCursor(projectSkillPage.nextCursor())
+                .hasNext(projectSkillPage.hasNext())
                 .build();
     }
 }
\ No newline at end of file
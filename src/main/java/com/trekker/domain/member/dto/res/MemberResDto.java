@@ -1,6 +1,6 @@
 package com.trekker.domain.member.dto.res;
 
-import com.trekker.domain.member.entity.Member;
+import com.trekker.domain.member.dto.MemberProfileDto;
 import lombok.Builder;
 
 @Builder
@@ -15,12 +15,12 @@ public record MemberResDto(
         String profileImage
 ) {
 
-    public static MemberResDto toDto(Member member) {
+    public static MemberResDto toDto(MemberProfileDto member) {
         return MemberResDto.builder()
-                .name(member.getName())
-                .jobName(member.getJob().getJobName())
-                .provider(member.getSocialProvider().getProvider())
-                .profileImage(member.getProfileImage())
+                .name(member.name())
+                .jobName(member.jobName())
+                .provider(member.provider())
+                .profileImage(member.profileImage())
                 .build();
     }
 }
\ No newline at end of file
@@ -16,12 +16,14 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Table(name = "members")
+@SQLRestriction(BaseEntity.NOT_DELETED)
 public class Member extends BaseEntity {
 
     public static final int MAX_EMAIL_LENGTH = 256;
@@ -109,4 +111,14 @@ public class Member extends BaseEntity {
     public void updateProfileImage(String profileImagePath) {
         this.profileImage = profileImagePath;
     }
+
+    /**
+     * 회원 탈퇴: 삭제 상태로 바꾸고 소셜 계정 연결을 제거한다.
+     * <p>
+     * 삭제된 회원은 조회되지 않으므로, 같은 소셜 계정으로 다시 가입할 수 있도록 소셜 계정 행을 함께 삭제한다.
+     */
+    public void withdraw() {
+        markAsDeleted();
+        this.socialProvider = null;
+    }
 }
\ No newline at end of file
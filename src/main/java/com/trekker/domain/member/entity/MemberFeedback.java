@@ -14,11 +14,13 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Table(name = "member_feedbacks")
+@SQLRestriction(BaseEntity.NOT_DELETED)
 public class MemberFeedback extends BaseEntity {
 
     @Id
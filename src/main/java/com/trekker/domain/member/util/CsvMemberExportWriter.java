@@ -0,0 +1,119 @@
+package com.trekker.domain.member.util;
+
+import com.trekker.domain.member.dto.MemberExportRecordDto;
+import com.trekker.domain.member.dto.MemberExportRecordDto.ExportProject;
+import com.trekker.domain.member.dto.MemberExportRecordDto.ExportRecurringTask;
+import com.trekker.domain.member.dto.MemberExportRecordDto.ExportRetrospective;
+import com.trekker.domain.member.dto.MemberExportRecordDto.ExportTask;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 레코드마다 CSV 한 행 (RFC 4180, UTF-8)
+ * <p>
+ * 엑셀에서 한글이 깨지지 않도록 BOM을 먼저 쓰고, 스킬·요일·완료일 목록은 세미콜론으로 이어 한 칸에 쓴다.
+ * 할 일 행은 반복 할 일 칸이, 반복 할 일 행은 할 일·회고 칸이 비어 있다.
+ */
+public class CsvMemberExportWriter implements MemberExportWriter {
+
+    private static final char BOM = '\uFEFF';
+    private static final String SKILL_DELIMITER = ";";
+    private static final List<String> HEADER = List.of(
+            "project_id", "project_type", "project_title", "project_description",
+            "project_start_date", "project_end_date", "project_completed",
+            "task_id", "task_name", "task_start_date", "task_end_date", "task_completed",
+            "retrospective", "soft_skills", "hard_skills",
+            "recurring_task_id", "recurring_task_name", "recurring_task_start_date",
+            "recurring_task_end_date", "recurring_task_frequency", "recurring_task_interval",
+            "recurring_task_weekdays", "recurring_task_completed_dates");
+
+    private final Writer writer;
+
+    public CsvMemberExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            writer.write(BOM);
+            writeRow(HEADER.toArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void write(MemberExportRecordDto record) {
+        ExportProject project = record.project();
+        ExportTask task = record.task();
+        ExportRetrospective retrospective = record.retrospective();
+        ExportRecurringTask recurringTask = record.recurringTask();
+        try {
+            writeRow(project.id(), project.type(), project.title(), project.description(),
+                    project.startDate(), project.endDate(), project.isCompleted(),
+                    task == null ? null : task.id(),
+                    task == null ? null : task.name(),
+                    task == null ? null : task.startDate(),
+                    task == null ? null : task.endDate(),
+                    task == null ? null : task.isCompleted(),
+                    retrospective == null ? null : retrospective.content(),
+                    retrospective == null ? null
+                            : String.join(SKILL_DELIMITER, retrospective.softSkills()),
+                    retrospective == null ? null
+                            : String.join(SKILL_DELIMITER, retrospective.hardSkills()),
+                    recurringTask == null ? null : recurringTask.id(),
+                    recurringTask == null ? null : recurringTask.name(),
+                    recurringTask == null ? null : recurringTask.startDate(),
+                    recurringTask == null ? null : recurringTask.endDate(),
+                    recurringTask == null ? null : recurringTask.frequency(),
+                    recurringTask == null ? null : recurringTask.repeatInterval(),
+                    recurringTask == null ? null : join(recurringTask.weekdays()),
+                    recurringTask == null ? null : join(recurringTask.completedDates()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String join(List<?> values) {
+        return values.stream().map(Object::toString)
+                .collect(Collectors.joining(SKILL_DELIMITER));
+    }
+
+    private void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeField(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다
+    private void writeField(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
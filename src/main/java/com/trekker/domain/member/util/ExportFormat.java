@@ -0,0 +1,38 @@
+package com.trekker.domain.member.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import java.io.OutputStream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * 회원 데이터 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static ExportFormat from(String format) {
+        for (ExportFormat exportFormat : values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+        throw new BusinessException(format, "format", ErrorCode.BAD_REQUEST);
+    }
+
+    public MemberExportWriter createWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+        return switch (this) {
+            case NDJSON -> new NdjsonMemberExportWriter(outputStream, objectMapper);
+            case CSV -> new CsvMemberExportWriter(outputStream);
+        };
+    }
+}
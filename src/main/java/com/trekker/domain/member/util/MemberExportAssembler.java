@@ -0,0 +1,72 @@
+package com.trekker.domain.member.util;
+
+import com.trekker.domain.member.dto.MemberExportRecordDto;
+import com.trekker.domain.member.dto.MemberExportRecordDto.ExportProject;
+import com.trekker.domain.member.dto.MemberExportRecordDto.ExportRetrospective;
+import com.trekker.domain.member.dto.MemberExportRecordDto.ExportTask;
+import com.trekker.domain.member.dto.MemberExportRowDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 프로젝트, 할 일 순으로 정렬된 내보내기 조회 행을 할 일 단위 레코드로 묶는다.
+ * <p>
+ * 같은 할 일의 행(회고 스킬마다 한 행)은 연속으로 오므로 현재 할 일의 스킬만 보관하고,
+ * 다음 할 일의 행이 오면 레코드를 내보낸다. 보관하는 데이터는 전체 행 수와 무관하게 할 일 하나 분량이다.
+ */
+public class MemberExportAssembler {
+
+    private static final String SOFT_SKILL = "soft";
+    private static final String HARD_SKILL = "hard";
+
+    private final Consumer<MemberExportRecordDto> consumer;
+    private MemberExportRowDto current;
+    private List<String> softSkills = new ArrayList<>();
+    private List<String> hardSkills = new ArrayList<>();
+
+    public MemberExportAssembler(Consumer<MemberExportRecordDto> consumer) {
+        this.consumer = consumer;
+    }
+
+    public void accept(MemberExportRowDto row) {
+        if (current != null && !isSameRecord(current, row)) {
+            emit();
+        }
+        if (current == null) {
+            current = row;
+        }
+        if (SOFT_SKILL.equals(row.skillType())) {
+            softSkills.add(row.skillName());
+        } else if (HARD_SKILL.equals(row.skillType())) {
+            hardSkills.add(row.skillName());
+        }
+    }
+
+    /**
+     * 마지막 레코드를 내보낸다. (모든 행을 전달한 뒤 호출)
+     */
+    public void finish() {
+        if (current != null) {
+            emit();
+        }
+    }
+
+    private void emit() {
+        ExportTask task = current.taskId() == null ? null : ExportTask.from(current);
+        ExportRetrospective retrospective = current.retrospectiveContent() == null ? null
+                : new ExportRetrospective(current.retrospectiveContent(), softSkills, hardSkills);
+        consumer.accept(new MemberExportRecordDto(ExportProject.from(current), task,
+                retrospective, null));
+
+        current = null;
+        softSkills = new ArrayList<>();
+        hardSkills = new ArrayList<>();
+    }
+
+    private static boolean isSameRecord(MemberExportRowDto left, MemberExportRowDto right) {
+        return left.projectId().equals(right.projectId())
+                && Objects.equals(left.taskId(), right.taskId());
+    }
+}
@@ -0,0 +1,17 @@
+package com.trekker.domain.member.util;
+
+import com.trekker.domain.member.dto.MemberExportRecordDto;
+
+/**
+ * 내보내기 레코드를 응답 스트림에 형식에 맞게 쓴다.
+ * <p>
+ * 크기가 고정된 버퍼만 사용하며, 닫아도 응답 스트림은 닫지 않고 버퍼만 비운다.
+ * 쓰기 실패(클라이언트 연결 종료 등)는 UncheckedIOException으로 던진다.
+ */
+public interface MemberExportWriter extends AutoCloseable {
+
+    void write(MemberExportRecordDto record);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,50 @@
+package com.trekker.domain.member.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.trekker.domain.member.dto.MemberExportRecordDto;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 레코드마다 JSON 한 줄 (NDJSON)
+ */
+public class NdjsonMemberExportWriter implements MemberExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    public NdjsonMemberExportWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+        try {
+            this.generator = objectMapper.getFactory().createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // 레코드마다 flush 하면 작은 패킷이 많아지므로 버퍼가 찰 때만 내보냄
+        this.writer = objectMapper.writerFor(MemberExportRecordDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(MemberExportRecordDto record) {
+        try {
+            writer.writeValue(generator, record);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
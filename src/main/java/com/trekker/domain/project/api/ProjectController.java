@@ -1,5 +1,9 @@
 package com.trekker.domain.project.api;
 
+import static com.trekker.global.version.DataAggregate.MEMBER;
+import static com.trekker.global.version.DataAggregate.PROJECT;
+import static com.trekker.global.version.DataAggregate.RETROSPECTIVE;
+import static com.trekker.global.version.DataAggregate.TASK;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 
@@ -10,6 +14,8 @@ import com.trekker.domain.project.dto.res.*;
 import com.trekker.domain.retrospective.dto.res.ProjectSkillSummaryResDto;
 import com.trekker.domain.task.dto.res.TaskRetrospectiveResDto;
 import com.trekker.global.config.security.annotation.LoginMember;
+import com.trekker.global.pagination.CursorPage;
+import com.trekker.global.version.DataVersioned;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -34,6 +40,7 @@ public class ProjectController implements ProjectApi {
     }
 
     @GetMapping
+    @DataVersioned({MEMBER, PROJECT})
     public ResponseEntity<ProjectWithMemberInfoResDto> getProjectList(
             @LoginMember Long memberId,
             @RequestParam(required = false) String type) {
@@ -42,6 +49,7 @@ public class ProjectController implements ProjectApi {
     }
 
     @GetMapping("/retrospective")
+    @DataVersioned({PROJECT, TASK, RETROSPECTIVE})
     public ResponseEntity<List<ProjectWithTaskCompletedList>> getTotalRetrospectivesProject(
             @LoginMember Long memberId) {
         List<ProjectWithTaskCompletedList> totalRetrospectives = projectService.getTotalRetrospectivesProject(
@@ -50,11 +58,14 @@ public class ProjectController implements ProjectApi {
     }
 
     @GetMapping("/retrospective/{projectId}")
-    public ResponseEntity<List<TaskRetrospectiveResDto>> getRetrospectivesProject(
+    @DataVersioned({PROJECT, TASK, RETROSPECTIVE})
+    public ResponseEntity<CursorPage<TaskRetrospectiveResDto>> getRetrospectivesProject(
             @LoginMember Long memberId,
-            @PathVariable Long projectId) {
-        List<TaskRetrospectiveResDto> projectRetrospectiveList = projectService.getProjectRetrospectiveList(
-                memberId, projectId);
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) int size) {
+        CursorPage<TaskRetrospectiveResDto> projectRetrospectiveList = projectService
+                .getProjectRetrospectiveList(memberId, projectId, cursor, size);
         return ResponseEntity.ok(projectRetrospectiveList);
     }
 
@@ -76,6 +87,7 @@ public class ProjectController implements ProjectApi {
     }
 
     @GetMapping("/{projectId}/skill-summary")
+    @DataVersioned({PROJECT, RETROSPECTIVE})
     public ResponseEntity<ProjectSkillSummaryResDto> getProjectSkillSummary(
             @LoginMember Long memberId,
             @PathVariable Long projectId) {
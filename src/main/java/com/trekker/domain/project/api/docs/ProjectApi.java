@@ -7,6 +7,7 @@ import com.trekker.domain.project.dto.res.ProjectWithMemberInfoResDto;
 import com.trekker.domain.project.dto.res.ProjectWithTaskCompletedList;
 import com.trekker.domain.retrospective.dto.res.ProjectSkillSummaryResDto;
 import com.trekker.domain.task.dto.res.TaskRetrospectiveResDto;
+import com.trekker.global.pagination.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -51,13 +52,19 @@ public interface ProjectApi {
 
     @Operation(
             summary = "프로젝트 회고 조회",
-            description = "특정 프로젝트의 회고를 조회합니다.",
+            description = """
+                    특정 프로젝트의 회고를 할 일 순으로 조회합니다.
+                    - 회고 내용은 앞부분(최대 100자)만 포함합니다.
+                    - 응답의 `nextCursor`를 `cursor`로 전달하면 다음 페이지를 조회합니다.
+                    """,
             security = @SecurityRequirement(name = "BearerAuth" )
     )
     @ApiResponse(responseCode = "200", description = "프로젝트 회고 조회 성공" )
-    ResponseEntity<List<TaskRetrospectiveResDto>> getRetrospectivesProject(
+    ResponseEntity<CursorPage<TaskRetrospectiveResDto>> getRetrospectivesProject(
             @Parameter(hidden = true) Long memberId,
-            @Parameter(description = "프로젝트 ID", example = "1" ) Long projectId);
+            @Parameter(description = "프로젝트 ID", example = "1" ) Long projectId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)" ) String cursor,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "20" ) int size);
 
     @Operation(
             summary = "프로젝트 수정",
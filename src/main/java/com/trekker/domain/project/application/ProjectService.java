@@ -1,9 +1,15 @@
 package com.trekker.domain.project.application;
 
+import static com.trekker.global.version.DataAggregate.PROJECT;
+import static com.trekker.global.version.DataAggregate.RETROSPECTIVE;
+import static com.trekker.global.version.DataAggregate.TASK;
+
 import com.trekker.domain.member.dao.MemberRepository;
+import com.trekker.domain.member.dto.MemberProfileDto;
 import com.trekker.domain.member.entity.Member;
 import com.trekker.domain.project.dao.ProjectRepository;
 import com.trekker.domain.project.dao.ProjectRetrospectiveRepository;
+import com.trekker.domain.project.dto.ProjectSummaryDto;
 import com.trekker.domain.project.dto.req.ProjectExtendReqDto;
 import com.trekker.domain.project.dto.req.ProjectReqDto;
 import com.trekker.domain.project.dto.req.ProjectRetrospectiveReqDto;
@@ -12,21 +18,29 @@ import com.trekker.domain.project.dto.res.ProjectWithMemberInfoResDto;
 import com.trekker.domain.project.dto.res.ProjectWithTaskCompletedList;
 import com.trekker.domain.project.entity.Project;
 import com.trekker.domain.project.util.ProjectProgressCalculator;
+import com.trekker.domain.report.service.DailyTaskStatsService;
 import com.trekker.domain.retrospective.dao.RetrospectiveSkillRepository;
 import com.trekker.domain.retrospective.dto.res.ProjectSkillSummaryResDto;
+import com.trekker.domain.task.cache.TaskIntervalIndexCache;
 import com.trekker.domain.task.dao.TaskRepository;
 import com.trekker.domain.task.dto.SkillCountDto;
 import com.trekker.domain.task.dto.TaskRetrospectiveSkillDto;
 import com.trekker.domain.task.dto.res.TaskRetrospectiveResDto;
+import com.trekker.global.config.jpa.ParallelQueryExecutor;
 import com.trekker.global.exception.custom.BusinessException;
 import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.pagination.CursorCodec;
+import com.trekker.global.pagination.CursorPage;
+import com.trekker.global.version.DataVersions;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -42,6 +56,10 @@ public class ProjectService {
     private final MemberRepository memberRepository;
     private final RetrospectiveSkillRepository retrospectiveSkillRepository;
     private final ProjectRetrospectiveRepository projectRetrospectiveRepository;
+    private final TaskIntervalIndexCache taskIntervalIndexCache;
+    private final DailyTaskStatsService dailyTaskStatsService;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final DataVersions dataVersions;
 
     @Transactional
     public Long addProject(Long memberId, ProjectReqDto projectReqDto) {
@@ -56,6 +74,7 @@ public class ProjectService {
 
         // project 저장
         Project saveProject = projectRepository.save(project);
+        dataVersions.bump(memberId, PROJECT);
         return saveProject.getId();
     }
 
@@ -70,18 +89,18 @@ public class ProjectService {
 
     public ProjectWithMemberInfoResDto getProjectList(Long memberId, String type) {
         // 회원과 프로젝트 리스트 조회 및 검증
-        Member member = memberRepository.findByIdWithJob(memberId).orElseThrow(
+        MemberProfileDto member = memberRepository.findProfileById(memberId).orElseThrow(
                 () -> new BusinessException(memberId, "memberId", ErrorCode.MEMBER_NOT_FOUND)
         );
 
         // 프로젝트 리스트 조회 및 진행률 계산 후 DTO 변환
-        List<ProjectResDto> projectList = projectRepository.findFilteredProjects(memberId, type)
+        List<ProjectResDto> projectList = findActiveProjects(memberId, type)
                 .stream()
                 .map(project -> {
                     // 진행률 계산
                     int progress = ProjectProgressCalculator.calculateProjectProgress(
-                            project.getStartDate(),
-                            project.getEndDate(),
+                            project.startDate(),
+                            project.endDate(),
                             LocalDate.now()
                     );
                     // DTO로 변환
@@ -104,25 +123,36 @@ public class ProjectService {
     }
 
     /**
-     * 특정 프로젝트의 회고 리스트를 조회하는 메소드
+     * 특정 프로젝트의 회고 리스트를 할 일 ID 순으로 조회하는 메소드
+     * <p>
+     * 할 일 하나에 스킬 행이 여러 개이므로, 페이지에 포함할 할 일 ID를 먼저 조회한 뒤 스킬 행을 조회한다.
      *
      * @param memberId  조회할 회원의 ID
      * @param projectId 조회할 프로젝트의 ID
-     * @return TaskRetrospectiveResDto 리스트
+     * @param cursor    이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @param size      페이지 크기
+     * @return TaskRetrospectiveResDto 페이지
      */
-    public List<TaskRetrospectiveResDto> getProjectRetrospectiveList(Long memberId,
-            Long projectId) {
-        List<TaskRetrospectiveSkillDto> taskSkillDto = taskRepository.findTaskRetrospectivesByProjectIdAndMemberId(
-                projectId, memberId);
+    public CursorPage<TaskRetrospectiveResDto> getProjectRetrospectiveList(Long memberId,
+            Long projectId, String cursor, int size) {
+        List<Long> taskIds = taskRepository.findRetrospectiveTaskIdsByProjectIdAndMemberId(
+                projectId, memberId, CursorCodec.decodeId(cursor), CursorPage.fetchLimit(size));
+        CursorPage<Long> page = CursorPage.of(taskIds, size, CursorCodec::encode);
+        if (page.content().isEmpty()) {
+            return page.withContent(List.of());
+        }
+
+        List<TaskRetrospectiveSkillDto> taskSkillDto = taskRepository
+                .findTaskRetrospectivesByTaskIdIn(page.content());
         // taskId를 기준으로 그룹화
         Map<Long, List<TaskRetrospectiveSkillDto>> groupedByTaskId = taskSkillDto.stream()
                 .collect(Collectors.groupingBy(TaskRetrospectiveSkillDto::taskId));
 
         // taskId를 기준으로 정렬한 후, 그룹화된 데이터를 TaskRetrospectiveResDto로 매핑
-        return groupedByTaskId.entrySet().stream()
+        return page.withContent(groupedByTaskId.entrySet().stream()
                 .sorted(Map.Entry.comparingByKey()) // taskId 오름차순 정렬
                 .map(entry -> mapToTaskRetrospectiveResDto(entry.getValue()))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Transactional
@@ -138,6 +168,7 @@ public class ProjectService {
 
         // 프로젝트 업데이트
         project.updateProject(projectReqDto);
+        dataVersions.bump(memberId, PROJECT);
     }
 
     @Transactional
@@ -148,24 +179,47 @@ public class ProjectService {
         // 회원이 프로젝트 소유자인지 검증
         project.validateOwner(memberId);
 
-        // 프로젝트 삭제
-        projectRepository.delete(project);
+        // 하위 데이터부터 프로젝트 단위로 한 번에 삭제
+        projectRepository.deleteRetrospectiveSkillsByProjectId(projectId);
+        projectRepository.deleteRetrospectivesByProjectId(projectId);
+        projectRepository.deleteTasksByProjectId(projectId);
+        projectRepository.deleteProjectRetrospectiveByProjectId(projectId);
+        projectRepository.deleteByProjectId(projectId);
+
+        // 프로젝트의 할 일이 함께 삭제되므로 회원의 할 일 통계를 다시 계산하고 구간 인덱스 무효화
+        dailyTaskStatsService.rebuild(memberId);
+        taskIntervalIndexCache.evict(memberId);
+        dataVersions.bump(memberId, PROJECT, TASK, RETROSPECTIVE);
     }
 
+    /**
+     * 프로젝트 성취도와 상위 스킬 조회
+     * <p>
+     * fork한 조회가 커넥션을 기다리는 동안 호출한 스레드가 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행한다.
+     * (소유자 검증 조회는 리포지토리의 짧은 트랜잭션에서 끝난다)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProjectSkillSummaryResDto getProjectSkillSummary(Long memberId, Long projectId) {
-        // 회원 및 프로젝트 조회 및 검증
-        Project project = findProjectByIdWithMember(projectId);
+        // 프로젝트 조회 및 검증
+        ProjectSummaryDto project = findProjectSummaryById(projectId);
         project.validateOwner(memberId);
 
-        // 상위 3개의 소프트 스킬 반환
-        List<SkillCountDto> topSoftSkills = retrospectiveSkillRepository.findTopSkillsByType(
-                projectId, SOFT_SKILL, PageRequest.of(0, 3));
-
-        // 상위 3개의 하드 스킬 반환
-        List<SkillCountDto> topHardSkills = retrospectiveSkillRepository.findTopSkillsByType(
-                projectId, HARD_SKILL, PageRequest.of(0, 3));
-
-        return ProjectSkillSummaryResDto.toDto(project, topSoftSkills, topHardSkills);
+        // 소프트 스킬과 하드 스킬 조회를 동시에 실행
+        try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.open()) {
+            // 상위 3개의 소프트 스킬 반환
+            Supplier<List<SkillCountDto>> topSoftSkills = scope.fork(
+                    () -> retrospectiveSkillRepository.findTopSkillsByType(projectId, SOFT_SKILL,
+                            PageRequest.of(0, 3)));
+
+            // 상위 3개의 하드 스킬 반환
+            Supplier<List<SkillCountDto>> topHardSkills = scope.fork(
+                    () -> retrospectiveSkillRepository.findTopSkillsByType(projectId, HARD_SKILL,
+                            PageRequest.of(0, 3)));
+
+            scope.join();
+            return ProjectSkillSummaryResDto.toDto(project, topSoftSkills.get(),
+                    topHardSkills.get());
+        }
     }
 
     @Transactional
@@ -177,6 +231,7 @@ public class ProjectService {
         project.updateCompleted();
 
         projectRetrospectiveRepository.save(reqDto.toEntity(project));
+        dataVersions.bump(memberId, PROJECT);
     }
 
     @Transactional
@@ -190,9 +245,25 @@ public class ProjectService {
 
         // 종료 날짜 업데이트
         project.updateEndDate(reqDto.endDate());
+        dataVersions.bump(memberId, PROJECT);
     }
 
 
+    /**
+     * 회원의 진행 중인 프로젝트를 조회합니다.
+     * 유형 조건 유무에 따라 쿼리를 나누어 (member_id, is_completed, type) 인덱스를 그대로 사용합니다.
+     *
+     * @param memberId 회원 ID
+     * @param type     프로젝트 유형 (null이면 전체)
+     * @return 진행 중인 프로젝트 리스트
+     */
+    private List<ProjectSummaryDto> findActiveProjects(Long memberId, String type) {
+        if (type == null) {
+            return projectRepository.findActiveProjects(memberId);
+        }
+        return projectRepository.findActiveProjectsByType(memberId, type);
+    }
+
     /**
      * 리스트에서 Task의 기본 정보와 스킬 데이터를 추출하여 반환합니다.
      */
@@ -238,6 +309,20 @@ public class ProjectService {
                 );
     }
 
+    /**
+     * 프로젝트 ID로 조회 전용 프로젝트 정보를 조회하고 없으면 예외를 발생시킵니다.
+     *
+     * @param projectId 조회할 프로젝트의 ID
+     * @return ProjectSummaryDto
+     */
+    private ProjectSummaryDto findProjectSummaryById(Long projectId) {
+        return projectRepository.findProjectSummaryById(projectId)
+                .orElseThrow(
+                        () -> new BusinessException(projectId, "projectId",
+                                ErrorCode.PROJECT_NOT_FOUND)
+                );
+    }
+
     /**
      * 프로젝트 ID로 Project를 조회하고 없으면 예외를 발생시킵니다.
      *
@@ -1,11 +1,19 @@
 package com.trekker.domain.project.dao;
 
+import com.trekker.domain.member.dto.MemberExportRowDto;
+import com.trekker.domain.project.dto.ProjectSummaryDto;
 import com.trekker.domain.project.dto.res.ProjectWithTaskCompletedList;
 import com.trekker.domain.project.entity.Project;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
@@ -18,14 +26,56 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             """)
     Optional<Project> findProjectByIdWIthMember(@Param("projectId") Long projectId);
 
+    /**
+     * 조회 전용 프로젝트 정보 조회 (소유자 검증 및 응답 변환용)
+     */
     @Query("""
-           SELECT p
+            SELECT new com.trekker.domain.project.dto.ProjectSummaryDto(
+                p.id,
+                p.member.id,
+                p.type,
+                p.title,
+                p.description,
+                p.startDate,
+                p.endDate
+            )
+            FROM Project p
+            WHERE p.id =:projectId
+            """)
+    Optional<ProjectSummaryDto> findProjectSummaryById(@Param("projectId") Long projectId);
+
+    @Query("""
+           SELECT new com.trekker.domain.project.dto.ProjectSummaryDto(
+               p.id,
+               p.member.id,
+               p.type,
+               p.title,
+               p.description,
+               p.startDate,
+               p.endDate
+           )
+           FROM Project p
+           WHERE p.member.id = :memberId
+           AND p.isCompleted = false
+           """)
+    List<ProjectSummaryDto> findActiveProjects(@Param("memberId") Long memberId);
+
+    @Query("""
+           SELECT new com.trekker.domain.project.dto.ProjectSummaryDto(
+               p.id,
+               p.member.id,
+               p.type,
+               p.title,
+               p.description,
+               p.startDate,
+               p.endDate
+           )
            FROM Project p
            WHERE p.member.id = :memberId
            AND p.isCompleted = false
-           AND (:type IS NULL OR p.type = :type)
+           AND p.type = :type
            """)
-    List<Project> findFilteredProjects(@Param("memberId") Long memberId,
+    List<ProjectSummaryDto> findActiveProjectsByType(@Param("memberId") Long memberId,
             @Param("type") String type);
 
     @Query("""
@@ -42,5 +92,98 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<ProjectWithTaskCompletedList> findProjectWithTaskCompleted(
             @Param("memberId") Long memberId);
 
+    // 포트폴리오에 표시할 (회고 스킬이 있는) 완료 프로젝트 ID를 마지막 프로젝트 ID 이후부터 조회
+    @Query("""
+            SELECT p.id
+            FROM Project p
+            WHERE p.member.id = :memberId AND p.isCompleted = true AND p.id > :lastProjectId
+            AND EXISTS (
+                SELECT 1
+                FROM RetrospectiveSkill rs
+                JOIN rs.retrospective r
+                JOIN r.task t
+                WHERE t.project = p
+            )
+            ORDER BY p.id
+            """)
+    List<Long> findPortfolioProjectIds(@Param("memberId") Long memberId,
+            @Param("lastProjectId") Long lastProjectId,
+            Pageable pageable);
 
+    /**
+     * 회원의 모든 프로젝트, 할 일, 회고, 회고 스킬을 한 행씩 스트림으로 조회 (데이터 내보내기용)
+     * <p>
+     * MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때만 결과를 메모리에 모두 올리지 않고 한 행씩 읽는다.
+     * 스트림을 모두 읽거나 닫을 때까지 커넥션을 점유하므로 트랜잭션 안에서 try-with-resources로 사용한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.trekker.domain.member.dto.MemberExportRowDto(
+                p.id, p.type, p.title, p.description, p.startDate, p.endDate, p.isCompleted,
+                t.id, t.name, t.startDate, t.endDate, t.isCompleted,
+                r.content, rs.type, s.name
+            )
+            FROM Project p
+            LEFT JOIN p.taskList t
+            LEFT JOIN t.retrospective r
+            LEFT JOIN r.retrospectiveSkillList rs
+            LEFT JOIN rs.skill s
+            WHERE p.member.id = :memberId
+            ORDER BY p.id, t.id, rs.id
+            """)
+    Stream<MemberExportRowDto> streamExportRowsByMemberId(@Param("memberId") Long memberId);
+
+    /*
+     * 프로젝트 삭제는 하위 테이블부터 프로젝트 ID 기준으로 한 번에 삭제한다.
+     * (엔티티로 삭제하면 할 일, 회고, 회고 스킬을 모두 조회한 뒤 한 행씩 삭제한다)
+     * 삭제된(is_delete = true) 행도 외래 키로 프로젝트를 참조하므로 조건 없이 모두 삭제한다.
+     */
+
+    @Modifying(flushAutomatically = true)
+    @Query(nativeQuery = true, value = """
+           DELETE rs
+           FROM retrospective_skills rs
+           JOIN retrospectives r ON r.retrospective_id = rs.retrospective_id
+           JOIN tasks t ON t.task_id = r.task_id
+           WHERE t.project_id = :projectId
+           """)
+    int deleteRetrospectiveSkillsByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           DELETE r
+           FROM retrospectives r
+           JOIN tasks t ON t.task_id = r.task_id
+           WHERE t.project_id = :projectId
+           """)
+    int deleteRetrospectivesByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           DELETE FROM tasks
+           WHERE project_id = :projectId
+           """)
+    int deleteTasksByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           DELETE FROM project_retrospectives
+           WHERE project_id = :projectId
+           """)
+    int deleteProjectRetrospectiveByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 프로젝트 삭제 (반복 할 일은 외래 키의 ON DELETE CASCADE로 함께 삭제)
+     * <p>
+     * 삭제한 행의 엔티티가 영속성 컨텍스트에 남지 않도록 실행 후 비운다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(nativeQuery = true, value = """
+           DELETE FROM projects
+           WHERE project_id = :projectId
+           """)
+    int deleteByProjectId(@Param("projectId") Long projectId);
 }
@@ -0,0 +1,27 @@
+package com.trekker.domain.project.dto;
+
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import java.time.LocalDate;
+
+/**
+ * 조회 전용 프로젝트 정보 (엔티티 대신 필요한 컬럼만 읽음)
+ *
+ * @param memberId 프로젝트 소유자 ID (회원 테이블과 조인하지 않고 외래 키로 읽음)
+ */
+public record ProjectSummaryDto(
+        Long id,
+        Long memberId,
+        String type,
+        String title,
+        String description,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+
+    public void validateOwner(Long memberId) {
+        if (!this.memberId.equals(memberId)) {
+            throw new BusinessException(this.memberId, "id", ErrorCode.ACCESS_DENIED_EXCEPTION);
+        }
+    }
+}
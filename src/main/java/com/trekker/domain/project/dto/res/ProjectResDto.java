@@ -1,6 +1,6 @@
 package com.trekker.domain.project.dto.res;
 
-import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.project.dto.ProjectSummaryDto;
 import java.time.LocalDate;
 import lombok.Builder;
 
@@ -22,14 +22,14 @@ public record ProjectResDto(
         int progress
 ) {
 
-    public static ProjectResDto toDto(Project project, int progress) {
+    public static ProjectResDto toDto(ProjectSummaryDto project, int progress) {
         return ProjectResDto.builder()
-                .id(project.getId())
-                .type(project.getType())
-                .title(project.getTitle())
-                .startDate(project.getStartDate())
-                .endDate(project.getEndDate())
-                .description(project.getDescription())
+                .id(project.id())
+                .type(project.type())
+                .title(project.title())
+                .startDate(project.startDate())
+                .endDate(project.endDate())
+                .description(project.description())
                 .progress(progress)
                 .build();
     }
@@ -1,6 +1,6 @@
 package com.trekker.domain.project.dto.res;
 
-import com.trekker.domain.member.entity.Member;
+import com.trekker.domain.member.dto.MemberProfileDto;
 import java.util.List;
 import lombok.Builder;
 
@@ -14,11 +14,11 @@ public record ProjectWithMemberInfoResDto(
         List<ProjectResDto> projectList
 ) {
 
-    public static ProjectWithMemberInfoResDto toDto(Member member,
+    public static ProjectWithMemberInfoResDto toDto(MemberProfileDto member,
             List<ProjectResDto> projectList) {
         return ProjectWithMemberInfoResDto.builder()
-                .name(member.getName())
-                .jobName(member.getJob().getJobName())
+                .name(member.name())
+                .jobName(member.jobName())
                 .projectList(projectList)
                 .build();
     }
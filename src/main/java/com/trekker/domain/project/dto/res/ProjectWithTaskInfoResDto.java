@@ -1,6 +1,6 @@
 package com.trekker.domain.project.dto.res;
 
-import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.project.dto.ProjectSummaryDto;
 import com.trekker.domain.task.dto.res.TaskCompletionStatusResDto;
 import com.trekker.domain.task.dto.res.TaskResDto;
 import java.time.LocalDate;
@@ -25,15 +25,15 @@ public record ProjectWithTaskInfoResDto(
         List<TaskResDto> taskList
 ) {
 
-    public static ProjectWithTaskInfoResDto toDto(Project project,
+    public static ProjectWithTaskInfoResDto toDto(ProjectSummaryDto project,
             List<TaskCompletionStatusResDto> weeklyAchievement,
             List<TaskResDto> taskList) {
         return ProjectWithTaskInfoResDto.builder()
-                .title(project.getTitle())
-                .type(project.getType())
-                .description(project.getDescription())
-                .startDate(project.getStartDate())
-                .endDate(project.getEndDate())
+                .title(project.title())
+                .type(project.type())
+                .description(project.description())
+                .startDate(project.startDate())
+                .endDate(project.endDate())
                 .weeklyAchievement(weeklyAchievement)
                 .taskList(taskList)
                 .build();
@@ -1,19 +1,25 @@
 package com.trekker.domain.report.api;
 
+import static com.trekker.global.version.DataAggregate.RETROSPECTIVE;
+import static com.trekker.global.version.DataAggregate.TASK;
+
 import com.trekker.domain.report.api.docs.ReportApi;
+import com.trekker.domain.report.dto.ReportDailyResDto;
 import com.trekker.domain.report.dto.ReportResDto;
 import com.trekker.domain.report.service.ReportService;
 import com.trekker.domain.task.dto.SkillCountDto;
 import com.trekker.global.config.security.annotation.LoginMember;
+import com.trekker.global.pagination.CursorPage;
+import com.trekker.global.version.DataVersioned;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/report")
@@ -22,17 +28,34 @@ public class ReportController implements ReportApi {
     private final ReportService reportService;
 
     @GetMapping
+    @DataVersioned({TASK, RETROSPECTIVE})
     public ResponseEntity<ReportResDto> getMemberReport(@LoginMember Long memberId) {
         ReportResDto memberReport = reportService.getMemberReport(memberId);
         return ResponseEntity.ok(memberReport);
     }
 
+    @GetMapping("/daily")
+    @DataVersioned({TASK})
+    public ResponseEntity<ReportDailyResDto> getDailyReport(
+            @LoginMember Long memberId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        ReportDailyResDto dailyReport = reportService.getDailyReport(memberId, startDate,
+                endDate);
+        return ResponseEntity.ok(dailyReport);
+    }
+
     @GetMapping("/skill")
-    public ResponseEntity<List<SkillCountDto>> getMemberSkill(
+    @DataVersioned({RETROSPECTIVE})
+    public ResponseEntity<CursorPage<SkillCountDto>> getMemberSkill(
             @LoginMember Long memberId,
-            @RequestParam String type
+            @RequestParam String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) int size
     ) {
-        List<SkillCountDto> memberSkillList = reportService.getMemberSkillList(memberId, type);
+        CursorPage<SkillCountDto> memberSkillList = reportService.getMemberSkillList(memberId,
+                type, cursor, size);
         return ResponseEntity.ok(memberSkillList);
     }
 }
\ No newline at end of file
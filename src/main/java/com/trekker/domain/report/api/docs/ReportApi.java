@@ -1,16 +1,18 @@
 package com.trekker.domain.report.api.docs;
 
+import com.trekker.domain.report.dto.ReportDailyResDto;
 import com.trekker.domain.report.dto.ReportResDto;
 import com.trekker.domain.task.dto.SkillCountDto;
+import com.trekker.global.pagination.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 
-import java.util.List;
-
 @Tag(name = "Report", description = "회원 통계 및 리포트 관련 API")
 public interface ReportApi {
 
@@ -24,17 +26,39 @@ public interface ReportApi {
             @Parameter(hidden = true) Long memberId
     );
 
+    @Operation(
+            summary = "기간별 날짜 통계 조회",
+            description = """
+                    기간의 날짜별 작업 수, 완료된 작업 수, 진행률을 조회합니다.
+                    - 각 배열의 i번째 값은 `startDate` + i일의 값입니다.
+                    - 한 달은 월의 첫날과 마지막 날, 여러 달은 첫 달의 첫날과 마지막 달의 마지막 날로 조회합니다.
+                    """,
+            security = @SecurityRequirement(name = "BearerAuth" )
+    )
+    @ApiResponse(responseCode = "200", description = "기간별 날짜 통계 조회 성공" )
+    @ApiResponse(responseCode = "400", description = "종료 날짜가 시작 날짜 이전이거나 기간이 366일을 넘는 경우" )
+    ResponseEntity<ReportDailyResDto> getDailyReport(
+            @Parameter(hidden = true) Long memberId,
+            @Parameter(description = "시작 날짜 (YYYY-MM-DD 형식)", example = "2024-01-01" )
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (YYYY-MM-DD 형식, 포함)", example = "2024-03-31" )
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    );
+
     @Operation(
             summary = "회원 스킬 통계 조회",
             description = """
-                    회원의 스킬별 통계를 조회합니다.
+                    회원의 스킬별 통계를 사용 횟수 내림차순으로 조회합니다.
                     - `type` 파라미터를 사용해 통계 종류를 선택할 수 있습니다.
+                    - 응답의 `nextCursor`를 `cursor`로 전달하면 다음 페이지를 조회합니다.
                     """,
             security = @SecurityRequirement(name = "BearerAuth" )
     )
     @ApiResponse(responseCode = "200", description = "회원 스킬 통계 조회 성공" )
-    ResponseEntity<List<SkillCountDto>> getMemberSkill(
+    ResponseEntity<CursorPage<SkillCountDto>> getMemberSkill(
             @Parameter(hidden = true) Long memberId,
-            @Parameter(description = "스킬 통계 타입 (예: 소프트, 하드)", example = "소프트" ) String type
+            @Parameter(description = "스킬 통계 타입 (예: 소프트, 하드)", example = "소프트" ) String type,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)" ) String cursor,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "20" ) int size
     );
 }
\ No newline at end of file
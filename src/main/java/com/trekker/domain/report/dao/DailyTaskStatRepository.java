@@ -0,0 +1,85 @@
+package com.trekker.domain.report.dao;
+
+import com.trekker.domain.report.entity.DailyTaskStat;
+import com.trekker.domain.report.entity.DailyTaskStatId;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DailyTaskStatRepository extends JpaRepository<DailyTaskStat, DailyTaskStatId> {
+
+    @Query("""
+           SELECT s
+           FROM DailyTaskStat s
+           WHERE s.id.memberId = :memberId
+           AND s.id.statDate BETWEEN :startDate AND :endDate
+           AND s.total > 0
+           ORDER BY s.id.statDate
+           """)
+    List<DailyTaskStat> findStatsInRange(@Param("memberId") Long memberId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기간 [fromDate, toDate]의 날짜마다 할 일 수와 완료된 할 일 수에 변화량을 더한다. (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           INSERT /*+ SET_VAR(cte_max_recursion_depth = 100000) */
+           INTO daily_task_stats (member_id, stat_date, total, completed)
+           SELECT delta.d_member_id, delta.d_date, delta.d_total, delta.d_completed
+           FROM (
+               WITH RECURSIVE days (d_date) AS (
+                   SELECT CAST(:fromDate AS DATE)
+                   UNION ALL
+                   SELECT d_date + INTERVAL 1 DAY FROM days WHERE d_date < :toDate
+               )
+               SELECT :memberId AS d_member_id,
+                      d_date,
+                      :totalDelta AS d_total,
+                      :completedDelta AS d_completed
+               FROM days
+           ) AS delta
+           ON DUPLICATE KEY UPDATE
+               total = total + delta.d_total,
+               completed = completed + delta.d_completed
+           """)
+    int addDelta(@Param("memberId") Long memberId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("totalDelta") int totalDelta,
+            @Param("completedDelta") int completedDelta);
+
+    @Modifying(flushAutomatically = true)
+    @Query(nativeQuery = true, value = """
+           DELETE FROM daily_task_stats
+           WHERE member_id = :memberId
+           """)
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 회원의 현재 할 일로 집계를 다시 채운다. (deleteByMemberId 이후 호출)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+           INSERT /*+ SET_VAR(cte_max_recursion_depth = 100000) */
+           INTO daily_task_stats (member_id, stat_date, total, completed)
+           WITH RECURSIVE task_days (stat_date, last_date, is_completed) AS (
+               SELECT t.start_date, COALESCE(t.end_date, t.start_date), IF(t.is_completed, 1, 0)
+               FROM tasks t
+               JOIN projects p ON p.project_id = t.project_id
+               WHERE p.member_id = :memberId AND p.is_delete = false AND t.is_delete = false
+               UNION ALL
+               SELECT stat_date + INTERVAL 1 DAY, last_date, is_completed
+               FROM task_days
+               WHERE stat_date < last_date
+           )
+           SELECT :memberId, stat_date, COUNT(*), SUM(is_completed)
+           FROM task_days
+           GROUP BY stat_date
+           """)
+    int insertFromTasks(@Param("memberId") Long memberId);
+}
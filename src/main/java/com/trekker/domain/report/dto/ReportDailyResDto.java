@@ -0,0 +1,33 @@
+package com.trekker.domain.report.dto;
+
+import com.trekker.domain.report.util.ProgressRateCalculator;
+import com.trekker.domain.task.dto.DailyTaskCounts;
+import java.time.LocalDate;
+import lombok.Builder;
+
+/**
+ * 기간의 날짜별 통계
+ * <p>
+ * 각 배열의 i번째 값은 startDate + i일의 값입니다.
+ */
+@Builder
+public record ReportDailyResDto(
+
+        LocalDate startDate,
+        // 날짜별 할 일 수
+        int[] totalTasks,
+        // 날짜별 완료된 할 일 수
+        int[] completedTasks,
+        // 날짜별 진행률
+        int[] progressRates
+) {
+
+    public static ReportDailyResDto toDto(DailyTaskCounts counts) {
+        return ReportDailyResDto.builder()
+                .startDate(counts.startDate())
+                .totalTasks(counts.total())
+                .completedTasks(counts.completed())
+                .progressRates(ProgressRateCalculator.calculateProgressRates(counts))
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.trekker.domain.report.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원의 날짜별 할 일 수와 완료된 할 일 수 집계
+ * <p>
+ * 할 일 변경 시 DailyTaskStatRepository의 upsert 쿼리로만 갱신하며 엔티티로 수정하지 않는다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "daily_task_stats")
+public class DailyTaskStat {
+
+    @EmbeddedId
+    private DailyTaskStatId id;
+
+    // 날짜에 걸쳐 있는 할 일 수
+    @Column(name = "total", nullable = false)
+    private int total;
+
+    // 날짜에 걸쳐 있는 완료된 할 일 수
+    @Column(name = "completed", nullable = false)
+    private int completed;
+
+    @Builder
+    public DailyTaskStat(Long memberId, LocalDate statDate, int total, int completed) {
+        this.id = new DailyTaskStatId(memberId, statDate);
+        this.total = total;
+        this.completed = completed;
+    }
+
+    public LocalDate getStatDate() {
+        return id.getStatDate();
+    }
+}
@@ -0,0 +1,28 @@
+package com.trekker.domain.report.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyTaskStatId implements Serializable {
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    public DailyTaskStatId(Long memberId, LocalDate statDate) {
+        this.memberId = memberId;
+        this.statDate = statDate;
+    }
+}
@@ -0,0 +1,71 @@
+package com.trekker.domain.report.service;
+
+import com.trekker.domain.report.dao.DailyTaskStatRepository;
+import com.trekker.domain.task.dto.TaskSpan;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원의 날짜별 할 일 통계(daily_task_stats)를 할 일 변경과 같은 트랜잭션에서 갱신합니다.
+ * <p>
+ * 변경된 할 일의 기간에 해당하는 날짜만 한 번의 upsert로 증감하므로, 리포트는 집계 없이 기간 조회만 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DailyTaskStatsService {
+
+    private final DailyTaskStatRepository dailyTaskStatRepository;
+
+    /**
+     * 추가된 할 일을 통계에 반영합니다.
+     */
+    public void add(Long memberId, TaskSpan span) {
+        apply(memberId, span, 1);
+    }
+
+    /**
+     * 삭제된 할 일을 통계에서 제외합니다.
+     */
+    public void remove(Long memberId, TaskSpan span) {
+        apply(memberId, span, -1);
+    }
+
+    /**
+     * 기간 또는 완료 여부가 바뀐 할 일을 통계에 반영합니다.
+     *
+     * @param memberId 회원 ID
+     * @param before   변경 전 할 일
+     * @param after    변경 후 할 일
+     */
+    public void replace(Long memberId, TaskSpan before, TaskSpan after) {
+        boolean sameRange = before.startDate().equals(after.startDate())
+                && Objects.equals(before.lastDate(), after.lastDate());
+
+        if (sameRange) {
+            // 완료 여부만 바뀐 경우 완료된 할 일 수만 증감
+            if (before.completed() != after.completed()) {
+                dailyTaskStatRepository.addDelta(memberId, after.startDate(), after.lastDate(),
+                        0, after.completed() ? 1 : -1);
+            }
+            return;
+        }
+        remove(memberId, before);
+        add(memberId, after);
+    }
+
+    /**
+     * 회원의 통계를 현재 할 일로 다시 계산합니다. (프로젝트 삭제 등 여러 할 일이 한 번에 바뀌는 경우)
+     */
+    public void rebuild(Long memberId) {
+        dailyTaskStatRepository.deleteByMemberId(memberId);
+        dailyTaskStatRepository.insertFromTasks(memberId);
+    }
+
+    private void apply(Long memberId, TaskSpan span, int sign) {
+        dailyTaskStatRepository.addDelta(memberId, span.startDate(), span.lastDate(), sign,
+                span.completed() ? sign : 0);
+    }
+}
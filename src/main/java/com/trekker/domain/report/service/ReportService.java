@@ -1,11 +1,20 @@
 package com.trekker.domain.report.service;
 
+import com.trekker.domain.report.dao.DailyTaskStatRepository;
+import com.trekker.domain.report.dto.ReportDailyResDto;
 import com.trekker.domain.report.dto.ReportResDto;
+import com.trekker.domain.report.util.DailyTaskStatArrays;
 import com.trekker.domain.report.util.ProgressRateCalculator;
 import com.trekker.domain.retrospective.dao.RetrospectiveSkillRepository;
-import com.trekker.domain.task.dao.TaskRepository;
+import com.trekker.domain.task.dao.RecurringTaskRepository;
+import com.trekker.domain.task.dto.DailyTaskCounts;
 import com.trekker.domain.task.dto.SkillCountDto;
-import com.trekker.domain.task.entity.Task;
+import com.trekker.domain.task.util.RecurringTaskExpander;
+import com.trekker.global.config.jpa.ParallelQueryExecutor;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.pagination.CursorCodec;
+import com.trekker.global.pagination.CursorPage;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
@@ -13,8 +22,7 @@ import java.time.temporal.TemporalAdjusters;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -24,13 +32,15 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ReportService {
 
+    public static final int MAX_REPORT_DAYS = 366;
+
     private static final String SOFT_SKILL = "soft";
     private static final String HARD_SKILL = "hard";
-    private static final String TOTAL_TASK = "totalTasks";
-    private static final String COMPLETED_TASK = "completedTasks";
 
     private final RetrospectiveSkillRepository retrospectiveSkillRepository;
-    private final TaskRepository taskRepository;
+    private final DailyTaskStatRepository dailyTaskStatRepository;
+    private final RecurringTaskRepository recurringTaskRepository;
+    private final ParallelQueryExecutor parallelQueryExecutor;
 
 
     /**
@@ -41,146 +51,164 @@ public class ReportService {
      */
     public ReportResDto getMemberReport(Long memberId) {
 
-        // 상위 3개의 소프트 스킬 반환
-        List<SkillCountDto> topSoftSkills = retrospectiveSkillRepository.findTopSkillsByMemberIdAndType(
-                memberId, SOFT_SKILL, PageRequest.of(0, 3));
-
-        // 상위 3개의 하드 스킬 반환
-        List<SkillCountDto> topHardSkills = retrospectiveSkillRepository.findTopSkillsByMemberIdAndType(
-                memberId, HARD_SKILL, PageRequest.of(0, 3));
-
-        // 이번 달의 날짜별 할 일 통계 계산
-        Map<LocalDate, Map<String, Integer>> dailyTaskStatsInMonth = getDailyTaskStatsInMonth(
-                memberId);
+        // 이번 달과 저번 주 일요일 ~ 이번 주 토요일을 모두 포함하는 기간
+        LocalDate now = LocalDate.now();
+        LocalDate startOfMonth = now.withDayOfMonth(1);
+        LocalDate endOfMonth = now.withDayOfMonth(now.lengthOfMonth());
+        LocalDate lastSunday = now.with(TemporalAdjusters.previous(DayOfWeek.SUNDAY));
+        LocalDate thisSaturday = now.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+        LocalDate startDate = lastSunday.isBefore(startOfMonth) ? lastSunday : startOfMonth;
+        LocalDate endDate = thisSaturday.isAfter(endOfMonth) ? thisSaturday : endOfMonth;
+
+        List<SkillCountDto> topSoftSkills;
+        List<SkillCountDto> topHardSkills;
+        DailyTaskCounts counts;
+        // 서로 독립적인 세 조회를 동시에 실행
+        try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.open()) {
+            // 상위 3개의 소프트 스킬 반환
+            Supplier<List<SkillCountDto>> softSkills = scope.fork(
+                    () -> retrospectiveSkillRepository.findTopSkillsByMemberIdAndType(memberId,
+                            SOFT_SKILL, PageRequest.of(0, 3)));
+
+            // 상위 3개의 하드 스킬 반환
+            Supplier<List<SkillCountDto>> hardSkills = scope.fork(
+                    () -> retrospectiveSkillRepository.findTopSkillsByMemberIdAndType(memberId,
+                            HARD_SKILL, PageRequest.of(0, 3)));
+
+            // 기간의 날짜별 할 일 통계 조회
+            Supplier<DailyTaskCounts> dailyTaskCounts = scope.fork(
+                    () -> getDailyTaskCounts(memberId, startDate, endDate));
+
+            scope.join();
+            topSoftSkills = softSkills.get();
+            topHardSkills = hardSkills.get();
+            counts = dailyTaskCounts.get();
+        }
 
         // 이번 달의 날짜별 할 일 진행률 계산
-        Map<LocalDate, Integer> dailyProgressRatesInMonth = ProgressRateCalculator.calculateProgressRate(
-                dailyTaskStatsInMonth);
+        Map<LocalDate, Integer> dailyProgressRatesInMonth = getProgressRates(counts,
+                startOfMonth, endOfMonth);
 
         // 이번 주의 일별 완료된 할 일 수 계산
-        Map<LocalDate, Integer> weeklyTaskCounts = getLastWeekToThisSaturdayTasks(
-                dailyTaskStatsInMonth);
+        Map<LocalDate, Integer> weeklyTaskCounts = getCompletedTasks(counts, lastSunday,
+                thisSaturday);
 
         return new ReportResDto(topSoftSkills, topHardSkills, dailyProgressRatesInMonth,
                 weeklyTaskCounts);
     }
 
     /**
-     * 회원의 스킬을 조회합니다.
+     * 회원의 스킬을 사용 횟수 내림차순으로 조회합니다.
      *
      * @param memberId 회원의 ID
      * @param type     조회할 스킬 유형 (소프트, 하드)
-     * @return 조회한 스킬 리스트
+     * @param cursor   이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @param size     페이지 크기
+     * @return 조회한 스킬 페이지
      */
-    public List<SkillCountDto> getMemberSkillList(Long memberId, String type) {
-        return retrospectiveSkillRepository.findTopSkillsByMemberIdAndType(memberId, type,
-                Pageable.unpaged());
+    public CursorPage<SkillCountDto> getMemberSkillList(Long memberId, String type,
+            String cursor, int size) {
+        Pageable limit = CursorPage.fetchLimit(size);
+
+        // 첫 페이지는 모든 스킬이 (최대 횟수, 빈 이름) 이후에 온다
+        long lastCount = Long.MAX_VALUE;
+        String lastName = "";
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = CursorCodec.decode(cursor, 2);
+            try {
+                lastCount = Long.parseLong(keys[0]);
+            } catch (NumberFormatException e) {
+                throw new BusinessException(cursor, "cursor", ErrorCode.BAD_REQUEST);
+            }
+            lastName = keys[1];
+        }
+
+        List<SkillCountDto> skills = retrospectiveSkillRepository
+                .findSkillsByMemberIdAndTypeAfter(memberId, type, lastCount, lastName, limit);
+        return CursorPage.of(skills, size,
+                skill -> CursorCodec.encode(skill.count(), skill.skillName()));
     }
 
     /**
-     * 회원의 할 일 데이터를 기반으로 이번 달의 날짜별 할 일 통계를 반환합니다.
+     * 기간의 날짜별 할 일 수, 완료된 할 일 수, 진행률을 조회합니다.
      *
-     * @param memberId 회원 ID
-     * @return 날짜별 할 일 통계 (전체 할 일 수와 완료된 할 일 수 포함)
+     * @param memberId  회원의 ID
+     * @param startDate 기간 시작 날짜
+     * @param endDate   기간 종료 날짜 (포함, 시작 날짜로부터 MAX_REPORT_DAYS일 이내)
+     * @return 시작 날짜와 날짜별 값 배열
      */
-    private Map<LocalDate, Map<String, Integer>> getDailyTaskStatsInMonth(Long memberId) {
-        // 이번 달의 시작일과 종료일 계산
-        LocalDate now = LocalDate.now();
-        LocalDate startOfMonth = LocalDate.of(now.getYear(), now.getMonth(), 1);
-        LocalDate endOfMonth = startOfMonth.withDayOfMonth(startOfMonth.lengthOfMonth());
-
-        // 회원의 이번 달 할 일 데이터를 조회
-        List<Task> tasks = taskRepository.findTasksInMonth(memberId, startOfMonth, endOfMonth);
-
-        // 할 일 데이터를 날짜별로 집계하여 통계를 생성
-        return calculateDailyStats(tasks, startOfMonth, endOfMonth);
+    public ReportDailyResDto getDailyReport(Long memberId, LocalDate startDate,
+            LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessException(endDate, "endDate", ErrorCode.REPORT_BAD_REQUEST);
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_REPORT_DAYS) {
+            throw new BusinessException(endDate, "endDate", ErrorCode.REPORT_BAD_REQUEST);
+        }
+
+        return ReportDailyResDto.toDto(getDailyTaskCounts(memberId, startDate, endDate));
     }
 
     /**
-     * 할 일 데이터를 날짜별로 집계하여 할 일 통계를 생성합니다.
+     * 날짜별 할 일 통계(daily_task_stats)를 기간의 날짜별 배열로 조회하고, 반복 할 일의 발생을 더합니다.
      *
-     * @param tasks        할 일 리스트
-     * @param startOfMonth 이번 달의 시작일
-     * @param endOfMonth   이번 달의 종료일
-     * @return 날짜별 할 일 통계 (전체 할 일 수와 완료된 할 일 수 포함)
+     * @param memberId  회원 ID
+     * @param startDate 기간 시작 날짜
+     * @param endDate   기간 종료 날짜 (포함)
+     * @return 날짜별 할 일 수와 완료된 할 일 수 (할 일이 없는 날짜는 0)
      */
-    private Map<LocalDate, Map<String, Integer>> calculateDailyStats(
-            List<Task> tasks, LocalDate startOfMonth, LocalDate endOfMonth) {
-
-        return tasks.stream()
-                .flatMap(task -> {
-                    // 종료일이 없을 경우 endDate를 startDate로 설정
-                    LocalDate endDate =
-                            (task.getEndDate() != null) ? task.getEndDate() : task.getStartDate();
-
-                    // 할 일 기간을 이번 달의 범위로 조정
-                    LocalDate currentStart =
-                            task.getStartDate().isBefore(startOfMonth) ? startOfMonth
-                                    : task.getStartDate();
-                    LocalDate currentEnd = endDate.isAfter(endOfMonth) ? endOfMonth : endDate;
-
-                    // 날짜 범위 스트림 생성
-                    long daysBetween = ChronoUnit.DAYS.between(currentStart, currentEnd) + 1;
-                    return (daysBetween > 0) ?
-                            getDateRangeStream(currentStart, currentEnd).map(
-                                    date -> Map.entry(date, task))
-                            : Stream.empty();
-                })
-                .collect(Collectors.groupingBy(
-                        Map.Entry::getKey, // 날짜별로 그룹화
-                        Collectors.collectingAndThen(
-                                Collectors.toList(),
-                                entries -> {
-                                    Map<String, Integer> stats = new HashMap<>();
-                                    stats.put(TOTAL_TASK, entries.size()); // 전체 할 일 수
-                                    stats.put(COMPLETED_TASK,
-                                            (int) entries.stream()
-                                                    .filter(entry -> entry.getValue()
-                                                            .getIsCompleted())
-                                                    .count()); // 완료된 할 일 수
-                                    return stats;
-                                }
-                        )
-                ));
+    private DailyTaskCounts getDailyTaskCounts(Long memberId, LocalDate startDate,
+            LocalDate endDate) {
+        DailyTaskCounts counts = DailyTaskStatArrays.toCounts(
+                dailyTaskStatRepository.findStatsInRange(memberId, startDate, endDate),
+                startDate, endDate);
+        return counts.plus(RecurringTaskExpander.count(
+                recurringTaskRepository.findRecurringTasksByMemberId(memberId, startDate, endDate),
+                startDate, endDate));
     }
 
     /**
-     * 주어진 시작일과 종료일 사이의 날짜 스트림을 생성합니다.
+     * 날짜별 배열에서 기간 [from, to]의 할 일이 있는 날짜의 진행률을 반환합니다.
      *
-     * @param start 시작일
-     * @param end   종료일
-     * @return 시작일부터 종료일까지의 LocalDate 스트림
+     * @param counts 날짜별 할 일 수와 완료된 할 일 수
+     * @param from   시작 날짜
+     * @param to     종료 날짜 (포함)
+     * @return 날짜별 진행률
      */
-    private Stream<LocalDate> getDateRangeStream(LocalDate start, LocalDate end) {
-        long daysBetween = ChronoUnit.DAYS.between(start, end) + 1;
-        return Stream.iterate(start, date -> date.plusDays(1))
-                .limit(daysBetween);
+    private Map<LocalDate, Integer> getProgressRates(DailyTaskCounts counts, LocalDate from,
+            LocalDate to) {
+        Map<LocalDate, Integer> progressRates = new HashMap<>();
+        int last = indexOf(counts, to);
+        for (int i = indexOf(counts, from); i <= last; i++) {
+            if (counts.total()[i] > 0) {
+                progressRates.put(counts.dateAt(i), ProgressRateCalculator.calculateProgressRate(
+                        counts.total()[i], counts.completed()[i]));
+            }
+        }
+        return progressRates;
     }
 
-
-
     /**
-     * 주어진 일별 할 일 통계에서 저번 주 일요일부터 이번 주 토요일까지의 할 일 데이터를 필터링합니다.
+     * 날짜별 배열에서 기간 [from, to]의 할 일이 있는 날짜의 완료된 할 일 수를 반환합니다.
      *
-     * @param dailyTaskStats 날짜 별 할 일 통계
-     * @return 저번 주 일요일부터 이번 주 토요일까지의 날짜별 완료된 할 일 수 맵
+     * @param counts 날짜별 할 일 수와 완료된 할 일 수
+     * @param from   시작 날짜
+     * @param to     종료 날짜 (포함)
+     * @return 날짜별 완료된 할 일 수
      */
-    private Map<LocalDate, Integer> getLastWeekToThisSaturdayTasks(
-            Map<LocalDate, Map<String, Integer>> dailyTaskStats) {
-
-        // 현재 날짜를 기준으로 저번 주 일요일과 이번 주 토요일 계산
-        LocalDate now = LocalDate.now();
-        LocalDate lastSunday = now.with(TemporalAdjusters.previous(DayOfWeek.SUNDAY));
-        LocalDate thisSaturday = now.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
-
-        // 주어진 할 일 통계에서 해당 주 범위의 데이터를 필터링
-        return dailyTaskStats.entrySet().stream()
-                .filter(entry -> !entry.getKey().isBefore(lastSunday) && !entry.getKey()
-                        .isAfter(thisSaturday))
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().getOrDefault(COMPLETED_TASK, 0)
-                ));
+    private Map<LocalDate, Integer> getCompletedTasks(DailyTaskCounts counts, LocalDate from,
+            LocalDate to) {
+        Map<LocalDate, Integer> completedTasks = new HashMap<>();
+        int last = indexOf(counts, to);
+        for (int i = indexOf(counts, from); i <= last; i++) {
+            if (counts.total()[i] > 0) {
+                completedTasks.put(counts.dateAt(i), counts.completed()[i]);
+            }
+        }
+        return completedTasks;
     }
 
+    private int indexOf(DailyTaskCounts counts, LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(counts.startDate(), date);
+    }
 }
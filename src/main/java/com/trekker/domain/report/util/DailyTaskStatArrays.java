@@ -0,0 +1,43 @@
+package com.trekker.domain.report.util;
+
+import com.trekker.domain.report.entity.DailyTaskStat;
+import com.trekker.domain.task.dto.DailyTaskCounts;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 날짜별 할 일 통계 행을 시작일로부터의 일 수를 인덱스로 하는 배열로 변환하는 유틸리티 클래스입니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DailyTaskStatArrays {
+
+    /**
+     * 기간 [startDate, endDate]의 날짜별 할 일 수와 완료된 할 일 수 배열을 만듭니다.
+     * <p>
+     * 통계 행이 없는 날짜는 0이며, 기간을 벗어난 행은 무시합니다.
+     *
+     * @param stats     날짜별 할 일 통계
+     * @param startDate 기간 시작 날짜 (배열의 0번째 날짜)
+     * @param endDate   기간 종료 날짜 (포함)
+     * @return 날짜별 할 일 수와 완료된 할 일 수
+     */
+    public static DailyTaskCounts toCounts(List<DailyTaskStat> stats, LocalDate startDate,
+            LocalDate endDate) {
+        long startDay = startDate.toEpochDay();
+        int days = (int) (endDate.toEpochDay() - startDay) + 1;
+        int[] total = new int[days];
+        int[] completed = new int[days];
+
+        for (DailyTaskStat stat : stats) {
+            long offset = stat.getStatDate().toEpochDay() - startDay;
+            if (offset < 0 || offset >= days) {
+                continue;
+            }
+            total[(int) offset] = stat.getTotal();
+            completed[(int) offset] = stat.getCompleted();
+        }
+        return new DailyTaskCounts(startDate, total, completed);
+    }
+}
@@ -1,9 +1,6 @@
 package com.trekker.domain.report.util;
 
-import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
+import com.trekker.domain.task.dto.DailyTaskCounts;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -21,64 +18,58 @@ public class ProgressRateCalculator {
     private static final int PROGRESS_100 = 100;
 
     /**
-     * 월별 진행률을 계산합니다.
+     * 날짜별 진행률을 계산합니다.
      *
-     * @param monthlyTask 날짜별 작업 통계
-     * @return 날짜별 진행률
+     * @param counts 날짜별 할 일 수와 완료된 할 일 수
+     * @return 날짜별 진행률 (counts와 같은 인덱스)
      */
-    public static Map<LocalDate, Integer> calculateProgressRate(
-            Map<LocalDate, Map<String, Integer>> monthlyTask) {
-
-        // 월별 작업 통계를 스트림으로 처리하여 진행률 맵 생성
-        return monthlyTask.entrySet()
-                .stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey, // 날짜를 키로 사용
-                        entry -> calculateMappedProgressRate(entry.getValue())
-                ));
+    public static int[] calculateProgressRates(DailyTaskCounts counts) {
+        int[] progressRates = new int[counts.days()];
+        for (int i = 0; i < progressRates.length; i++) {
+            progressRates[i] = calculateProgressRate(counts.total()[i], counts.completed()[i]);
+        }
+        return progressRates;
     }
 
     /**
-     * 일별 작업 통계를 기반으로 매핑된 진행률을 계산합니다.
+     * 하루의 할 일 수와 완료된 할 일 수로 매핑된 진행률을 계산합니다.
      *
-     * @param dailyStats 일별 작업 통계
+     * @param totalTaskCount     할 일 수
+     * @param completedTaskCount 완료된 할 일 수
      * @return 매핑된 진행률
      */
-    private static int calculateMappedProgressRate(Map<String, Integer> dailyStats) {
-        // 일별 작업 수 및 완료된 작업 수 가져오기
-        int completedTaskCount = dailyStats.getOrDefault("completedTasks", 0);
-        int totalTaskCount = dailyStats.getOrDefault("totalTasks", 0);
-
+    public static int calculateProgressRate(int totalTaskCount, int completedTaskCount) {
         // 완료한 작업 수가 0이거나 총 작업 수가 0인 경우 진행률은 0으로 설정
         if (completedTaskCount == 0 || totalTaskCount == 0) {
             return 0;
         }
 
-        // 실제 진행률 계산
-        double progressRate = (completedTaskCount / (double) totalTaskCount) * 100;
-
         // 실제 진행률을 사전 정의된 구간 값으로 매핑
-        return mapProgressRate(progressRate);
+        return mapProgressRate(completedTaskCount, totalTaskCount);
     }
 
     /**
-     * 실제 진행률을 사전 정의된 구간 값으로 매핑합니다.
+     * 실제 진행률(completed / total * 100)을 사전 정의된 구간 값으로 매핑합니다.
+     * <p>
+     * 구간 경계는 정수 곱으로 비교하여 실수 연산 없이 판단합니다.
      *
-     * @param progressRate 실제 계산된 진행률
+     * @param completedTaskCount 완료된 할 일 수
+     * @param totalTaskCount     할 일 수
      * @return 매핑된 진행률
      */
-    private static int mapProgressRate(double progressRate) {
-        if (progressRate <= 30) {
+    private static int mapProgressRate(int completedTaskCount, int totalTaskCount) {
+        long completed = completedTaskCount * 100L;
+        if (completed <= 30L * totalTaskCount) {
             return PROGRESS_20;
-        } else if (progressRate <= 50) {
+        } else if (completed <= 50L * totalTaskCount) {
             return PROGRESS_40;
-        } else if (progressRate <= 70) {
+        } else if (completed <= 70L * totalTaskCount) {
             return PROGRESS_60;
-        } else if (progressRate <= 99) {
+        } else if (completed <= 99L * totalTaskCount) {
             return PROGRESS_80;
         } else {
             return PROGRESS_100;
         }
     }
 
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import com.trekker.domain.retrospective.application.SkillService;
 import com.trekker.domain.retrospective.dto.res.SkillDetailResDto;
 import com.trekker.domain.retrospective.dto.res.SkillSummaryResDto;
 import com.trekker.global.config.security.annotation.LoginMember;
+import com.trekker.global.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,12 +28,14 @@ public class SkillController implements SkillApi {
     }
 
     @GetMapping("/retrospective/{skillId}")
-    public ResponseEntity<List<SkillDetailResDto>> getSkillDetails(
+    public ResponseEntity<CursorPage<SkillDetailResDto>> getSkillDetails(
             @LoginMember Long memberId,
-            @PathVariable Long skillId
+            @PathVariable Long skillId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) int size
     ) {
-        List<SkillDetailResDto> skillDetails = skillService.getSkillDetailsBySkillIdAndMemberId(
-                memberId, skillId);
+        CursorPage<SkillDetailResDto> skillDetails = skillService
+                .getSkillDetailsBySkillIdAndMemberId(memberId, skillId, cursor, size);
         return ResponseEntity.ok(skillDetails);
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.trekker.domain.retrospective.api.docs;
 
 import com.trekker.domain.retrospective.dto.res.SkillDetailResDto;
 import com.trekker.domain.retrospective.dto.res.SkillSummaryResDto;
+import com.trekker.global.pagination.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -26,12 +27,18 @@ public interface SkillApi {
 
     @Operation(
             summary = "특정 스킬 상세 조회",
-            description = "회원의 특정 스킬에 대한 상세 정보를 조회합니다.",
+            description = """
+                    회원의 특정 스킬에 대한 상세 정보를 할 일 순으로 조회합니다.
+                    - 회고 내용은 앞부분(최대 100자)만 포함합니다.
+                    - 응답의 `nextCursor`를 `cursor`로 전달하면 다음 페이지를 조회합니다.
+                    """,
             security = @SecurityRequirement(name = "BearerAuth" )
     )
     @ApiResponse(responseCode = "200", description = "스킬 상세 조회 성공" )
-    ResponseEntity<List<SkillDetailResDto>> getSkillDetails(
+    ResponseEntity<CursorPage<SkillDetailResDto>> getSkillDetails(
             @Parameter(hidden = true) Long memberId,
-            @Parameter(description = "스킬 ID", example = "1" ) Long skillId
+            @Parameter(description = "스킬 ID", example = "1" ) Long skillId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)" ) String cursor,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "20" ) int size
     );
 }
\ No newline at end of file
@@ -1,17 +1,25 @@
 package com.trekker.domain.retrospective.application;
 
+import static com.trekker.global.version.DataAggregate.RETROSPECTIVE;
+import static com.trekker.global.version.DataAggregate.TASK;
+
+import com.trekker.domain.report.service.DailyTaskStatsService;
 import com.trekker.domain.retrospective.dao.RetrospectiveRepository;
 import com.trekker.domain.retrospective.dao.RetrospectiveSkillRepository;
 import com.trekker.domain.retrospective.dao.SkillRepository;
+import com.trekker.domain.retrospective.dto.RetrospectiveSkillRowDto;
 import com.trekker.domain.retrospective.dto.req.RetrospectiveReqDto;
 import com.trekker.domain.retrospective.dto.res.RetrospectiveResDto;
 import com.trekker.domain.retrospective.entity.Retrospective;
 import com.trekker.domain.retrospective.entity.RetrospectiveSkill;
 import com.trekker.domain.retrospective.entity.Skill;
+import com.trekker.domain.task.cache.TaskIntervalIndexCache;
 import com.trekker.domain.task.dao.TaskRepository;
+import com.trekker.domain.task.dto.TaskSpan;
 import com.trekker.domain.task.entity.Task;
 import com.trekker.global.exception.custom.BusinessException;
 import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.version.DataVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +40,9 @@ public class RetrospectiveService {
     private final RetrospectiveSkillRepository retrospectiveSkillRepository;
     private final SkillRepository skillRepository;
     private final TaskRepository taskRepository;
+    private final TaskIntervalIndexCache taskIntervalIndexCache;
+    private final DailyTaskStatsService dailyTaskStatsService;
+    private final DataVersions dataVersions;
 
     /**
      * 새로운 회고를 추가
@@ -53,7 +64,12 @@ public class RetrospectiveService {
         saveRetrospectiveSkills(retrospective, reqDto, skillMap);
 
         // 5. 태스크 완료 상태 업데이트
+        TaskSpan before = TaskSpan.from(task);
         task.updateCompleted(true);
+        TaskSpan after = TaskSpan.from(task);
+        dailyTaskStatsService.replace(memberId, before, after);
+        taskIntervalIndexCache.put(memberId, after);
+        dataVersions.bump(memberId, TASK, RETROSPECTIVE);
 
         return retrospective.getId();
     }
@@ -67,15 +83,26 @@ public class RetrospectiveService {
      */
 
     public RetrospectiveResDto getRetrospective(Long memberId, Long taskId) {
-        // 1. 할 일 작성자 확인
-        Task task = validateTaskOwnership(memberId, taskId);
+        // 1. 할 일, 회고 및 연관 스킬을 조회 전용으로 한 번에 조회
+        List<RetrospectiveSkillRowDto> rows = retrospectiveRepository
+                .findRetrospectiveRowsByTaskId(taskId);
+        if (rows.isEmpty()) {
+            throw new BusinessException(taskId, "taskId", ErrorCode.TASK_NOT_FOUND);
+        }
 
-        // 2. 회고 및 연관 스킬 조회
-        Retrospective retrospective = findRetrospectiveByIdWithSkillList(
-                task.getRetrospective().getId());
+        // 2. 할 일 작성자 확인
+        Long ownerId = rows.get(0).memberId();
+        if (!ownerId.equals(memberId)) {
+            throw new BusinessException(ownerId, "id", ErrorCode.ACCESS_DENIED_EXCEPTION);
+        }
+
+        // 3. 회고 존재 여부 확인
+        if (rows.get(0).retrospectiveId() == null) {
+            throw new BusinessException(taskId, "taskId", ErrorCode.RETROSPECTIVE_NOT_FOUND);
+        }
 
-        // 3. DTO로 변환 및 반환
-        return RetrospectiveResDto.toDto(task.getName(), retrospective);
+        // 4. DTO로 변환 및 반환
+        return RetrospectiveResDto.toDto(rows);
     }
 
     /**
@@ -96,6 +123,7 @@ public class RetrospectiveService {
 
         // 4. 기존 스킬과 새로운 스킬 비교 및 갱신
         updateRetrospectiveSkills(retrospective, reqDto);
+        dataVersions.bump(memberId, RETROSPECTIVE);
     }
 
     /**
@@ -108,7 +136,12 @@ public class RetrospectiveService {
         Task task = validateTaskOwnership(memberId, taskId);
 
         // 2. 태스크 완료 상태 업데이트 및 연관관계 삭제 (고아 객체 상태로 만들어서 삭제)
+        TaskSpan before = TaskSpan.from(task);
         task.unlinkRetrospectiveAndUpdateCompleted();
+        TaskSpan after = TaskSpan.from(task);
+        dailyTaskStatsService.replace(memberId, before, after);
+        taskIntervalIndexCache.put(memberId, after);
+        dataVersions.bump(memberId, TASK, RETROSPECTIVE);
     }
 
     /**
@@ -3,6 +3,8 @@ package com.trekker.domain.retrospective.application;
 import com.trekker.domain.retrospective.dao.SkillRepository;
 import com.trekker.domain.retrospective.dto.res.SkillDetailResDto;
 import com.trekker.domain.retrospective.dto.res.SkillSummaryResDto;
+import com.trekker.global.pagination.CursorCodec;
+import com.trekker.global.pagination.CursorPage;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -25,14 +27,19 @@ public class SkillService {
     }
 
     /**
-     * 특정 회원의 특정 스킬에 대한 상세 정보를 조회합니다.
+     * 특정 회원의 특정 스킬에 대한 상세 정보를 할 일 ID 순으로 조회합니다.
      *
      * @param memberId 회원 ID
      * @param skillId  스킬 ID
-     * @return 할 일 기간, 할 일 이름, 회고 내용 리스트
+     * @param cursor   이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @param size     페이지 크기
+     * @return 할 일 기간, 할 일 이름, 회고 내용 앞부분 페이지
      */
-    public List<SkillDetailResDto> getSkillDetailsBySkillIdAndMemberId(Long memberId, Long skillId) {
-        return skillRepository.findSkillDetailsBySkillIdAndMemberId(skillId, memberId);
+    public CursorPage<SkillDetailResDto> getSkillDetailsBySkillIdAndMemberId(Long memberId,
+            Long skillId, String cursor, int size) {
+        List<SkillDetailResDto> details = skillRepository.findSkillDetailsBySkillIdAndMemberId(
+                skillId, memberId, CursorCodec.decodeId(cursor), CursorPage.fetchLimit(size));
+        return CursorPage.of(details, size, detail -> CursorCodec.encode(detail.taskId()));
     }
 
 }
@@ -1,6 +1,8 @@
 package com.trekker.domain.retrospective.dao;
 
+import com.trekker.domain.retrospective.dto.RetrospectiveSkillRowDto;
 import com.trekker.domain.retrospective.entity.Retrospective;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -16,4 +18,25 @@ public interface RetrospectiveRepository extends JpaRepository<Retrospective, Lo
           WHERE r.id =:retrospectiveId
           """)
    Optional<Retrospective> findByIdWithSkillList(@Param("retrospectiveId") Long retrospectiveId);
+
+   /**
+    * 할 일의 회고와 스킬을 조회 전용으로 조회 (할 일이 없으면 빈 목록)
+    */
+   @Query("""
+          SELECT new com.trekker.domain.retrospective.dto.RetrospectiveSkillRowDto(
+              p.member.id,
+              t.name,
+              r.id,
+              r.content,
+              rs.type,
+              s.name
+          )
+          FROM Task t
+          JOIN t.project p
+          LEFT JOIN t.retrospective r
+          LEFT JOIN r.retrospectiveSkillList rs
+          LEFT JOIN rs.skill s
+          WHERE t.id =:taskId
+          """)
+   List<RetrospectiveSkillRowDto> findRetrospectiveRowsByTaskId(@Param("taskId") Long taskId);
 }
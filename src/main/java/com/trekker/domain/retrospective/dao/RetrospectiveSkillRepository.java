@@ -3,6 +3,7 @@ package com.trekker.domain.retrospective.dao;
 import com.trekker.domain.project.dto.ProjectSkillDto;
 import com.trekker.domain.retrospective.entity.RetrospectiveSkill;
 import com.trekker.domain.task.dto.SkillCountDto;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -40,6 +41,26 @@ public interface RetrospectiveSkillRepository extends JpaRepository<Retrospectiv
             @Param("type") String type,
             Pageable pageable);
 
+    // 스킬 사용 횟수 내림차순, 이름 오름차순으로 마지막 (횟수, 이름) 이후를 조회 (키셋 페이지네이션)
+    @Query("""
+           SELECT new com.trekker.domain.task.dto.SkillCountDto(rs.skill.name, COUNT(rs.skill.name))
+           FROM RetrospectiveSkill rs
+           JOIN rs.retrospective r
+           JOIN r.task t
+           JOIN t.project p
+           JOIN p.member m
+           WHERE m.id = :memberId AND rs.type = :type
+           GROUP BY rs.skill.name
+           HAVING COUNT(rs.skill.name) < :lastCount
+           OR (COUNT(rs.skill.name) = :lastCount AND rs.skill.name > :lastName)
+           ORDER BY COUNT(rs.skill.name) DESC, rs.skill.name
+           """)
+    List<SkillCountDto> findSkillsByMemberIdAndTypeAfter(@Param("memberId") Long memberId,
+            @Param("type") String type,
+            @Param("lastCount") Long lastCount,
+            @Param("lastName") String lastName,
+            Pageable pageable);
+
     @Query("""
        SELECT new com.trekker.domain.project.dto.ProjectSkillDto(
            p.id,
@@ -55,11 +76,11 @@ public interface RetrospectiveSkillRepository extends JpaRepository<Retrospectiv
        JOIN rs.retrospective r
        JOIN r.task t
        JOIN t.project p
-       JOIN p.member m
-       WHERE m.id = :memberId AND p.isCompleted = true
+       WHERE p.id IN :projectIds
        GROUP BY p.id, p.title, p.description, p.startDate, p.endDate, rs.type, rs.skill.name
        ORDER BY p.id, rs.type, COUNT(rs.skill.name) DESC
        """)
-    List<ProjectSkillDto> findProjectSkillsByMemberId(@Param("memberId") Long memberId);
+    List<ProjectSkillDto> findProjectSkillsByProjectIdIn(
+            @Param("projectIds") Collection<Long> projectIds);
 
 }
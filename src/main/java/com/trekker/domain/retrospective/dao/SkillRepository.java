@@ -6,6 +6,7 @@ import com.trekker.domain.retrospective.entity.Skill;
 import io.lettuce.core.dynamic.annotation.Param;
 import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -37,23 +38,26 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     """)
     List<SkillSummaryResDto> findAllSkillsWithCountByMemberId(@Param("memberId") Long memberId);
 
+    // 목록에는 회고 내용 앞부분(100자)만 담고, 마지막 할 일 ID 이후를 조회 (키셋 페이지네이션)
     @Query("""
            SELECT new com.trekker.domain.retrospective.dto.res.SkillDetailResDto(
                t.id,
                t.startDate,
                t.endDate,
                t.name,
-               r.content
+               SUBSTRING(r.content, 1, 100)
            )
            FROM Skill s
            JOIN RetrospectiveSkill rs ON s.id = rs.skill.id
            JOIN rs.retrospective r
            JOIN r.task t
            JOIN t.project p
-           WHERE s.id = :skillId AND p.member.id = :memberId
+           WHERE s.id = :skillId AND p.member.id = :memberId AND t.id > :lastTaskId
            ORDER BY t.id
            """)
     List<SkillDetailResDto> findSkillDetailsBySkillIdAndMemberId(
             @Param("skillId") Long skillId,
-            @Param("memberId") Long memberId);
+            @Param("memberId") Long memberId,
+            @Param("lastTaskId") Long lastTaskId,
+            Pageable pageable);
 }
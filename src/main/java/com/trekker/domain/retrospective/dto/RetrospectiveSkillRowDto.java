@@ -0,0 +1,19 @@
+package com.trekker.domain.retrospective.dto;
+
+/**
+ * 할 일의 회고 조회 결과 한 행 (회고 스킬마다 한 행)
+ *
+ * @param memberId        할 일 소유자 ID
+ * @param retrospectiveId 회고 ID, 회고가 없으면 null
+ * @param skillType       스킬 유형, 회고에 스킬이 없으면 null
+ */
+public record RetrospectiveSkillRowDto(
+        Long memberId,
+        String taskName,
+        Long retrospectiveId,
+        String content,
+        String skillType,
+        String skillName
+) {
+
+}
@@ -1,6 +1,6 @@
 package com.trekker.domain.retrospective.dto.res;
 
-import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.project.dto.ProjectSummaryDto;
 import com.trekker.domain.task.dto.SkillCountDto;
 import java.time.LocalDate;
 import java.util.List;
@@ -22,14 +22,14 @@ public record ProjectSkillSummaryResDto(
         List<SkillCountDto> topHardSkillList
 ) {
 
-    public static ProjectSkillSummaryResDto toDto(Project project,
+    public static ProjectSkillSummaryResDto toDto(ProjectSummaryDto project,
             List<SkillCountDto> topSoftSkillList,
             List<SkillCountDto> topHardSkillList) {
         return ProjectSkillSummaryResDto.builder()
-                .projectId(project.getId())
-                .title(project.getTitle())
-                .startDate(project.getStartDate())
-                .endDate(project.getEndDate())
+                .projectId(project.id())
+                .title(project.title())
+                .startDate(project.startDate())
+                .endDate(project.endDate())
                 .topSoftSkillList(topSoftSkillList)
                 .topHardSkillList(topHardSkillList)
                 .build();
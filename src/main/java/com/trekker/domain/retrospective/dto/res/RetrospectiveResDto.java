@@ -1,7 +1,8 @@
 package com.trekker.domain.retrospective.dto.res;
 
-import com.trekker.domain.retrospective.entity.Retrospective;
+import com.trekker.domain.retrospective.dto.RetrospectiveSkillRowDto;
 import java.util.List;
+import java.util.Objects;
 import lombok.Builder;
 
 @Builder
@@ -16,24 +17,33 @@ public record RetrospectiveResDto(
         String content
 ) {
 
-    public static RetrospectiveResDto toDto(String taskName, Retrospective retrospective) {
-        // 소프트 및 하드 스킬 목록 초기화
-        List<String> softSkillList = retrospective.getRetrospectiveSkillList().stream()
-                .filter(skill -> "소프트".equals(skill.getType()))
-                .map(skill -> skill.getSkill().getName())
+    /**
+     * 회고 스킬마다 한 행인 조회 결과를 DTO로 변환
+     *
+     * @param rows 같은 회고의 조회 결과 (비어 있지 않아야 함)
+     */
+    public static RetrospectiveResDto toDto(List<RetrospectiveSkillRowDto> rows) {
+        RetrospectiveSkillRowDto first = rows.get(0);
+
+        // 소프트 및 하드 스킬 목록 초기화 (스킬이 없는 회고는 스킬 유형이 null인 한 행)
+        List<String> softSkillList = rows.stream()
+                .filter(row -> "소프트".equals(row.skillType()))
+                .map(RetrospectiveSkillRowDto::skillName)
+                .filter(Objects::nonNull)
                 .toList();
 
-        List<String> hardSkillList = retrospective.getRetrospectiveSkillList().stream()
-                .filter(skill -> "하드".equals(skill.getType()))
-                .map(skill -> skill.getSkill().getName())
+        List<String> hardSkillList = rows.stream()
+                .filter(row -> "하드".equals(row.skillType()))
+                .map(RetrospectiveSkillRowDto::skillName)
+                .filter(Objects::nonNull)
                 .toList();
 
         // DTO 빌더를 통해 반환
         return RetrospectiveResDto.builder()
-                .taskName(taskName)
+                .taskName(first.taskName())
                 .softSkillList(softSkillList)
                 .hardSkillList(hardSkillList)
-                .content(retrospective.getContent()) // 회고 내용 가져오기
+                .content(first.content()) // 회고 내용 가져오기
                 .build();
     }
-}
\ No newline at end of file
+}
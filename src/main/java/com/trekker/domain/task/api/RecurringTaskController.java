@@ -0,0 +1,56 @@
+package com.trekker.domain.task.api;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NO_CONTENT;
+
+import com.trekker.domain.task.api.docs.RecurringTaskApi;
+import com.trekker.domain.task.application.RecurringTaskService;
+import com.trekker.domain.task.dto.req.RecurringTaskReqDto;
+import com.trekker.global.config.security.annotation.LoginMember;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/project/{projectId}/recurring-tasks")
+public class RecurringTaskController implements RecurringTaskApi {
+
+    private final RecurringTaskService recurringTaskService;
+
+    @PostMapping
+    public ResponseEntity<Long> addRecurringTask(
+            @LoginMember Long memberId,
+            @PathVariable(name = "projectId") Long projectId,
+            @Valid @RequestBody RecurringTaskReqDto recurringTaskReqDto
+    ) {
+        Long recurringTaskId = recurringTaskService.addRecurringTask(memberId, projectId,
+                recurringTaskReqDto);
+        return ResponseEntity.status(CREATED).body(recurringTaskId);
+    }
+
+    @PatchMapping("/{recurringTaskId}/occurrences/{date}")
+    public ResponseEntity<Void> updateOccurrenceCompleted(
+            @LoginMember Long memberId,
+            @PathVariable(name = "recurringTaskId") Long recurringTaskId,
+            @PathVariable(name = "date") @DateTimeFormat(iso = DATE) LocalDate date,
+            @RequestParam boolean completed
+    ) {
+        recurringTaskService.updateOccurrenceCompleted(memberId, recurringTaskId, date,
+                completed);
+        return ResponseEntity.status(NO_CONTENT).build();
+    }
+
+    @DeleteMapping("/{recurringTaskId}")
+    public ResponseEntity<Void> deleteRecurringTask(
+            @LoginMember Long memberId,
+            @PathVariable(name = "recurringTaskId") Long recurringTaskId
+    ) {
+        recurringTaskService.deleteRecurringTask(memberId, recurringTaskId);
+        return ResponseEntity.status(NO_CONTENT).build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.trekker.domain.task.api;
 
+import static com.trekker.global.version.DataAggregate.PROJECT;
+import static com.trekker.global.version.DataAggregate.TASK;
 import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
@@ -7,8 +9,12 @@ import static org.springframework.http.HttpStatus.NO_CONTENT;
 import com.trekker.domain.project.dto.res.ProjectWithTaskInfoResDto;
 import com.trekker.domain.task.api.docs.TaskApi;
 import com.trekker.domain.task.application.TaskService;
+import com.trekker.domain.task.dto.req.TaskBatchReqDto;
 import com.trekker.domain.task.dto.req.TaskReqDto;
+import com.trekker.domain.task.dto.res.TaskAchievementResDto;
+import com.trekker.domain.task.dto.res.TaskBatchResDto;
 import com.trekker.global.config.security.annotation.LoginMember;
+import com.trekker.global.version.DataVersioned;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -34,7 +40,18 @@ public class TaskController implements TaskApi {
         return ResponseEntity.status(CREATED).body(taskId);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResDto> applyTaskBatch(
+            @LoginMember Long memberId,
+            @PathVariable(name = "projectId") Long projectId,
+            @Valid @RequestBody TaskBatchReqDto taskBatchReqDto
+    ) {
+        TaskBatchResDto resDto = taskService.applyTaskBatch(memberId, projectId, taskBatchReqDto);
+        return ResponseEntity.ok(resDto);
+    }
+
     @GetMapping
+    @DataVersioned({PROJECT, TASK})
     public ResponseEntity<ProjectWithTaskInfoResDto> getTaskList(
             @LoginMember Long memberId,
             @PathVariable(name = "projectId") Long projectId,
@@ -44,6 +61,19 @@ public class TaskController implements TaskApi {
         return ResponseEntity.ok(resDto);
     }
 
+    @GetMapping("/achievement")
+    @DataVersioned({PROJECT, TASK})
+    public ResponseEntity<TaskAchievementResDto> getAchievement(
+            @LoginMember Long memberId,
+            @PathVariable(name = "projectId") Long projectId,
+            @RequestParam @DateTimeFormat(iso = DATE) LocalDate reqDate,
+            @RequestParam(defaultValue = "3") int radius
+    ) {
+        TaskAchievementResDto resDto = taskService.getAchievement(memberId, projectId, reqDate,
+                radius);
+        return ResponseEntity.ok(resDto);
+    }
+
     @PutMapping("/{taskId}")
     public ResponseEntity<Void> updateTask(
             @LoginMember Long memberId,
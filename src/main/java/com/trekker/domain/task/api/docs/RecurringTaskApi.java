@@ -0,0 +1,57 @@
+package com.trekker.domain.task.api.docs;
+
+import com.trekker.domain.task.dto.req.RecurringTaskReqDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+
+@Tag(name = "RecurringTask", description = "반복 작업(Recurring Task) 관리 API")
+public interface RecurringTaskApi {
+
+    @Operation(
+            summary = "반복 작업 생성",
+            description = "특정 프로젝트에 매일 또는 매주 반복되는 작업을 생성합니다. "
+                    + "반복 작업의 발생은 작업 목록, 오늘의 작업, 성취도, 리포트 조회에 함께 포함됩니다.",
+            security = @SecurityRequirement(name = "BearerAuth" )
+    )
+    @ApiResponse(responseCode = "201", description = "반복 작업 생성 성공" )
+    @ApiResponse(responseCode = "400", description = "반복 기간이 프로젝트 기간을 벗어나거나, 매주 반복에 요일이 없는 경우" )
+    ResponseEntity<Long> addRecurringTask(
+            @Parameter(hidden = true) Long memberId,
+            @Parameter(description = "프로젝트 ID", example = "1" ) Long projectId,
+            @Valid RecurringTaskReqDto recurringTaskReqDto
+    );
+
+    @Operation(
+            summary = "반복 작업 발생일 완료 여부 변경",
+            description = "반복 작업의 특정 발생일을 완료하거나 완료를 취소합니다.",
+            security = @SecurityRequirement(name = "BearerAuth" )
+    )
+    @ApiResponse(responseCode = "204", description = "완료 여부 변경 성공" )
+    @ApiResponse(responseCode = "400", description = "반복 작업의 발생일이 아닌 경우" )
+    ResponseEntity<Void> updateOccurrenceCompleted(
+            @Parameter(hidden = true) Long memberId,
+            @Parameter(description = "반복 작업 ID", example = "10" ) Long recurringTaskId,
+            @Parameter(description = "발생일 (YYYY-MM-DD 형식)", example = "2024-01-01" )
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "완료 여부", example = "true" ) boolean completed
+    );
+
+    @Operation(
+            summary = "반복 작업 삭제",
+            description = "반복 작업과 모든 발생일의 완료 기록을 삭제합니다.",
+            security = @SecurityRequirement(name = "BearerAuth" )
+    )
+    @ApiResponse(responseCode = "204", description = "반복 작업 삭제 성공" )
+    ResponseEntity<Void> deleteRecurringTask(
+            @Parameter(hidden = true) Long memberId,
+            @Parameter(description = "반복 작업 ID", example = "10" ) Long recurringTaskId
+    );
+}
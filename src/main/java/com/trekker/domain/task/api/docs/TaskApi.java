@@ -1,7 +1,10 @@
 package com.trekker.domain.task.api.docs;
 
 import com.trekker.domain.project.dto.res.ProjectWithTaskInfoResDto;
+import com.trekker.domain.task.dto.req.TaskBatchReqDto;
 import com.trekker.domain.task.dto.req.TaskReqDto;
+import com.trekker.domain.task.dto.res.TaskAchievementResDto;
+import com.trekker.domain.task.dto.res.TaskBatchResDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -28,6 +31,20 @@ public interface TaskApi {
             @Valid TaskReqDto taskReqDto
     );
 
+    @Operation(
+            summary = "작업 일괄 추가/수정/삭제",
+            description = "특정 프로젝트의 작업(Task)을 한 번에 추가, 수정, 삭제합니다. "
+                    + "모두 한 트랜잭션으로 처리되며 하나라도 실패하면 전체가 취소됩니다. (최대 100개)",
+            security = @SecurityRequirement(name = "BearerAuth" )
+    )
+    @ApiResponse(responseCode = "200", description = "작업 일괄 처리 성공" )
+    @ApiResponse(responseCode = "400", description = "작업 수가 0 또는 100 초과이거나, 같은 작업이 중복된 경우" )
+    ResponseEntity<TaskBatchResDto> applyTaskBatch(
+            @Parameter(hidden = true) Long memberId,
+            @Parameter(description = "프로젝트 ID", example = "1" ) Long projectId,
+            @Valid TaskBatchReqDto taskBatchReqDto
+    );
+
     @Operation(
             summary = "작업 목록 조회",
             description = "특정 프로젝트에 속한 작업(Task) 목록을 조회합니다.",
@@ -41,6 +58,22 @@ public interface TaskApi {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate reqDate
     );
 
+    @Operation(
+            summary = "기간별 성취도 조회",
+            description = "기준 날짜를 중심으로 앞뒤 radius일 동안의 날짜별 작업 수와 완료된 작업 수를 조회합니다. "
+                    + "radius가 3이면 한 주, 15이면 약 한 달, 45이면 약 한 분기입니다.",
+            security = @SecurityRequirement(name = "BearerAuth" )
+    )
+    @ApiResponse(responseCode = "200", description = "성취도 조회 성공" )
+    @ApiResponse(responseCode = "400", description = "radius가 0 ~ 62 범위를 벗어난 경우" )
+    ResponseEntity<TaskAchievementResDto> getAchievement(
+            @Parameter(hidden = true) Long memberId,
+            @Parameter(description = "프로젝트 ID", example = "1" ) Long projectId,
+            @Parameter(description = "기준 날짜 (YYYY-MM-DD 형식)", example = "2024-01-01" )
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate reqDate,
+            @Parameter(description = "기준 날짜 앞뒤로 포함할 일 수", example = "3" ) int radius
+    );
+
     @Operation(
             summary = "작업 수정",
             description = "특정 작업(Task)의 정보를 수정합니다.",
@@ -0,0 +1,129 @@
+package com.trekker.domain.task.application;
+
+import static com.trekker.global.version.DataAggregate.TASK;
+
+import com.trekker.domain.project.dao.ProjectRepository;
+import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.task.dao.RecurringTaskRepository;
+import com.trekker.domain.task.dto.req.RecurringTaskReqDto;
+import com.trekker.domain.task.entity.RecurrenceFrequency;
+import com.trekker.domain.task.entity.RecurringTask;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.version.DataVersions;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 반복 할 일 관리
+ * <p>
+ * 반복 할 일은 발생일마다 행을 만들지 않으므로 날짜별 할 일 통계와 구간 인덱스에 반영하지 않고,
+ * 조회 시 기간 안의 발생만 계산해 더한다. (RecurringTaskExpander)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecurringTaskService {
+
+    private final RecurringTaskRepository recurringTaskRepository;
+    private final ProjectRepository projectRepository;
+    private final DataVersions dataVersions;
+
+    @Transactional
+    public Long addRecurringTask(Long memberId, Long projectId, RecurringTaskReqDto reqDto) {
+        // 회원 및 프로젝트 조회 후 검증
+        Project project = projectRepository.findProjectByIdWIthMember(projectId)
+                .orElseThrow(() -> new BusinessException(projectId, "projectId",
+                        ErrorCode.PROJECT_NOT_FOUND));
+        project.validateOwner(memberId);
+
+        // 종료일이 없으면 프로젝트 종료일까지 반복
+        LocalDate endDate = reqDto.endDate() != null ? reqDto.endDate() : project.getEndDate();
+        validateRecurrence(project, reqDto, endDate);
+
+        RecurringTask recurringTask = recurringTaskRepository.save(
+                reqDto.toEntity(project, endDate));
+        dataVersions.bump(memberId, TASK);
+        return recurringTask.getId();
+    }
+
+    /**
+     * 반복 할 일의 특정 발생일 완료 여부를 변경합니다.
+     *
+     * @param memberId        사용자의 id
+     * @param recurringTaskId 반복 할 일 ID
+     * @param date            발생일
+     * @param completed       완료 여부
+     */
+    @Transactional
+    public void updateOccurrenceCompleted(Long memberId, Long recurringTaskId, LocalDate date,
+            boolean completed) {
+        RecurringTask recurringTask = findByIdWithProject(recurringTaskId);
+        recurringTask.getProject().validateOwner(memberId);
+
+        recurringTask.updateCompleted(date, completed);
+        dataVersions.bump(memberId, TASK);
+    }
+
+    @Transactional
+    public void deleteRecurringTask(Long memberId, Long recurringTaskId) {
+        RecurringTask recurringTask = findByIdWithProject(recurringTaskId);
+        recurringTask.getProject().validateOwner(memberId);
+
+        recurringTaskRepository.delete(recurringTask);
+        dataVersions.bump(memberId, TASK);
+    }
+
+    /**
+     * 반복 할 일 ID로 RecurringTask를 조회하고 없으면 예외를 발생시킵니다.
+     *
+     * @param recurringTaskId 조회할 반복 할 일의 ID
+     * @return RecurringTask
+     */
+    private RecurringTask findByIdWithProject(Long recurringTaskId) {
+        return recurringTaskRepository.findByIdWithProject(recurringTaskId)
+                .orElseThrow(
+                        () -> new BusinessException(recurringTaskId, "recurringTaskId",
+                                ErrorCode.TASK_NOT_FOUND)
+                );
+    }
+
+    /**
+     * 반복 기간이 프로젝트 기간 내에 있는지, 반복 규칙이 올바른지 검증합니다.
+     *
+     * @param project 반복 할 일이 속한 프로젝트
+     * @param reqDto  반복 할 일 요청
+     * @param endDate 반복 종료일 (nullable)
+     * @throws BusinessException 조건을 만족하지 않을 경우 예외를 발생시킵니다.
+     */
+    void validateRecurrence(Project project, RecurringTaskReqDto reqDto, LocalDate endDate) {
+        LocalDate startDate = reqDto.startDate();
+        if (project.getStartDate().isAfter(startDate)) {
+            throw new BusinessException(startDate, "startDate", ErrorCode.TASK_BAD_REQUEST);
+        }
+
+        if (endDate != null) {
+            // 프로젝트 종료일 이후이거나 시작일보다 빠른 경우
+            if (project.getEndDate() != null && endDate.isAfter(project.getEndDate())) {
+                throw new BusinessException(endDate, "endDate", ErrorCode.TASK_BAD_REQUEST);
+            }
+            if (endDate.isBefore(startDate)) {
+                throw new BusinessException(endDate, "endDate", ErrorCode.TASK_BAD_REQUEST);
+            }
+            // 완료 비트맵에 기록할 수 있는 기간을 넘는 경우
+            if (ChronoUnit.DAYS.between(startDate, endDate) >= RecurringTask.MAX_DAYS) {
+                throw new BusinessException(endDate, "endDate", ErrorCode.TASK_BAD_REQUEST);
+            }
+        }
+
+        // 매주 반복은 요일이 하나 이상 필요
+        if (reqDto.frequency() == RecurrenceFrequency.WEEKLY
+                && (reqDto.weekdays() == null || reqDto.weekdays().isEmpty())) {
+            throw new BusinessException(reqDto.weekdays(), "weekdays",
+                    ErrorCode.TASK_BAD_REQUEST);
+        }
+    }
+}
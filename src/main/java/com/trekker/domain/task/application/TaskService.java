@@ -1,20 +1,40 @@
 package com.trekker.domain.task.application;
 
+import static com.trekker.global.version.DataAggregate.RETROSPECTIVE;
+import static com.trekker.global.version.DataAggregate.TASK;
+
 import com.trekker.domain.project.dao.ProjectRepository;
+import com.trekker.domain.project.dto.ProjectSummaryDto;
 import com.trekker.domain.project.dto.res.ProjectWithTaskInfoResDto;
 import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.report.service.DailyTaskStatsService;
+import com.trekker.domain.task.cache.TaskIntervalIndexCache;
+import com.trekker.domain.task.dao.RecurringTaskRepository;
 import com.trekker.domain.task.dao.TaskRepository;
+import com.trekker.domain.task.dto.RecurringTaskDto;
+import com.trekker.domain.task.dto.TaskSpan;
+import com.trekker.domain.task.dto.req.TaskBatchReqDto;
+import com.trekker.domain.task.dto.req.TaskBatchUpdateReqDto;
 import com.trekker.domain.task.dto.req.TaskReqDto;
+import com.trekker.domain.task.dto.res.TaskAchievementResDto;
+import com.trekker.domain.task.dto.res.TaskBatchResDto;
 import com.trekker.domain.task.dto.res.TaskCompletionStatusResDto;
 import com.trekker.domain.task.dto.res.TaskResDto;
 import com.trekker.domain.task.entity.Task;
-import com.trekker.domain.task.util.TaskFilter;
+import com.trekker.domain.task.util.RecurringTaskExpander;
+import com.trekker.domain.task.util.TaskDailyCounter;
 import com.trekker.global.exception.custom.BusinessException;
 import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.version.DataVersions;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
+import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -25,8 +45,17 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class TaskService {
 
+    // 성취도 조회 시 기준 날짜 앞뒤로 포함할 수 있는 최대 일 수 (약 한 분기)
+    public static final int MAX_ACHIEVEMENT_RADIUS = 62;
+    // 한 번의 일괄 요청으로 추가/수정/삭제할 수 있는 최대 할 일 수
+    public static final int MAX_BATCH_SIZE = 100;
+
     private final TaskRepository taskRepository;
+    private final RecurringTaskRepository recurringTaskRepository;
     private final ProjectRepository projectRepository;
+    private final TaskIntervalIndexCache taskIntervalIndexCache;
+    private final DailyTaskStatsService dailyTaskStatsService;
+    private final DataVersions dataVersions;
 
     @Transactional
     public Long addTask(Long memberId, Long projectId, TaskReqDto taskReqDto) {
@@ -41,6 +70,10 @@ public class TaskService {
         // Entity로 변환
         Task task = taskReqDto.toEntity(project);
         Task saveTask = taskRepository.save(task);
+        TaskSpan span = TaskSpan.from(saveTask);
+        dailyTaskStatsService.add(memberId, span);
+        taskIntervalIndexCache.put(memberId, span);
+        dataVersions.bump(memberId, TASK);
         return saveTask.getId();
     }
 
@@ -54,7 +87,7 @@ public class TaskService {
      */
     public ProjectWithTaskInfoResDto getTaskList(Long memberId, Long projectId, LocalDate reqDate) {
         // 프로젝트 정보 조회 및 사용자 검증
-        Project project = findProjectByIdWithMember(projectId);
+        ProjectSummaryDto project = findProjectSummaryById(projectId);
         project.validateOwner(memberId);
 
         // 현재 날짜를 기준으로 저번 주 일요일과 이번 주 토요일 계산
@@ -63,18 +96,54 @@ public class TaskService {
         LocalDate endDate = now.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
 
         // 태스크 데이터 조회
-        List<Task> tasksInRange = taskRepository.findTasksWithinDateRange(projectId, startDate, endDate);
+        List<TaskSpan> tasksInRange = findProjectTasks(memberId, projectId, startDate, endDate);
+        // 이번 주와 reqDate를 모두 포함하는 기간의 반복 할 일 조회 (발생은 기간별로 계산)
+        List<RecurringTaskDto> recurringTasks = recurringTaskRepository
+                .findRecurringTasksByProjectId(projectId,
+                        reqDate.isBefore(startDate) ? reqDate : startDate,
+                        reqDate.isAfter(endDate) ? reqDate : endDate);
 
-        // reqDate 에 해당하는 태스크 목록을 필터링.
-        List<TaskResDto> tasksOnReqDate = getTasksOnReqDate(tasksInRange, reqDate);
+        // reqDate 에 해당하는 태스크 목록 조회 (reqDate가 이번 주 밖이어도 조회)
+        List<TaskResDto> tasksOnReqDate = getTasksOnReqDate(memberId, projectId, reqDate,
+                recurringTasks);
         // 주어진 범위(startDate ~ endDate) 내 날짜별 태스크 완료 상태를 필터링
-        List<TaskCompletionStatusResDto> weeklyAchievement = getWeeklyAchievement(tasksInRange, startDate, endDate);
+        List<TaskCompletionStatusResDto> weeklyAchievement = getWeeklyAchievement(tasksInRange,
+                recurringTasks, startDate, endDate);
 
         // DTO 생성 및 반환
         return ProjectWithTaskInfoResDto.toDto(project, weeklyAchievement, tasksOnReqDate);
     }
 
 
+    /**
+     * 기준 날짜(reqDate)를 중심으로 앞뒤 radius일 동안의 날짜별 할 일 수와 완료된 할 일 수를 조회합니다.
+     *
+     * @param memberId  사용자의 id
+     * @param projectId 조회할 프로젝트의 Id
+     * @param reqDate   기준 날짜
+     * @param radius    기준 날짜 앞뒤로 포함할 일 수 (0 ~ MAX_ACHIEVEMENT_RADIUS)
+     * @return 기간과 날짜별 성취도
+     */
+    public TaskAchievementResDto getAchievement(Long memberId, Long projectId, LocalDate reqDate,
+            int radius) {
+        if (radius < 0 || radius > MAX_ACHIEVEMENT_RADIUS) {
+            throw new BusinessException(radius, "radius", ErrorCode.TASK_BAD_REQUEST);
+        }
+
+        // 프로젝트 정보 조회 및 사용자 검증
+        ProjectSummaryDto project = findProjectSummaryById(projectId);
+        project.validateOwner(memberId);
+
+        LocalDate startDate = reqDate.minusDays(radius);
+        LocalDate endDate = reqDate.plusDays(radius);
+        List<TaskSpan> tasksInRange = findProjectTasks(memberId, projectId, startDate, endDate);
+        List<RecurringTaskDto> recurringTasks = recurringTaskRepository
+                .findRecurringTasksByProjectId(projectId, startDate, endDate);
+
+        return TaskAchievementResDto.toDto(TaskDailyCounter.count(tasksInRange, startDate, endDate)
+                .plus(RecurringTaskExpander.count(recurringTasks, startDate, endDate)));
+    }
+
     @Transactional
     public void updateTask(Long memberId, Long taskId, TaskReqDto taskReqDto) {
         // 회원 검증 및 할일 조회
@@ -85,7 +154,12 @@ public class TaskService {
         validateTaskDatesWithinProject(task.getProject(), taskReqDto.startDate(), taskReqDto.endDate());
 
         // 할 일 업데이트
+        TaskSpan before = TaskSpan.from(task);
         task.updateTask(taskReqDto);
+        TaskSpan after = TaskSpan.from(task);
+        dailyTaskStatsService.replace(memberId, before, after);
+        taskIntervalIndexCache.put(memberId, after);
+        dataVersions.bump(memberId, TASK);
     }
 
     @Transactional
@@ -94,11 +168,94 @@ public class TaskService {
         Task task = findTaskByIdWithProjectAndMember(taskId);
         task.getProject().validateOwner(memberId);
 
-        // 할 일 삭제
+        // 할 일 삭제 (회고는 orphanRemoval로 함께 삭제)
         taskRepository.delete(task);
+        dailyTaskStatsService.remove(memberId, TaskSpan.from(task));
+        taskIntervalIndexCache.remove(memberId, taskId);
+        if (task.getRetrospective() == null) {
+            dataVersions.bump(memberId, TASK);
+        } else {
+            dataVersions.bump(memberId, TASK, RETROSPECTIVE);
+        }
+    }
+
+
+    /**
+     * 프로젝트의 할 일을 한 번에 추가/수정/삭제합니다.
+     * <p>
+     * 추가는 시퀀스로 미리 받은 ID로 배치 INSERT 되고, 수정과 삭제 대상은 한 번의 쿼리로 조회합니다.
+     * 여러 할 일이 한 번에 바뀌므로 통계는 한 번 다시 계산하고 구간 인덱스는 무효화합니다.
+     *
+     * @param memberId  사용자의 id
+     * @param projectId 할 일이 속한 프로젝트의 Id
+     * @param reqDto    추가/수정/삭제할 할 일 목록
+     * @return 추가된 할 일 ID 목록(요청 순서)과 수정/삭제된 할 일 수
+     */
+    @Transactional
+    public TaskBatchResDto applyTaskBatch(Long memberId, Long projectId, TaskBatchReqDto reqDto) {
+        // 요청 크기 검증
+        if (reqDto.size() == 0 || reqDto.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(reqDto.size(), "size", ErrorCode.TASK_BAD_REQUEST);
+        }
+
+        // 회원 및 프로젝트 조회 후 검증
+        Project project = findProjectByIdWithMember(projectId);
+        project.validateOwner(memberId);
+
+        // 할 일 날짜 검증
+        reqDto.createList().forEach(task ->
+                validateTaskDatesWithinProject(project, task.startDate(), task.endDate()));
+        reqDto.updateList().forEach(update -> validateTaskDatesWithinProject(project,
+                update.task().startDate(), update.task().endDate()));
+
+        // 수정/삭제 대상 조회 (같은 할 일은 한 번만 수정하거나 삭제할 수 있음)
+        Set<Long> taskIds = new HashSet<>();
+        reqDto.updateList().forEach(update -> addTaskId(taskIds, update.taskId()));
+        reqDto.deleteList().forEach(taskId -> addTaskId(taskIds, taskId));
+        Map<Long, Task> tasks = findProjectTasksByIds(projectId, taskIds);
+
+        // 할 일 추가
+        List<Task> createdTasks = taskRepository.saveAll(reqDto.createList().stream()
+                .map(task -> task.toEntity(project))
+                .toList());
+
+        // 할 일 수정 (변경 감지로 배치 UPDATE)
+        for (TaskBatchUpdateReqDto update : reqDto.updateList()) {
+            tasks.get(update.taskId()).updateTask(update.task());
+        }
+
+        // 할 일 삭제 (회고는 orphanRemoval로 함께 삭제)
+        taskRepository.deleteAll(reqDto.deleteList().stream().map(tasks::get).toList());
+
+        // 통계는 변경된 할 일이 DB에 반영된 뒤 다시 계산
+        taskRepository.flush();
+        dailyTaskStatsService.rebuild(memberId);
+        taskIntervalIndexCache.evict(memberId);
+        if (reqDto.deleteList().isEmpty()) {
+            dataVersions.bump(memberId, TASK);
+        } else {
+            dataVersions.bump(memberId, TASK, RETROSPECTIVE);
+        }
+
+        return new TaskBatchResDto(createdTasks.stream().map(Task::getId).toList(),
+                reqDto.updateList().size(), reqDto.deleteList().size());
     }
 
 
+    /**
+     * 프로젝트 ID로 조회 전용 프로젝트 정보를 조회하고 없으면 예외를 발생시킵니다.
+     *
+     * @param projectId 조회할 프로젝트의 ID
+     * @return ProjectSummaryDto
+     */
+    private ProjectSummaryDto findProjectSummaryById(Long projectId) {
+        return projectRepository.findProjectSummaryById(projectId)
+                .orElseThrow(
+                        () -> new BusinessException(projectId, "projectId",
+                                ErrorCode.PROJECT_NOT_FOUND)
+                );
+    }
+
     /**
      * 프로젝트 ID로 Project를 조회하고 없으면 예외를 발생시킵니다.
      *
@@ -126,34 +283,83 @@ public class TaskService {
                 );
     }
     /**
-     * 특정 날짜(reqDate)에 해당하는 태스크 목록을 필터링하여 반환합니다.
+     * 프로젝트에 속한 할 일들을 ID로 한 번에 조회하고, 하나라도 없으면 예외를 발생시킵니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param taskIds   조회할 할 일 ID 목록
+     * @return 할 일 ID별 Task
+     */
+    private Map<Long, Task> findProjectTasksByIds(Long projectId, Set<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Task> tasks = taskRepository.findTasksByProjectIdAndIdIn(projectId, taskIds)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        for (Long taskId : taskIds) {
+            if (!tasks.containsKey(taskId)) {
+                throw new BusinessException(taskId, "taskId", ErrorCode.TASK_NOT_FOUND);
+            }
+        }
+        return tasks;
+    }
+
+    private void addTaskId(Set<Long> taskIds, Long taskId) {
+        if (!taskIds.add(taskId)) {
+            throw new BusinessException(taskId, "taskId", ErrorCode.TASK_BAD_REQUEST);
+        }
+    }
+
+    /**
+     * 회원의 구간 인덱스에서 기간과 겹치는 프로젝트의 태스크 목록을 조회합니다.
+     *
+     * @param memberId  사용자의 id
+     * @param projectId 프로젝트 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 기간과 겹치는 태스크 목록 (시작일 순)
+     */
+    private List<TaskSpan> findProjectTasks(Long memberId, Long projectId, LocalDate startDate,
+            LocalDate endDate) {
+        return taskIntervalIndexCache.findOverlapping(memberId, startDate, endDate).stream()
+                .filter(span -> span.projectId().equals(projectId))
+                .toList();
+    }
+
+    /**
+     * 특정 날짜(reqDate)에 해당하는 프로젝트의 태스크 목록을 반환합니다. (반복 할 일의 발생은 뒤에 추가)
      *
-     * @param tasksInRange 태스크 목록 (범위 내의 태스크)
-     * @param reqDate      기준 날짜
+     * @param memberId       사용자의 id
+     * @param projectId      프로젝트 ID
+     * @param reqDate        기준 날짜
+     * @param recurringTasks 프로젝트의 반복 할 일 목록
      * @return 기준 날짜의 태스크 DTO 목록
      */
-    private List<TaskResDto> getTasksOnReqDate(List<Task> tasksInRange, LocalDate reqDate) {
-        return tasksInRange.stream()
-                .filter(task -> TaskFilter.isDateWithinRange(reqDate, task.getStartDate(), task.getEndDate()))
+    private List<TaskResDto> getTasksOnReqDate(Long memberId, Long projectId, LocalDate reqDate,
+            List<RecurringTaskDto> recurringTasks) {
+        List<TaskResDto> tasks = findProjectTasks(memberId, projectId, reqDate, reqDate).stream()
+                .map(TaskResDto::toDto)
+                .collect(Collectors.toCollection(ArrayList::new));
+        RecurringTaskExpander.expand(recurringTasks, reqDate, reqDate).stream()
                 .map(TaskResDto::toDto)
-                .collect(Collectors.toList());
+                .forEach(tasks::add);
+        return tasks;
     }
 
     /**
      * 주어진 범위(startDate ~ endDate) 내 날짜별 태스크 완료 상태를 계산하여 반환합니다.
      *
-     * @param tasksInRange 태스크 목록 (범위 내의 태스크)
-     * @param startDate    시작 날짜
-     * @param endDate      종료 날짜
+     * @param tasksInRange   태스크 목록 (범위 내의 태스크)
+     * @param recurringTasks 반복 할 일 목록
+     * @param startDate      시작 날짜
+     * @param endDate        종료 날짜
      * @return 날짜별 완료 상태 DTO 목록
      */
-    private List<TaskCompletionStatusResDto> getWeeklyAchievement(List<Task> tasksInRange, LocalDate startDate, LocalDate endDate) {
-        return startDate.datesUntil(endDate.plusDays(1))
-                .map(date -> {
-                    boolean isCompleted = TaskFilter.isTaskCompletedOnDate(tasksInRange, date);
-                    return new TaskCompletionStatusResDto(date, isCompleted);
-                })
-                .collect(Collectors.toList());
+    private List<TaskCompletionStatusResDto> getWeeklyAchievement(List<TaskSpan> tasksInRange,
+            List<RecurringTaskDto> recurringTasks, LocalDate startDate, LocalDate endDate) {
+        return TaskDailyCounter.count(tasksInRange, startDate, endDate)
+                .plus(RecurringTaskExpander.count(recurringTasks, startDate, endDate))
+                .toCompletionStatuses();
     }
 
 
@@ -0,0 +1,135 @@
+package com.trekker.domain.task.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.trekker.domain.task.dao.TaskRepository;
+import com.trekker.domain.task.dto.TaskSpan;
+import com.trekker.domain.task.util.TaskIntervalIndex;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원별 할 일 구간 인덱스 캐시
+ * <p>
+ * 회원의 할 일 기간을 처음 조회할 때 한 번만 DB에서 읽어 인덱스를 만들고, 이후 날짜/기간 겹침 조회는
+ * DB 없이 인덱스로 처리한다. 메모리가 부족하면 GC가 인덱스를 회수(soft reference)하며, 다음 조회 때
+ * 다시 읽는다.
+ * <p>
+ * 할 일 추가·수정·삭제는 트랜잭션 커밋 후 로딩된 인덱스에만 반영한다. 다른 인스턴스의 변경은 알 수
+ * 없으므로 DB에서 읽은 지 일정 시간이 지나면 인덱스를 다시 읽는다. (변경을 반영해도 만료 시각은 늘어나지 않음)
+ */
+@Component
+public class TaskIntervalIndexCache {
+
+    private final Cache<Long, TaskIntervalIndex> cache;
+    private final TaskRepository taskRepository;
+
+    @Autowired
+    public TaskIntervalIndexCache(TaskRepository taskRepository,
+            @Value("${task.interval-index.max-size:10000}") long maxSize,
+            @Value("${task.interval-index.ttl-seconds:600}") long ttlSeconds) {
+        this(taskRepository, maxSize, ttlSeconds, Ticker.systemTicker());
+    }
+
+    TaskIntervalIndexCache(TaskRepository taskRepository, long maxSize, long ttlSeconds,
+            Ticker ticker) {
+        this.taskRepository = taskRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(expireAfterLoad(TimeUnit.SECONDS.toNanos(ttlSeconds)))
+                .ticker(ticker)
+                .softValues()
+                .build();
+    }
+
+    /**
+     * 회원의 할 일 중 기간 [from, to]와 겹치는 할 일 목록 (시작일 순)
+     */
+    public List<TaskSpan> findOverlapping(Long memberId, LocalDate from, LocalDate to) {
+        return getIndex(memberId).findOverlapping(from, to);
+    }
+
+    /**
+     * 회원의 할 일 중 특정 날짜에 걸쳐 있는 할 일 목록 (시작일 순)
+     */
+    public List<TaskSpan> findOn(Long memberId, LocalDate date) {
+        return getIndex(memberId).findOn(date);
+    }
+
+    /**
+     * 추가되거나 변경된 할 일을 커밋 후 인덱스에 반영
+     */
+    public void put(Long memberId, TaskSpan span) {
+        afterCommit(() -> cache.asMap().computeIfPresent(memberId,
+                (key, index) -> index.with(span)));
+    }
+
+    /**
+     * 삭제된 할 일을 커밋 후 인덱스에서 제거
+     */
+    public void remove(Long memberId, Long taskId) {
+        afterCommit(() -> cache.asMap().computeIfPresent(memberId,
+                (key, index) -> index.without(taskId)));
+    }
+
+    /**
+     * 회원의 인덱스를 무효화 (트랜잭션 중이면 커밋 후 한 번 더 무효화)
+     * <p>
+     * 여러 할 일이 한 번에 바뀌는 경우(프로젝트 삭제 등)에 사용한다.
+     */
+    public void evict(Long memberId) {
+        cache.invalidate(memberId);
+        afterCommit(() -> cache.invalidate(memberId));
+    }
+
+    private TaskIntervalIndex getIndex(Long memberId) {
+        return cache.get(memberId,
+                key -> TaskIntervalIndex.of(taskRepository.findTaskSpansByMemberId(key)));
+    }
+
+    // put/remove로 인덱스를 바꿔도 남은 만료 시간을 유지하여 DB에서 읽은 시점 기준으로 만료
+    private static Expiry<Long, TaskIntervalIndex> expireAfterLoad(long ttlNanos) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Long memberId, TaskIntervalIndex index,
+                    long currentTime) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Long memberId, TaskIntervalIndex index,
+                    long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(Long memberId, TaskIntervalIndex index,
+                    long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        // 롤백된 변경은 반영하지 않음
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+    }
+}
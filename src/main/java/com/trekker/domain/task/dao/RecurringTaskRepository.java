@@ -0,0 +1,82 @@
+package com.trekker.domain.task.dao;
+
+import com.trekker.domain.member.dto.MemberExportRecurringTaskRowDto;
+import com.trekker.domain.task.dto.RecurringTaskDto;
+import com.trekker.domain.task.entity.RecurringTask;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface RecurringTaskRepository extends JpaRepository<RecurringTask, Long> {
+
+    @Query("""
+           SELECT r
+           FROM RecurringTask r
+           JOIN FETCH r.project p
+           WHERE r.id = :recurringTaskId
+           """)
+    Optional<RecurringTask> findByIdWithProject(@Param("recurringTaskId") Long recurringTaskId);
+
+    /**
+     * 회원의 반복 할 일 중 반복 기간이 [from, to]와 겹치는 반복 할 일 조회
+     */
+    @Query("""
+           SELECT new com.trekker.domain.task.dto.RecurringTaskDto(
+               r.id, p.id, r.name, r.startDate, r.endDate, r.frequency, r.repeatInterval,
+               r.weekdays, r.completions
+           )
+           FROM RecurringTask r
+           JOIN r.project p
+           WHERE p.member.id = :memberId
+           AND r.startDate <= :to
+           AND (r.endDate IS NULL OR r.endDate >= :from)
+           """)
+    List<RecurringTaskDto> findRecurringTasksByMemberId(@Param("memberId") Long memberId,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 프로젝트의 반복 할 일 중 반복 기간이 [from, to]와 겹치는 반복 할 일 조회
+     */
+    @Query("""
+           SELECT new com.trekker.domain.task.dto.RecurringTaskDto(
+               r.id, r.project.id, r.name, r.startDate, r.endDate, r.frequency, r.repeatInterval,
+               r.weekdays, r.completions
+           )
+           FROM RecurringTask r
+           WHERE r.project.id = :projectId
+           AND r.startDate <= :to
+           AND (r.endDate IS NULL OR r.endDate >= :from)
+           """)
+    List<RecurringTaskDto> findRecurringTasksByProjectId(@Param("projectId") Long projectId,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 회원의 모든 반복 할 일을 완료 비트맵과 함께 한 행씩 스트림으로 조회 (데이터 내보내기용)
+     * <p>
+     * 프로젝트 내보내기 조회와 같이 한 행씩 읽으므로 트랜잭션 안에서 try-with-resources로 사용한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.trekker.domain.member.dto.MemberExportRecurringTaskRowDto(
+                p.id, p.type, p.title, p.description, p.startDate, p.endDate, p.isCompleted,
+                r.id, r.name, r.startDate, r.endDate, r.frequency, r.repeatInterval,
+                r.weekdays, r.completions
+            )
+            FROM RecurringTask r
+            JOIN r.project p
+            WHERE p.member.id = :memberId
+            ORDER BY p.id, r.id
+            """)
+    Stream<MemberExportRecurringTaskRowDto> streamExportRowsByMemberId(
+            @Param("memberId") Long memberId);
+}
@@ -1,11 +1,12 @@
 package com.trekker.domain.task.dao;
 
-import com.trekker.domain.calender.dto.res.MonthlyTaskSummaryDto;
 import com.trekker.domain.task.dto.TaskRetrospectiveSkillDto;
+import com.trekker.domain.task.dto.TaskSpan;
 import com.trekker.domain.task.entity.Task;
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,21 +22,6 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
            """)
     Optional<Task> findTaskByIdWithProjectAndMember(@Param("taskId") Long taskId);
 
-    @Query("""
-           SELECT t
-           FROM Task t
-           JOIN FETCH t.project
-           LEFT JOIN FETCH t.retrospective
-           WHERE t.project.id = :projectId
-           AND (
-               (t.endDate IS NULL AND t.startDate BETWEEN :startDate AND :endDate) OR
-               (t.endDate IS NOT NULL AND t.startDate <= :endDate AND t.endDate >= :startDate)
-               )
-           """)
-    List<Task> findTasksWithinDateRange(@Param("projectId") Long projectId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate);
-
     @Query("""
            SELECT t
            FROM Task t
@@ -46,73 +32,71 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
            """)
     Optional<Task> findTaskByIdWithProjectAndMemberWithRetrospective(@Param("taskId") Long taskId);
 
+    /**
+     * 프로젝트의 할 일을 ID 목록으로 조회 (일괄 수정/삭제용, 삭제 시 함께 지울 회고 포함)
+     */
     @Query("""
-           SELECT new com.trekker.domain.calender.dto.res.MonthlyTaskSummaryDto(t.startDate, t.endDate, t.name)
+           SELECT t
            FROM Task t
-           JOIN t.project p
-           JOIN p.member m
-           WHERE m.id = :memberId
-           AND t.endDate IS NOT NULL
-           AND (
-               (t.startDate BETWEEN :startOfMonth AND :endOfMonth) OR
-               (t.endDate BETWEEN :startOfMonth AND :endOfMonth) OR
-               (t.startDate <= :startOfMonth AND t.endDate >= :endOfMonth)
-               )
+           LEFT JOIN FETCH t.retrospective r
+           WHERE t.project.id = :projectId
+           AND t.id IN :taskIds
            """)
-    List<MonthlyTaskSummaryDto> getMonthlyTaskSummary(
-            @Param("memberId") Long memberId,
-            @Param("startOfMonth") LocalDate startOfMonth,
-            @Param("endOfMonth") LocalDate endOfMonth);
+    List<Task> findTasksByProjectIdAndIdIn(@Param("projectId") Long projectId,
+            @Param("taskIds") Collection<Long> taskIds);
 
+    /**
+     * 회원의 모든 할 일 기간 조회 (구간 인덱스 로딩용)
+     */
     @Query("""
-           SELECT t
+           SELECT new com.trekker.domain.task.dto.TaskSpan(
+               t.id,
+               p.id,
+               t.name,
+               t.startDate,
+               t.endDate,
+               t.isCompleted
+           )
            FROM Task t
-           JOIN FETCH t.project p
-           JOIN FETCH p.member m
-           LEFT JOIN FETCH t.retrospective
-           WHERE m.id =:memberId
-           AND (
-               (t.endDate IS NULL AND t.startDate =:today) OR
-               (t.endDate IS NOT NULL AND t.startDate <=:today AND t.endDate >=:today)
-               )
-       """)
-    List<Task> findTasksForToday(@Param("memberId") Long memberId, @Param("today") LocalDate today);
+           JOIN t.project p
+           WHERE p.member.id = :memberId
+           """)
+    List<TaskSpan> findTaskSpansByMemberId(@Param("memberId") Long memberId);
 
 
+    // 스킬이 있는 회고를 작성한 할 일 ID를 마지막 할 일 ID 이후부터 조회 (키셋 페이지네이션)
     @Query("""
-           SELECT t
+           SELECT t.id
            FROM Task t
-           JOIN FETCH t.project p
-           JOIN FETCH p.member m
-           LEFT JOIN FETCH t.retrospective
-           WHERE m.id =:memberId
-           AND (
-                (t.endDate IS NULL AND t.startDate BETWEEN :startOfMonth AND :endOfMonth) OR
-                (t.endDate IS NOT NULL AND t.endDate >=:startOfMonth AND t.startDate <= :endOfMonth)
-               )
+           JOIN t.project p
+           JOIN t.retrospective r
+           WHERE p.id = :projectId AND p.member.id = :memberId AND t.id > :lastTaskId
+           AND EXISTS (SELECT 1 FROM RetrospectiveSkill rs WHERE rs.retrospective = r)
+           ORDER BY t.id
            """)
-    List<Task> findTasksInMonth(@Param("memberId") Long memberId, @Param("startOfMonth") LocalDate startOfMonth,
-    @Param("endOfMonth") LocalDate endOfMonth);
-
+    List<Long> findRetrospectiveTaskIdsByProjectIdAndMemberId(
+            @Param("projectId") Long projectId,
+            @Param("memberId") Long memberId,
+            @Param("lastTaskId") Long lastTaskId,
+            Pageable pageable);
 
+    // 목록에는 회고 내용 앞부분(100자)만 담는다
     @Query("""
            SELECT new com.trekker.domain.task.dto.TaskRetrospectiveSkillDto(
                t.id,
                t.startDate,
                t.endDate,
-               r.content,
+               SUBSTRING(r.content, 1, 100),
                rs.type,
                s.name
            )
            FROM Task t
-           JOIN t.project p
-           JOIN p.member m
            JOIN t.retrospective r
            JOIN r.retrospectiveSkillList rs
            JOIN rs.skill s
-           WHERE p.id = :projectId AND m.id = :memberId
+           WHERE t.id IN :taskIds
+           ORDER BY t.id
            """)
-    List<TaskRetrospectiveSkillDto> findTaskRetrospectivesByProjectIdAndMemberId(
-            @Param("projectId") Long projectId,
-            @Param("memberId") Long memberId);
-}
\ No newline at end of file
+    List<TaskRetrospectiveSkillDto> findTaskRetrospectivesByTaskIdIn(
+            @Param("taskIds") Collection<Long> taskIds);
+}
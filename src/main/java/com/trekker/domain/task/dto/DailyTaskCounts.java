@@ -0,0 +1,68 @@
+package com.trekker.domain.task.dto;
+
+import com.trekker.domain.task.dto.res.TaskCompletionStatusResDto;
+import com.trekker.domain.task.dto.res.TaskDailyAchievementResDto;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기간 내 날짜별 할 일 수와 완료된 할 일 수
+ *
+ * @param startDate 기간 시작 날짜 (배열의 0번째 날짜)
+ * @param total     날짜별 할 일 수
+ * @param completed 날짜별 완료된 할 일 수
+ */
+public record DailyTaskCounts(LocalDate startDate, int[] total, int[] completed) {
+
+    public int days() {
+        return total.length;
+    }
+
+    public LocalDate dateAt(int index) {
+        return startDate.plusDays(index);
+    }
+
+    public boolean isCompleted(int index) {
+        return completed[index] > 0;
+    }
+
+    /**
+     * 같은 기간의 다른 집계를 날짜별로 더한 새 집계 (일반 할 일 + 반복 할 일)
+     */
+    public DailyTaskCounts plus(DailyTaskCounts other) {
+        if (!startDate.equals(other.startDate) || days() != other.days()) {
+            throw new IllegalArgumentException("기간이 다른 집계는 더할 수 없습니다.");
+        }
+        int[] sumTotal = total.clone();
+        int[] sumCompleted = completed.clone();
+        for (int i = 0; i < days(); i++) {
+            sumTotal[i] += other.total[i];
+            sumCompleted[i] += other.completed[i];
+        }
+        return new DailyTaskCounts(startDate, sumTotal, sumCompleted);
+    }
+
+    /**
+     * 날짜별 완료 여부 목록으로 변환 (완료된 할 일이 하나라도 있으면 완료)
+     */
+    public List<TaskCompletionStatusResDto> toCompletionStatuses() {
+        List<TaskCompletionStatusResDto> statuses = new ArrayList<>(days());
+        for (int i = 0; i < days(); i++) {
+            statuses.add(new TaskCompletionStatusResDto(dateAt(i), isCompleted(i)));
+        }
+        return statuses;
+    }
+
+    /**
+     * 날짜별 성취도 목록으로 변환
+     */
+    public List<TaskDailyAchievementResDto> toDailyAchievements() {
+        List<TaskDailyAchievementResDto> achievements = new ArrayList<>(days());
+        for (int i = 0; i < days(); i++) {
+            achievements.add(new TaskDailyAchievementResDto(dateAt(i), total[i], completed[i],
+                    isCompleted(i)));
+        }
+        return achievements;
+    }
+}
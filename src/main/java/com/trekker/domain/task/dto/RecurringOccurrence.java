@@ -0,0 +1,22 @@
+package com.trekker.domain.task.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 조회 기간 안에서 계산한 반복 할 일의 발생 하나
+ *
+ * @param recurringTaskId 반복 할 일 ID
+ * @param projectId       프로젝트 ID
+ * @param name            할 일 이름
+ * @param date            발생일
+ * @param completed       완료 여부
+ */
+public record RecurringOccurrence(
+        Long recurringTaskId,
+        Long projectId,
+        String name,
+        LocalDate date,
+        boolean completed
+) {
+
+}
@@ -0,0 +1,43 @@
+package com.trekker.domain.task.dto;
+
+import com.trekker.domain.task.entity.RecurrenceFrequency;
+import com.trekker.domain.task.util.CompletionBitmap;
+import com.trekker.domain.task.util.RecurrenceRule;
+import java.time.LocalDate;
+
+/**
+ * 발생일 계산에 필요한 반복 할 일의 조회 전용 정보
+ *
+ * @param recurringTaskId 반복 할 일 ID
+ * @param projectId       프로젝트 ID
+ * @param name            할 일 이름
+ * @param startDate       반복 시작일
+ * @param endDate         반복 종료일 (nullable)
+ * @param frequency       반복 단위
+ * @param repeatInterval  반복 간격
+ * @param weekdays        WEEKLY의 반복 요일 비트
+ * @param completions     발생일별 완료 비트맵
+ */
+public record RecurringTaskDto(
+        Long recurringTaskId,
+        Long projectId,
+        String name,
+        LocalDate startDate,
+        LocalDate endDate,
+        RecurrenceFrequency frequency,
+        int repeatInterval,
+        int weekdays,
+        byte[] completions
+) {
+
+    public RecurrenceRule rule() {
+        return new RecurrenceRule(frequency, repeatInterval, weekdays, startDate, endDate);
+    }
+
+    /**
+     * 시작일로부터 offset일째 발생의 완료 여부
+     */
+    public boolean isCompleted(int offset) {
+        return CompletionBitmap.get(completions, offset);
+    }
+}
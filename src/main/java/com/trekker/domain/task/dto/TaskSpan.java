@@ -0,0 +1,45 @@
+package com.trekker.domain.task.dto;
+
+import com.trekker.domain.task.entity.Task;
+import java.time.LocalDate;
+
+/**
+ * 날짜 겹침 조회에 필요한 할 일의 최소 정보
+ *
+ * @param taskId      할 일 ID
+ * @param projectId   프로젝트 ID
+ * @param name        할 일 이름
+ * @param startDate   시작일
+ * @param endDate     종료일 (nullable, 없으면 시작일 하루짜리 할 일)
+ * @param isCompleted 완료 여부
+ */
+public record TaskSpan(
+        Long taskId,
+        Long projectId,
+        String name,
+        LocalDate startDate,
+        LocalDate endDate,
+        Boolean isCompleted
+) {
+
+    public static TaskSpan from(Task task) {
+        return new TaskSpan(
+                task.getId(),
+                task.getProject().getId(),
+                task.getName(),
+                task.getStartDate(),
+                task.getEndDate(),
+                task.getIsCompleted());
+    }
+
+    /**
+     * 종료일이 없으면 시작일을 종료일로 사용
+     */
+    public LocalDate lastDate() {
+        return endDate != null ? endDate : startDate;
+    }
+
+    public boolean completed() {
+        return Boolean.TRUE.equals(isCompleted);
+    }
+}
@@ -0,0 +1,51 @@
+package com.trekker.domain.task.dto.req;
+
+import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.task.entity.RecurrenceFrequency;
+import com.trekker.domain.task.entity.RecurringTask;
+import com.trekker.domain.task.util.RecurrenceRule;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+import lombok.Builder;
+
+@Builder
+public record RecurringTaskReqDto(
+
+        @NotNull
+        String name,
+
+        @NotNull
+        LocalDate startDate,
+
+        // 없으면 프로젝트 종료일까지 반복
+        LocalDate endDate,
+
+        @NotNull
+        RecurrenceFrequency frequency,
+
+        // 반복 간격 (1이면 매일/매주)
+        @Min(1)
+        @Max(52)
+        int interval,
+
+        // WEEKLY의 반복 요일
+        Set<DayOfWeek> weekdays
+) {
+
+    public RecurringTask toEntity(Project project, LocalDate endDate) {
+        return RecurringTask.builder()
+                .name(this.name)
+                .startDate(this.startDate)
+                .endDate(endDate)
+                .frequency(this.frequency)
+                .repeatInterval(this.interval)
+                .weekdays(frequency == RecurrenceFrequency.WEEKLY
+                        ? RecurrenceRule.weekdayMask(weekdays) : 0)
+                .project(project)
+                .build();
+    }
+}
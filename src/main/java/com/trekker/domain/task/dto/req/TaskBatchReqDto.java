@@ -0,0 +1,30 @@
+package com.trekker.domain.task.dto.req;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * 할 일 일괄 추가/수정/삭제 요청 (각 목록은 생략 가능)
+ */
+@Builder
+public record TaskBatchReqDto(
+        // 추가할 할 일 목록
+        List<@NotNull @Valid TaskReqDto> createList,
+        // 수정할 할 일 목록
+        List<@NotNull @Valid TaskBatchUpdateReqDto> updateList,
+        // 삭제할 할 일 ID 목록
+        List<@NotNull Long> deleteList
+) {
+
+    public TaskBatchReqDto {
+        createList = createList == null ? List.of() : createList;
+        updateList = updateList == null ? List.of() : updateList;
+        deleteList = deleteList == null ? List.of() : deleteList;
+    }
+
+    public int size() {
+        return createList.size() + updateList.size() + deleteList.size();
+    }
+}
@@ -0,0 +1,16 @@
+package com.trekker.domain.task.dto.req;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record TaskBatchUpdateReqDto(
+
+        @NotNull
+        Long taskId,
+
+        @NotNull
+        @Valid
+        TaskReqDto task
+) {
+
+}
@@ -0,0 +1,25 @@
+package com.trekker.domain.task.dto.res;
+
+import com.trekker.domain.task.dto.DailyTaskCounts;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record TaskAchievementResDto(
+
+        LocalDate startDate,
+
+        LocalDate endDate,
+        // 날짜별 성취도
+        List<TaskDailyAchievementResDto> achievements
+) {
+
+    public static TaskAchievementResDto toDto(DailyTaskCounts counts) {
+        return TaskAchievementResDto.builder()
+                .startDate(counts.startDate())
+                .endDate(counts.dateAt(counts.days() - 1))
+                .achievements(counts.toDailyAchievements())
+                .build();
+    }
+}
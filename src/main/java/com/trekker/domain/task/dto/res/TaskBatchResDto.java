@@ -0,0 +1,14 @@
+package com.trekker.domain.task.dto.res;
+
+import java.util.List;
+
+public record TaskBatchResDto(
+        // 추가된 할 일 ID (요청 순서)
+        List<Long> createdTaskIds,
+
+        int updatedCount,
+
+        int deletedCount
+) {
+
+}
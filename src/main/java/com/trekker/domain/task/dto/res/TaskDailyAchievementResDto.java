@@ -0,0 +1,14 @@
+package com.trekker.domain.task.dto.res;
+
+import java.time.LocalDate;
+
+public record TaskDailyAchievementResDto(
+
+        LocalDate date,
+        // 해당 날짜에 진행 중인 할 일 수
+        int totalCount,
+        // 해당 날짜에 진행 중인 할 일 중 완료된 수
+        int completedCount,
+
+        boolean isCompleted
+) { }
@@ -1,6 +1,7 @@
 package com.trekker.domain.task.dto.res;
 
-import com.trekker.domain.task.entity.Task;
+import com.trekker.domain.task.dto.RecurringOccurrence;
+import com.trekker.domain.task.dto.TaskSpan;
 import java.time.LocalDate;
 import lombok.Builder;
 
@@ -15,16 +16,28 @@ public record TaskResDto(
 
         LocalDate end_date,
 
-        Boolean isCompleted
+        Boolean isCompleted,
+
+        // 반복 할 일의 발생이면 반복 할 일 ID (taskId는 null)
+        Long recurringTaskId
 ) {
 
-    public static TaskResDto toDto(Task task) {
+    public static TaskResDto toDto(TaskSpan span) {
+        return TaskResDto.builder()
+                .taskId(span.taskId())
+                .name(span.name())
+                .start_date(span.startDate())
+                .end_date(span.endDate())
+                .isCompleted(span.isCompleted())
+                .build();
+    }
+
+    public static TaskResDto toDto(RecurringOccurrence occurrence) {
         return TaskResDto.builder()
-                .taskId(task.getId())
-                .name(task.getName())
-                .start_date(task.getStartDate())
-                .end_date(task.getEndDate())
-                .isCompleted(task.getIsCompleted())
+                .recurringTaskId(occurrence.recurringTaskId())
+                .name(occurrence.name())
+                .start_date(occurrence.date())
+                .isCompleted(occurrence.completed())
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.trekker.domain.task.entity;
+
+/**
+ * 반복 할 일의 반복 단위
+ */
+public enum RecurrenceFrequency {
+    // interval일마다
+    DAILY,
+    // interval주마다 지정한 요일
+    WEEKLY
+}
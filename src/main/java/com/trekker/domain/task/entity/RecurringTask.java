@@ -0,0 +1,121 @@
+package com.trekker.domain.task.entity;
+
+import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.task.util.CompletionBitmap;
+import com.trekker.domain.task.util.RecurrenceRule;
+import com.trekker.global.entity.BaseEntity;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
+
+/**
+ * 반복 할 일 (발생일은 조회 시 규칙으로 계산하고, 완료 여부만 비트맵으로 저장)
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "recurring_tasks")
+@SQLRestriction(BaseEntity.NOT_DELETED)
+public class RecurringTask extends BaseEntity {
+
+    // 완료 비트맵 컬럼 크기 (VARBINARY(8192))로 기록할 수 있는 최대 일 수
+    public static final int MAX_DAYS = 8192 * Byte.SIZE;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurring_task_seq")
+    @SequenceGenerator(
+            name = "recurring_task_seq",
+            sequenceName = "recurring_task_sequence",
+            allocationSize = 50
+    )
+    @Column(name = "recurring_task_id", nullable = false)
+    private Long id;
+
+    // 할 일 내용
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "frequency", nullable = false)
+    private RecurrenceFrequency frequency;
+
+    @Column(name = "repeat_interval", nullable = false)
+    private int repeatInterval;
+
+    // WEEKLY의 반복 요일 비트 (월요일 = 0번째 비트)
+    @Column(name = "weekdays", nullable = false)
+    private int weekdays;
+
+    // 시작일로부터 n일째 발생의 완료 여부 = n번째 비트
+    @Column(name = "completions", nullable = false, length = 8192)
+    private byte[] completions;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Builder
+    public RecurringTask(Long id, String name, LocalDate startDate, LocalDate endDate,
+            RecurrenceFrequency frequency, int repeatInterval, int weekdays, Project project) {
+        this.id = id;
+        this.name = name;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.frequency = frequency;
+        this.repeatInterval = repeatInterval;
+        this.weekdays = weekdays;
+        this.completions = CompletionBitmap.empty();
+        this.project = project;
+    }
+
+    public RecurrenceRule rule() {
+        return new RecurrenceRule(frequency, repeatInterval, weekdays, startDate, endDate);
+    }
+
+    public boolean isCompletedOn(LocalDate date) {
+        return !date.isBefore(startDate)
+                && CompletionBitmap.get(completions, offsetOf(date));
+    }
+
+    /**
+     * 발생일의 완료 여부를 변경합니다.
+     *
+     * @param date      발생일
+     * @param completed 완료 여부
+     * @throws BusinessException 발생일이 아니거나 기록할 수 있는 기간을 벗어난 경우
+     */
+    public void updateCompleted(LocalDate date, boolean completed) {
+        if (!rule().occursOn(date) || ChronoUnit.DAYS.between(startDate, date) >= MAX_DAYS) {
+            throw new BusinessException(date, "date", ErrorCode.TASK_BAD_REQUEST);
+        }
+        this.completions = CompletionBitmap.set(completions, offsetOf(date), completed);
+    }
+
+    private int offsetOf(LocalDate date) {
+        return (int) Math.min(ChronoUnit.DAYS.between(startDate, date), Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,67 @@
+package com.trekker.domain.task.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 반복 할 일의 발생일별 완료 여부를 바이트 배열 비트맵으로 다루는 유틸리티 클래스입니다.
+ * <p>
+ * n번째 비트는 반복 시작일로부터 n일째 발생의 완료 여부이며, 배열 길이를 넘는 비트는 미완료로 봅니다.
+ * 배열은 완료된 마지막 발생일까지만 늘어나므로 1년짜리 습관도 46바이트 이하입니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompletionBitmap {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    public static byte[] empty() {
+        return EMPTY;
+    }
+
+    public static boolean get(byte[] bits, int index) {
+        int byteIndex = index >>> 3;
+        return byteIndex < bits.length && (bits[byteIndex] & (1 << (index & 7))) != 0;
+    }
+
+    /**
+     * 완료된 비트 위치를 작은 순서대로 전달합니다.
+     */
+    public static void forEachSet(byte[] bits, IntConsumer consumer) {
+        for (int byteIndex = 0; byteIndex < bits.length; byteIndex++) {
+            for (int bit = 0; bit < Byte.SIZE; bit++) {
+                if ((bits[byteIndex] & (1 << bit)) != 0) {
+                    consumer.accept(byteIndex * Byte.SIZE + bit);
+                }
+            }
+        }
+    }
+
+    /**
+     * 비트를 바꾼 새 배열을 반환합니다. (엔티티의 변경 감지를 위해 원본은 수정하지 않음)
+     *
+     * @param bits      원본 비트맵
+     * @param index     비트 위치 (0 이상)
+     * @param completed 완료 여부
+     * @return 변경된 비트맵 (끝의 0 바이트는 제거)
+     */
+    public static byte[] set(byte[] bits, int index, boolean completed) {
+        int byteIndex = index >>> 3;
+        byte[] next = Arrays.copyOf(bits, Math.max(bits.length, byteIndex + 1));
+        if (completed) {
+            next[byteIndex] |= (byte) (1 << (index & 7));
+        } else {
+            next[byteIndex] &= (byte) ~(1 << (index & 7));
+        }
+        return trim(next);
+    }
+
+    private static byte[] trim(byte[] bits) {
+        int length = bits.length;
+        while (length > 0 && bits[length - 1] == 0) {
+            length--;
+        }
+        return length == bits.length ? bits : Arrays.copyOf(bits, length);
+    }
+}
@@ -0,0 +1,81 @@
+package com.trekker.domain.task.util;
+
+import com.trekker.domain.task.entity.RecurrenceFrequency;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * 반복 할 일의 반복 규칙 (RRULE의 FREQ, INTERVAL, BYDAY, UNTIL에 해당)
+ * <p>
+ * 발생일은 저장하지 않고 조회 기간 안에서만 계산하므로, 비용은 반복 기간이 아니라 조회 기간에 비례합니다.
+ *
+ * @param frequency 반복 단위
+ * @param interval  반복 간격 (1이면 매일/매주)
+ * @param weekdays  WEEKLY의 반복 요일 비트 (월요일 = 0번째 비트)
+ * @param startDate 반복 시작일 (첫 발생일 기준)
+ * @param endDate   반복 종료일 (nullable, 포함)
+ */
+public record RecurrenceRule(
+        RecurrenceFrequency frequency,
+        int interval,
+        int weekdays,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+
+    public static int weekdayMask(Collection<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    public boolean occursOn(LocalDate date) {
+        boolean[] found = {false};
+        forEachOccurrence(date, date, offset -> found[0] = true);
+        return found[0];
+    }
+
+    /**
+     * 기간 [from, to] 안의 발생일마다 시작일로부터의 일 수를 날짜 순으로 전달합니다.
+     *
+     * @param from     기간 시작 날짜
+     * @param to       기간 종료 날짜 (포함)
+     * @param consumer 발생일의 시작일로부터의 일 수를 받는 함수
+     */
+    public void forEachOccurrence(LocalDate from, LocalDate to, IntConsumer consumer) {
+        long start = startDate.toEpochDay();
+        long first = Math.max(from.toEpochDay(), start);
+        long last = endDate == null ? to.toEpochDay()
+                : Math.min(to.toEpochDay(), endDate.toEpochDay());
+        if (first > last) {
+            return;
+        }
+
+        if (frequency == RecurrenceFrequency.DAILY) {
+            // 기간 안의 첫 발생일로 바로 이동
+            long offset = Math.ceilDiv(first - start, interval) * (long) interval;
+            for (long day = start + offset; day <= last; day += interval) {
+                consumer.accept((int) (day - start));
+            }
+            return;
+        }
+
+        // 시작일이 속한 주의 월요일부터 interval주마다 반복
+        long firstMonday = start - dayOfWeekIndex(start);
+        for (long day = first; day <= last; day++) {
+            long week = (day - firstMonday) / 7;
+            if (week % interval == 0 && (weekdays & (1 << dayOfWeekIndex(day))) != 0) {
+                consumer.accept((int) (day - start));
+            }
+        }
+    }
+
+    // 1970-01-01은 목요일이므로 월요일 = 0이 되도록 보정
+    private static int dayOfWeekIndex(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L);
+    }
+}
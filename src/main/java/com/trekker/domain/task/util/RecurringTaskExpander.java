@@ -0,0 +1,76 @@
+package com.trekker.domain.task.util;
+
+import com.trekker.domain.task.dto.DailyTaskCounts;
+import com.trekker.domain.task.dto.RecurringOccurrence;
+import com.trekker.domain.task.dto.RecurringTaskDto;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 반복 할 일을 조회 기간 안의 발생으로 펼치거나 날짜별로 집계하는 유틸리티 클래스입니다.
+ * <p>
+ * 반복 할 일 r개와 기간 d일에 대해 O(r × d)이며, 반복이 얼마나 오래 계속되었는지와는 무관합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RecurringTaskExpander {
+
+    private static final Comparator<RecurringOccurrence> ORDER = Comparator
+            .comparing(RecurringOccurrence::date)
+            .thenComparing(RecurringOccurrence::recurringTaskId);
+
+    /**
+     * 기간 [from, to] 안의 발생 목록 (발생일 순)
+     *
+     * @param recurringTasks 반복 할 일 목록
+     * @param from           기간 시작 날짜
+     * @param to             기간 종료 날짜 (포함)
+     * @return 발생 목록
+     */
+    public static List<RecurringOccurrence> expand(Collection<RecurringTaskDto> recurringTasks,
+            LocalDate from, LocalDate to) {
+        List<RecurringOccurrence> occurrences = new ArrayList<>();
+        for (RecurringTaskDto task : recurringTasks) {
+            task.rule().forEachOccurrence(from, to, offset -> occurrences.add(
+                    new RecurringOccurrence(task.recurringTaskId(), task.projectId(), task.name(),
+                            task.startDate().plusDays(offset), task.isCompleted(offset))));
+        }
+        occurrences.sort(ORDER);
+        return occurrences;
+    }
+
+    /**
+     * 기간 [from, to]의 날짜별 발생 수와 완료된 발생 수 (발생 객체를 만들지 않고 배열에 바로 더함)
+     *
+     * @param recurringTasks 반복 할 일 목록
+     * @param from           기간 시작 날짜
+     * @param to             기간 종료 날짜 (포함)
+     * @return 날짜별 발생 수와 완료된 발생 수
+     */
+    public static DailyTaskCounts count(Collection<RecurringTaskDto> recurringTasks,
+            LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("종료 날짜가 시작 날짜보다 빠릅니다.");
+        }
+        int days = Math.toIntExact(ChronoUnit.DAYS.between(from, to)) + 1;
+        int[] total = new int[days];
+        int[] completed = new int[days];
+
+        for (RecurringTaskDto task : recurringTasks) {
+            // 발생일의 시작일 기준 일 수를 기간 배열의 인덱스로 변환
+            int shift = Math.toIntExact(ChronoUnit.DAYS.between(from, task.startDate()));
+            task.rule().forEachOccurrence(from, to, offset -> {
+                total[offset + shift]++;
+                if (task.isCompleted(offset)) {
+                    completed[offset + shift]++;
+                }
+            });
+        }
+        return new DailyTaskCounts(from, total, completed);
+    }
+}
@@ -0,0 +1,88 @@
+package com.trekker.domain.task.util;
+
+import com.trekker.domain.task.dto.DailyTaskCounts;
+import com.trekker.domain.task.dto.TaskSpan;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기간 내 날짜별 할 일 수와 완료된 할 일 수를 계산하는 유틸리티 클래스입니다.
+ * <p>
+ * 할 일마다 기간의 시작일에 +1, 종료일 다음 날에 -1을 기록한 차분 배열을 누적하여
+ * 할 일 수(n)와 일 수(d)에 대해 O(n + d)로 계산합니다.
+ * 종료일이 없는 할 일은 시작일 하루짜리 할 일로 간주합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TaskDailyCounter {
+
+    /**
+     * 할 일 목록의 날짜별 할 일 수와 완료된 할 일 수를 계산합니다.
+     *
+     * @param tasks 할 일 목록
+     * @param from  기간 시작 날짜
+     * @param to    기간 종료 날짜
+     * @return 날짜별 할 일 수와 완료된 할 일 수
+     */
+    public static DailyTaskCounts count(Collection<TaskSpan> tasks, LocalDate from, LocalDate to) {
+        return count(tasks, TaskSpan::startDate, TaskSpan::endDate, TaskSpan::completed, from, to);
+    }
+
+    /**
+     * 기간 정보를 가진 임의의 항목 목록의 날짜별 항목 수와 완료된 항목 수를 계산합니다.
+     *
+     * @param items     항목 목록
+     * @param startDate 항목의 시작 날짜
+     * @param endDate   항목의 종료 날짜 (nullable)
+     * @param completed 항목의 완료 여부
+     * @param from      기간 시작 날짜
+     * @param to        기간 종료 날짜
+     * @return 날짜별 항목 수와 완료된 항목 수
+     */
+    public static <T> DailyTaskCounts count(Collection<T> items,
+            Function<T, LocalDate> startDate, Function<T, LocalDate> endDate,
+            Predicate<T> completed, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("종료 날짜가 시작 날짜보다 빠릅니다.");
+        }
+        int days = Math.toIntExact(ChronoUnit.DAYS.between(from, to)) + 1;
+        int[] total = new int[days + 1];
+        int[] done = new int[days + 1];
+
+        for (T item : items) {
+            LocalDate start = startDate.apply(item);
+            LocalDate end = endDate.apply(item) != null ? endDate.apply(item) : start;
+
+            // 기간과 겹치지 않는 항목은 제외
+            if (start.isAfter(to) || end.isBefore(from)) {
+                continue;
+            }
+            int first = start.isBefore(from) ? 0 : (int) ChronoUnit.DAYS.between(from, start);
+            int last = end.isAfter(to) ? days - 1 : (int) ChronoUnit.DAYS.between(from, end);
+
+            total[first]++;
+            total[last + 1]--;
+            if (completed.test(item)) {
+                done[first]++;
+                done[last + 1]--;
+            }
+        }
+
+        // 누적 합으로 날짜별 개수 계산
+        int[] totalCounts = new int[days];
+        int[] completedCounts = new int[days];
+        int runningTotal = 0;
+        int runningCompleted = 0;
+        for (int i = 0; i < days; i++) {
+            runningTotal += total[i];
+            runningCompleted += done[i];
+            totalCounts[i] = runningTotal;
+            completedCounts[i] = runningCompleted;
+        }
+        return new DailyTaskCounts(from, totalCounts, completedCounts);
+    }
+}
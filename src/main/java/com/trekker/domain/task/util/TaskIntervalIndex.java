@@ -0,0 +1,164 @@
+package com.trekker.domain.task.util;
+
+import com.trekker.domain.task.dto.TaskSpan;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 회원의 할 일 기간 [시작일, 종료일]을 담는 불변 구간 인덱스입니다.
+ * <p>
+ * 할 일을 시작일 순으로 정렬한 배열을 암묵적인 균형 이진 트리(구간 [lo, hi]의 중앙이 노드)로 보고,
+ * 노드마다 하위 트리의 최대 종료일을 함께 저장합니다. 기간과 겹치는 할 일 k개를 O(log n + k)에
+ * 찾으며, 최대 종료일이 조회 시작일보다 빠른 하위 트리와 시작일이 조회 종료일보다 늦은 하위 트리는
+ * 탐색하지 않습니다.
+ * <p>
+ * 변경 시에는 배열을 복사한 새 인덱스를 반환하므로 여러 스레드가 잠금 없이 읽을 수 있습니다.
+ */
+public final class TaskIntervalIndex {
+
+    private static final Comparator<TaskSpan> ORDER = Comparator
+            .comparing(TaskSpan::startDate)
+            .thenComparing(TaskSpan::taskId);
+
+    private static final TaskIntervalIndex EMPTY = new TaskIntervalIndex(new TaskSpan[0]);
+
+    private final TaskSpan[] spans;
+    // 날짜는 epochDay로 보관하여 비교 시 객체 접근을 줄인다
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private TaskIntervalIndex(TaskSpan[] sortedSpans) {
+        int size = sortedSpans.length;
+        this.spans = sortedSpans;
+        this.starts = new long[size];
+        this.ends = new long[size];
+        this.maxEnds = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = sortedSpans[i].startDate().toEpochDay();
+            ends[i] = sortedSpans[i].lastDate().toEpochDay();
+        }
+        buildMaxEnds(0, size - 1);
+    }
+
+    public static TaskIntervalIndex empty() {
+        return EMPTY;
+    }
+
+    public static TaskIntervalIndex of(Collection<TaskSpan> spans) {
+        if (spans.isEmpty()) {
+            return EMPTY;
+        }
+        TaskSpan[] sorted = spans.toArray(new TaskSpan[0]);
+        Arrays.sort(sorted, ORDER);
+        return new TaskIntervalIndex(sorted);
+    }
+
+    public int size() {
+        return spans.length;
+    }
+
+    /**
+     * 특정 날짜에 걸쳐 있는 할 일 목록 (시작일 순)
+     */
+    public List<TaskSpan> findOn(LocalDate date) {
+        return findOverlapping(date, date);
+    }
+
+    /**
+     * 기간 [from, to]와 겹치는 할 일 목록 (시작일 순)
+     *
+     * @param from 기간 시작일
+     * @param to   기간 종료일
+     * @return 기간과 하루 이상 겹치는 할 일 목록
+     */
+    public List<TaskSpan> findOverlapping(LocalDate from, LocalDate to) {
+        List<TaskSpan> result = new ArrayList<>();
+        collect(0, spans.length - 1, from.toEpochDay(), to.toEpochDay(), result);
+        return result;
+    }
+
+    /**
+     * 할 일을 추가하거나, 같은 ID의 할 일이 있으면 교체한 새 인덱스를 반환
+     */
+    public TaskIntervalIndex with(TaskSpan span) {
+        int existing = indexOf(span.taskId());
+        int size = existing < 0 ? spans.length + 1 : spans.length;
+        TaskSpan[] next = new TaskSpan[size];
+
+        int target = 0;
+        boolean inserted = false;
+        for (int i = 0; i < spans.length; i++) {
+            if (i == existing) {
+                continue;
+            }
+            if (!inserted && ORDER.compare(span, spans[i]) < 0) {
+                next[target++] = span;
+                inserted = true;
+            }
+            next[target++] = spans[i];
+        }
+        if (!inserted) {
+            next[target] = span;
+        }
+        return new TaskIntervalIndex(next);
+    }
+
+    /**
+     * 할 일을 제외한 새 인덱스를 반환 (없으면 그대로 반환)
+     */
+    public TaskIntervalIndex without(Long taskId) {
+        int existing = indexOf(taskId);
+        if (existing < 0) {
+            return this;
+        }
+        TaskSpan[] next = new TaskSpan[spans.length - 1];
+        System.arraycopy(spans, 0, next, 0, existing);
+        System.arraycopy(spans, existing + 1, next, existing, spans.length - existing - 1);
+        return next.length == 0 ? EMPTY : new TaskIntervalIndex(next);
+    }
+
+    private long buildMaxEnds(int lo, int hi) {
+        if (lo > hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid],
+                Math.max(buildMaxEnds(lo, mid - 1), buildMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private void collect(int lo, int hi, long from, long to, List<TaskSpan> result) {
+        if (lo > hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        // 하위 트리의 모든 할 일이 조회 시작일 전에 끝남
+        if (maxEnds[mid] < from) {
+            return;
+        }
+        collect(lo, mid - 1, from, to, result);
+        // 이 노드와 오른쪽 하위 트리는 모두 조회 종료일 이후에 시작함
+        if (starts[mid] > to) {
+            return;
+        }
+        if (ends[mid] >= from) {
+            result.add(spans[mid]);
+        }
+        collect(mid + 1, hi, from, to, result);
+    }
+
+    private int indexOf(Long taskId) {
+        for (int i = 0; i < spans.length; i++) {
+            if (spans[i].taskId().equals(taskId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
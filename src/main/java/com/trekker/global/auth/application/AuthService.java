@@ -1,17 +1,21 @@
 package com.trekker.global.auth.application;
 
+import com.trekker.domain.member.cache.MemberIdentityCache;
 import com.trekker.domain.member.dao.MemberRepository;
 import com.trekker.domain.member.dao.MemberWithdrawalFeedbackRepository;
 import com.trekker.domain.member.dto.req.MemberWithdrawalReqDto;
 import com.trekker.domain.member.entity.Member;
+import com.trekker.domain.member.entity.SocialProvider;
 import com.trekker.global.auth.custom.CustomUserDetails;
 import com.trekker.global.auth.custom.CustomUserDetailsService;
+import com.trekker.global.auth.dto.GoogleIdentityDto;
 import com.trekker.global.auth.dto.req.GoogleLoginReqDto;
 import com.trekker.global.auth.dto.res.AuthResDto;
 import com.trekker.global.auth.dto.res.GoogleRes;
 import com.trekker.global.auth.dto.res.RefreshTokenResDto;
-import com.trekker.global.config.redis.dao.RedisRepository;
+import com.trekker.global.auth.store.TokenStore;
 import com.trekker.global.config.security.TokenProvider;
+import com.trekker.global.config.security.revocation.RevocationEpochCache;
 import com.trekker.global.exception.custom.BusinessException;
 import com.trekker.global.exception.enums.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -33,22 +37,30 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final String GOOGLE = "google";
+
     private final MemberRepository memberRepository;
     private final MemberWithdrawalFeedbackRepository feedbackRepository;
     private final TokenProvider tokenProvider;
-    private final RedisRepository redisRepository;
+    private final TokenStore tokenStore;
     private final UnlinkService unlinkService;
     private final CustomUserDetailsService customUserDetailsService;
     private final ClientRegistrationRepository clientRegistrationRepository;
     private final GoogleTokenValidator googleTokenValidator;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
+    private final MemberIdentityCache memberIdentityCache;
+    private final RevocationEpochCache revocationEpochCache;
 
 
     @Transactional
     public void logout(String jwtToken) {
-        long accessTokenExpiration = tokenProvider.getExpiration(jwtToken);
         String userId = tokenProvider.getUserIdFromToken(jwtToken);
 
-        redisRepository.logoutTokens(jwtToken, accessTokenExpiration, userId);
+        // 로그아웃 시각 이전에 발급된 회원의 모든 토큰 폐기
+        // 이 인스턴스는 pub/sub 전달을 기다리지 않고 바로 반영
+        long epochMillis = System.currentTimeMillis();
+        revocationEpochCache.update(userId, epochMillis);
+        tokenStore.logoutTokens(userId, epochMillis);
     }
 
     /**
@@ -90,7 +102,7 @@ public class AuthService {
      * @return AuthResponseDto 인증에 필요한 Access, Refresh 토큰 조회된 데이터가 없을 경우 null을 반환합니다.
      */
     public AuthResDto retrieveAuthResponse(String tempToken) {
-        return redisRepository.retrieveAuthResponse(tempToken);
+        return tokenStore.retrieveAuthResponse(tempToken);
     }
 
     /**
@@ -111,8 +123,10 @@ public class AuthService {
         // 소셜 언링크 (연결 끊기)
         unlinkService.unlink(member, reqDto);
 
-        // 회원 삭제
-        member.markAsDeleted();
+        // 회원 삭제 (소셜 계정 연결 제거)
+        SocialProvider socialProvider = member.getSocialProvider();
+        member.withdraw();
+        memberIdentityCache.invalidate(socialProvider);
     }
 
     /**
@@ -122,14 +136,10 @@ public class AuthService {
      */
     @Transactional
     public GoogleRes authenticateGoogleUser(GoogleLoginReqDto request) {
-        // 1. Google Access Token 검증
-        validateGoogleAccessToken(request.accessToken());
-
-        // 2. OAuth2UserRequest 생성
-        OAuth2UserRequest userRequest = createOAuth2UserRequest(request.accessToken());
-
-        // 3. 사용자 정보 로드 및 Authentication 생성
-        Authentication authentication = createAuthentication(userRequest);
+        // 1~3. ID 토큰이 있으면 로컬에서 검증하고, 없으면 Google API로 검증 및 사용자 정보 조회
+        Authentication authentication = request.idToken() != null
+                ? authenticateWithIdToken(request.idToken())
+                : authenticateWithAccessToken(request.accessToken());
 
         // 4. SecurityContext에 Authentication 설정
         SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -138,6 +148,42 @@ public class AuthService {
         return createGoogleResponse(authentication);
     }
 
+    /**
+     * Google ID 토큰을 로컬에서 검증하고 Authentication 객체를 생성합니다.
+     *
+     * @param idToken Google ID 토큰
+     * @return Authentication 인증 객체
+     */
+    private Authentication authenticateWithIdToken(String idToken) {
+        GoogleIdentityDto identity = googleIdTokenVerifier.verify(idToken);
+
+        CustomUserDetails userDetails = customUserDetailsService.loadSocialUser(GOOGLE,
+                identity.googleId(), identity.email(), identity.attributes());
+
+        return new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+    }
+
+    /**
+     * Google API로 Access Token을 검증하고 사용자 정보를 조회하여 Authentication 객체를 생성합니다.
+     *
+     * @param accessToken Google Access Token
+     * @return Authentication 인증 객체
+     */
+    private Authentication authenticateWithAccessToken(String accessToken) {
+        // 1. Google Access Token 검증
+        validateGoogleAccessToken(accessToken);
+
+        // 2. OAuth2UserRequest 생성
+        OAuth2UserRequest userRequest = createOAuth2UserRequest(accessToken);
+
+        // 3. 사용자 정보 로드 및 Authentication 생성
+        return createAuthentication(userRequest);
+    }
+
     /**
      * Google Access Token의 유효성을 검증합니다.
      *
@@ -159,7 +205,7 @@ public class AuthService {
      * @throws IllegalStateException Google 클라이언트 설정을 찾을 수 없을 경우 예외를 발생시킵니다.
      */
     private OAuth2UserRequest createOAuth2UserRequest(String accessToken) {
-        ClientRegistration registration = clientRegistrationRepository.findByRegistrationId("google");
+        ClientRegistration registration = clientRegistrationRepository.findByRegistrationId(GOOGLE);
         if (registration == null) {
             throw new BusinessException("accessToken", accessToken, ErrorCode.BAD_REQUEST);
         }
@@ -0,0 +1,211 @@
+package com.trekker.global.auth.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.trekker.global.auth.dto.GoogleIdentityDto;
+import com.trekker.global.config.http.OutboundHttpClient;
+import com.trekker.global.config.http.OutboundHttpClients;
+import com.trekker.global.config.http.OutboundTarget;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.util.token.TokenDigest;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Google ID 토큰 로컬 검증기
+ * <p>
+ * Google 공개 키(JWKS)를 주기적으로 받아 캐시하고, ID 토큰의 서명·발급자·대상·만료 시각을 로컬에서 검증한다.
+ * 로그인마다 tokeninfo, userinfo API를 호출하지 않으므로 외부 왕복 없이 로그인할 수 있다.
+ * 검증이 끝난 토큰은 만료 시각까지 다이제스트로 캐시한다.
+ * <p>
+ * 서명 키는 캐시에서만 찾는다. Google이 키를 교체한 뒤 다음 주기 갱신 전에 새 키의 토큰이 오면, 그 요청에서
+ * 공개 키를 다시 받는다. 이 호출도 주기 갱신과 같이 동시 호출 수 제한과 메트릭을 거치며, 알 수 없는 키 ID로
+ * 외부 호출이 반복되지 않도록 최소 간격 안에서는 한 번만 받는다.
+ */
+@Slf4j
+@Component
+public class GoogleIdTokenVerifier {
+
+    private static final Set<String> ISSUERS =
+            Set.of("https://accounts.google.com", "accounts.google.com");
+
+    private final String jwkSetUri;
+    private final OutboundHttpClient jwksClient;
+    private final long missRefreshIntervalNanos;
+    // 키가 없을 때 마지막으로 공개 키를 받은 시각 (System.nanoTime 기준)
+    private final AtomicLong lastMissRefresh;
+    private volatile JWKSet jwkSet = new JWKSet();
+    private final JwtDecoder jwtDecoder;
+    private final Cache<String, GoogleIdentityDto> verifiedTokens;
+
+    public GoogleIdTokenVerifier(
+            @Value("${google.id-token.jwk-set-uri:https://www.googleapis.com/oauth2/v3/certs}")
+            String jwkSetUri,
+            @Value("${spring.security.oauth2.client.registration.google.client-id}")
+            String clientId,
+            @Value("${google.id-token.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${google.id-token.jwks-miss-refresh-millis:30000}") long missRefreshMillis,
+            OutboundHttpClients outboundHttpClients) {
+        this.jwkSetUri = jwkSetUri;
+        this.jwksClient = outboundHttpClients.get(OutboundTarget.GOOGLE_JWKS);
+        this.missRefreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(missRefreshMillis);
+        this.lastMissRefresh = new AtomicLong(System.nanoTime() - missRefreshIntervalNanos);
+
+        // 서명 키는 캐시한 공개 키에서 찾고, 발급자·대상·만료 시각은 아래 검증기로 확인
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(
+                new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, new CachedJwkSource()));
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(jwtProcessor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                new JwtTimestampValidator(),
+                new JwtClaimValidator<Object>(JwtClaimNames.ISS,
+                        issuer -> issuer != null && ISSUERS.contains(issuer.toString())),
+                new JwtClaimValidator<Collection<String>>(JwtClaimNames.AUD,
+                        audience -> audience != null && audience.contains(clientId))));
+        this.jwtDecoder = decoder;
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new IdTokenExpiry())
+                .build();
+    }
+
+    /**
+     * ID 토큰 검증
+     *
+     * @param idToken Google ID 토큰
+     * @return 검증된 사용자 정보
+     * @throws BusinessException 서명·발급자·대상·만료 시각 중 하나라도 올바르지 않은 경우
+     */
+    public GoogleIdentityDto verify(String idToken) {
+        String key = TokenDigest.sha256(idToken);
+        GoogleIdentityDto cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        try {
+            Jwt jwt = jwtDecoder.decode(idToken);
+            GoogleIdentityDto identity = new GoogleIdentityDto(jwt.getSubject(),
+                    jwt.getClaimAsString("email"), jwt.getClaims(), jwt.getExpiresAt());
+            verifiedTokens.put(key, identity);
+            return identity;
+        } catch (BadJwtException e) {
+            log.debug("유효하지 않은 Google ID 토큰: {}", e.getMessage());
+            throw new BusinessException(null, "idToken", ErrorCode.BAD_REQUEST);
+        } catch (JwtException e) {
+            // 공개 키를 받아오지 못한 경우 등
+            log.warn("Google ID 토큰 검증 실패: {}", e.getMessage());
+            throw new BusinessException(null, "idToken", ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Google 공개 키를 주기적으로 다시 받아 캐시 갱신
+     * <p>
+     * 요청 처리 중에는 원격 호출 없이 캐시된 키를 사용하도록 미리 받아둔다.
+     * 받아오지 못하면 기존 키를 계속 사용한다.
+     */
+    @Scheduled(initialDelay = 0,
+            fixedDelayString = "${google.id-token.jwks-refresh-millis:3600000}")
+    public void refreshKeys() {
+        fetchKeys();
+    }
+
+    private boolean fetchKeys() {
+        try {
+            String body = jwksClient.execute(
+                    restTemplate -> restTemplate.getForObject(jwkSetUri, String.class));
+            if (body == null) {
+                return false;
+            }
+            jwkSet = JWKSet.parse(body);
+            return true;
+        } catch (RuntimeException | ParseException e) {
+            log.warn("Google 공개 키 갱신 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // 최소 간격 안에 이미 다시 받았으면 false
+    private boolean tryStartMissRefresh() {
+        long now = System.nanoTime();
+        long last = lastMissRefresh.get();
+        return now - last >= missRefreshIntervalNanos && lastMissRefresh.compareAndSet(last, now);
+    }
+
+    /**
+     * 캐시한 공개 키에서 서명 키를 찾고, 없으면 최소 간격마다 한 번 공개 키를 다시 받는다.
+     */
+    private final class CachedJwkSource implements JWKSource<SecurityContext> {
+
+        @Override
+        public List<JWK> get(JWKSelector selector, SecurityContext context)
+                throws KeySourceException {
+            List<JWK> keys = selector.select(jwkSet);
+            if (!keys.isEmpty() || !tryStartMissRefresh()) {
+                return keys;
+            }
+            if (!fetchKeys()) {
+                throw new KeySourceException("Google 공개 키를 받아오지 못했습니다.");
+            }
+            return selector.select(jwkSet);
+        }
+    }
+
+    /**
+     * ID 토큰의 남은 만료 시간을 항목의 수명으로 사용
+     */
+    private static final class IdTokenExpiry implements Expiry<String, GoogleIdentityDto> {
+
+        @Override
+        public long expireAfterCreate(String key, GoogleIdentityDto value, long currentTime) {
+            long remainingMillis = Math.max(0,
+                    value.expiresAt().toEpochMilli() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, GoogleIdentityDto value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, GoogleIdentityDto value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.trekker.global.auth.application;
 
+import com.trekker.global.config.http.OutboundHttpClients;
+import com.trekker.global.config.http.OutboundTarget;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GoogleTokenValidator {
@@ -16,14 +19,15 @@ public class GoogleTokenValidator {
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String GOOGLE_CLIENT_KEY;
 
-    private final RestTemplate restTemplate;
+    private final OutboundHttpClients outboundHttpClients;
 
     public boolean validateAccessToken(String accessToken) {
         try {
             String url = GOOGLE_TOKEN_INFO_URL + "?access_token=" + accessToken;
 
             // Google의 토큰 정보 가져오기
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
+            ResponseEntity<Map> response = outboundHttpClients.get(OutboundTarget.GOOGLE_TOKEN_INFO)
+                    .execute(restTemplate -> restTemplate.getForEntity(url, Map.class));
 
             // 토큰 검증 로직 추가 (예: audience, expires_in 확인)
             Map<String, Object> tokenInfo = response.getBody();
@@ -31,7 +35,7 @@ public class GoogleTokenValidator {
                 return true; // 토큰이 유효하고 클라이언트 ID와 일치함
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("구글 토큰 검증 요청 실패: {}", e.getMessage());
         }
         return false;
     }
@@ -3,7 +3,8 @@ package com.trekker.global.auth.application;
 import com.trekker.domain.member.dto.req.MemberWithdrawalReqDto;
 import com.trekker.domain.member.entity.Member;
 import com.trekker.domain.member.entity.SocialProvider;
-import com.trekker.global.config.redis.dao.RedisRepository;
+import com.trekker.global.config.http.OutboundHttpClients;
+import com.trekker.global.config.http.OutboundTarget;
 import com.trekker.global.exception.custom.BusinessException;
 import com.trekker.global.exception.enums.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -15,15 +16,13 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UnlinkService {
 
-    private final RestTemplate restTemplate;
-    private final RedisRepository redisRepository;
+    private final OutboundHttpClients outboundHttpClients;
 
     @Value("${kakao.admin-key}")
     private String KAKAO_ADMIN_KEY;
@@ -75,7 +74,8 @@ public class UnlinkService {
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(body, headers);
 
         try {
-            restTemplate.postForEntity(KAKAO_UNLINK_URL, request, String.class);
+            outboundHttpClients.get(OutboundTarget.KAKAO_UNLINK).execute(restTemplate ->
+                    restTemplate.postForEntity(KAKAO_UNLINK_URL, request, String.class));
             log.info("카카오 연결 끊기 성공: 사용자 ID = {}", providerId);
         } catch (Exception e) {
             log.error("카카오 연결 끊기 실패: 사용자 ID = {}", providerId, e);
@@ -92,7 +92,8 @@ public class UnlinkService {
         String url = GOOGLE_UNLINK_URL + "?token=" + accessToken;
 
         try {
-            restTemplate.postForEntity(url, null, String.class);
+            outboundHttpClients.get(OutboundTarget.GOOGLE_REVOKE).execute(restTemplate ->
+                    restTemplate.postForEntity(url, null, String.class));
             log.info("구글 연결 끊기 성공: 사용자 ID = {}", memberId);
         } catch (Exception e) {
             log.error("구글 연결 끊기 실패: Refresh Token = {}", accessToken, e);
@@ -1,8 +1,7 @@
 package com.trekker.global.auth.custom;
 
-import com.trekker.domain.member.dao.MemberRepository;
-import com.trekker.domain.member.entity.Member;
-import com.trekker.domain.member.entity.Role;
+import com.trekker.domain.member.cache.MemberIdentityCache;
+import com.trekker.domain.member.dto.MemberIdentityDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -21,7 +20,7 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService {
     private static final String KAKAO = "kakao";
     private static final String GOOGLE = "google";
 
-    private final MemberRepository memberRepository;
+    private final MemberIdentityCache memberIdentityCache;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -35,21 +34,34 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService {
                 extractAttribute(oAuth2User, provider, isGoogleProvider(provider) ? "sub" : "id"));
         String email = (String) extractAttribute(oAuth2User, provider, "email");
 
-        // provider와 providerId를 기준으로 사용자 조회
-        Member member = memberRepository.findByProviderAndProviderId(provider, providerId)
-                .orElseGet(() -> memberRepository.save(
-                        Member.toMember(email, Role.USER, provider, providerId)));
+        return loadSocialUser(provider, providerId, email, oAuth2User.getAttributes());
+    }
+
+    /**
+     * 이미 확인된 소셜 사용자 정보로 회원을 조회하거나 생성
+     *
+     * @param provider   소셜 로그인 제공자
+     * @param providerId 소셜 고유 ID
+     * @param email      이메일
+     * @param attributes 소셜 사용자 속성
+     * @return 회원의 UserDetails
+     */
+    public CustomUserDetails loadSocialUser(String provider, String providerId, String email,
+            Map<String, Object> attributes) {
+        // provider와 providerId를 기준으로 사용자 조회 (없으면 등록)
+        MemberIdentityDto identity = memberIdentityCache.getOrCreate(email, provider, providerId);
 
         // UserDetails 생성 및 반환
-        return createUserDetails(member, oAuth2User.getAttributes());
+        return createUserDetails(identity, attributes);
     }
 
-    private CustomUserDetails createUserDetails(Member member, Map<String, Object> attributes) {
+    private CustomUserDetails createUserDetails(MemberIdentityDto identity,
+            Map<String, Object> attributes) {
         return CustomUserDetails.builder()
-                .id(String.valueOf(member.getId()))
-                .isCompleted(member.getOnboarding().getIsCompleted())
+                .id(String.valueOf(identity.memberId()))
+                .isCompleted(identity.onboardingCompleted())
                 .authorities(Collections.singleton(
-                        new SimpleGrantedAuthority("ROLE_" + member.getRole().toString())))
+                        new SimpleGrantedAuthority("ROLE_" + identity.role().toString())))
                 .attributes(attributes) // OAuth2일 경우 속성 설정
                 .build();
     }
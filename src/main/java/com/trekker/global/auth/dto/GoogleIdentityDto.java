@@ -0,0 +1,17 @@
+package com.trekker.global.auth.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 검증된 Google ID 토큰의 사용자 정보
+ *
+ * @param googleId   Google 사용자 고유 ID (sub)
+ * @param email      이메일
+ * @param attributes ID 토큰의 전체 클레임
+ * @param expiresAt  ID 토큰 만료 시각
+ */
+public record GoogleIdentityDto(String googleId, String email, Map<String, Object> attributes,
+                                Instant expiresAt) {
+
+}
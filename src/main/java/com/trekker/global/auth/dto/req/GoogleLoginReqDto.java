@@ -3,7 +3,9 @@ package com.trekker.global.auth.dto.req;
 public record GoogleLoginReqDto(
         String email,
         String googleId,
-        String accessToken
+        String accessToken,
+        // 있으면 Google API 호출 없이 로컬에서 검증
+        String idToken
 ) {
 
 }
@@ -0,0 +1,165 @@
+package com.trekker.global.auth.store;
+
+import com.trekker.global.auth.dto.RefreshTokenInfoDto;
+import com.trekker.global.auth.dto.res.AuthResDto;
+import com.trekker.global.config.redis.codec.AuthRedisCodec;
+import com.trekker.global.config.security.TokenProvider;
+import com.trekker.global.config.security.revocation.RevocationEpochCache;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 인스턴스 배포용 인메모리 토큰 저장소
+ * <p>
+ * Redis 왕복 없이 프로세스 메모리에 저장하며, 만료된 항목은 타이밍 휠로 정리한다.
+ * 재시작하면 모든 항목이 사라지므로 사용자는 다시 로그인해야 한다.
+ * 여러 인스턴스가 상태를 공유하지 않으므로 복제본이 둘 이상이면 Redis 구현을 사용해야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "token-store.type", havingValue = "memory")
+public class InMemoryTokenStore implements TokenStore, DisposableBean {
+
+    private static final long TEMP_TOKEN_EXPIRATION = TimeUnit.SECONDS.toMillis(300);
+    private static final long REFRESH_TOKEN_EXPIRATION = TimeUnit.DAYS.toMillis(7);
+    private static final String REFRESH_TOKEN_PREFIX = "rt:";
+    private static final String TEMP_TOKEN_PREFIX = "tt:";
+    private static final String REVOCATION_EPOCH_PREFIX = "re:";
+
+    private record Entry(byte[] value, long expiresAtMillis) {
+
+        boolean isExpired(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final TimingWheel<String> timingWheel;
+    private final RevocationEpochCache revocationEpochCache;
+
+    public InMemoryTokenStore(RevocationEpochCache revocationEpochCache,
+            @Value("${token-store.memory.tick-millis:1000}") long tickMillis,
+            @Value("${token-store.memory.wheel-size:512}") int wheelSize) {
+        this.revocationEpochCache = revocationEpochCache;
+        this.timingWheel = new TimingWheel<>(tickMillis, wheelSize, this::evict);
+    }
+
+    @Override
+    public void storeRefreshToken(RefreshTokenInfoDto tokenData) {
+        put(REFRESH_TOKEN_PREFIX + tokenData.userAccount(),
+                AuthRedisCodec.encodeRefreshToken(tokenData.refreshToken(),
+                        tokenData.authorities()),
+                REFRESH_TOKEN_EXPIRATION);
+    }
+
+    @Override
+    public String findAuthorities(String userAccount, String refreshToken) {
+        byte[] stored = get(REFRESH_TOKEN_PREFIX + userAccount);
+        return AuthRedisCodec.matchesRefreshToken(stored, refreshToken)
+                ? AuthRedisCodec.decodeAuthorities(stored) : null;
+    }
+
+    @Override
+    public String rotateRefreshToken(String userAccount, String currentRefreshToken,
+            String newRefreshToken) {
+        String key = REFRESH_TOKEN_PREFIX + userAccount;
+        long now = System.currentTimeMillis();
+        String[] authorities = new String[1];
+
+        // 같은 키에 대한 비교와 교체를 원자적으로 수행
+        Entry rotated = entries.computeIfPresent(key, (k, entry) -> {
+            if (entry.isExpired(now)
+                    || !AuthRedisCodec.matchesRefreshToken(entry.value(), currentRefreshToken)) {
+                return entry;
+            }
+            authorities[0] = AuthRedisCodec.decodeAuthorities(entry.value());
+            return new Entry(AuthRedisCodec.encodeRefreshToken(newRefreshToken, authorities[0]),
+                    now + REFRESH_TOKEN_EXPIRATION);
+        });
+        if (authorities[0] != null) {
+            timingWheel.schedule(key, rotated.expiresAtMillis());
+        }
+        return authorities[0];
+    }
+
+    @Override
+    public void logoutTokens(String userId, long epochMillis) {
+        put(REVOCATION_EPOCH_PREFIX + userId,
+                ByteBuffer.allocate(Long.BYTES).putLong(epochMillis).array(),
+                TokenProvider.ACCESS_TOKEN_EXPIRATION);
+        entries.remove(REFRESH_TOKEN_PREFIX + userId);
+    }
+
+    @Override
+    public Map<String, Long> findRevocationEpochs() {
+        long now = System.currentTimeMillis();
+        Map<String, Long> epochs = new HashMap<>();
+        entries.forEach((key, entry) -> {
+            if (key.startsWith(REVOCATION_EPOCH_PREFIX) && !entry.isExpired(now)) {
+                epochs.put(key.substring(REVOCATION_EPOCH_PREFIX.length()),
+                        ByteBuffer.wrap(entry.value()).getLong());
+            }
+        });
+        return epochs;
+    }
+
+    @Override
+    public String storeAuthResponseWithTempToken(AuthResDto authResDto) {
+        String tempToken = UUID.randomUUID().toString();
+        put(TEMP_TOKEN_PREFIX + tempToken, AuthRedisCodec.encodeAuthResponse(authResDto),
+                TEMP_TOKEN_EXPIRATION);
+        return tempToken;
+    }
+
+    @Override
+    public AuthResDto retrieveAuthResponse(String tempToken) {
+        Entry entry = entries.remove(TEMP_TOKEN_PREFIX + tempToken);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        return AuthRedisCodec.decodeAuthResponse(entry.value());
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void put(String key, byte[] value, long ttlMillis) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        entries.put(key, new Entry(value, expiresAt));
+        timingWheel.schedule(key, expiresAt);
+    }
+
+    private byte[] get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    // 갱신되지 않은 항목만 제거 (같은 키가 다시 저장되었다면 만료 시각이 다름)
+    private void evict(String key, long expiresAtMillis) {
+        entries.computeIfPresent(key,
+                (k, entry) -> entry.expiresAtMillis() == expiresAtMillis ? null : entry);
+        if (key.startsWith(REVOCATION_EPOCH_PREFIX)) {
+            // 기준 시각 이전에 발급된 Access 토큰은 모두 만료되었으므로 로컬 캐시에서도 제거
+            revocationEpochCache.evictExpired(
+                    expiresAtMillis - TokenProvider.ACCESS_TOKEN_EXPIRATION);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        timingWheel.close();
+    }
+}
@@ -0,0 +1,160 @@
+package com.trekker.global.auth.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trekker.global.auth.dto.RefreshTokenInfoDto;
+import com.trekker.global.auth.dto.res.AuthResDto;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.util.token.TokenDigest;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원격 토큰 저장소 장애 시 요청 스레드가 대기하지 않도록 차단기와 로컬 캐시를 적용한 저장소
+ * <p>
+ * 저장소 호출이 느리거나 실패하는 비율이 기준을 넘으면 차단기가 열리고, 이후 호출은 저장소에 접근하지 않고
+ * 즉시 실패한다. 최근에 확인한 Refresh 토큰은 짧은 시간 동안 로컬에 보관하여,
+ * 저장소에 접근할 수 없는 동안에도 Access 토큰 갱신은 계속 처리한다.
+ * 로컬 캐시는 저장소에 접근할 수 없을 때만 사용하므로 정상 상태의 결과에는 영향이 없다.
+ * <p>
+ * 그 밖의 연산은 대체할 수 없으므로, 접근할 수 없으면 잘못된 토큰으로 처리하지 않고
+ * {@link ErrorCode#TOKEN_STORE_UNAVAILABLE} 예외를 던진다.
+ */
+@Slf4j
+public class ResilientTokenStore implements TokenStore {
+
+    private static final String FALLBACK_COUNTER = "auth.token-store.fallback";
+
+    // Refresh 토큰 원문 대신 다이제스트만 보관
+    private record RecentRefreshToken(String refreshTokenDigest, String authorities) {
+
+    }
+
+    private final TokenStore delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, RecentRefreshToken> recentRefreshTokens;
+
+    public ResilientTokenStore(TokenStore delegate, CircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry, Duration nearCacheTtl, long nearCacheMaxSize) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.recentRefreshTokens = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaxSize)
+                .expireAfterWrite(nearCacheTtl)
+                .build();
+        meterRegistry.gauge("auth.token-store.circuit.state", circuitBreaker,
+                breaker -> breaker.getState().getOrder());
+    }
+
+    @Override
+    public void storeRefreshToken(RefreshTokenInfoDto tokenData) {
+        call("storeRefreshToken", () -> {
+            delegate.storeRefreshToken(tokenData);
+            return null;
+        });
+        remember(tokenData.userAccount(), tokenData.refreshToken(), tokenData.authorities());
+    }
+
+    @Override
+    public String findAuthorities(String userAccount, String refreshToken) {
+        try {
+            String authorities = circuitBreaker.executeSupplier(
+                    () -> delegate.findAuthorities(userAccount, refreshToken));
+            if (authorities != null) {
+                remember(userAccount, refreshToken, authorities);
+            } else {
+                recentRefreshTokens.invalidate(userAccount);
+            }
+            return authorities;
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // 저장소에 접근할 수 없으면 최근에 확인한 토큰으로 대체
+            RecentRefreshToken recent = recentRefreshTokens.getIfPresent(userAccount);
+            if (recent != null
+                    && recent.refreshTokenDigest().equals(TokenDigest.sha256(refreshToken))) {
+                countFallback("findAuthorities", "hit");
+                return recent.authorities();
+            }
+            countFallback("findAuthorities", "miss");
+            throw unavailable("findAuthorities", e);
+        }
+    }
+
+    @Override
+    public String rotateRefreshToken(String userAccount, String currentRefreshToken,
+            String newRefreshToken) {
+        String authorities = call("rotateRefreshToken",
+                () -> delegate.rotateRefreshToken(userAccount, currentRefreshToken,
+                        newRefreshToken));
+        if (authorities != null) {
+            remember(userAccount, newRefreshToken, authorities);
+        } else {
+            recentRefreshTokens.invalidate(userAccount);
+        }
+        return authorities;
+    }
+
+    @Override
+    public void logoutTokens(String userId, long epochMillis) {
+        // 저장소 반영 여부와 관계없이 이 인스턴스에서는 더 이상 대체하지 않음
+        recentRefreshTokens.invalidate(userId);
+        call("logoutTokens", () -> {
+            delegate.logoutTokens(userId, epochMillis);
+            return null;
+        });
+    }
+
+    @Override
+    public Map<String, Long> findRevocationEpochs() {
+        return call("findRevocationEpochs", delegate::findRevocationEpochs);
+    }
+
+    @Override
+    public String storeAuthResponseWithTempToken(AuthResDto authResDto) {
+        return call("storeAuthResponse",
+                () -> delegate.storeAuthResponseWithTempToken(authResDto));
+    }
+
+    @Override
+    public AuthResDto retrieveAuthResponse(String tempToken) {
+        return call("retrieveAuthResponse", () -> delegate.retrieveAuthResponse(tempToken));
+    }
+
+    private <T> T call(String operation, Supplier<T> supplier) {
+        try {
+            return circuitBreaker.executeSupplier(supplier);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw unavailable(operation, e);
+        }
+    }
+
+    private void remember(String userAccount, String refreshToken, String authorities) {
+        recentRefreshTokens.put(userAccount,
+                new RecentRefreshToken(TokenDigest.sha256(refreshToken), authorities));
+    }
+
+    private BusinessException unavailable(String operation, RuntimeException e) {
+        if (e instanceof CallNotPermittedException) {
+            log.debug("토큰 저장소 차단 중 호출 거부: {}", operation);
+        } else {
+            log.warn("토큰 저장소 호출 실패 ({}): {}", operation, e.getMessage());
+        }
+        return new BusinessException(ErrorCode.TOKEN_STORE_UNAVAILABLE);
+    }
+
+    private void countFallback(String operation, String result) {
+        meterRegistry.counter(FALLBACK_COUNTER, "operation", operation, "result", result)
+                .increment();
+    }
+}
@@ -0,0 +1,213 @@
+package com.trekker.global.auth.store;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계층형 해시 타이밍 휠 기반 만료 스케줄러
+ * <p>
+ * 단계 L의 슬롯 하나는 (휠 크기)^L 틱을 담당한다. 만료 시각은 현재 틱과 처음 달라지는 가장 높은 단계에 배치하고,
+ * 그 단계의 슬롯 구간이 시작될 때 한 단계 아래로 옮긴다(cascade). 마지막 단계에서 만료된 키를 콜백으로 전달한다.
+ * <p>
+ * 등록은 대기 큐에 넣기만 하는 O(1)이고, 슬롯 배치와 이동은 모두 틱 스레드에서 하므로 슬롯 구간이 시작되는
+ * 시점과 등록이 겹쳐도 항목이 이미 지나간 슬롯에 남지 않는다.
+ * 항목은 만료될 때까지 최대 (단계 수 - 1)번 옮겨지므로 항목당 처리 비용은 만료 시간과 무관하다.
+ * (1초 틱, 휠 크기 512이면 7일 만료 항목도 두 번 옮겨진 뒤 만료된다)
+ *
+ * @param <K> 만료 대상 키 타입
+ */
+@Slf4j
+public class TimingWheel<K> implements AutoCloseable {
+
+    // 1초 틱, 휠 크기 512 기준 마지막 단계 슬롯 하나가 약 4년 (더 먼 항목은 마지막 단계에 다시 배치)
+    private static final int LEVELS = 4;
+
+    /**
+     * 만료 콜백
+     */
+    @FunctionalInterface
+    public interface ExpirationListener<K> {
+
+        /**
+         * @param key             만료된 키
+         * @param expiresAtMillis 등록 시 지정한 만료 시각 (갱신된 항목 구분용)
+         */
+        void expired(K key, long expiresAtMillis);
+    }
+
+    private record Timeout<K>(K key, long expiresAtMillis) {
+
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    // 단계별 슬롯 하나가 담당하는 틱 수
+    private final long[] spans = new long[LEVELS];
+    // 틱 스레드에서만 접근
+    private final Queue<Timeout<K>>[][] wheels;
+    // 등록된 뒤 아직 슬롯에 배치되지 않은 항목
+    private final Queue<Timeout<K>> registrations = new ConcurrentLinkedQueue<>();
+    private final ExpirationListener<K> listener;
+    private final LongSupplier clock;
+    private final ScheduledExecutorService ticker;
+    private long currentTick;
+    // 아래 단계로 옮긴 횟수 (틱 스레드에서만 갱신)
+    private long cascaded;
+
+    public TimingWheel(long tickMillis, int wheelSize, ExpirationListener<K> listener) {
+        this(tickMillis, wheelSize, listener, System::currentTimeMillis, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int wheelSize, ExpirationListener<K> listener,
+            LongSupplier clock, boolean startTicker) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.wheels = new Queue[LEVELS][wheelSize];
+        for (int level = 0; level < LEVELS; level++) {
+            spans[level] = level == 0 ? 1 : spans[level - 1] * wheelSize;
+            for (int i = 0; i < wheelSize; i++) {
+                wheels[level][i] = new ArrayDeque<>();
+            }
+        }
+        this.listener = listener;
+        this.clock = clock;
+        this.currentTick = clock.getAsLong() / tickMillis;
+        if (!startTicker) {
+            this.ticker = null;
+            return;
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timing-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 만료 시각 등록 (다음 틱에 슬롯에 배치되며, 이미 지난 만료 시각은 그 틱에 만료된다)
+     */
+    public void schedule(K key, long expiresAtMillis) {
+        registrations.add(new Timeout<>(key, expiresAtMillis));
+    }
+
+    /**
+     * 지난 틱을 순서대로 처리 (틱 스레드에서만 호출)
+     */
+    void tick() {
+        try {
+            long now = clock.getAsLong();
+            long targetTick = now / tickMillis;
+            Timeout<K> registered;
+            while ((registered = registrations.poll()) != null) {
+                place(registered, currentTick);
+            }
+            if (targetTick - currentTick >= wheelSize) {
+                // 지연·시계 변경으로 한 바퀴 이상 건너뛴 경우 틱마다 따라잡지 않고 전체를 다시 배치
+                rebuild(targetTick, now);
+            } else {
+                for (long tick = currentTick; tick <= targetTick; tick++) {
+                    advance(tick, now);
+                }
+            }
+            currentTick = Math.max(currentTick, targetTick + 1);
+        } catch (RuntimeException e) {
+            log.warn("타이밍 휠 만료 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    long cascaded() {
+        return cascaded;
+    }
+
+    /**
+     * 높은 단계부터 구간이 시작되는 슬롯을 아래로 옮긴 뒤, 마지막 단계 슬롯의 만료 항목을 전달
+     */
+    private void advance(long tick, long now) {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if (Math.floorMod(tick, spans[level]) == 0) {
+                cascade(wheels[level][slotOf(tick, level)], tick);
+            }
+        }
+        expireSlot(wheels[0][slotOf(tick, 0)], tick, now);
+    }
+
+    private void cascade(Queue<Timeout<K>> slot, long tick) {
+        int pending = slot.size();
+        for (int i = 0; i < pending; i++) {
+            Timeout<K> timeout = slot.poll();
+            if (timeout == null) {
+                return;
+            }
+            place(timeout, tick);
+            cascaded++;
+        }
+    }
+
+    private void expireSlot(Queue<Timeout<K>> slot, long tick, long now) {
+        int pending = slot.size();
+        for (int i = 0; i < pending; i++) {
+            Timeout<K> timeout = slot.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.expiresAtMillis() <= now) {
+                listener.expired(timeout.key(), timeout.expiresAtMillis());
+            } else {
+                // 현재 틱보다 늦게 만료될 항목은 기준 틱에 맞는 단계로 다시 배치
+                place(timeout, tick + 1);
+            }
+        }
+    }
+
+    private void rebuild(long targetTick, long now) {
+        for (int level = 0; level < LEVELS; level++) {
+            for (Queue<Timeout<K>> slot : wheels[level]) {
+                int pending = slot.size();
+                for (int i = 0; i < pending; i++) {
+                    Timeout<K> timeout = slot.poll();
+                    if (timeout == null) {
+                        break;
+                    }
+                    if (timeout.expiresAtMillis() <= now) {
+                        listener.expired(timeout.key(), timeout.expiresAtMillis());
+                    } else {
+                        place(timeout, targetTick + 1);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 기준 틱과 만료 틱이 처음 달라지는 가장 높은 단계의 슬롯에 배치
+     *
+     * @param fromTick 이 틱 이전에 만료될 항목은 이 틱에 배치
+     */
+    private void place(Timeout<K> timeout, long fromTick) {
+        long expiresTick = Math.max(timeout.expiresAtMillis() / tickMillis, fromTick);
+        int level = LEVELS - 1;
+        while (level > 0 && expiresTick / spans[level] == fromTick / spans[level]) {
+            level--;
+        }
+        wheels[level][slotOf(expiresTick, level)].add(timeout);
+    }
+
+    private int slotOf(long tick, int level) {
+        return (int) Math.floorMod(tick / spans[level], (long) wheelSize);
+    }
+
+    @Override
+    public void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.trekker.global.auth.store;
+
+import com.trekker.global.auth.dto.RefreshTokenInfoDto;
+import com.trekker.global.auth.dto.res.AuthResDto;
+import java.util.Map;
+
+/**
+ * 인증 토큰 저장소
+ * <p>
+ * Refresh 토큰과 권한, 회원별 토큰 폐기 기준 시각, 최종 토큰 발급 전 임시 토큰을 관리한다.
+ * token-store.type 설정으로 Redis(기본) 또는 단일 인스턴스용 인메모리 구현을 선택한다.
+ */
+public interface TokenStore {
+
+    /**
+     * Refresh 토큰과 사용자 권한 정보 저장 (기존 토큰은 대체)
+     */
+    void storeRefreshToken(RefreshTokenInfoDto tokenData);
+
+    /**
+     * 저장된 Refresh 토큰과 일치하면 권한 정보 조회
+     *
+     * @return 일치하면 사용자 권한 정보, 없거나 일치하지 않으면 null
+     */
+    String findAuthorities(String userAccount, String refreshToken);
+
+    /**
+     * 저장된 Refresh 토큰이 현재 토큰과 일치할 때만 새 토큰으로 교체
+     *
+     * @return 교체에 성공하면 사용자 권한 정보, 일치하지 않으면 null
+     */
+    String rotateRefreshToken(String userAccount, String currentRefreshToken,
+            String newRefreshToken);
+
+    /**
+     * 회원의 토큰 폐기 기준 시각을 기록하고 Refresh 토큰 삭제
+     *
+     * @param epochMillis 이 시각(밀리초) 이전에 발급된 토큰은 무효
+     */
+    void logoutTokens(String userId, long epochMillis);
+
+    /**
+     * 모든 회원의 토큰 폐기 기준 시각(밀리초) 조회
+     */
+    Map<String, Long> findRevocationEpochs();
+
+    /**
+     * 최종 토큰 응답을 저장하고 임시 토큰 발급
+     */
+    String storeAuthResponseWithTempToken(AuthResDto authResDto);
+
+    /**
+     * 임시 토큰으로 최종 토큰 응답을 조회하고 삭제 (한 번만 조회 가능)
+     */
+    AuthResDto retrieveAuthResponse(String tempToken);
+}
@@ -0,0 +1,106 @@
+package com.trekker.global.config.http;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 대상별로 격리된 외부 HTTP 클라이언트
+ * <p>
+ * 대상마다 keep-alive 커넥션 풀과 제한 시간을 따로 두고, 동시 호출 수를 bulkhead로 제한한다.
+ * 동시 호출 수가 가득 차면 기다리지 않고 {@link BulkheadFullException}을 던진다.
+ * 호출 지연 시간과 결과는 http.outbound.requests 메트릭으로 기록한다.
+ */
+@Slf4j
+public class OutboundHttpClient implements AutoCloseable {
+
+    private static final String REQUEST_TIMER = "http.outbound.requests";
+    // 커넥션 풀 대기 시간 (동시 호출 수가 풀 크기로 제한되므로 짧게 설정)
+    private static final Timeout CONNECTION_REQUEST_TIMEOUT = Timeout.ofMilliseconds(200);
+    private static final TimeValue IDLE_EVICTION = TimeValue.ofSeconds(30);
+
+    private final String name;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    public OutboundHttpClient(String name, OutboundHttpSettings settings,
+            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.meterRegistry = meterRegistry;
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(settings.maxConcurrentCalls())
+                        .setMaxConnPerRoute(settings.maxConcurrentCalls())
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(toTimeout(settings.connectTimeout()))
+                                .setSocketTimeout(toTimeout(settings.responseTimeout()))
+                                .build())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT)
+                        .setResponseTimeout(toTimeout(settings.responseTimeout()))
+                        .build())
+                .evictIdleConnections(IDLE_EVICTION)
+                .evictExpiredConnections()
+                .build();
+        this.restTemplate = new RestTemplate(
+                new HttpComponentsClientHttpRequestFactory(httpClient));
+        this.bulkhead = Bulkhead.of(name, BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.maxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+    }
+
+    /**
+     * 동시 호출 수 제한과 메트릭 기록을 적용하여 요청 실행
+     *
+     * @param request RestTemplate으로 요청을 보내는 함수
+     * @return 요청 결과
+     */
+    public <T> T execute(Function<RestTemplate, T> request) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = bulkhead.executeSupplier(() -> request.apply(restTemplate));
+            outcome = "success";
+            return result;
+        } catch (BulkheadFullException e) {
+            outcome = "rejected";
+            log.warn("외부 호출 동시 실행 한도 초과: {}", name);
+            throw e;
+        } finally {
+            Timer.builder(REQUEST_TIMER)
+                    .tag("target", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -0,0 +1,60 @@
+package com.trekker.global.config.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 HTTP 호출 대상별 클라이언트 모음
+ */
+@Slf4j
+@Component
+public class OutboundHttpClients implements DisposableBean {
+
+    private static final String PROPERTY_PREFIX = "outbound.";
+
+    private final Map<OutboundTarget, OutboundHttpClient> clients =
+            new EnumMap<>(OutboundTarget.class);
+
+    public OutboundHttpClients(Environment environment, MeterRegistry meterRegistry) {
+        for (OutboundTarget target : OutboundTarget.values()) {
+            clients.put(target, new OutboundHttpClient(target.getName(),
+                    settingsOf(target, environment), meterRegistry));
+        }
+    }
+
+    /**
+     * 대상의 클라이언트 조회
+     */
+    public OutboundHttpClient get(OutboundTarget target) {
+        return clients.get(target);
+    }
+
+    @Override
+    public void destroy() {
+        for (OutboundHttpClient client : clients.values()) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                log.warn("외부 HTTP 클라이언트 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private OutboundHttpSettings settingsOf(OutboundTarget target, Environment environment) {
+        String prefix = PROPERTY_PREFIX + target.getName() + ".";
+        return new OutboundHttpSettings(
+                Duration.ofMillis(environment.getProperty(prefix + "connect-timeout-millis",
+                        Long.class, target.getConnectTimeoutMillis())),
+                Duration.ofMillis(environment.getProperty(prefix + "response-timeout-millis",
+                        Long.class, target.getResponseTimeoutMillis())),
+                environment.getProperty(prefix + "max-concurrent-calls",
+                        Integer.class, target.getMaxConcurrentCalls()));
+    }
+}
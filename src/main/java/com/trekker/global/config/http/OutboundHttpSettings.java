@@ -0,0 +1,15 @@
+package com.trekker.global.config.http;
+
+import java.time.Duration;
+
+/**
+ * 외부 HTTP 호출 대상별 설정
+ *
+ * @param connectTimeout     연결 수립 제한 시간
+ * @param responseTimeout    응답 대기 제한 시간
+ * @param maxConcurrentCalls 동시 호출 수 (커넥션 풀 크기와 같음)
+ */
+public record OutboundHttpSettings(Duration connectTimeout, Duration responseTimeout,
+                                   int maxConcurrentCalls) {
+
+}
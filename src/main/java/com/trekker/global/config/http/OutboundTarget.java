@@ -0,0 +1,26 @@
+package com.trekker.global.config.http;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 HTTP 호출 대상
+ * <p>
+ * 대상마다 커넥션 풀, 제한 시간, 동시 호출 수 제한(bulkhead)을 따로 두어
+ * 한 제공자가 느려져도 다른 제공자 호출과 요청 스레드에 영향을 주지 않게 한다.
+ * 기본값은 outbound.{name}.* 설정으로 변경할 수 있다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboundTarget {
+    GOOGLE_TOKEN_INFO("google-tokeninfo", 1_000, 2_000, 20),
+    GOOGLE_JWKS("google-jwks", 1_000, 2_000, 2),
+    KAKAO_UNLINK("kakao-unlink", 1_000, 3_000, 10),
+    GOOGLE_REVOKE("google-revoke", 1_000, 3_000, 10);
+
+    // 설정 키 및 메트릭 태그
+    private final String name;
+    private final long connectTimeoutMillis;
+    private final long responseTimeoutMillis;
+    private final int maxConcurrentCalls;
+}
@@ -0,0 +1,174 @@
+package com.trekker.global.config.jpa;
+
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 서로 독립적인 읽기 쿼리를 가상 스레드에서 동시에 실행
+ * <p>
+ * {@link #open()}으로 연 범위 안에서 fork한 쿼리는 join에서 모두 끝날 때까지 기다리며,
+ * 하나라도 실패하거나 제한 시간을 넘기면 나머지를 취소하고 예외를 던진다.
+ * 동시에 실행되는 쿼리 수는 애플리케이션 전체에서 세마포어로 제한하여
+ * 커넥션 풀을 fork한 쿼리가 모두 차지하지 않도록 한다.
+ * <p>
+ * 호출한 스레드가 트랜잭션으로 커넥션을 잡은 채 fork한 쿼리를 기다리면, 동시 호출이 풀 크기에 이르렀을 때
+ * fork한 쿼리가 커넥션을 얻지 못해 모두 제한 시간을 넘긴다. 그래서 트랜잭션 안이나 스레드에 엔티티 매니저·커넥션이
+ * 바인딩된 상태(OSIV 등)에서는 범위를 열 수 없고, 풀은 fork한 쿼리(허가 수)와 그 외 요청이 나눠 쓴다.
+ * <p>
+ * fork한 쿼리는 호출한 스레드의 트랜잭션 밖에서 실행되므로 엔티티 지연 로딩 없이 결과가 완성되는 조회에만 사용한다.
+ */
+@Slf4j
+@Component
+public class ParallelQueryExecutor implements DisposableBean {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final long timeoutNanos;
+
+    public ParallelQueryExecutor(
+            @Value("${query.parallel.max-permits:4}") int maxPermits,
+            @Value("${query.parallel.timeout-millis:3000}") long timeoutMillis) {
+        this.permits = new Semaphore(maxPermits);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * 쿼리를 fork할 범위를 연다. (try-with-resources로 사용)
+     *
+     * @throws IllegalStateException 트랜잭션 안이거나 스레드에 엔티티 매니저·커넥션이 바인딩된 경우
+     */
+    public Scope open() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("트랜잭션 안에서는 병렬 쿼리를 실행할 수 없습니다.");
+        }
+        if (holdsConnectionResource()) {
+            throw new IllegalStateException("커넥션을 잡은 스레드에서는 병렬 쿼리를 실행할 수 없습니다.");
+        }
+        return new Scope(System.nanoTime() + timeoutNanos);
+    }
+
+    // OSIV 세션이나 트랜잭션 밖에서 바인딩한 커넥션은 트랜잭션 활성 여부로 알 수 없으므로 리소스로 확인
+    private static boolean holdsConnectionResource() {
+        return TransactionSynchronizationManager.getResourceMap().values().stream()
+                .anyMatch(resource -> resource instanceof EntityManagerHolder
+                        || resource instanceof ConnectionHolder);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final long deadline;
+        private final List<Future<?>> tasks = new ArrayList<>();
+        private final List<CompletableFuture<?>> results = new ArrayList<>();
+        // 첫 번째 실패로 완료되어 join이 나머지 쿼리를 기다리지 않도록 함
+        private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+        private Scope(long deadline) {
+            this.deadline = deadline;
+        }
+
+        /**
+         * 쿼리를 가상 스레드에서 실행한다.
+         *
+         * @param query 실행할 쿼리
+         * @return join 이후 쿼리 결과를 반환하는 Supplier
+         */
+        public <T> Supplier<T> fork(Callable<T> query) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            results.add(result);
+            tasks.add(executor.submit(() -> {
+                try {
+                    if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                        throw new TimeoutException("쿼리 실행 허가를 얻지 못했습니다.");
+                    }
+                    try {
+                        result.complete(query.call());
+                    } finally {
+                        permits.release();
+                    }
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                    firstFailure.completeExceptionally(e);
+                }
+            }));
+            return result::join;
+        }
+
+        /**
+         * fork한 쿼리가 모두 끝날 때까지 기다린다.
+         * <p>
+         * 쿼리가 던진 RuntimeException은 그대로 다시 던지고, 제한 시간을 넘기면 QUERY_TIMEOUT 예외를 던진다.
+         */
+        public void join() {
+            CompletableFuture<Void> all = CompletableFuture.allOf(
+                    results.toArray(CompletableFuture[]::new));
+            try {
+                CompletableFuture.anyOf(all, firstFailure)
+                        .get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException | CompletionException e) {
+                cancelAll();
+                throw rethrow(e.getCause());
+            } catch (TimeoutException e) {
+                cancelAll();
+                log.warn("병렬 쿼리 제한 시간 초과");
+                throw new BusinessException(ErrorCode.QUERY_TIMEOUT);
+            } catch (InterruptedException e) {
+                cancelAll();
+                Thread.currentThread().interrupt();
+                throw new BusinessException(ErrorCode.QUERY_TIMEOUT);
+            }
+        }
+
+        /**
+         * 끝나지 않은 쿼리를 취소한다. (join 없이 범위를 벗어나는 경우)
+         */
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            for (Future<?> task : tasks) {
+                task.cancel(true);
+            }
+        }
+
+        private RuntimeException rethrow(Throwable cause) {
+            if (cause instanceof TimeoutException) {
+                log.warn("병렬 쿼리 실행 허가 대기 시간 초과");
+                return new BusinessException(ErrorCode.QUERY_TIMEOUT);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            return new IllegalStateException(cause);
+        }
+    }
+}
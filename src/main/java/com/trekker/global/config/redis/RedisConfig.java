@@ -1,12 +1,21 @@
 package com.trekker.global.config.redis;
 
+import com.trekker.global.config.redis.dao.RedisRepository;
+import com.trekker.global.config.security.revocation.RevokedTokenSubscriber;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -18,9 +27,17 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    // Redis 지연 시 요청 스레드가 오래 대기하지 않도록 명령 대기 시간을 짧게 제한
+    @Value("${token-store.redis.command-timeout-millis:300}")
+    private long commandTimeoutMillis;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(commandTimeoutMillis))
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port),
+                clientConfiguration);
     }
 
     @Bean
@@ -43,4 +60,38 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    /**
+     * 인증 정보 전용 RedisTemplate
+     * <p>
+     * 값은 AuthRedisCodec으로 직접 인코딩한 바이트 배열을 그대로 저장한다.
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> authRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory) {
+
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+        return redisTemplate;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "token-store.type", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            RevokedTokenSubscriber revokedTokenSubscriber) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+
+        // 로그아웃된 토큰 다이제스트 구독
+        container.addMessageListener(revokedTokenSubscriber,
+                new ChannelTopic(RedisRepository.REVOKED_TOKEN_CHANNEL));
+
+        return container;
+    }
 }
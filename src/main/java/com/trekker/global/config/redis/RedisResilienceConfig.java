@@ -0,0 +1,72 @@
+package com.trekker.global.config.redis;
+
+import com.trekker.global.auth.store.ResilientTokenStore;
+import com.trekker.global.auth.store.TokenStore;
+import com.trekker.global.config.redis.dao.RedisRepository;
+import com.trekker.global.exception.custom.BusinessException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Redis 토큰 저장소 차단기 설정
+ * <p>
+ * 최근 호출 중 실패하거나 느린 호출의 비율이 기준을 넘으면 차단기를 열어 요청 스레드가 Redis를 기다리지 않게 한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "token-store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisResilienceConfig {
+
+    @Value("${token-store.circuit-breaker.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${token-store.circuit-breaker.minimum-calls:10}")
+    private int minimumNumberOfCalls;
+
+    @Value("${token-store.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${token-store.circuit-breaker.slow-call-millis:100}")
+    private long slowCallMillis;
+
+    @Value("${token-store.circuit-breaker.open-millis:5000}")
+    private long openMillis;
+
+    @Value("${token-store.near-cache.ttl-seconds:30}")
+    private long nearCacheTtlSeconds;
+
+    @Value("${token-store.near-cache.max-size:10000}")
+    private long nearCacheMaxSize;
+
+    @Bean
+    public CircuitBreaker tokenStoreCircuitBreaker() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMillis))
+                .waitDurationInOpenState(Duration.ofMillis(openMillis))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                // 잘못된 토큰 등 비즈니스 오류는 저장소 장애가 아님
+                .ignoreExceptions(BusinessException.class)
+                .build();
+        return CircuitBreaker.of("tokenStore", config);
+    }
+
+    @Bean
+    @Primary
+    public TokenStore resilientTokenStore(RedisRepository redisRepository,
+            CircuitBreaker tokenStoreCircuitBreaker, MeterRegistry meterRegistry) {
+        return new ResilientTokenStore(redisRepository, tokenStoreCircuitBreaker, meterRegistry,
+                Duration.ofSeconds(nearCacheTtlSeconds), nearCacheMaxSize);
+    }
+}
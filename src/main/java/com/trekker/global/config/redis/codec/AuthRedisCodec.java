@@ -0,0 +1,127 @@
+package com.trekker.global.config.redis.codec;
+
+import com.trekker.global.auth.dto.res.AuthResDto;
+import com.trekker.global.util.token.TokenDigest;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인증 관련 Redis 값의 고정 바이너리 인코딩 유틸리티 클래스
+ * <p>
+ * 모든 값은 첫 바이트에 형식 버전을 기록하며, 클래스 이름 등 메타데이터 없이 필요한 필드만 저장한다.
+ * <ul>
+ *     <li>Refresh 토큰: [버전][토큰 SHA-256 32바이트][권한 UTF-8]</li>
+ *     <li>임시 토큰 응답: [버전][플래그][길이 varint][Access 토큰][길이 varint][Refresh 토큰]</li>
+ * </ul>
+ * Refresh 토큰은 일치 여부만 확인하므로 원문 대신 다이제스트만 저장한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AuthRedisCodec {
+
+    public static final byte VERSION = 1;
+    public static final int REFRESH_TOKEN_HEADER_LENGTH = 1 + 32;
+    private static final int FLAG_REFRESH_TOKEN_WILL_EXPIRE = 1;
+
+    /**
+     * Refresh 토큰 값의 헤더(버전 + 다이제스트) 생성
+     */
+    public static byte[] encodeRefreshTokenHeader(String refreshToken) {
+        return ByteBuffer.allocate(REFRESH_TOKEN_HEADER_LENGTH)
+                .put(VERSION)
+                .put(TokenDigest.sha256Bytes(refreshToken))
+                .array();
+    }
+
+    /**
+     * Refresh 토큰 값 인코딩
+     */
+    public static byte[] encodeRefreshToken(String refreshToken, String authorities) {
+        byte[] authorityBytes = authorities.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(REFRESH_TOKEN_HEADER_LENGTH + authorityBytes.length)
+                .put(encodeRefreshTokenHeader(refreshToken))
+                .put(authorityBytes)
+                .array();
+    }
+
+    /**
+     * 저장된 값이 주어진 Refresh 토큰의 것인지 확인
+     */
+    public static boolean matchesRefreshToken(byte[] stored, String refreshToken) {
+        return stored != null && stored.length >= REFRESH_TOKEN_HEADER_LENGTH
+                && Arrays.equals(stored, 0, REFRESH_TOKEN_HEADER_LENGTH,
+                encodeRefreshTokenHeader(refreshToken), 0, REFRESH_TOKEN_HEADER_LENGTH);
+    }
+
+    /**
+     * 저장된 Refresh 토큰 값에서 권한 정보 추출
+     */
+    public static String decodeAuthorities(byte[] stored) {
+        return new String(stored, REFRESH_TOKEN_HEADER_LENGTH,
+                stored.length - REFRESH_TOKEN_HEADER_LENGTH, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 임시 토큰 응답 인코딩
+     */
+    public static byte[] encodeAuthResponse(AuthResDto authResDto) {
+        byte[] accessToken = authResDto.accessToken().getBytes(StandardCharsets.UTF_8);
+        byte[] refreshToken = authResDto.refreshToken().getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                2 + 10 + accessToken.length + refreshToken.length);
+        out.write(VERSION);
+        out.write(authResDto.refreshTokenWillExpire() ? FLAG_REFRESH_TOKEN_WILL_EXPIRE : 0);
+        writeVarInt(out, accessToken.length);
+        out.writeBytes(accessToken);
+        writeVarInt(out, refreshToken.length);
+        out.writeBytes(refreshToken);
+        return out.toByteArray();
+    }
+
+    /**
+     * 임시 토큰 응답 디코딩
+     */
+    public static AuthResDto decodeAuthResponse(byte[] stored) {
+        ByteBuffer buffer = ByteBuffer.wrap(stored);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 인코딩 버전: " + version);
+        }
+        boolean refreshTokenWillExpire = (buffer.get() & FLAG_REFRESH_TOKEN_WILL_EXPIRE) != 0;
+        String accessToken = readString(buffer);
+        String refreshToken = readString(buffer);
+        return new AuthResDto(accessToken, refreshToken, refreshTokenWillExpire);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = readVarInt(buffer);
+        String value = new String(buffer.array(), buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
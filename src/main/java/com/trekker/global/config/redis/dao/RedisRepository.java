@@ -2,114 +2,279 @@ package com.trekker.global.config.redis.dao;
 
 import com.trekker.global.auth.dto.RefreshTokenInfoDto;
 import com.trekker.global.auth.dto.res.AuthResDto;
+import com.trekker.global.auth.store.ResilientTokenStore;
+import com.trekker.global.auth.store.TokenStore;
+import com.trekker.global.config.redis.codec.AuthRedisCodec;
+import com.trekker.global.config.security.TokenProvider;
+import com.trekker.global.config.security.revocation.RevocationEpochCache;
+import com.trekker.global.util.token.TokenDigest;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.HashOperations;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+/**
+ * 인증 정보 Redis 저장소 (기본 토큰 저장소)
+ * <p>
+ * 키는 용도별 짧은 접두사로 구분하고, 값은 {@link AuthRedisCodec}으로 인코딩한다.
+ * <ul>
+ *     <li>rt:{memberId} - Refresh 토큰 다이제스트와 권한</li>
+ *     <li>tt:{임시 토큰 다이제스트} - 최종 토큰 발급 전 임시 응답</li>
+ *     <li>re:{memberId} - 토큰 폐기 기준 시각(밀리초, 이전 형식은 초)</li>
+ * </ul>
+ * 이전 형식(JSON 값, 회원 ID·임시 토큰 원문 키)은 조회 시 함께 확인하며,
+ * Refresh 토큰은 조회 시 새 형식으로 옮긴다. 이전 형식은 최대 7일 후 모두 만료된다.
+ * <p>
+ * 요청 처리 중 발생한 Redis 오류는 그대로 전달하며,
+ * 차단·대체 처리는 {@link ResilientTokenStore}가 담당한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class RedisRepository {
+@ConditionalOnProperty(name = "token-store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisRepository implements TokenStore {
 
+    private final RedisTemplate<String, byte[]> authRedisTemplate;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
     private static final int TEMP_TOKEN_EXPIRATION = 300;
+    private static final long REFRESH_TOKEN_EXPIRATION = TimeUnit.DAYS.toMillis(7);
+    private static final String REFRESH_TOKEN_PREFIX = "rt:";
+    private static final String TEMP_TOKEN_PREFIX = "tt:";
+    private static final String REVOCATION_EPOCH_PREFIX = "re:";
+    private static final String LEGACY_REVOCATION_EPOCH_PREFIX = "revoke-epoch:";
+    private static final String LEGACY_REFRESH_TOKEN_FIELD = "refreshToken";
+    private static final String LEGACY_AUTHORITIES_FIELD = "authorities";
+    private static final String OPERATION_TIMER = "redis.auth.operation";
+    public static final String REVOKED_TOKEN_CHANNEL = "token:revoked";
+    private static final RedisSerializer<Long> LONG_SERIALIZER =
+            new GenericToStringSerializer<>(Long.class);
+
+    // 새 형식으로 저장하면서 이전 형식의 해시를 함께 삭제
+    private static final RedisScript<Long> STORE_REFRESH_TOKEN_SCRIPT =
+            new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            redis.call('DEL', KEYS[2])
+            return 1
+            """, Long.class);
+
+    // 저장된 헤더(버전 + 다이제스트)가 일치할 때만 교체하고 권한 정보 반환 (불일치 시 nil)
+    private static final RedisScript<String> ROTATE_REFRESH_TOKEN_SCRIPT =
+            new DefaultRedisScript<>("""
+            local stored = redis.call('GET', KEYS[1])
+            if not stored or string.sub(stored, 1, 33) ~= ARGV[1] then
+                return nil
+            end
+            local authorities = string.sub(stored, 34)
+            redis.call('SET', KEYS[1], ARGV[2] .. authorities, 'PX', ARGV[3])
+            return authorities
+            """, String.class);
+
+    // 폐기 기준 시각 기록, Refresh 토큰 삭제, 다른 인스턴스로 발행을 한 번에 수행
+    private static final RedisScript<Long> LOGOUT_SCRIPT =
+            new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            redis.call('DEL', KEYS[2], KEYS[3])
+            redis.call('PUBLISH', ARGV[3], ARGV[4])
+            return 1
+            """, Long.class);
 
     /**
      * Refresh 토큰과 사용자 정보를 Redis에 저장
      */
+    @Override
     public void storeRefreshToken(RefreshTokenInfoDto tokenData) {
-        try {
-            // 기존 데이터 삭제
-            redisTemplate.delete(tokenData.userAccount());
+        timed("storeRefreshToken", () -> authRedisTemplate.execute(
+                STORE_REFRESH_TOKEN_SCRIPT,
+                RedisSerializer.byteArray(),
+                LONG_SERIALIZER,
+                List.of(REFRESH_TOKEN_PREFIX + tokenData.userAccount(),
+                        tokenData.userAccount()),
+                AuthRedisCodec.encodeRefreshToken(tokenData.refreshToken(),
+                        tokenData.authorities()),
+                toBytes(REFRESH_TOKEN_EXPIRATION)));
+    }
 
-            HashOperations<String, Object, Object> hashOperations = redisTemplate.opsForHash();
-            hashOperations.putAll(tokenData.userAccount(), createTokenDataMap(tokenData));
-            redisTemplate.expire(tokenData.userAccount(), 7, TimeUnit.DAYS);
-        } catch (Exception e) {
-            log.warn("Redis에 Refresh Token 저장 실패: {}", e.getMessage());
+    /**
+     * 저장된 Refresh 토큰과 일치하면 권한 정보 조회
+     *
+     * @return 일치하면 사용자 권한 정보, 없거나 일치하지 않으면 null
+     */
+    @Override
+    public String findAuthorities(String userAccount, String refreshToken) {
+        byte[] stored = timed("findRefreshToken", () -> authRedisTemplate.opsForValue()
+                .get(REFRESH_TOKEN_PREFIX + userAccount));
+        if (stored == null) {
+            return migrateLegacyRefreshToken(userAccount, refreshToken, refreshToken);
         }
+        return AuthRedisCodec.matchesRefreshToken(stored, refreshToken)
+                ? AuthRedisCodec.decodeAuthorities(stored) : null;
     }
 
     /**
-     * Refresh 토큰이 유효한지 확인
+     * 저장된 Refresh 토큰이 현재 토큰과 일치할 때만 새 토큰으로 교체
+     *
+     * @return 교체에 성공하면 사용자 권한 정보, 일치하지 않으면 null
      */
-    public boolean isValidRefreshToken(String userAccount, String refreshToken) {
-        try {
-            String storedRefreshToken = (String) redisTemplate.opsForHash()
-                    .get(userAccount, "refreshToken");
-            return storedRefreshToken.equals(refreshToken);
-        } catch (Exception e) {
-            log.warn("Redis에서 Refresh Token 검증 실패: {}", e.getMessage());
-            return false;
+    @Override
+    public String rotateRefreshToken(String userAccount, String currentRefreshToken,
+            String newRefreshToken) {
+        String authorities = timed("rotateRefreshToken", () -> authRedisTemplate.execute(
+                ROTATE_REFRESH_TOKEN_SCRIPT,
+                RedisSerializer.byteArray(),
+                RedisSerializer.string(),
+                List.of(REFRESH_TOKEN_PREFIX + userAccount),
+                AuthRedisCodec.encodeRefreshTokenHeader(currentRefreshToken),
+                AuthRedisCodec.encodeRefreshTokenHeader(newRefreshToken),
+                toBytes(REFRESH_TOKEN_EXPIRATION)));
+        if (authorities != null) {
+            return authorities;
         }
+        return migrateLegacyRefreshToken(userAccount, currentRefreshToken, newRefreshToken);
     }
 
     /**
-     * 로그아웃 시 액세스 토큰과 리프레시 토큰을 블랙리스트에 추가
+     * 로그아웃 시 회원의 토큰 폐기 기준 시각을 기록하고 리프레시 토큰 삭제
+     * <p>
+     * 토큰마다 블랙리스트를 저장하는 대신, 기준 시각 이전에 발급된 모든 토큰을 무효로 처리한다.
      */
-    public void logoutTokens(String jwtToken, long accessTokenExpiration, String userId) {
-        try {
-            redisTemplate.opsForValue().set(
-                    jwtToken,
-                    "blacklisted",
-                    accessTokenExpiration,
-                    TimeUnit.MILLISECONDS);
-            redisTemplate.delete(userId);
-        } catch (Exception e) {
-            log.warn("Redis에서 로그아웃 처리 실패: {}", e.getMessage());
-        }
+    @Override
+    public void logoutTokens(String userId, long epochMillis) {
+        timed("logoutTokens", () -> authRedisTemplate.execute(
+                LOGOUT_SCRIPT,
+                RedisSerializer.byteArray(),
+                LONG_SERIALIZER,
+                List.of(REVOCATION_EPOCH_PREFIX + userId, REFRESH_TOKEN_PREFIX + userId,
+                        userId),
+                toBytes(epochMillis),
+                toBytes(TokenProvider.ACCESS_TOKEN_EXPIRATION),
+                REVOKED_TOKEN_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                (userId + ":" + epochMillis).getBytes(StandardCharsets.UTF_8)));
     }
 
     /**
-     * 사용자 권한 정보 가져오기
+     * 모든 회원의 토큰 폐기 기준 시각 조회
      */
-    public String getAuthorities(String userAccount) {
+    @Override
+    public Map<String, Long> findRevocationEpochs() {
+        Map<String, Long> epochs = new HashMap<>();
         try {
-            return (String) redisTemplate.opsForHash().get(userAccount, "authorities");
+            List<String> keys = scanKeys(authRedisTemplate, REVOCATION_EPOCH_PREFIX);
+            List<byte[]> values = keys.isEmpty()
+                    ? List.of() : authRedisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < keys.size(); i++) {
+                if (values != null && values.get(i) != null) {
+                    epochs.put(keys.get(i).substring(REVOCATION_EPOCH_PREFIX.length()),
+                            RevocationEpochCache.toEpochMillis(Long.parseLong(
+                                    new String(values.get(i), StandardCharsets.UTF_8))));
+                }
+            }
+
+            // 이전 형식 (JSON 숫자)
+            List<String> legacyKeys = scanKeys(redisTemplate, LEGACY_REVOCATION_EPOCH_PREFIX);
+            List<Object> legacyValues = legacyKeys.isEmpty()
+                    ? List.of() : redisTemplate.opsForValue().multiGet(legacyKeys);
+            for (int i = 0; i < legacyKeys.size(); i++) {
+                if (legacyValues != null && legacyValues.get(i) instanceof Number epochSeconds) {
+                    epochs.merge(
+                            legacyKeys.get(i).substring(LEGACY_REVOCATION_EPOCH_PREFIX.length()),
+                            TimeUnit.SECONDS.toMillis(epochSeconds.longValue()), Math::max);
+                }
+            }
         } catch (Exception e) {
-            log.warn("Redis에서 권한 정보 조회 실패: {}", e.getMessage());
-            return null;
+            log.warn("Redis에서 토큰 폐기 기준 시각 조회 실패: {}", e.getMessage());
         }
+        return epochs;
     }
 
     /**
      * 임시 토큰 저장
      */
+    @Override
     public String storeAuthResponseWithTempToken(AuthResDto authResDto) {
         String tempToken = UUID.randomUUID().toString();
-        try {
-            redisTemplate.opsForValue()
-                    .set(tempToken, authResDto, TEMP_TOKEN_EXPIRATION, TimeUnit.SECONDS);
-        } catch (Exception e) {
-            log.warn("Redis에 임시 토큰 저장 실패: {}", e.getMessage());
-        }
+        timed("storeAuthResponse", () -> {
+            authRedisTemplate.opsForValue().set(tempTokenKey(tempToken),
+                    AuthRedisCodec.encodeAuthResponse(authResDto),
+                    TEMP_TOKEN_EXPIRATION, TimeUnit.SECONDS);
+            return null;
+        });
         return tempToken;
     }
 
     /**
      * 임시 토큰 조회 및 삭제
+     * <p>
+     * GETDEL로 조회와 삭제를 원자적으로 수행하므로 같은 임시 토큰은 한 번만 사용할 수 있다.
      */
+    @Override
     public AuthResDto retrieveAuthResponse(String tempToken) {
-        try {
-            AuthResDto authResponse = (AuthResDto) redisTemplate.opsForValue().get(tempToken);
-            redisTemplate.delete(tempToken);
-            return authResponse;
-        } catch (Exception e) {
-            log.warn("Redis에서 임시 토큰 조회 실패: {}", e.getMessage());
+        byte[] stored = timed("retrieveAuthResponse",
+                () -> authRedisTemplate.opsForValue().getAndDelete(tempTokenKey(tempToken)));
+        if (stored != null) {
+            return AuthRedisCodec.decodeAuthResponse(stored);
+        }
+        // 이전 형식 (임시 토큰 원문 키, JSON 값)
+        return (AuthResDto) redisTemplate.opsForValue().getAndDelete(tempToken);
+    }
+
+    /**
+     * 이전 형식의 Refresh 토큰 해시를 확인하고, 일치하면 새 형식으로 옮김
+     *
+     * @return 일치하면 사용자 권한 정보, 없거나 일치하지 않으면 null
+     */
+    private String migrateLegacyRefreshToken(String userAccount, String presentedRefreshToken,
+            String refreshTokenToStore) {
+        List<Object> legacy = redisTemplate.opsForHash().multiGet(userAccount,
+                List.of(LEGACY_REFRESH_TOKEN_FIELD, LEGACY_AUTHORITIES_FIELD));
+        if (legacy == null || !presentedRefreshToken.equals(legacy.get(0))) {
             return null;
         }
+        String authorities = (String) legacy.get(1);
+        storeRefreshToken(new RefreshTokenInfoDto(userAccount, refreshTokenToStore, authorities));
+        return authorities;
+    }
+
+    private <V> List<String> scanKeys(RedisTemplate<String, V> template, String prefix) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(prefix + "*")
+                .count(1000)
+                .build();
+        try (Cursor<String> cursor = template.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    // 임시 토큰 원문이 키 목록에 노출되지 않도록 다이제스트로 키 생성
+    private String tempTokenKey(String tempToken) {
+        return TEMP_TOKEN_PREFIX + TokenDigest.shortSha256(tempToken);
+    }
+
+    // 연산별 지연 시간 기록
+    private <T> T timed(String operation, Supplier<T> supplier) {
+        return meterRegistry.timer(OPERATION_TIMER, "operation", operation).record(supplier);
     }
 
-    private HashMap<String, Object> createTokenDataMap(RefreshTokenInfoDto tokenData) {
-        HashMap<String, Object> tokenDataMap = new HashMap<>();
-        tokenDataMap.put("refreshToken", tokenData.refreshToken());
-        tokenDataMap.put("authorities", tokenData.authorities());
-        return tokenDataMap;
+    private byte[] toBytes(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.UTF_8);
     }
 }
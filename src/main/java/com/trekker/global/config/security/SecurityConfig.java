@@ -1,11 +1,12 @@
 package com.trekker.global.config.security;
 
 import com.trekker.global.auth.custom.CustomUserDetailsService;
-import com.trekker.global.config.redis.dao.RedisRepository;
+import com.trekker.global.config.security.cache.VerifiedTokenCache;
 import com.trekker.global.config.security.filter.JwtFilter;
 import com.trekker.global.config.security.handler.CustomAccessDeniedHandler;
 import com.trekker.global.config.security.handler.CustomAuthenticationEntryPoint;
 import com.trekker.global.config.security.handler.CustomLoginSuccessHandler;
+import com.trekker.global.config.security.revocation.TokenRevocationChecker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -30,7 +31,8 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 public class SecurityConfig {
 
     private final TokenProvider tokenProvider;
-    private final RedisRepository redisRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationChecker tokenRevocationChecker;
     private final CustomUserDetailsService customUserDetailsService;
     private final CustomLoginSuccessHandler loginSuccessHandler;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
@@ -72,7 +74,8 @@ public class SecurityConfig {
                         .userInfoEndpoint(
                                 userInfo -> userInfo.userService(customUserDetailsService))
                         .successHandler(loginSuccessHandler))
-                .addFilterBefore(new JwtFilter(tokenProvider, redisRepository),
+                .addFilterBefore(
+                        new JwtFilter(tokenProvider, verifiedTokenCache, tokenRevocationChecker),
                         UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
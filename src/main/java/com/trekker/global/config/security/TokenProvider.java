@@ -4,7 +4,7 @@ import com.trekker.global.auth.custom.CustomUserDetails;
 import com.trekker.global.auth.dto.RefreshTokenInfoDto;
 import com.trekker.global.auth.dto.res.AuthResDto;
 import com.trekker.global.auth.dto.res.RefreshTokenResDto;
-import com.trekker.global.config.redis.dao.RedisRepository;
+import com.trekker.global.auth.store.TokenStore;
 import com.trekker.global.exception.custom.BusinessException;
 import com.trekker.global.exception.enums.ErrorCode;
 import io.jsonwebtoken.*;
@@ -20,6 +20,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -28,16 +29,21 @@ import java.util.stream.Collectors;
 public class TokenProvider {
 
     private final Key key;
-    private final RedisRepository redisRepository;
-    private static final long ACCESS_TOKEN_EXPIRATION = 1000 * 60 * 30; // 30분
+    private final JwtParser jwtParser;
+    private final TokenStore tokenStore;
+    public static final long ACCESS_TOKEN_EXPIRATION = 1000 * 60 * 30; // 30분
     private static final long REFRESH_TOKEN_EXPIRATION = 1000 * 60 * 60 * 24 * 7; // 7일
+    // 밀리초 단위 발급 시각 (iat는 초 단위라 로그아웃과 같은 초에 발급된 토큰을 구분할 수 없음)
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iatm";
 
     @Autowired
     public TokenProvider(@Value("${jwt.secret}") String secretKey,
-            RedisRepository redisRepository) {
+            TokenStore tokenStore) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
-        this.redisRepository = redisRepository;
+        // JwtParser는 불변 객체이므로 한 번만 생성해 재사용
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.tokenStore = tokenStore;
     }
 
     /**
@@ -51,14 +57,14 @@ public class TokenProvider {
         String accessToken = createToken(authentication.getName(), roles, ACCESS_TOKEN_EXPIRATION);
         String refreshToken = createToken(authentication.getName(), null, REFRESH_TOKEN_EXPIRATION);
 
-        // Redis에 Refresh 토큰 저장을 위해 RefreshTokenInfoDto 생성
+        // 토큰 저장소에 Refresh 토큰 저장을 위해 RefreshTokenInfoDto 생성
         RefreshTokenInfoDto refreshTokenInfoDto = new RefreshTokenInfoDto(
                 authentication.getName(),
                 refreshToken,
                 roles
         );
-        // Redis에 Refresh 토큰 저장
-        redisRepository.storeRefreshToken(refreshTokenInfoDto);
+        // 토큰 저장소에 Refresh 토큰 저장
+        tokenStore.storeRefreshToken(refreshTokenInfoDto);
 
         return new AuthResDto(accessToken, refreshToken, false);
     }
@@ -72,6 +78,7 @@ public class TokenProvider {
 
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
+        claims.put(ISSUED_AT_MILLIS_CLAIM, now.getTime());
 
         return Jwts.builder()
                 .setClaims(claims)
@@ -85,30 +92,28 @@ public class TokenProvider {
      * Refresh 토큰을 이용한 Access 토큰 갱신
      */
     public AuthResDto refreshAccessToken(String refreshToken) {
-        // 1. 토큰 유효성 검사
-        validateToken(refreshToken);
+        // 1. 토큰 유효성 검사 및 Claims 추출
+        Claims claims = verifyRefreshToken(refreshToken);
 
         // 2. 토큰에서 사용자 ID 추출
-        String userId = getUserIdFromToken(refreshToken);
+        String userId = claims.getSubject();
 
-        // 3. Redis에서 Refresh 토큰 유효성 검사
-        if (!redisRepository.isValidRefreshToken(userId, refreshToken)) {
+        // 3. 토큰 저장소에서 Refresh 토큰 유효성 검사와 권한 정보 조회를 한 번에 수행
+        String authorities = tokenStore.findAuthorities(userId, refreshToken);
+        if (authorities == null) {
             throw new BusinessException(refreshToken, "refreshToken",
                     ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // 4. Redis에서 사용자 권한 정보 추출
-        String authorities = redisRepository.getAuthorities(userId);
-
-        // 5. Refresh 토큰의 남은 만료 시간 확인
-        long remainingTime = getExpiration(refreshToken);
+        // 4. Refresh 토큰의 남은 만료 시간 확인
+        long remainingTime = claims.getExpiration().getTime() - System.currentTimeMillis();
         // 남은 시간이 전체 만료시간의 30%보다 적은 경우, 만료 임박 상태로 간주
         boolean refreshTokenWillExpire = remainingTime < (REFRESH_TOKEN_EXPIRATION * 0.3);
 
-        // 6. 새로운 Access 토큰 생성
+        // 5. 새로운 Access 토큰 생성
         String newAccessToken = createToken(userId, authorities, ACCESS_TOKEN_EXPIRATION);
 
-        // 7. 새로운 AuthResponseDto 반환 (기존 Refresh 토큰 유지)
+        // 6. 새로운 AuthResponseDto 반환 (기존 Refresh 토큰 유지)
         return new AuthResDto(newAccessToken, refreshToken, refreshTokenWillExpire);
     }
 
@@ -119,33 +124,33 @@ public class TokenProvider {
      * @return 새로 생성된 Refresh 토큰
      */
     public RefreshTokenResDto reissueRefreshToken(String currentRefreshToken) {
-        // 1. 기존 Refresh 토큰 유효성 검사
-        validateToken(currentRefreshToken);
+        // 1. 기존 Refresh 토큰 유효성 검사 및 사용자 ID 추출
+        String userId = verifyRefreshToken(currentRefreshToken).getSubject();
 
-        // 2. 사용자 ID 추출
-        String userId = getUserIdFromToken(currentRefreshToken);
+        // 2. 새로운 Refresh 토큰 생성
+        String newRefreshToken = createToken(userId, null, REFRESH_TOKEN_EXPIRATION);
 
-        // 3. Redis에서 기존 Refresh 토큰 유효성 검사
-        if (!redisRepository.isValidRefreshToken(userId, currentRefreshToken)) {
+        // 3. 토큰 저장소에 저장된 토큰이 기존 토큰과 일치할 때만 원자적으로 교체
+        String authorities = tokenStore.rotateRefreshToken(userId, currentRefreshToken,
+                newRefreshToken);
+        if (authorities == null) {
             throw new BusinessException(currentRefreshToken, "refreshToken",
                     ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // 4. 새로운 Refresh 토큰 생성
-        String newRefreshToken = createToken(userId, null, REFRESH_TOKEN_EXPIRATION);
-
-        // 5. Redis에 새 Refresh 토큰 저장
-        RefreshTokenInfoDto refreshTokenInfoDto = new RefreshTokenInfoDto(
-                userId,
-                newRefreshToken,
-                redisRepository.getAuthorities(userId) // 사용자 권한 정보 가져오기
-        );
-        redisRepository.storeRefreshToken(refreshTokenInfoDto);
-
-        // 6. 새 Refresh 토큰 반환
+        // 4. 새 Refresh 토큰 반환
         return new RefreshTokenResDto(newRefreshToken);
     }
 
+    // Refresh 토큰 검증 (유효하지 않으면 예외)
+    private Claims verifyRefreshToken(String refreshToken) {
+        Claims claims = verifyToken(refreshToken);
+        if (claims == null) {
+            throw new BusinessException(refreshToken, "refreshToken",
+                    ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        return claims;
+    }
 
     // 토큰에서 사용자 ID 추출
     public String getUserIdFromToken(String token) {
@@ -159,11 +164,26 @@ public class TokenProvider {
      * @return Authentication 객체
      */
     public Authentication getAuthentication(String token) {
+        return getAuthentication(parseClaims(token), token);
+    }
+
+    /**
+     * 이미 검증된 Claims로부터 Authentication 객체 생성
+     *
+     * @param claims 검증된 토큰의 Claims
+     * @param token  JWT 토큰
+     * @return Authentication 객체 (권한 정보가 없는 토큰이면 null)
+     */
+    public Authentication getAuthentication(Claims claims, String token) {
         // 1. 토큰에서 사용자 정보 추출
-        Claims claims = parseClaims(token);
         String id = claims.getSubject();
         String roles = claims.get("roles", String.class);
 
+        // Refresh 토큰처럼 권한 정보가 없는 토큰은 인증에 사용할 수 없음
+        if (roles == null) {
+            return null;
+        }
+
         // 2. 권한 정보 설정
         Collection<GrantedAuthority> authorities = Arrays.stream(roles.split(","))
                 .map(SimpleGrantedAuthority::new)
@@ -194,11 +214,32 @@ public class TokenProvider {
      * 토큰 검증
      *
      * @param token 검증할 토큰
-     * @return 올바르면 true, 올바르지 않으면 false
      */
     public void validateToken(String token) {
+        verifyToken(token);
+    }
+
+    /**
+     * 토큰의 밀리초 단위 발급 시각 (밀리초 클레임이 없는 이전 토큰은 iat)
+     *
+     * @return 발급 시각, 둘 다 없으면 null
+     */
+    public static Instant getIssuedAt(Claims claims) {
+        if (claims.get(ISSUED_AT_MILLIS_CLAIM) instanceof Number issuedAtMillis) {
+            return Instant.ofEpochMilli(issuedAtMillis.longValue());
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+    }
+
+    /**
+     * 토큰을 한 번만 검증·파싱하여 Claims 반환
+     *
+     * @param token 검증할 토큰
+     * @return 올바르면 Claims, 올바르지 않으면 null
+     */
+    public Claims verifyToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            return parseClaims(token);
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.debug("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -209,15 +250,12 @@ public class TokenProvider {
         } catch (IllegalArgumentException e) {
             log.debug("JWT 토큰이 잘못되었습니다.");
         }
+        return null;
     }
 
     // Claims 파싱
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
 }
@@ -0,0 +1,18 @@
+package com.trekker.global.config.security.cache;
+
+import java.time.Instant;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 서명 검증이 끝난 Access 토큰 정보
+ *
+ * @param authentication 토큰으로부터 생성한 Authentication
+ * @param issuedAt       토큰 발급 시각 (iat)
+ * @param expiresAt      토큰 만료 시각 (exp)
+ */
+public record VerifiedToken(Authentication authentication, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,88 @@
+package com.trekker.global.config.security.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.trekker.global.util.token.TokenDigest;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증이 끝난 Access 토큰의 Authentication·발급 시각 캐시
+ * <p>
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 항목 수와 TTL로 크기를 제한한다.
+ * 항목은 설정된 TTL과 토큰 만료 시각 중 더 이른 시점에 제거되므로 만료된 토큰이 캐시로 인증되지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") long maxSize,
+            @Value("${jwt.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(ttlSeconds)))
+                .build();
+    }
+
+    /**
+     * 캐시된 검증 결과 조회
+     *
+     * @param token JWT 토큰
+     * @return 캐시된 검증 결과 (없거나 만료되었으면 null)
+     */
+    public VerifiedToken get(String token) {
+        VerifiedToken cached = cache.getIfPresent(TokenDigest.sha256(token));
+        if (cached == null || cached.isExpired(Instant.now())) {
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * 검증 결과 저장
+     *
+     * @param token         JWT 토큰
+     * @param verifiedToken 토큰으로부터 생성한 검증 결과
+     */
+    public void put(String token, VerifiedToken verifiedToken) {
+        cache.put(TokenDigest.sha256(token), verifiedToken);
+    }
+
+    /**
+     * 캐시에서 토큰 제거
+     *
+     * @param token JWT 토큰
+     */
+    public void invalidate(String token) {
+        cache.invalidate(TokenDigest.sha256(token));
+    }
+
+    /**
+     * 설정된 TTL과 토큰의 남은 만료 시간 중 짧은 값을 항목의 수명으로 사용
+     */
+    private record TokenExpiry(long ttlNanos) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = Math.max(0,
+                    value.expiresAt().toEpochMilli() - System.currentTimeMillis());
+            return Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.trekker.global.config.security.filter;
 
-import com.trekker.global.config.redis.dao.RedisRepository;
 import com.trekker.global.config.security.TokenProvider;
+import com.trekker.global.config.security.cache.VerifiedToken;
+import com.trekker.global.config.security.cache.VerifiedTokenCache;
+import com.trekker.global.config.security.revocation.TokenRevocationChecker;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -23,7 +26,8 @@ public class JwtFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final TokenProvider tokenProvider;
-    private final RedisRepository redisRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationChecker tokenRevocationChecker;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -35,14 +39,14 @@ public class JwtFilter extends OncePerRequestFilter {
         try {
             // 토큰이 존재하면 검증을 진행
             if (token != null) {
-                // JWT 토큰의 유효성을 검증
-                tokenProvider.validateToken(token);
+                // 토큰을 한 번만 검증하여 인증 정보를 가져옴 (캐시 적중 시 검증 생략)
+                VerifiedToken verifiedToken = resolveVerifiedToken(token);
 
-                // 토큰이 블랙리스트에 포함되어 있지 않은 경우
-                if (!isTokenBlacklisted(token)) {
-                    // 토큰에서 인증 정보를 가져와 SecurityContext에 설정
-                    Authentication authentication = tokenProvider.getAuthentication(token);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                // 로그아웃 이전에 발급된 토큰이 아닌 경우
+                if (verifiedToken != null && !isRevoked(verifiedToken)) {
+                    // 인증 정보를 SecurityContext에 설정
+                    SecurityContextHolder.getContext()
+                            .setAuthentication(verifiedToken.authentication());
                 }
             }
         } catch (ExpiredJwtException e) {
@@ -67,15 +71,43 @@ public class JwtFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Redis 블랙리스트에서 토큰의 존재 여부를 확인하는 메서드
+     * 캐시에서 검증 결과를 조회하고, 없으면 토큰을 한 번 검증·파싱하여 캐시에 저장하는 메서드
      *
      * @param token JWT 토큰
-     * @return 토큰이 블랙리스트에 있으면 true 반환
+     * @return 검증 결과 (유효하지 않은 토큰이면 null 반환)
      */
-    private boolean isTokenBlacklisted(String token) {
-        String userId = tokenProvider.getUserIdFromToken(token);
-        return Boolean.TRUE.equals(redisRepository.isValidRefreshToken(userId, token));
+    private VerifiedToken resolveVerifiedToken(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = tokenProvider.verifyToken(token);
+        if (claims == null) {
+            return null;
+        }
+
+        Authentication authentication = tokenProvider.getAuthentication(claims, token);
+        if (authentication == null) {
+            return null;
+        }
+
+        VerifiedToken verifiedToken = new VerifiedToken(authentication,
+                TokenProvider.getIssuedAt(claims),
+                claims.getExpiration().toInstant());
+        verifiedTokenCache.put(token, verifiedToken);
+        return verifiedToken;
     }
 
-}
+    /**
+     * 토큰이 회원의 로그아웃 시각 이전에 발급되었는지 확인하는 메서드
+     *
+     * @param verifiedToken 검증된 토큰 정보
+     * @return 폐기된 토큰이면 true 반환
+     */
+    private boolean isRevoked(VerifiedToken verifiedToken) {
+        return tokenRevocationChecker.isRevoked(verifiedToken.authentication().getName(),
+                verifiedToken.issuedAt());
+    }
 
+}
@@ -2,7 +2,7 @@ package com.trekker.global.config.security.handler;
 
 import com.trekker.global.auth.custom.CustomUserDetails;
 import com.trekker.global.auth.dto.res.AuthResDto;
-import com.trekker.global.config.redis.dao.RedisRepository;
+import com.trekker.global.auth.store.TokenStore;
 import com.trekker.global.config.security.TokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -28,7 +28,7 @@ public class CustomLoginSuccessHandler implements AuthenticationSuccessHandler {
     private String SUCCESS_URL;
 
     private final TokenProvider tokenProvider;
-    private final RedisRepository redisRepository;
+    private final TokenStore tokenStore;
 
 
     @Override
@@ -39,8 +39,8 @@ public class CustomLoginSuccessHandler implements AuthenticationSuccessHandler {
         // 최종 액세스 및 리프레시 토큰 생성
         AuthResDto authResponse = tokenProvider.createAuthResponse(authentication);
 
-        // Redis에 authResponse 저장 및 임시 토큰 발급
-        String tempToken = redisRepository.storeAuthResponseWithTempToken(authResponse);
+        // 토큰 저장소에 authResponse 저장 및 임시 토큰 발급
+        String tempToken = tokenStore.storeAuthResponseWithTempToken(authResponse);
         String account = oAuth2User.getId();
 
         // 성공 URL에 쿼리 파라미터로 임시 토큰과 isGuest 정보를 전달
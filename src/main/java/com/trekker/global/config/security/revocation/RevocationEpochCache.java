@@ -0,0 +1,64 @@
+package com.trekker.global.config.security.revocation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 토큰 폐기 기준 시각(epoch)의 로컬 캐시
+ * <p>
+ * 회원이 로그아웃하면 그 시각 이전에 발급된 모든 토큰이 무효가 된다.
+ * 기준 시각과 발급 시각은 밀리초 단위로 비교하므로, 로그아웃 직후 같은 초에 다시 로그인해 받은 토큰은 유효하다.
+ * Access 토큰 수명이 지난 기준 시각은 더 이상 의미가 없으므로 제거되며,
+ * 메모리는 최근 로그아웃한 회원 수에 비례한다.
+ */
+@Component
+public class RevocationEpochCache {
+
+    // 이보다 작은 값은 이전 형식(초 단위)의 기준 시각 (밀리초로는 1973년)
+    private static final long MAX_EPOCH_SECONDS = 100_000_000_000L;
+
+    private final Map<String, Long> epochs = new ConcurrentHashMap<>();
+
+    /**
+     * 저장소에 기록된 기준 시각을 밀리초 단위로 변환 (이전 형식의 초 단위 값은 밀리초로 변환)
+     */
+    public static long toEpochMillis(long storedEpoch) {
+        return storedEpoch < MAX_EPOCH_SECONDS ? storedEpoch * 1000 : storedEpoch;
+    }
+
+    /**
+     * 회원의 폐기 기준 시각 갱신 (더 늦은 시각만 반영)
+     *
+     * @param memberId    회원 ID
+     * @param epochMillis 이 시각(밀리초) 이전에 발급된 토큰은 무효
+     */
+    public void update(String memberId, long epochMillis) {
+        epochs.merge(memberId, epochMillis, Math::max);
+    }
+
+    /**
+     * 토큰이 회원의 폐기 기준 시각 이전에 발급되었는지 확인
+     *
+     * @param memberId       회원 ID
+     * @param issuedAtMillis 토큰 발급 시각(밀리초)
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String memberId, long issuedAtMillis) {
+        Long epochMillis = epochs.get(memberId);
+        return epochMillis != null && issuedAtMillis < epochMillis;
+    }
+
+    /**
+     * 기준 시각 이후 발급된 토큰조차 모두 만료된 항목 제거
+     *
+     * @param expiredBeforeMillis 이 시각(밀리초) 이전의 기준 시각은 제거
+     */
+    public void evictExpired(long expiredBeforeMillis) {
+        epochs.values().removeIf(epochMillis -> epochMillis < expiredBeforeMillis);
+    }
+
+    public int size() {
+        return epochs.size();
+    }
+}
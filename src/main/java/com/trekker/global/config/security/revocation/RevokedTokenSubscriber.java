@@ -0,0 +1,61 @@
+package com.trekker.global.config.security.revocation;
+
+import com.trekker.global.config.redis.dao.RedisRepository;
+import com.trekker.global.config.security.TokenProvider;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스에서 발생한 로그아웃을 Redis pub/sub으로 받아 로컬 폐기 기준 시각에 반영
+ * <p>
+ * 로그아웃을 처리한 인스턴스는 로컬 캐시를 직접 갱신하며, 단일 인스턴스용 인메모리 저장소에서는 사용하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "token-store.type", havingValue = "redis", matchIfMissing = true)
+public class RevokedTokenSubscriber implements MessageListener {
+
+    private final RevocationEpochCache revocationEpochCache;
+    private final RedisRepository redisRepository;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // 메시지 형식: "{memberId}:{epochMillis}" (이전 인스턴스는 초 단위)
+        String revocation = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = revocation.lastIndexOf(':');
+        if (separator > 0) {
+            revocationEpochCache.update(revocation.substring(0, separator),
+                    RevocationEpochCache.toEpochMillis(
+                            Long.parseLong(revocation.substring(separator + 1))));
+        }
+    }
+
+    /**
+     * 기동 시점에 Redis의 폐기 기준 시각을 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevocationEpochs() {
+        synchronizeRevocationEpochs();
+        log.info("토큰 폐기 기준 시각 초기화 완료: {}명", revocationEpochCache.size());
+    }
+
+    /**
+     * pub/sub 연결이 끊긴 동안 놓친 로그아웃을 보정하고 만료된 기준 시각 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-millis:60000}",
+            initialDelayString = "${jwt.revocation.sync-millis:60000}")
+    public void synchronizeRevocationEpochs() {
+        redisRepository.findRevocationEpochs().forEach(revocationEpochCache::update);
+        revocationEpochCache.evictExpired(
+                System.currentTimeMillis() - TokenProvider.ACCESS_TOKEN_EXPIRATION);
+    }
+}
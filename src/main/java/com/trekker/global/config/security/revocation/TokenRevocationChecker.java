@@ -0,0 +1,45 @@
+package com.trekker.global.config.security.revocation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access 토큰 폐기 여부 확인
+ * <p>
+ * 토큰의 발급 시각(iat)을 로컬에 캐시된 회원별 폐기 기준 시각과 비교하므로 요청마다 Redis를 조회하지 않는다.
+ */
+@Component
+public class TokenRevocationChecker {
+
+    private final RevocationEpochCache revocationEpochCache;
+    private final Counter rejected;
+
+    public TokenRevocationChecker(RevocationEpochCache revocationEpochCache,
+            MeterRegistry meterRegistry) {
+        this.revocationEpochCache = revocationEpochCache;
+        this.rejected = Counter.builder("auth.revocation.rejected")
+                .register(meterRegistry);
+        Gauge.builder("auth.revocation.epoch.members", revocationEpochCache,
+                        RevocationEpochCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰이 로그아웃 등으로 폐기되었는지 확인
+     *
+     * @param memberId 토큰의 회원 ID
+     * @param issuedAt 토큰 발급 시각
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String memberId, Instant issuedAt) {
+        boolean revoked = issuedAt == null
+                || revocationEpochCache.isRevoked(memberId, issuedAt.toEpochMilli());
+        if (revoked) {
+            rejected.increment();
+        }
+        return revoked;
+    }
+}
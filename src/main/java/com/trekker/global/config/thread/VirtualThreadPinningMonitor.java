@@ -0,0 +1,96 @@
+package com.trekker.global.config.thread;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드가 carrier 스레드에 고정(pinning)된 채 블로킹되는 지점을 JFR 이벤트로 감지
+ * <p>
+ * synchronized 블록 안에서의 I/O 등으로 기준 시간 이상 고정되면 jvm.threads.virtual.pinned 메트릭을 올리고,
+ * 같은 호출 지점은 처음 한 번만 스택과 함께 경고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "virtual-thread.pinned-monitor.enabled", havingValue = "true",
+        matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+    // 호출 지점을 구분하는 상위 프레임 수
+    private static final int SITE_FRAMES = 4;
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${virtual-thread.pinned-monitor.threshold-millis:20}") long thresholdMillis,
+            MeterRegistry meterRegistry) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String site = frames.stream()
+                .limit(SITE_FRAMES)
+                .map(this::format)
+                .collect(Collectors.joining("|"));
+        if (reportedSites.add(site)) {
+            log.warn("가상 스레드 carrier 고정 {}ms\n{}", event.getDuration().toMillis(),
+                    frames.stream()
+                            .limit(LOGGED_FRAMES)
+                            .map(frame -> "\tat " + format(frame))
+                            .collect(Collectors.joining("\n")));
+        }
+    }
+
+    private List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    private String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
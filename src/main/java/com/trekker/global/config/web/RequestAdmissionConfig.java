@@ -0,0 +1,81 @@
+package com.trekker.global.config.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 가상 스레드 요청 처리 모드(spring.threads.virtual.enabled=true)에서만 동시 요청 수 제한을 등록
+ * <p>
+ * 플랫폼 스레드 모드에서는 Tomcat 스레드 풀 크기가 같은 역할을 한다.
+ * <p>
+ * 병렬 쿼리의 fork와 스트리밍 내보내기는 이 제한 밖에서 커넥션을 사용하므로(내보내기는 첫 디스패치가 끝나 허가를
+ * 반환한 뒤에도 전송이 끝날 때까지 커넥션을 잡음), 동시 요청 수는 풀 크기에서 두 허가 수를 뺀 값을 넘지 않게 한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class RequestAdmissionConfig {
+
+    @Value("${request-admission.max-concurrent-requests:4}")
+    private int maxConcurrentRequests;
+
+    @Value("${request-admission.max-wait-millis:500}")
+    private long maxWaitMillis;
+
+    @Value("${query.parallel.max-permits:4}")
+    private int parallelQueryPermits;
+
+    @Value("${member-export.max-concurrent:2}")
+    private int exportPermits;
+
+    @Bean
+    public FilterRegistrationBean<RequestAdmissionFilter> requestAdmissionFilter(
+            DataSource dataSource, ObjectMapper mapper, MeterRegistry meterRegistry) {
+        int limit = limitBelowPoolSize(dataSource);
+        log.info("가상 스레드 요청 처리 모드: 동시 요청 수 {} 으로 제한", limit);
+
+        FilterRegistrationBean<RequestAdmissionFilter> registration = new FilterRegistrationBean<>(
+                new RequestAdmissionFilter(limit, maxWaitMillis, mapper, meterRegistry));
+        // 인증 등 다른 필터보다 먼저 거절하여 초과 요청이 자원을 쓰지 않도록 함
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * 설정한 동시 요청 수가 커넥션 예산(풀 크기 - 병렬 쿼리 허가 수 - 내보내기 허가 수)을 넘으면 예산으로 낮춘다.
+     */
+    private int limitBelowPoolSize(DataSource dataSource) {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return maxConcurrentRequests;
+            }
+            int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            int limit = limitWithinConnectionBudget(maxConcurrentRequests, poolSize,
+                    parallelQueryPermits, exportPermits);
+            if (limit < maxConcurrentRequests) {
+                log.warn("동시 요청 수({})가 커넥션 예산(풀 {} - 병렬 쿼리 {} - 내보내기 {})을 넘으므로 "
+                        + "{}로 낮춥니다.", maxConcurrentRequests, poolSize, parallelQueryPermits,
+                        exportPermits, limit);
+            }
+            return limit;
+        } catch (SQLException e) {
+            return maxConcurrentRequests;
+        }
+    }
+
+    static int limitWithinConnectionBudget(int maxConcurrentRequests, int poolSize,
+            int parallelQueryPermits, int exportPermits) {
+        int budget = poolSize - parallelQueryPermits - exportPermits;
+        return Math.max(1, Math.min(maxConcurrentRequests, budget));
+    }
+}
@@ -0,0 +1,87 @@
+package com.trekker.global.config.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trekker.global.exception.dto.ErrorResDto;
+import com.trekker.global.exception.enums.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 동시에 처리하는 요청 수 제한
+ * <p>
+ * 가상 스레드 모드에서는 Tomcat 스레드 수가 요청을 제한하지 않으므로, 동시에 처리하는 요청 수를
+ * 커넥션 풀 크기보다 작게 유지하여 초과 요청이 커넥션을 기다리며 쌓이지 않도록 한다.
+ * 허가를 얻지 못한 요청은 잠시 기다린 뒤 503으로 거절한다.
+ */
+@Slf4j
+public class RequestAdmissionFilter extends OncePerRequestFilter {
+
+    private static final String ACTUATOR_PATH = "/actuator";
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final ObjectMapper mapper;
+    private final Counter rejectedCounter;
+
+    public RequestAdmissionFilter(int maxConcurrentRequests, long maxWaitMillis,
+            ObjectMapper mapper, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.mapper = mapper;
+        this.rejectedCounter = Counter.builder("http.server.admission.rejected")
+                .register(meterRegistry);
+        Gauge.builder("http.server.admission.active", permits,
+                        semaphore -> maxConcurrentRequests - semaphore.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        if (!tryAcquire()) {
+            rejectedCounter.increment();
+            log.warn("동시 요청 한도 초과로 거절: URI = {}, Method = {}", request.getRequestURI(),
+                    request.getMethod());
+            writeBusyResponse(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 헬스 체크는 요청이 몰려도 거절하지 않음
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(ACTUATOR_PATH);
+    }
+
+    private boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void writeBusyResponse(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        ErrorResDto errorResponse = ErrorResDto.of(ErrorCode.SERVER_BUSY);
+        response.getWriter().write(mapper.writeValueAsString(errorResponse));
+    }
+}
@@ -1,13 +1,15 @@
 package com.trekker.global.config.web;
 
+import com.trekker.global.version.DataVersionInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private static final String FILE_PATH = "/uploads/profile-images/**";
@@ -16,10 +18,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
     @Value("${file.dir}")
     private String UPLOAD_DIR;
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
+    private final DataVersionInterceptor dataVersionInterceptor;
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
@@ -27,4 +26,11 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addResourceHandler(FILE_PATH)
                 .addResourceLocations(FILE_PROTOCOL + UPLOAD_DIR);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // @DataVersioned 조회 API의 ETag / 304 처리
+        registry.addInterceptor(dataVersionInterceptor)
+                .addPathPatterns("/api/**");
+    }
 }
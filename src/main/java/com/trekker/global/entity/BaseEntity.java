@@ -11,6 +11,14 @@ import lombok.NoArgsConstructor;
 @MappedSuperclass
 public abstract class BaseEntity extends AuditBaseEntity {
 
+    /**
+     * 삭제되지 않은 행만 조회하는 조건
+     * <p>
+     * 하위 엔티티에 {@code @SQLRestriction}으로 지정하여 엔티티 조회, JPQL의 루트와 조인에 모두 적용한다.
+     * 네이티브 쿼리에는 적용되지 않으므로 직접 조건을 추가한다.
+     */
+    public static final String NOT_DELETED = "is_delete = false";
+
     private boolean isDelete;
 
     // 삭제 상태 변경 메서드
@@ -10,6 +10,8 @@ public enum ErrorCode {
     //GLOBAL
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류"),
+    QUERY_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "조회가 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     //Security
     ACCESS_DENIED_EXCEPTION(HttpStatus.FORBIDDEN, "필요한 접근 권한이 없습니다."),
@@ -19,6 +21,7 @@ public enum ErrorCode {
     INVALID_REFRESH_TOKEN(HttpStatus.FORBIDDEN, "유효하지 않은 리프레시 토큰입니다."),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "만료된 토큰입니다."),
     AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "인증에 실패했습니다."),
+    TOKEN_STORE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "인증 저장소에 일시적으로 접근할 수 없습니다."),
 
     //Social
     SOCIAL_UNLINK_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "소셜 연결 해제에 실패했습니다."),
@@ -39,7 +42,10 @@ public enum ErrorCode {
 
     //Retrospective
     RETROSPECTIVE_BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
-    RETROSPECTIVE_NOT_FOUND(HttpStatus.NOT_FOUND, "회고를 찾을 수 없습니다.");
+    RETROSPECTIVE_NOT_FOUND(HttpStatus.NOT_FOUND, "회고를 찾을 수 없습니다."),
+
+    //Report
+    REPORT_BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다.");
 
     //오류 상태코드
     private final HttpStatus httpStatus;
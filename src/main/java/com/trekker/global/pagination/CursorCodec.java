@@ -0,0 +1,67 @@
+package com.trekker.global.pagination;
+
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 정렬 키를 불투명한 커서 문자열로 변환
+ * <p>
+ * 키마다 URL 인코딩하여 쉼표로 잇고 Base64URL로 인코딩한다. 클라이언트는 커서를 해석하지 않고 그대로 돌려준다.
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = ",";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... keys) {
+        String joined = String.join(DELIMITER, Arrays.stream(keys)
+                .map(key -> URLEncoder.encode(String.valueOf(key), StandardCharsets.UTF_8))
+                .toList());
+        return ENCODER.encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param keyCount 커서에 담긴 키 수
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public static String[] decode(String cursor, int keyCount) {
+        try {
+            String joined = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = joined.split(DELIMITER, -1);
+            if (keys.length != keyCount) {
+                throw new BusinessException(cursor, "cursor", ErrorCode.BAD_REQUEST);
+            }
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = URLDecoder.decode(keys[i], StandardCharsets.UTF_8);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(cursor, "cursor", ErrorCode.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * ID 하나를 담은 커서를 해석한다. 커서가 없으면(첫 페이지) 모든 ID보다 작은 0을 반환한다.
+     *
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public static long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(cursor, "cursor", ErrorCode.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.trekker.global.pagination;
+
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 커서(키셋) 기반 목록 응답
+ * <p>
+ * 마지막 항목의 정렬 키 이후를 조회하므로 OFFSET과 달리 뒤쪽 페이지도 앞쪽 페이지와 같은 비용으로 읽는다.
+ * 다음 페이지 유무는 요청 크기보다 한 개 더 조회하여 판단한다.
+ *
+ * @param content    조회한 항목
+ * @param nextCursor 다음 페이지 요청에 전달할 커서 (다음 페이지가 없으면 null)
+ * @param hasNext    다음 페이지 유무
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    public static final String DEFAULT_SIZE = "20";
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청 크기를 검증하고, 다음 페이지 유무를 알 수 있도록 한 개 더 조회하는 Pageable을 만든다.
+     *
+     * @throws BusinessException 크기가 1 ~ {@link #MAX_SIZE} 범위를 벗어난 경우
+     */
+    public static Pageable fetchLimit(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BusinessException(size, "size", ErrorCode.BAD_REQUEST);
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * {@link #fetchLimit(int)}로 조회한 결과를 요청 크기만큼 자르고 마지막 항목으로 다음 커서를 만든다.
+     *
+     * @param fetched  조회 결과 (최대 size + 1개)
+     * @param size     요청 크기
+     * @param cursorOf 항목의 정렬 키로 커서를 만드는 함수
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null, false);
+        }
+        List<T> content = fetched.subList(0, size);
+        return new CursorPage<>(content, cursorOf.apply(content.get(size - 1)), true);
+    }
+
+    /**
+     * 커서는 유지하고 항목만 바꾼다. (ID로 페이지를 정한 뒤 상세 데이터를 조회하는 경우)
+     */
+    public <R> CursorPage<R> withContent(List<R> content) {
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,55 @@
+package com.trekker.global.util.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰 원문 대신 캐시·저장소 키로 사용할 SHA-256 다이제스트 생성 유틸리티 클래스
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TokenDigest {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    /**
+     * 토큰의 SHA-256 다이제스트 바이트를 반환합니다.
+     *
+     * @param token 원본 토큰
+     * @return 32바이트 다이제스트
+     */
+    public static byte[] sha256Bytes(String token) {
+        try {
+            return MessageDigest.getInstance(ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현체는 SHA-256을 반드시 지원함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 Base64 URL-safe 문자열로 반환합니다.
+     *
+     * @param token 원본 토큰
+     * @return 43자 다이제스트 문자열
+     */
+    public static String sha256(String token) {
+        return ENCODER.encodeToString(sha256Bytes(token));
+    }
+
+    /**
+     * 키 이름에 사용할 짧은 다이제스트를 반환합니다. (SHA-256 앞 128비트)
+     *
+     * @param token 원본 토큰
+     * @return 22자 다이제스트 문자열
+     */
+    public static String shortSha256(String token) {
+        return ENCODER.encodeToString(Arrays.copyOf(sha256Bytes(token), 16));
+    }
+}
@@ -0,0 +1,13 @@
+package com.trekker.global.version;
+
+/**
+ * 회원별 버전을 관리하는 데이터 단위
+ * <p>
+ * 쓰기 서비스는 변경한 데이터 단위의 버전을 올리고, 조회 API는 응답에 쓰는 데이터 단위의 버전으로 ETag를 만든다.
+ */
+public enum DataAggregate {
+    MEMBER,
+    PROJECT,
+    TASK,
+    RETROSPECTIVE
+}
@@ -0,0 +1,87 @@
+package com.trekker.global.version;
+
+import com.trekker.global.auth.custom.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Collections;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * {@link DataVersioned} GET API에 ETag를 적용
+ * <p>
+ * If-None-Match가 현재 ETag와 같으면 컨트롤러(JPA 조회)를 호출하지 않고 304를 반환하고,
+ * 다르면 응답에 ETag를 붙여 컨트롤러를 호출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataVersionInterceptor implements HandlerInterceptor {
+
+    // 캐시된 응답은 매번 ETag로 다시 확인
+    private static final String CACHE_CONTROL = "private, no-cache";
+    private static final String WEAK_PREFIX = "W/";
+
+    private final DataVersions dataVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())
+                || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        DataVersioned dataVersioned = handlerMethod.getMethodAnnotation(DataVersioned.class);
+        Long memberId = currentMemberId();
+        if (dataVersioned == null || memberId == null) {
+            return true;
+        }
+
+        String etag = dataVersions.etag(memberId, dataVersioned.value());
+        if (etag == null) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+
+        if (matches(request, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean matches(HttpServletRequest request, String etag) {
+        for (String header : Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH))) {
+            for (String candidate : header.split(",")) {
+                // 프록시 압축 등으로 약한 ETag가 된 경우도 같은 버전으로 판단 (약한 비교)
+                String value = candidate.trim();
+                if (value.startsWith(WEAK_PREFIX)) {
+                    value = value.substring(WEAK_PREFIX.length());
+                }
+                if (value.equals("*") || value.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(userDetails.getId());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.trekker.global.version;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 응답이 회원의 지정한 데이터 단위로만 결정되는 GET API에 ETag를 적용하는 어노테이션
+ * <p>
+ * If-None-Match가 현재 ETag와 같으면 컨트롤러를 호출하지 않고 304를 반환한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DataVersioned {
+
+    DataAggregate[] value();
+}
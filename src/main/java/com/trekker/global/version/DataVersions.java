@@ -0,0 +1,64 @@
+package com.trekker.global.version;
+
+import com.trekker.global.version.store.DataVersionStore;
+import com.trekker.global.version.store.DataVersionVector;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원별 데이터 버전 갱신과 ETag 생성
+ * <p>
+ * 버전은 커밋 후에 올리고 ETag는 컨트롤러 호출 전에 만들므로, 응답 데이터는 항상 ETag의 버전 이후의 데이터다.
+ * (커밋 전에 버전을 올리면 이전 데이터가 새 ETag로 캐시될 수 있다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class DataVersions {
+
+    private final DataVersionStore dataVersionStore;
+
+    /**
+     * 커밋 후 회원의 데이터 단위 버전을 올린다. (트랜잭션 밖이면 바로 올림)
+     */
+    public void bump(Long memberId, DataAggregate... aggregates) {
+        Set<DataAggregate> changed = EnumSet.of(aggregates[0], aggregates);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dataVersionStore.bump(memberId, changed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dataVersionStore.bump(memberId, changed);
+            }
+        });
+    }
+
+    /**
+     * 회원의 지정한 데이터 단위 버전으로 강한 ETag를 만든다.
+     * <p>
+     * 오늘 날짜에 따라 달라지는 응답(오늘의 할 일, 이번 달 리포트 등)이 있으므로 날짜도 포함한다.
+     *
+     * @return ETag, 저장소에 접근할 수 없으면 null
+     */
+    public String etag(Long memberId, DataAggregate[] aggregates) {
+        DataVersionVector vector = dataVersionStore.get(memberId);
+        if (vector == null) {
+            return null;
+        }
+
+        StringBuilder etag = new StringBuilder("\"")
+                .append(vector.epoch())
+                .append('-').append(Long.toString(memberId, 36))
+                .append('-').append(Long.toString(LocalDate.now().toEpochDay(), 36));
+        for (DataAggregate aggregate : aggregates) {
+            etag.append('-').append(Long.toString(vector.get(aggregate), 36));
+        }
+        return etag.append('"').toString();
+    }
+}
@@ -0,0 +1,26 @@
+package com.trekker.global.version.store;
+
+import com.trekker.global.version.DataAggregate;
+import java.util.Set;
+
+/**
+ * 회원별 데이터 버전 저장소
+ * <p>
+ * 버전은 저장소 전체에서 하나씩 증가하는 값으로 매기므로, 회원의 항목이 만료되어 다시 만들어져도
+ * 이전에 발급한 버전과 겹치지 않는다.
+ * data-version.store 설정으로 인메모리(기본, 단일 인스턴스) 또는 Redis(다중 인스턴스) 구현을 선택한다.
+ */
+public interface DataVersionStore {
+
+    /**
+     * 회원의 데이터 단위별 버전 조회
+     *
+     * @return 버전, 저장소에 접근할 수 없으면 null
+     */
+    DataVersionVector get(Long memberId);
+
+    /**
+     * 회원의 데이터 단위 버전을 올린다.
+     */
+    void bump(Long memberId, Set<DataAggregate> aggregates);
+}
@@ -0,0 +1,16 @@
+package com.trekker.global.version.store;
+
+import com.trekker.global.version.DataAggregate;
+
+/**
+ * 회원의 데이터 단위별 버전
+ *
+ * @param epoch    저장소 세대 (저장소가 초기화되면 바뀌어 이전 버전과 구분)
+ * @param versions 데이터 단위별 버전 (DataAggregate 순서)
+ */
+public record DataVersionVector(String epoch, long[] versions) {
+
+    public long get(DataAggregate aggregate) {
+        return versions[aggregate.ordinal()];
+    }
+}
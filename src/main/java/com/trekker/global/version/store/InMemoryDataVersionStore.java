@@ -0,0 +1,70 @@
+package com.trekker.global.version.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trekker.global.version.DataAggregate;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 인스턴스용 인메모리 데이터 버전 저장소
+ * <p>
+ * 재시작하면 버전이 처음부터 다시 매겨지므로, 시작할 때마다 새 세대 값을 만들어 이전 ETag와 구분한다.
+ */
+@Component
+@ConditionalOnProperty(name = "data-version.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryDataVersionStore implements DataVersionStore {
+
+    private static final int AGGREGATES = DataAggregate.values().length;
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong clock = new AtomicLong();
+    private final Cache<Long, AtomicLongArray> versions;
+
+    public InMemoryDataVersionStore(
+            @Value("${data-version.max-size:100000}") long maxSize,
+            @Value("${data-version.idle-ttl-seconds:86400}") long idleTtlSeconds) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofSeconds(idleTtlSeconds))
+                .build();
+    }
+
+    @Override
+    public DataVersionVector get(Long memberId) {
+        AtomicLongArray memberVersions = getOrCreate(memberId);
+        long[] snapshot = new long[AGGREGATES];
+        for (int i = 0; i < AGGREGATES; i++) {
+            snapshot[i] = memberVersions.get(i);
+        }
+        return new DataVersionVector(epoch, snapshot);
+    }
+
+    @Override
+    public void bump(Long memberId, Set<DataAggregate> aggregates) {
+        AtomicLongArray memberVersions = getOrCreate(memberId);
+        long version = clock.incrementAndGet();
+        for (DataAggregate aggregate : aggregates) {
+            // 동시에 올린 경우에도 버전이 줄어들지 않도록 큰 값을 유지
+            memberVersions.accumulateAndGet(aggregate.ordinal(), version, Math::max);
+        }
+    }
+
+    // 새 항목은 지금까지 발급한 어떤 버전보다 큰 값으로 시작
+    private AtomicLongArray getOrCreate(Long memberId) {
+        return versions.get(memberId, key -> {
+            long initial = clock.incrementAndGet();
+            AtomicLongArray memberVersions = new AtomicLongArray(AGGREGATES);
+            for (int i = 0; i < AGGREGATES; i++) {
+                memberVersions.set(i, initial);
+            }
+            return memberVersions;
+        });
+    }
+}
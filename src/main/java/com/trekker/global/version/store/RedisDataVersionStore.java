@@ -0,0 +1,162 @@
+package com.trekker.global.version.store;
+
+import com.trekker.global.version.DataAggregate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다중 인스턴스용 Redis 데이터 버전 저장소
+ * <p>
+ * 회원별 해시(data-version:{memberId})에 데이터 단위별 버전을 두고, 버전은 전역 카운터(data-version:clock)로 매긴다.
+ * 세대 값(data-version:epoch)은 Redis가 초기화되면 새로 만들어져 이전 ETag와 구분된다.
+ * Redis에 접근할 수 없으면 조회는 null을 반환하여 ETag를 적용하지 않는다.
+ * <p>
+ * 버전을 올리지 못하면 Redis에는 이전 버전이 남아 조회할 때마다 만료 시간이 갱신되므로, 올리지 못한 데이터 단위를
+ * 기억해 두고 성공할 때까지 주기적으로 다시 올린다. 그동안 이 인스턴스는 해당 회원에게 ETag를 적용하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "data-version.store", havingValue = "redis")
+public class RedisDataVersionStore implements DataVersionStore {
+
+    private static final String EPOCH_KEY = "data-version:epoch";
+    private static final String CLOCK_KEY = "data-version:clock";
+    private static final String MEMBER_KEY_PREFIX = "data-version:";
+    private static final String AGGREGATES = String.valueOf(DataAggregate.values().length);
+
+    // ARGV[1]: 만료 시간, ARGV[2]: 데이터 단위 수 (필드는 0 ~ 데이터 단위 수 - 1)
+    // 회원 해시가 없으면 모든 데이터 단위를 새 버전으로 만든 뒤 만료 시간을 갱신
+    private static final String ENSURE_MEMBER = """
+            local aggregates = tonumber(ARGV[2])
+            if redis.call('EXISTS', KEYS[3]) == 0 then
+                local initial = redis.call('INCR', KEYS[2])
+                for field = 0, aggregates - 1 do
+                    redis.call('HSET', KEYS[3], field, initial)
+                end
+            end
+            redis.call('EXPIRE', KEYS[3], ARGV[1])
+            """;
+
+    private static final RedisScript<List> GET_SCRIPT = RedisScript.of("""
+            local epoch = redis.call('GET', KEYS[1])
+            if not epoch then
+                local now = redis.call('TIME')
+                epoch = now[1] .. now[2]
+                redis.call('SET', KEYS[1], epoch)
+            end
+            """ + ENSURE_MEMBER + """
+            local values = { epoch }
+            for field = 0, aggregates - 1 do
+                table.insert(values, redis.call('HGET', KEYS[3], field))
+            end
+            return values
+            """, List.class);
+
+    // ARGV[3..]: 버전을 올릴 필드
+    private static final RedisScript<Long> BUMP_SCRIPT = RedisScript.of(ENSURE_MEMBER + """
+            local version = redis.call('INCR', KEYS[2])
+            for i = 3, #ARGV do
+                redis.call('HSET', KEYS[3], ARGV[i], version)
+            end
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String ttlSeconds;
+    // 버전을 올리지 못한 회원별 데이터 단위 (병합할 때마다 새 집합으로 교체)
+    private final Map<Long, Set<DataAggregate>> pendingBumps = new ConcurrentHashMap<>();
+
+    public RedisDataVersionStore(StringRedisTemplate redisTemplate,
+            @Value("${data-version.idle-ttl-seconds:86400}") long idleTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = String.valueOf(idleTtlSeconds);
+    }
+
+    @Override
+    public DataVersionVector get(Long memberId) {
+        if (!retryPendingBump(memberId)) {
+            return null;
+        }
+        try {
+            List<?> values = redisTemplate.execute(GET_SCRIPT, keys(memberId), ttlSeconds,
+                    AGGREGATES);
+            long[] versions = new long[DataAggregate.values().length];
+            for (int i = 0; i < versions.length; i++) {
+                versions[i] = Long.parseLong(String.valueOf(values.get(i + 1)));
+            }
+            return new DataVersionVector(String.valueOf(values.get(0)), versions);
+        } catch (DataAccessException e) {
+            log.warn("데이터 버전 조회 실패: memberId = {}, message = {}", memberId, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void bump(Long memberId, Set<DataAggregate> aggregates) {
+        if (tryBump(memberId, aggregates)) {
+            return;
+        }
+        // 버전을 올리지 못하면 캐시된 응답이 최신이 아닐 수 있으므로 오류로 기록하고 다시 올릴 때까지 보관
+        log.error("데이터 버전 갱신 실패: memberId = {}, aggregates = {}", memberId, aggregates);
+        pendingBumps.merge(memberId, EnumSet.copyOf(aggregates), (pending, added) -> {
+            EnumSet<DataAggregate> merged = EnumSet.copyOf(pending);
+            merged.addAll(added);
+            return merged;
+        });
+    }
+
+    /**
+     * 올리지 못한 버전을 다시 올린다.
+     */
+    @Scheduled(fixedDelayString = "${data-version.retry-millis:1000}")
+    public void retryPendingBumps() {
+        for (Long memberId : pendingBumps.keySet()) {
+            retryPendingBump(memberId);
+        }
+    }
+
+    /**
+     * @return 올리지 못한 버전이 없거나 다시 올렸으면 true
+     */
+    private boolean retryPendingBump(Long memberId) {
+        Set<DataAggregate> pending = pendingBumps.get(memberId);
+        if (pending == null) {
+            return true;
+        }
+        if (!tryBump(memberId, pending)) {
+            return false;
+        }
+        // 다시 올리는 동안 새로 병합된 데이터 단위는 남겨 두고 다음에 올림
+        return pendingBumps.remove(memberId, pending);
+    }
+
+    private boolean tryBump(Long memberId, Set<DataAggregate> aggregates) {
+        List<String> args = new ArrayList<>(List.of(ttlSeconds, AGGREGATES));
+        for (DataAggregate aggregate : aggregates) {
+            args.add(String.valueOf(aggregate.ordinal()));
+        }
+        try {
+            redisTemplate.execute(BUMP_SCRIPT, keys(memberId), args.toArray());
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("데이터 버전 갱신 실패: memberId = {}, message = {}", memberId, e.getMessage());
+            return false;
+        }
+    }
+
+    private List<String> keys(Long memberId) {
+        return List.of(EPOCH_KEY, CLOCK_KEY, MEMBER_KEY_PREFIX + memberId);
+    }
+}
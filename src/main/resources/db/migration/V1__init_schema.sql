@@ -0,0 +1,156 @@
+-- 기존 ddl-auto: update 로 생성되던 스키마
+-- 이미 운영 중인 DB는 baseline(V1)으로 등록되어 이 스크립트를 건너뛴다.
+
+CREATE TABLE jobs
+(
+    job_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    job_name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (job_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE onboardings
+(
+    onboarding_id BIGINT NOT NULL AUTO_INCREMENT,
+    created_time  DATETIME(6),
+    updated_time  DATETIME(6),
+    is_completed  BIT    NOT NULL,
+    PRIMARY KEY (onboarding_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE social_providers
+(
+    social_provider_id BIGINT NOT NULL AUTO_INCREMENT,
+    provider           VARCHAR(255),
+    provider_id        VARCHAR(255),
+    PRIMARY KEY (social_provider_id),
+    CONSTRAINT uk_social_providers_provider_id UNIQUE (provider_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE members
+(
+    member_id          BIGINT                 NOT NULL AUTO_INCREMENT,
+    created_time       DATETIME(6),
+    updated_time       DATETIME(6),
+    is_delete          BIT                    NOT NULL,
+    email              VARCHAR(256)           NOT NULL,
+    role               ENUM ('USER', 'ADMIN') NOT NULL,
+    name               VARCHAR(10),
+    profile_image      VARCHAR(512),
+    social_provider_id BIGINT,
+    job_id             BIGINT,
+    onboarding_id      BIGINT,
+    PRIMARY KEY (member_id),
+    CONSTRAINT uk_members_social_provider_id UNIQUE (social_provider_id),
+    CONSTRAINT uk_members_job_id UNIQUE (job_id),
+    CONSTRAINT uk_members_onboarding_id UNIQUE (onboarding_id),
+    CONSTRAINT fk_members_social_provider FOREIGN KEY (social_provider_id)
+        REFERENCES social_providers (social_provider_id),
+    CONSTRAINT fk_members_job FOREIGN KEY (job_id) REFERENCES jobs (job_id),
+    CONSTRAINT fk_members_onboarding FOREIGN KEY (onboarding_id)
+        REFERENCES onboardings (onboarding_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE member_feedbacks
+(
+    member_feedback_id BIGINT NOT NULL AUTO_INCREMENT,
+    created_time       DATETIME(6),
+    updated_time       DATETIME(6),
+    is_delete          BIT    NOT NULL,
+    content            VARCHAR(100),
+    member_id          BIGINT,
+    PRIMARY KEY (member_feedback_id),
+    CONSTRAINT fk_member_feedbacks_member FOREIGN KEY (member_id) REFERENCES members (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE member_withdrawal_feedbacks
+(
+    member_withdrawal_feedback_id BIGINT NOT NULL AUTO_INCREMENT,
+    withdrawal_reason             VARCHAR(100),
+    feedback                      VARCHAR(100),
+    member_id                     BIGINT NOT NULL,
+    PRIMARY KEY (member_withdrawal_feedback_id),
+    CONSTRAINT fk_member_withdrawal_feedbacks_member FOREIGN KEY (member_id)
+        REFERENCES members (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE projects
+(
+    project_id   BIGINT      NOT NULL AUTO_INCREMENT,
+    created_time DATETIME(6),
+    updated_time DATETIME(6),
+    is_delete    BIT         NOT NULL,
+    type         VARCHAR(10) NOT NULL,
+    title        VARCHAR(20) NOT NULL,
+    description  VARCHAR(50) NOT NULL,
+    start_date   DATE        NOT NULL,
+    end_date     DATE,
+    is_completed BIT         NOT NULL,
+    member_id    BIGINT,
+    PRIMARY KEY (project_id),
+    CONSTRAINT fk_projects_member FOREIGN KEY (member_id) REFERENCES members (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE project_retrospectives
+(
+    project_id BIGINT       NOT NULL AUTO_INCREMENT,
+    content    VARCHAR(255) NOT NULL,
+    PRIMARY KEY (project_id),
+    CONSTRAINT fk_project_retrospectives_project FOREIGN KEY (project_id)
+        REFERENCES projects (project_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tasks
+(
+    task_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    created_time DATETIME(6),
+    updated_time DATETIME(6),
+    is_delete    BIT          NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    start_date   DATE         NOT NULL,
+    end_date     DATE,
+    is_completed BIT          NOT NULL,
+    project_id   BIGINT,
+    PRIMARY KEY (task_id),
+    CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (project_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE retrospectives
+(
+    retrospective_id BIGINT NOT NULL AUTO_INCREMENT,
+    created_time     DATETIME(6),
+    updated_time     DATETIME(6),
+    is_delete        BIT    NOT NULL,
+    content          VARCHAR(255),
+    task_id          BIGINT,
+    PRIMARY KEY (retrospective_id),
+    CONSTRAINT uk_retrospectives_task_id UNIQUE (task_id),
+    CONSTRAINT fk_retrospectives_task FOREIGN KEY (task_id) REFERENCES tasks (task_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE skills
+(
+    skill_id BIGINT NOT NULL AUTO_INCREMENT,
+    name     VARCHAR(255),
+    PRIMARY KEY (skill_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE retrospective_skills
+(
+    id               BIGINT       NOT NULL,
+    type             VARCHAR(255) NOT NULL,
+    retrospective_id BIGINT       NOT NULL,
+    skill_id         BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_retrospective_skills_retrospective FOREIGN KEY (retrospective_id)
+        REFERENCES retrospectives (retrospective_id),
+    CONSTRAINT fk_retrospective_skills_skill FOREIGN KEY (skill_id) REFERENCES skills (skill_id)
+) ENGINE = InnoDB;
+
+-- RetrospectiveSkill 의 pooled 시퀀스 (MySQL은 시퀀스가 없어 테이블로 대체)
+CREATE TABLE retrospective_skill_sequence
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO retrospective_skill_sequence
+VALUES (1);
@@ -0,0 +1,22 @@
+-- 조회 경로별 복합 인덱스
+-- 외래 키 단일 컬럼 인덱스만으로는 기간/완료 여부/유형 조건을 인덱스에서 거르지 못한다.
+
+-- 프로젝트별 할 일 조회, 완료된 할 일 수 집계 (task_id는 InnoDB 보조 인덱스에 포함되어 커버링)
+CREATE INDEX idx_tasks_project_dates
+    ON tasks (project_id, start_date, end_date, is_completed);
+
+-- 회원의 진행 중/완료 프로젝트 조회 (유형 필터 포함)
+CREATE INDEX idx_projects_member_status
+    ON projects (member_id, is_completed, type);
+
+-- 회고별 유형 스킬 집계
+CREATE INDEX idx_retrospective_skills_retrospective_type
+    ON retrospective_skills (retrospective_id, type, skill_id);
+
+-- 스킬별 회고 조회
+CREATE INDEX idx_retrospective_skills_skill
+    ON retrospective_skills (skill_id, retrospective_id);
+
+-- 회고 작성 시 이름으로 스킬 조회
+CREATE INDEX idx_skills_name
+    ON skills (name);
@@ -0,0 +1,29 @@
+-- 회원의 날짜별 할 일 수/완료된 할 일 수 집계 (리포트 조회용)
+-- 할 일 추가·수정·삭제·완료 시 같은 트랜잭션에서 갱신된다.
+
+CREATE TABLE daily_task_stats
+(
+    member_id BIGINT NOT NULL,
+    stat_date DATE   NOT NULL,
+    total     INT    NOT NULL,
+    completed INT    NOT NULL,
+    PRIMARY KEY (member_id, stat_date)
+) ENGINE = InnoDB;
+
+-- 기존 할 일로 집계 채우기 (종료일이 없는 할 일은 시작일 하루)
+SET SESSION cte_max_recursion_depth = 100000;
+
+INSERT INTO daily_task_stats (member_id, stat_date, total, completed)
+WITH RECURSIVE task_days (member_id, stat_date, last_date, is_completed) AS (
+    SELECT p.member_id, t.start_date, COALESCE(t.end_date, t.start_date), IF(t.is_completed, 1, 0)
+    FROM tasks t
+             JOIN projects p ON p.project_id = t.project_id
+    WHERE p.member_id IS NOT NULL
+    UNION ALL
+    SELECT member_id, stat_date + INTERVAL 1 DAY, last_date, is_completed
+    FROM task_days
+    WHERE stat_date < last_date
+)
+SELECT member_id, stat_date, COUNT(*), SUM(is_completed)
+FROM task_days
+GROUP BY member_id, stat_date;
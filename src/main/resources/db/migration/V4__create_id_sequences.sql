@@ -0,0 +1,40 @@
+-- Task, Project, Retrospective, Skill 의 pooled 시퀀스 (MySQL은 시퀀스가 없어 테이블로 대체)
+-- IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 꺼진다. 시퀀스는 50개씩 미리 할당한다.
+-- pooled 방식은 저장된 값을 할당 구간의 상한으로 사용하므로 (상한 - 49 부터 발급),
+-- 기존 최대 ID + 50 으로 시작해야 기존 ID와 겹치지 않는다.
+
+CREATE TABLE task_sequence
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO task_sequence
+SELECT COALESCE(MAX(task_id), 0) + 50
+FROM tasks;
+
+CREATE TABLE project_sequence
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO project_sequence
+SELECT COALESCE(MAX(project_id), 0) + 50
+FROM projects;
+
+CREATE TABLE retrospective_sequence
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO retrospective_sequence
+SELECT COALESCE(MAX(retrospective_id), 0) + 50
+FROM retrospectives;
+
+CREATE TABLE skill_sequence
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO skill_sequence
+SELECT COALESCE(MAX(skill_id), 0) + 50
+FROM skills;
@@ -0,0 +1,35 @@
+-- 반복 할 일: 매일/매주 반복되는 습관을 발생일마다 tasks 행으로 만들지 않고 규칙 하나로 저장한다.
+-- 발생일은 조회 기간 안에서만 계산하고, 발생일별 완료 여부는 비트맵(시작일로부터 n일째 = n번째 비트)에 저장한다.
+-- 프로젝트를 삭제하면 함께 삭제된다.
+
+CREATE TABLE recurring_tasks
+(
+    recurring_task_id BIGINT                    NOT NULL,
+    created_time      DATETIME(6),
+    updated_time      DATETIME(6),
+    is_delete         BIT                       NOT NULL,
+    name              VARCHAR(255)              NOT NULL,
+    start_date        DATE                      NOT NULL,
+    end_date          DATE,
+    frequency         ENUM ('DAILY', 'WEEKLY')  NOT NULL,
+    repeat_interval   INT                       NOT NULL,
+    weekdays          INT                       NOT NULL,
+    completions       VARBINARY(8192)           NOT NULL,
+    project_id        BIGINT                    NOT NULL,
+    PRIMARY KEY (recurring_task_id),
+    CONSTRAINT fk_recurring_tasks_project FOREIGN KEY (project_id)
+        REFERENCES projects (project_id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- 프로젝트별/기간별 반복 할 일 조회 (외래 키 인덱스를 겸함)
+CREATE INDEX idx_recurring_tasks_project_dates
+    ON recurring_tasks (project_id, start_date, end_date);
+
+-- pooled 시퀀스 (V4와 같이 저장된 값을 할당 구간의 상한으로 사용)
+CREATE TABLE recurring_task_sequence
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO recurring_task_sequence
+VALUES (50);
@@ -0,0 +1,10 @@
+-- 키셋 페이지네이션 인덱스
+-- (조건 컬럼, 정렬 ID) 순서로 두어 커서 이후 범위를 정렬 없이 인덱스 순서대로 읽는다.
+
+-- 프로젝트의 회고 목록 (할 일 ID 순)
+CREATE INDEX idx_tasks_project_task
+    ON tasks (project_id, task_id);
+
+-- 포트폴리오의 완료 프로젝트 목록 (프로젝트 ID 순)
+CREATE INDEX idx_projects_member_completed_project
+    ON projects (member_id, is_completed, project_id);
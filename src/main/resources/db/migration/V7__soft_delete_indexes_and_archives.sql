@@ -0,0 +1,33 @@
+-- 삭제 여부 조건(is_delete = false)이 모든 엔티티 조회에 붙으므로 조회 경로 인덱스에 is_delete를 포함한다.
+-- 커버링 인덱스는 is_delete를 뒤에 추가해 커버링을 유지하고,
+-- 키셋 인덱스는 정렬 ID 앞에 두어 커서 이후 범위를 인덱스 순서대로 읽는다.
+-- (같은 ALTER 문에서 삭제와 생성을 함께 하므로 외래 키 인덱스가 없는 순간이 없다)
+
+ALTER TABLE tasks
+    DROP INDEX idx_tasks_project_dates,
+    ADD INDEX idx_tasks_project_dates (project_id, start_date, end_date, is_completed, is_delete),
+    DROP INDEX idx_tasks_project_task,
+    ADD INDEX idx_tasks_project_task (project_id, is_delete, task_id);
+
+ALTER TABLE projects
+    DROP INDEX idx_projects_member_status,
+    ADD INDEX idx_projects_member_status (member_id, is_completed, type, is_delete),
+    DROP INDEX idx_projects_member_completed_project,
+    ADD INDEX idx_projects_member_completed_project (member_id, is_completed, is_delete, project_id);
+
+ALTER TABLE recurring_tasks
+    DROP INDEX idx_recurring_tasks_project_dates,
+    ADD INDEX idx_recurring_tasks_project_dates (project_id, start_date, end_date, is_delete);
+
+-- 탈퇴 회원 정리 대상 조회 (탈퇴 회원은 소수이므로 is_delete = true 범위만 읽는다)
+CREATE INDEX idx_members_deleted
+    ON members (is_delete, updated_time);
+
+-- 탈퇴 회원 정리 시 삭제 전에 옮겨 두는 아카이브 테이블 (원본과 같은 컬럼, 외래 키 없음)
+-- 원본 테이블에 컬럼을 추가하면 아카이브 테이블에도 같은 순서로 추가한다.
+CREATE TABLE projects_archive LIKE projects;
+CREATE TABLE project_retrospectives_archive LIKE project_retrospectives;
+CREATE TABLE recurring_tasks_archive LIKE recurring_tasks;
+CREATE TABLE tasks_archive LIKE tasks;
+CREATE TABLE retrospectives_archive LIKE retrospectives;
+CREATE TABLE retrospective_skills_archive LIKE retrospective_skills;
@@ -0,0 +1,16 @@
+-- 탈퇴 회원 정리가 끝난 시각 (회원 행은 남으므로, 정리가 끝난 회원을 다음 정리 대상 조회에서 제외한다)
+-- 정리 로직만 네이티브 쿼리로 읽고 쓰므로 엔티티에는 매핑하지 않는다.
+ALTER TABLE members
+    ADD COLUMN purged_time DATETIME(6) NULL;
+
+-- 정리 대상 조회는 정리가 끝나지 않은 탈퇴 회원 범위만 읽는다.
+ALTER TABLE members
+    DROP INDEX idx_members_deleted,
+    ADD INDEX idx_members_deleted (is_delete, purged_time, updated_time);
+
+-- 정리할 데이터가 이미 없는 탈퇴 회원은 정리가 끝난 것으로 기록
+UPDATE members m
+SET m.purged_time = m.updated_time
+WHERE m.is_delete = true
+  AND NOT EXISTS (SELECT 1 FROM projects p WHERE p.member_id = m.member_id)
+  AND NOT EXISTS (SELECT 1 FROM daily_task_stats s WHERE s.member_id = m.member_id);
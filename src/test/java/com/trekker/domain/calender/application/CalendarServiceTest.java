@@ -4,9 +4,12 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.when;
 
 import com.trekker.domain.calender.dto.res.MonthlyTaskSummaryDto;
-import com.trekker.domain.task.dao.TaskRepository;
+import com.trekker.domain.task.cache.TaskIntervalIndexCache;
+import com.trekker.domain.task.dao.RecurringTaskRepository;
+import com.trekker.domain.task.dto.RecurringTaskDto;
+import com.trekker.domain.task.dto.TaskSpan;
 import com.trekker.domain.task.dto.res.TaskResDto;
-import com.trekker.domain.task.entity.Task;
+import com.trekker.domain.task.entity.RecurrenceFrequency;
 import java.time.LocalDate;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -21,7 +24,9 @@ class CalendarServiceTest {
     @InjectMocks
     CalendarService calendarService;
     @Mock
-    TaskRepository taskRepository;
+    TaskIntervalIndexCache taskIntervalIndexCache;
+    @Mock
+    RecurringTaskRepository recurringTaskRepository;
 
     private Long memberId = 1L;
 
@@ -33,15 +38,17 @@ class CalendarServiceTest {
         LocalDate startOfMonth = LocalDate.of(year, month, 1);
         LocalDate endOfMonth = startOfMonth.withDayOfMonth(startOfMonth.lengthOfMonth());
 
-        List<MonthlyTaskSummaryDto> mockTasks = List.of(
-                new MonthlyTaskSummaryDto(LocalDate.of(year, month, 1),
-                        LocalDate.of(year, month, 5), "Task 1"),
-                new MonthlyTaskSummaryDto(LocalDate.of(year, month, 10),
-                        LocalDate.of(year, month, 15), "Task 2")
+        List<TaskSpan> mockTasks = List.of(
+                new TaskSpan(1L, 1L, "Task 1", LocalDate.of(year, month, 1),
+                        LocalDate.of(year, month, 5), false),
+                new TaskSpan(2L, 1L, "Single Day Task", LocalDate.of(year, month, 7), null,
+                        false),
+                new TaskSpan(3L, 1L, "Task 2", LocalDate.of(year, month, 10),
+                        LocalDate.of(year, month, 15), true)
         );
 
-        when(taskRepository.getMonthlyTaskSummary(memberId, startOfMonth, endOfMonth)).thenReturn(
-                mockTasks);
+        when(taskIntervalIndexCache.findOverlapping(memberId, startOfMonth, endOfMonth))
+                .thenReturn(mockTasks);
 
         // when
         List<MonthlyTaskSummaryDto> result = calendarService.getMonthlyCalendar(memberId, year,
@@ -58,23 +65,12 @@ class CalendarServiceTest {
     void getTodayTasks() {
         // given
         LocalDate today = LocalDate.now();
-        Task task1 = Task.builder()
-                .id(1L)
-                .name("Task 1")
-                .start_date(today)
-                .end_date(today.plusDays(1))
-                .isCompleted(false)
-                .build();
-        Task task2 = Task.builder()
-                .id(2L)
-                .name("Task 2")
-                .start_date(today.minusDays(1))
-                .end_date(today.plusDays(1))
-                .isCompleted(false)
-                .build();
-        List<Task> taskList = List.of(task1, task2);
-
-        when(taskRepository.findTasksForToday(memberId, today)).thenReturn(taskList);
+        TaskSpan task1 = new TaskSpan(1L, 1L, "Task 1", today, today.plusDays(1), false);
+        TaskSpan task2 = new TaskSpan(2L, 1L, "Task 2", today.minusDays(1), today.plusDays(1),
+                false);
+        List<TaskSpan> taskList = List.of(task1, task2);
+
+        when(taskIntervalIndexCache.findOn(memberId, today)).thenReturn(taskList);
 
         // when
         List<TaskResDto> result = calendarService.getTodayTasks(memberId);
@@ -82,7 +78,31 @@ class CalendarServiceTest {
         //then
         assertThat(result).isNotNull();
         assertThat(result.size()).isEqualTo(2);
-        assertThat(result.get(0).name()).isEqualTo(taskList.get(0).getName());
-        assertThat(result.get(1).name()).isEqualTo(taskList.get(1).getName());
+        assertThat(result.get(0).name()).isEqualTo(taskList.get(0).name());
+        assertThat(result.get(1).name()).isEqualTo(taskList.get(1).name());
+    }
+
+    @Test
+    void getTodayTasksWithRecurringOccurrence() {
+        // given
+        LocalDate today = LocalDate.now();
+        TaskSpan task = new TaskSpan(1L, 1L, "Task 1", today, null, false);
+        // 어제 시작한 매일 반복 할 일 (어제 완료, 오늘 미완료)
+        RecurringTaskDto habit = new RecurringTaskDto(7L, 1L, "Habit", today.minusDays(1), null,
+                RecurrenceFrequency.DAILY, 1, 0, new byte[]{0b01});
+
+        when(taskIntervalIndexCache.findOn(memberId, today)).thenReturn(List.of(task));
+        when(recurringTaskRepository.findRecurringTasksByMemberId(memberId, today, today))
+                .thenReturn(List.of(habit));
+
+        // when
+        List<TaskResDto> result = calendarService.getTodayTasks(memberId);
+
+        // then
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.get(1).recurringTaskId()).isEqualTo(habit.recurringTaskId());
+        assertThat(result.get(1).taskId()).isNull();
+        assertThat(result.get(1).start_date()).isEqualTo(today);
+        assertThat(result.get(1).isCompleted()).isFalse();
     }
-}
\ No newline at end of file
+}
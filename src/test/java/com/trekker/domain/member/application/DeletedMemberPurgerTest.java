@@ -0,0 +1,105 @@
+package com.trekker.domain.member.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.trekker.domain.member.dao.MemberPurgeRepository;
+import com.trekker.domain.report.dao.DailyTaskStatRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class DeletedMemberPurgerTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final int BATCH_SIZE = 2;
+
+    private final MemberPurgeRepository memberPurgeRepository = mock(MemberPurgeRepository.class);
+    private final DailyTaskStatRepository dailyTaskStatRepository =
+            mock(DailyTaskStatRepository.class);
+
+    @DisplayName("할 일, 프로젝트, 통계 순으로 배치마다 정리하고, 정리 완료를 기록한 뒤 대상이 없으면 멈춘다.")
+    @Test
+    void purge() {
+        // given
+        DeletedMemberPurger purger = purger(30);
+        when(memberPurgeRepository.findPurgeTargetMemberIds(any(LocalDateTime.class), eq(1)))
+                .thenReturn(List.of(MEMBER_ID), List.of(MEMBER_ID), List.of(MEMBER_ID),
+                        List.of(MEMBER_ID), List.of());
+        when(memberPurgeRepository.findTaskIdsByMemberId(MEMBER_ID, BATCH_SIZE))
+                .thenReturn(List.of(10L, 11L), List.of(12L), List.of());
+        when(memberPurgeRepository.findProjectIdsByMemberId(MEMBER_ID, BATCH_SIZE))
+                .thenReturn(List.of(100L), List.of());
+
+        // when
+        int batches = purger.purge();
+
+        // then
+        assertThat(batches).isEqualTo(4);
+        InOrder inOrder = inOrder(memberPurgeRepository, dailyTaskStatRepository);
+        inOrder.verify(memberPurgeRepository).archiveRetrospectiveSkills(List.of(10L, 11L));
+        inOrder.verify(memberPurgeRepository).deleteRetrospectiveSkills(List.of(10L, 11L));
+        inOrder.verify(memberPurgeRepository).archiveRetrospectives(List.of(10L, 11L));
+        inOrder.verify(memberPurgeRepository).deleteRetrospectives(List.of(10L, 11L));
+        inOrder.verify(memberPurgeRepository).archiveTasks(List.of(10L, 11L));
+        inOrder.verify(memberPurgeRepository).deleteTasks(List.of(10L, 11L));
+        inOrder.verify(memberPurgeRepository).deleteTasks(List.of(12L));
+        inOrder.verify(memberPurgeRepository).archiveProjectRetrospectives(List.of(100L));
+        inOrder.verify(memberPurgeRepository).deleteProjectRetrospectives(List.of(100L));
+        inOrder.verify(memberPurgeRepository).archiveRecurringTasks(List.of(100L));
+        inOrder.verify(memberPurgeRepository).deleteRecurringTasks(List.of(100L));
+        inOrder.verify(memberPurgeRepository).archiveProjects(List.of(100L));
+        inOrder.verify(memberPurgeRepository).deleteProjects(List.of(100L));
+        inOrder.verify(dailyTaskStatRepository).deleteByMemberId(MEMBER_ID);
+        inOrder.verify(memberPurgeRepository).markPurged(eq(MEMBER_ID), any(LocalDateTime.class));
+    }
+
+    @DisplayName("보관 기간이 지난 회원만 대상으로 조회한다.")
+    @Test
+    void purgeOnlyAfterRetention() {
+        // given
+        DeletedMemberPurger purger = purger(30);
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+        when(memberPurgeRepository.findPurgeTargetMemberIds(any(LocalDateTime.class), eq(1)))
+                .thenReturn(List.of());
+
+        // when
+        int batches = purger.purge();
+
+        // then
+        assertThat(batches).isZero();
+        verify(memberPurgeRepository).findPurgeTargetMemberIds(
+                argThat(cutoff -> !cutoff.isBefore(before)
+                        && cutoff.isBefore(before.plusMinutes(1))), eq(1));
+        verifyNoInteractions(dailyTaskStatRepository);
+    }
+
+    @DisplayName("실행 시간 한도가 0이면 배치를 실행하지 않는다.")
+    @Test
+    void purgeStopsAtDeadline() {
+        // given
+        DeletedMemberPurger purger = purger(0);
+
+        // when
+        int batches = purger.purge();
+
+        // then
+        assertThat(batches).isZero();
+        verifyNoInteractions(memberPurgeRepository, dailyTaskStatRepository);
+    }
+
+    private DeletedMemberPurger purger(long maxRunMinutes) {
+        return new DeletedMemberPurger(memberPurgeRepository, dailyTaskStatRepository,
+                mock(PlatformTransactionManager.class), 30, BATCH_SIZE, 0, maxRunMinutes);
+    }
+}
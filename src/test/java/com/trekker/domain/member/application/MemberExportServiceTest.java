@@ -0,0 +1,154 @@
+package com.trekker.domain.member.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.trekker.domain.member.dto.MemberExportRecurringTaskRowDto;
+import com.trekker.domain.member.dto.MemberExportRowDto;
+import com.trekker.domain.member.util.ExportFormat;
+import com.trekker.domain.project.dao.ProjectRepository;
+import com.trekker.domain.task.dao.RecurringTaskRepository;
+import com.trekker.domain.task.entity.RecurrenceFrequency;
+import com.trekker.domain.task.util.CompletionBitmap;
+import com.trekker.domain.task.util.RecurrenceRule;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+class MemberExportServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final RecurringTaskRepository recurringTaskRepository = mock(
+            RecurringTaskRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private MemberExportService memberExportService;
+
+    @BeforeEach
+    void setUp() {
+        memberExportService = new MemberExportService(projectRepository,
+                recurringTaskRepository, objectMapper, mock(PlatformTransactionManager.class), 1);
+    }
+
+    @DisplayName("조회 행을 할 일 단위 NDJSON 레코드로 응답에 쓴다.")
+    @Test
+    void exportNdjson() throws Exception {
+        // given
+        when(projectRepository.streamExportRowsByMemberId(MEMBER_ID)).thenReturn(Stream.of(
+                row(10L, "soft", "소통"), row(10L, "hard", "Java"), row(11L, null, null)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        memberExportService.export(MEMBER_ID, ExportFormat.NDJSON).writeTo(out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"softSkills\":[\"소통\"]", "\"hardSkills\":[\"Java\"]");
+        assertThat(lines[1]).contains("\"id\":11");
+    }
+
+    @DisplayName("할 일 레코드 뒤에 반복 할 일과 완료한 발생일을 이어서 쓴다.")
+    @Test
+    void exportRecurringTasks() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 11, 4);
+        byte[] completions = CompletionBitmap.set(CompletionBitmap.set(
+                CompletionBitmap.empty(), 0, true), 9, true);
+        when(projectRepository.streamExportRowsByMemberId(MEMBER_ID)).thenReturn(Stream.of(
+                row(10L, null, null)));
+        when(recurringTaskRepository.streamExportRowsByMemberId(MEMBER_ID)).thenReturn(Stream.of(
+                new MemberExportRecurringTaskRowDto(1L, "개인", "프로젝트", "설명",
+                        LocalDate.of(2024, 11, 1), null, false, 20L, "운동", startDate, null,
+                        RecurrenceFrequency.WEEKLY, 1,
+                        RecurrenceRule.weekdayMask(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY)),
+                        completions)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        memberExportService.export(MEMBER_ID, ExportFormat.NDJSON).writeTo(out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"recurringTask\":null");
+        assertThat(lines[1]).contains("\"task\":null", "\"id\":20", "\"frequency\":\"WEEKLY\"",
+                "\"weekdays\":[\"MONDAY\",\"WEDNESDAY\"]",
+                "\"completedDates\":[\"2024-11-04\",\"2024-11-13\"]");
+    }
+
+    @DisplayName("실행 중인 내보내기가 한도에 도달하면 SERVER_BUSY 예외를 던지고, 끝나면 다시 실행할 수 있다.")
+    @Test
+    void exportFailServerBusy() throws Exception {
+        // given
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        when(projectRepository.streamExportRowsByMemberId(MEMBER_ID)).thenAnswer(invocation -> {
+            reading.countDown();
+            finish.await(5, TimeUnit.SECONDS);
+            return Stream.of(row(10L, null, null));
+        });
+        StreamingResponseBody running = memberExportService.export(MEMBER_ID,
+                ExportFormat.CSV);
+        Thread writer = Thread.ofVirtual().start(() -> {
+            try {
+                running.writeTo(new ByteArrayOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> memberExportService.export(MEMBER_ID, ExportFormat.CSV))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.SERVER_BUSY.getMessage());
+
+        finish.countDown();
+        writer.join(5_000);
+        assertThat(memberExportService.export(MEMBER_ID, ExportFormat.CSV)).isNotNull();
+    }
+
+    @DisplayName("응답 본문이 실행되지 않고 끝나도 실행 허가가 남아 다시 내보낼 수 있다.")
+    @Test
+    void exportBodyNeverInvoked() {
+        // given (비동기 작업 거부, 본문 실행 전 시간 초과 등)
+        memberExportService.export(MEMBER_ID, ExportFormat.NDJSON);
+        memberExportService.export(MEMBER_ID, ExportFormat.NDJSON);
+
+        // when
+        StreamingResponseBody body = memberExportService.export(MEMBER_ID, ExportFormat.CSV);
+
+        // then
+        assertThat(body).isNotNull();
+    }
+
+    private static MemberExportRowDto row(Long taskId, String skillType, String skillName) {
+        return new MemberExportRowDto(1L, "개인", "프로젝트", "설명", LocalDate.of(2024, 11, 1),
+                null, false, taskId, "할 일", LocalDate.of(2024, 11, 2), null, true,
+                skillType == null ? null : "회고", skillType, skillName);
+    }
+}
@@ -1,10 +1,13 @@
 package com.trekker.domain.member.application;
 
+import static com.trekker.global.version.DataAggregate.MEMBER;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.when;
 
+import com.trekker.domain.member.cache.MemberIdentityCache;
 import com.trekker.domain.member.dao.MemberRepository;
+import com.trekker.domain.member.dto.MemberProfileDto;
 import com.trekker.domain.member.dto.req.MemberUpdateReqDto;
 import com.trekker.domain.member.dto.req.OnboardingReqDto;
 import com.trekker.domain.member.dto.res.MemberPortfolioResDto;
@@ -12,9 +15,11 @@ import com.trekker.domain.member.dto.res.MemberResDto;
 import com.trekker.domain.member.entity.Job;
 import com.trekker.domain.member.entity.Member;
 import com.trekker.domain.member.entity.Onboarding;
+import com.trekker.domain.project.dao.ProjectRepository;
 import com.trekker.domain.project.dto.ProjectSkillDto;
 import com.trekker.domain.retrospective.dao.RetrospectiveSkillRepository;
 import com.trekker.global.service.file.FileService;
+import com.trekker.global.version.DataVersions;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,9 +44,16 @@ class MemberServiceTest {
     MemberRepository memberRepository;
     @Mock
     RetrospectiveSkillRepository retrospectiveSkillRepository;
+    @Mock
+    ProjectRepository projectRepository;
+    @Mock
+    MemberIdentityCache memberIdentityCache;
+    @Mock
+    DataVersions dataVersions;
 
     private Long memberId;
     private Member mockMember;
+    private MemberProfileDto profile;
 
     private ProjectSkillDto skillDto1;
     private ProjectSkillDto skillDto2;
@@ -56,6 +69,7 @@ class MemberServiceTest {
                 .profileImage("profilePath")
                 .onboarding(Onboarding.toOnboarding())
                 .build();
+        profile = new MemberProfileDto("테스트", "백엔드", "google", "profilePath");
 
         skillDto1 = ProjectSkillDto.builder()
                 .projectId(1L)
@@ -95,13 +109,16 @@ class MemberServiceTest {
     @Test
     void getMember() {
         // given
-        when(memberRepository.findByIdWithJob(memberId)).thenReturn(Optional.of(mockMember));
+        when(memberRepository.findProfileById(memberId)).thenReturn(Optional.of(profile));
 
         // when
         MemberResDto member = memberService.getMember(memberId);
 
         // then
-        assertThat(member.name()).isEqualTo(mockMember.getName());
+        assertThat(member.name()).isEqualTo(profile.name());
+        assertThat(member.jobName()).isEqualTo(profile.jobName());
+        assertThat(member.provider()).isEqualTo(profile.provider());
+        verify(memberRepository, never()).findByIdWithJob(any());
     }
 
     @DisplayName("온보딩 정보를 업데이트 한다.")
@@ -121,6 +138,7 @@ class MemberServiceTest {
         // then
         assertThat(mockMember.getName()).isEqualTo(req.name());
         assertThat(mockMember.getJob().getJobName()).isEqualTo(req.jobName());
+        verify(dataVersions, times(1)).bump(memberId, MEMBER);
     }
 
     @Test
@@ -139,6 +157,7 @@ class MemberServiceTest {
         //then
         assertThat(mockMember.getName()).isEqualTo(req.name());
         verify(fileService, times(1)).saveProfileImage(any());
+        verify(dataVersions, times(1)).bump(memberId, MEMBER);
     }
 
     @DisplayName("회원의 포트폴리오를 생성할 때 필요한 값들을 반환한다.")
@@ -147,15 +166,46 @@ class MemberServiceTest {
         // given
         List<ProjectSkillDto> skillDtoList = List.of(skillDto1, skillDto2, skillDto3);
 
-        when(memberRepository.findByIdWithJob(memberId)).thenReturn(Optional.of(mockMember));
-        when(retrospectiveSkillRepository.findProjectSkillsByMemberId(memberId)).thenReturn(
-                skillDtoList);
+        when(memberRepository.findProfileById(memberId)).thenReturn(Optional.of(profile));
+        when(projectRepository.findPortfolioProjectIds(memberId, 0L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(1L, 2L));
+        when(retrospectiveSkillRepository.findProjectSkillsByProjectIdIn(List.of(1L, 2L)))
+                .thenReturn(skillDtoList);
 
         //when
-        MemberPortfolioResDto portfolio = memberService.getPortfolio(memberId);
+        MemberPortfolioResDto portfolio = memberService.getPortfolio(memberId, null, 2);
 
         //then
-        assertThat(portfolio.name()).isEqualTo(mockMember.getName());
+        assertThat(portfolio.name()).isEqualTo(profile.name());
         assertThat(portfolio.projectSkillResDto().size()).isEqualTo(2);
+        assertThat(portfolio.hasNext()).isFalse();
+        assertThat(portfolio.nextCursor()).isNull();
+    }
+
+    @DisplayName("포트폴리오 프로젝트가 페이지 크기보다 많으면 다음 커서로 이어서 조회한다.")
+    @Test
+    void getPortfolioNextPage() {
+        // given
+        when(memberRepository.findProfileById(memberId)).thenReturn(Optional.of(profile));
+        when(projectRepository.findPortfolioProjectIds(memberId, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(1L, 2L));
+        when(retrospectiveSkillRepository.findProjectSkillsByProjectIdIn(List.of(1L)))
+                .thenReturn(List.of(skillDto1));
+        MemberPortfolioResDto first = memberService.getPortfolio(memberId, null, 1);
+
+        when(projectRepository.findPortfolioProjectIds(memberId, 1L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(2L));
+        when(retrospectiveSkillRepository.findProjectSkillsByProjectIdIn(List.of(2L)))
+                .thenReturn(List.of(skillDto2, skillDto3));
+
+        // when
+        MemberPortfolioResDto second = memberService.getPortfolio(memberId, first.nextCursor(),
+                1);
+
+        // then
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.projectSkillResDto()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.projectSkillResDto()).hasSize(1);
     }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.trekker.domain.member.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trekker.domain.member.application.MemberRegistrar;
+import com.trekker.domain.member.dao.MemberRepository;
+import com.trekker.domain.member.dto.MemberIdentityDto;
+import com.trekker.domain.member.entity.Role;
+import com.trekker.domain.member.entity.SocialProvider;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class MemberIdentityCacheTest {
+
+    private static final String EMAIL = "user@gmail.com";
+    private static final String PROVIDER = "google";
+    private static final String PROVIDER_ID = "google-sub";
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private MemberRegistrar memberRegistrar;
+
+    private MemberIdentityCache memberIdentityCache;
+    private MemberIdentityDto identity;
+
+    @BeforeEach
+    void setUp() {
+        memberIdentityCache = new MemberIdentityCache(memberRepository, memberRegistrar, 100, 60);
+        identity = new MemberIdentityDto(1L, Role.USER, false);
+    }
+
+    @DisplayName("같은 소셜 계정으로 다시 로그인하면 DB를 조회하지 않는다.")
+    @Test
+    void cachedIdentity() {
+        // given
+        when(memberRepository.findIdentityByProviderAndProviderId(PROVIDER, PROVIDER_ID))
+                .thenReturn(Optional.of(identity));
+
+        // when
+        MemberIdentityDto first = memberIdentityCache.getOrCreate(EMAIL, PROVIDER, PROVIDER_ID);
+        MemberIdentityDto second = memberIdentityCache.getOrCreate(EMAIL, PROVIDER, PROVIDER_ID);
+
+        // then
+        assertThat(first).isEqualTo(identity);
+        assertThat(second).isSameAs(first);
+        verify(memberRepository, times(1))
+                .findIdentityByProviderAndProviderId(PROVIDER, PROVIDER_ID);
+        verify(memberRegistrar, never()).register(EMAIL, PROVIDER, PROVIDER_ID);
+    }
+
+    @DisplayName("처음 로그인한 소셜 계정은 회원으로 등록한다.")
+    @Test
+    void registerNewMember() {
+        // given
+        when(memberRepository.findIdentityByProviderAndProviderId(PROVIDER, PROVIDER_ID))
+                .thenReturn(Optional.empty());
+        when(memberRegistrar.register(EMAIL, PROVIDER, PROVIDER_ID)).thenReturn(identity);
+
+        // when
+        MemberIdentityDto result = memberIdentityCache.getOrCreate(EMAIL, PROVIDER, PROVIDER_ID);
+
+        // then
+        assertThat(result).isEqualTo(identity);
+    }
+
+    @DisplayName("다른 요청이 먼저 등록해 유니크 제약에 걸리면 등록된 회원을 다시 조회한다.")
+    @Test
+    void reuseConcurrentlyRegisteredMember() {
+        // given
+        when(memberRepository.findIdentityByProviderAndProviderId(PROVIDER, PROVIDER_ID))
+                .thenReturn(Optional.empty());
+        when(memberRegistrar.register(EMAIL, PROVIDER, PROVIDER_ID))
+                .thenThrow(new DataIntegrityViolationException("duplicate provider_id"));
+        when(memberRegistrar.findCommittedIdentity(PROVIDER, PROVIDER_ID))
+                .thenReturn(Optional.of(identity));
+
+        // when
+        MemberIdentityDto result = memberIdentityCache.getOrCreate(EMAIL, PROVIDER, PROVIDER_ID);
+
+        // then
+        assertThat(result).isEqualTo(identity);
+    }
+
+    @DisplayName("무효화하면 다음 로그인 시 변경된 회원 정보를 다시 조회한다.")
+    @Test
+    void invalidate() {
+        // given
+        MemberIdentityDto completed = new MemberIdentityDto(1L, Role.USER, true);
+        when(memberRepository.findIdentityByProviderAndProviderId(PROVIDER, PROVIDER_ID))
+                .thenReturn(Optional.of(identity), Optional.of(completed));
+        memberIdentityCache.getOrCreate(EMAIL, PROVIDER, PROVIDER_ID);
+
+        // when
+        memberIdentityCache.invalidate(SocialProvider.toSocialProvider(PROVIDER, PROVIDER_ID));
+        MemberIdentityDto result = memberIdentityCache.getOrCreate(EMAIL, PROVIDER, PROVIDER_ID);
+
+        // then
+        assertThat(result.onboardingCompleted()).isTrue();
+    }
+}
@@ -0,0 +1,85 @@
+package com.trekker.domain.member.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trekker.domain.member.dto.MemberExportRecordDto;
+import com.trekker.domain.member.dto.MemberExportRowDto;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemberExportAssemblerTest {
+
+    @DisplayName("같은 할 일의 스킬 행을 한 레코드로 묶고 소프트/하드 스킬을 나눈다.")
+    @Test
+    void groupSkillRowsByTask() {
+        // given
+        List<MemberExportRecordDto> records = new ArrayList<>();
+        MemberExportAssembler assembler = new MemberExportAssembler(records::add);
+
+        // when
+        assembler.accept(row(1L, 10L, "회고", "soft", "소통"));
+        assembler.accept(row(1L, 10L, "회고", "hard", "Java"));
+        assembler.accept(row(1L, 10L, "회고", "hard", "Spring"));
+        assembler.accept(row(1L, 11L, "두 번째 회고", "soft", "리더십"));
+        assembler.finish();
+
+        // then
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).task().id()).isEqualTo(10L);
+        assertThat(records.get(0).retrospective().softSkills()).containsExactly("소통");
+        assertThat(records.get(0).retrospective().hardSkills())
+                .containsExactly("Java", "Spring");
+        assertThat(records.get(1).task().id()).isEqualTo(11L);
+        assertThat(records.get(1).retrospective().softSkills()).containsExactly("리더십");
+        assertThat(records.get(1).retrospective().hardSkills()).isEmpty();
+    }
+
+    @DisplayName("할 일이 없는 프로젝트와 회고가 없는 할 일도 레코드로 내보낸다.")
+    @Test
+    void emitProjectWithoutTaskAndTaskWithoutRetrospective() {
+        // given
+        List<MemberExportRecordDto> records = new ArrayList<>();
+        MemberExportAssembler assembler = new MemberExportAssembler(records::add);
+
+        // when
+        assembler.accept(row(1L, null, null, null, null));
+        assembler.accept(row(2L, 20L, null, null, null));
+        assembler.finish();
+
+        // then
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).project().id()).isEqualTo(1L);
+        assertThat(records.get(0).task()).isNull();
+        assertThat(records.get(0).retrospective()).isNull();
+        assertThat(records.get(1).project().id()).isEqualTo(2L);
+        assertThat(records.get(1).task().id()).isEqualTo(20L);
+        assertThat(records.get(1).retrospective()).isNull();
+    }
+
+    @DisplayName("행이 없으면 레코드를 내보내지 않는다.")
+    @Test
+    void emitNothingWithoutRows() {
+        // given
+        List<MemberExportRecordDto> records = new ArrayList<>();
+        MemberExportAssembler assembler = new MemberExportAssembler(records::add);
+
+        // when
+        assembler.finish();
+
+        // then
+        assertThat(records).isEmpty();
+    }
+
+    static MemberExportRowDto row(Long projectId, Long taskId, String content, String skillType,
+            String skillName) {
+        return new MemberExportRowDto(projectId, "개인", "프로젝트 " + projectId, "설명",
+                LocalDate.of(2024, 11, 1), null, false,
+                taskId, taskId == null ? null : "할 일 " + taskId,
+                taskId == null ? null : LocalDate.of(2024, 11, 2), null,
+                taskId == null ? null : true,
+                content, skillType, skillName);
+    }
+}
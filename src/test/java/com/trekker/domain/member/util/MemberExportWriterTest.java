@@ -0,0 +1,104 @@
+package com.trekker.domain.member.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.trekker.domain.member.dto.MemberExportRecordDto;
+import com.trekker.domain.member.dto.MemberExportRecordDto.ExportProject;
+import com.trekker.domain.member.dto.MemberExportRecordDto.ExportRecurringTask;
+import com.trekker.domain.member.dto.MemberExportRecordDto.ExportRetrospective;
+import com.trekker.domain.member.dto.MemberExportRecordDto.ExportTask;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemberExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @DisplayName("NDJSON은 레코드마다 JSON 한 줄을 쓴다.")
+    @Test
+    void writeNdjsonLines() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (MemberExportWriter writer = ExportFormat.NDJSON.createWriter(out, objectMapper)) {
+            writer.write(record("할 일", "회고"));
+            writer.write(new MemberExportRecordDto(project(), null, null, null));
+        }
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.at("/task/name").asText()).isEqualTo("할 일");
+        assertThat(first.at("/task/startDate").asText()).isEqualTo("2024-11-02");
+        assertThat(first.at("/retrospective/hardSkills/1").asText()).isEqualTo("Spring");
+        assertThat(objectMapper.readTree(lines[1]).get("task").isNull()).isTrue();
+    }
+
+    @DisplayName("CSV는 BOM과 헤더 뒤에 레코드마다 한 행을 쓰고, 쉼표·따옴표·줄바꿈이 있는 값은 따옴표로 감싼다.")
+    @Test
+    void writeCsvRowsEscaped() {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (MemberExportWriter writer = ExportFormat.CSV.createWriter(out, objectMapper)) {
+            writer.write(record("쉼표, \"따옴표\"", "첫 줄\n둘째 줄"));
+        }
+
+        // then
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFFproject_id,");
+        String[] rows = csv.substring(1).split("\r\n");
+        assertThat(rows).hasSize(2);
+        assertThat(rows[1]).isEqualTo("1,개인,프로젝트,설명,2024-11-01,,false,"
+                + "10,\"쉼표, \"\"따옴표\"\"\",2024-11-02,,true,"
+                + "\"첫 줄\n둘째 줄\",소통,Java;Spring,,,,,,,,");
+    }
+
+    @DisplayName("CSV의 반복 할 일 행은 할 일 칸을 비우고 요일과 완료일을 세미콜론으로 잇는다.")
+    @Test
+    void writeCsvRecurringTaskRow() {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportRecurringTask recurringTask = new ExportRecurringTask(20L, "운동",
+                LocalDate.of(2024, 11, 4), null, "WEEKLY", 1,
+                List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY),
+                List.of(LocalDate.of(2024, 11, 4), LocalDate.of(2024, 11, 13)));
+
+        // when
+        try (MemberExportWriter writer = ExportFormat.CSV.createWriter(out, objectMapper)) {
+            writer.write(new MemberExportRecordDto(project(), null, null, recurringTask));
+        }
+
+        // then
+        String[] rows = out.toString(StandardCharsets.UTF_8).substring(1).split("\r\n");
+        assertThat(rows[0]).endsWith(",recurring_task_completed_dates");
+        assertThat(rows[1]).isEqualTo("1,개인,프로젝트,설명,2024-11-01,,false,"
+                + ",,,,,,,,"
+                + "20,운동,2024-11-04,,WEEKLY,1,MONDAY;WEDNESDAY,2024-11-04;2024-11-13");
+    }
+
+    private static MemberExportRecordDto record(String taskName, String content) {
+        return new MemberExportRecordDto(project(),
+                new ExportTask(10L, taskName, LocalDate.of(2024, 11, 2), null, true),
+                new ExportRetrospective(content, List.of("소통"), List.of("Java", "Spring")), null);
+    }
+
+    private static ExportProject project() {
+        return new ExportProject(1L, "개인", "프로젝트", "설명", LocalDate.of(2024, 11, 1), null,
+                false);
+    }
+}
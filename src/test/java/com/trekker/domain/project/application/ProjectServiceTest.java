@@ -1,25 +1,36 @@
 package com.trekker.domain.project.application;
 
+import static com.trekker.global.version.DataAggregate.PROJECT;
+import static com.trekker.global.version.DataAggregate.RETROSPECTIVE;
+import static com.trekker.global.version.DataAggregate.TASK;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.mock;
 
 import com.trekker.domain.member.dao.MemberRepository;
+import com.trekker.domain.member.dto.MemberProfileDto;
 import com.trekker.domain.member.entity.Job;
 import com.trekker.domain.member.entity.Member;
 import com.trekker.domain.project.dao.ProjectRepository;
+import com.trekker.domain.project.dto.ProjectSummaryDto;
 import com.trekker.domain.project.dto.req.ProjectReqDto;
 import com.trekker.domain.project.dto.res.ProjectWithMemberInfoResDto;
 import com.trekker.domain.project.dto.res.ProjectWithTaskCompletedList;
 import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.report.service.DailyTaskStatsService;
 import com.trekker.domain.retrospective.dao.RetrospectiveSkillRepository;
 import com.trekker.domain.retrospective.dto.res.ProjectSkillSummaryResDto;
+import com.trekker.domain.task.cache.TaskIntervalIndexCache;
 import com.trekker.domain.task.dao.TaskRepository;
 import com.trekker.domain.task.dto.SkillCountDto;
 import com.trekker.domain.task.dto.TaskRetrospectiveSkillDto;
 import com.trekker.domain.task.dto.res.TaskRetrospectiveResDto;
+import com.trekker.global.config.jpa.ParallelQueryExecutor;
 import com.trekker.global.exception.custom.BusinessException;
 import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.pagination.CursorCodec;
+import com.trekker.global.pagination.CursorPage;
+import com.trekker.global.version.DataVersions;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -28,8 +39,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 
@@ -45,6 +58,14 @@ class ProjectServiceTest {
     
     @Mock
     private TaskRepository taskRepository;
+    @Mock
+    private TaskIntervalIndexCache taskIntervalIndexCache;
+    @Mock
+    private DailyTaskStatsService dailyTaskStatsService;
+    @Mock
+    private DataVersions dataVersions;
+    @Spy
+    private ParallelQueryExecutor parallelQueryExecutor = new ParallelQueryExecutor(4, 1000);
     
     @Mock
     private RetrospectiveSkillRepository retrospectiveSkillRepository;
@@ -104,39 +125,52 @@ class ProjectServiceTest {
     @Test
     void getProjectList() {
         // given
-        Project project = Project.builder()
-                .id(1L)
-                .title("Test Project")
-                .startDate(LocalDate.now())
-                .type("개인")
-                .build();
-        List<Project> projects = List.of(project);
+        ProjectSummaryDto project = new ProjectSummaryDto(1L, memberId, "개인", "Test Project",
+                null, LocalDate.now(), null);
+        List<ProjectSummaryDto> projects = List.of(project);
 
-        Member mockMember = Member.builder()
-                .name("테스트")
-                .job(Job.toJob("백엔드"))
-                .projectList(projects)
-                .build();
-
-        when(memberRepository.findByIdWithJob(memberId)).thenReturn(
-                Optional.of(mockMember));
-        when(projectRepository.findFilteredProjects(memberId, "개인")).thenReturn(projects);
+        when(memberRepository.findProfileById(memberId)).thenReturn(Optional.of(profile()));
+        when(projectRepository.findActiveProjectsByType(memberId, "개인")).thenReturn(projects);
 
         // when
         ProjectWithMemberInfoResDto resDto = projectService.getProjectList(memberId, "개인");
 
         // then
+        assertThat(resDto.name()).isEqualTo("테스트");
+        assertThat(resDto.jobName()).isEqualTo("백엔드");
         assertThat(resDto.projectList().size()).isEqualTo(1);
-        assertThat(resDto.projectList().get(0).title()).isEqualTo(project.getTitle());
+        assertThat(resDto.projectList().get(0).title()).isEqualTo(project.title());
 
     }
 
+    @DisplayName("유형을 지정하지 않으면 회원의 진행 중인 프로젝트를 모두 조회한다.")
+    @Test
+    void getProjectListWithoutType() {
+        // given
+        List<ProjectSummaryDto> projects = List.of(
+                new ProjectSummaryDto(1L, memberId, "개인", "개인 프로젝트", null, LocalDate.now(),
+                        null),
+                new ProjectSummaryDto(2L, memberId, "팀", "팀 프로젝트", null, LocalDate.now(),
+                        null));
+
+        when(memberRepository.findProfileById(memberId)).thenReturn(Optional.of(profile()));
+        when(projectRepository.findActiveProjects(memberId)).thenReturn(projects);
+
+        // when
+        ProjectWithMemberInfoResDto resDto = projectService.getProjectList(memberId, null);
+
+        // then
+        assertThat(resDto.projectList().size()).isEqualTo(2);
+        verify(projectRepository, never()).findActiveProjectsByType(any(), any());
+    }
+
     @DisplayName("프로젝트의 상위 3개 소프트 스킬과 하드 스킬을 반환한다.")
     @Test
     void getProjectSkillSummary() {
         // given
         Long projectId = 1L;
-        Project mockProject = mock(Project.class);
+        ProjectSummaryDto project = new ProjectSummaryDto(projectId, memberId, "개인",
+                "Test Project", null, LocalDate.now(), null);
 
         List<SkillCountDto> softSkills = Arrays.asList(
                 new SkillCountDto("Communication", 10L),
@@ -150,8 +184,7 @@ class ProjectServiceTest {
                 new SkillCountDto("Hibernate", 7L)
         );
 
-        doNothing().when(mockProject).validateOwner(memberId);
-        when(projectRepository.findProjectByIdWIthMember(projectId)).thenReturn(Optional.of(mockProject));
+        when(projectRepository.findProjectSummaryById(projectId)).thenReturn(Optional.of(project));
         when(retrospectiveSkillRepository.findTopSkillsByType(projectId, "soft", PageRequest.of(0, 3)))
                 .thenReturn(softSkills);
         when(retrospectiveSkillRepository.findTopSkillsByType(projectId, "hard", PageRequest.of(0, 3)))
@@ -165,6 +198,8 @@ class ProjectServiceTest {
         // then
         assertThat(result.topSoftSkillList()).isEqualTo(softSkills);
         assertThat(result.topHardSkillList()).isEqualTo(hardSkills);
+        assertThat(result.title()).isEqualTo(project.title());
+        verify(projectRepository, never()).findProjectByIdWIthMember(any());
     }
 
     @DisplayName("기존의 프로젝트를 수정한다.")
@@ -193,6 +228,7 @@ class ProjectServiceTest {
 
         //then
         assertThat(project.getTitle()).isEqualTo(reqDto.title());
+        verify(dataVersions, times(1)).bump(memberId, PROJECT);
     }
 
     @DisplayName("기존의 프로젝트를 삭제한다.")
@@ -211,7 +247,16 @@ class ProjectServiceTest {
         projectService.deleteProject(memberId, project.getId());
 
         // then
-        verify(projectRepository, times(1)).delete(project);
+        InOrder inOrder = inOrder(projectRepository);
+        inOrder.verify(projectRepository).deleteRetrospectiveSkillsByProjectId(project.getId());
+        inOrder.verify(projectRepository).deleteRetrospectivesByProjectId(project.getId());
+        inOrder.verify(projectRepository).deleteTasksByProjectId(project.getId());
+        inOrder.verify(projectRepository).deleteProjectRetrospectiveByProjectId(project.getId());
+        inOrder.verify(projectRepository).deleteByProjectId(project.getId());
+        verify(projectRepository, never()).delete(any(Project.class));
+        verify(dailyTaskStatsService, times(1)).rebuild(memberId);
+        verify(taskIntervalIndexCache, times(1)).evict(memberId);
+        verify(dataVersions, times(1)).bump(memberId, PROJECT, TASK, RETROSPECTIVE);
     }
 
 
@@ -251,6 +296,8 @@ class ProjectServiceTest {
         assertThatThrownBy(() -> projectService.deleteProject(memberId, project.getId()))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining(ErrorCode.ACCESS_DENIED_EXCEPTION.getMessage());
+        verify(projectRepository, never()).deleteRetrospectiveSkillsByProjectId(any());
+        verify(projectRepository, never()).deleteByProjectId(any());
     }
 
     @DisplayName("회원의 프로젝트별 회고 개수를 조회한다.")
@@ -308,17 +355,46 @@ class ProjectServiceTest {
 
         List<TaskRetrospectiveSkillDto> mockTaskRetrospectives = Arrays.asList(dto1, dto2, dto3);
 
-        when(taskRepository.findTaskRetrospectivesByProjectIdAndMemberId(projectId, memberId))
+        when(taskRepository.findRetrospectiveTaskIdsByProjectIdAndMemberId(projectId, memberId,
+                0L, PageRequest.of(0, 21))).thenReturn(List.of(1L, 2L));
+        when(taskRepository.findTaskRetrospectivesByTaskIdIn(List.of(1L, 2L)))
                 .thenReturn(mockTaskRetrospectives);
 
         // when
-        List<TaskRetrospectiveResDto> result = projectService.getProjectRetrospectiveList(memberId,
-                projectId);
+        CursorPage<TaskRetrospectiveResDto> result = projectService.getProjectRetrospectiveList(
+                memberId, projectId, null, 20);
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).taskId()).isEqualTo(dto1.taskId());
-        assertThat(result.get(0).softSkillList().get(0)).isEqualTo(dto1.skillName());
-        assertThat(result.get(1).softSkillList().get(0)).isEqualTo(dto3.skillName());
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.content().get(0).taskId()).isEqualTo(dto1.taskId());
+        assertThat(result.content().get(0).softSkillList().get(0)).isEqualTo(dto1.skillName());
+        assertThat(result.content().get(1).softSkillList().get(0)).isEqualTo(dto3.skillName());
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @DisplayName("회고를 작성한 할 일이 페이지 크기보다 많으면 페이지의 할 일만 스킬을 조회하고 다음 커서를 반환한다.")
+    @Test
+    void getProjectRetrospectiveListNextCursor() {
+        // given
+        Long projectId = 1L;
+        TaskRetrospectiveSkillDto dto = new TaskRetrospectiveSkillDto(5L, LocalDate.now(), null,
+                "회고", "hard", "Java");
+        when(taskRepository.findRetrospectiveTaskIdsByProjectIdAndMemberId(projectId, memberId,
+                0L, PageRequest.of(0, 2))).thenReturn(List.of(5L, 8L));
+        when(taskRepository.findTaskRetrospectivesByTaskIdIn(List.of(5L))).thenReturn(List.of(dto));
+
+        // when
+        CursorPage<TaskRetrospectiveResDto> result = projectService.getProjectRetrospectiveList(
+                memberId, projectId, null, 1);
+
+        // then
+        assertThat(result.content()).extracting(TaskRetrospectiveResDto::taskId)
+                .containsExactly(5L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(CursorCodec.decodeId(result.nextCursor())).isEqualTo(5L);
+    }
+
+    private MemberProfileDto profile() {
+        return new MemberProfileDto("테스트", "백엔드", "google", null);
     }
-}
\ No newline at end of file
+}
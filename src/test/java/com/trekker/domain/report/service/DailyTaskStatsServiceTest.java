@@ -0,0 +1,122 @@
+package com.trekker.domain.report.service;
+
+import static org.mockito.Mockito.*;
+
+import com.trekker.domain.report.dao.DailyTaskStatRepository;
+import com.trekker.domain.task.dto.TaskSpan;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DailyTaskStatsServiceTest {
+
+    @InjectMocks
+    private DailyTaskStatsService dailyTaskStatsService;
+    @Mock
+    private DailyTaskStatRepository dailyTaskStatRepository;
+
+    private Long memberId;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        memberId = 1L;
+        today = LocalDate.now();
+    }
+
+    @DisplayName("완료된 할 일을 추가하면 기간의 전체/완료 할 일 수가 1씩 증가한다.")
+    @Test
+    void addCompletedTask() {
+        // given
+        TaskSpan span = new TaskSpan(1L, 1L, "할 일", today, today.plusDays(2), true);
+
+        // when
+        dailyTaskStatsService.add(memberId, span);
+
+        // then
+        verify(dailyTaskStatRepository, times(1))
+                .addDelta(memberId, today, today.plusDays(2), 1, 1);
+    }
+
+    @DisplayName("종료일이 없는 미완료 할 일을 삭제하면 시작일의 전체 할 일 수만 감소한다.")
+    @Test
+    void removeIncompleteTask() {
+        // given
+        TaskSpan span = new TaskSpan(1L, 1L, "할 일", today, null, false);
+
+        // when
+        dailyTaskStatsService.remove(memberId, span);
+
+        // then
+        verify(dailyTaskStatRepository, times(1)).addDelta(memberId, today, today, -1, 0);
+    }
+
+    @DisplayName("기간은 같고 완료 여부만 바뀌면 완료된 할 일 수만 증감한다.")
+    @Test
+    void replaceCompletedOnly() {
+        // given
+        TaskSpan before = new TaskSpan(1L, 1L, "할 일", today, today.plusDays(1), false);
+        TaskSpan after = new TaskSpan(1L, 1L, "할 일", today, today.plusDays(1), true);
+
+        // when
+        dailyTaskStatsService.replace(memberId, before, after);
+        dailyTaskStatsService.replace(memberId, after, before);
+
+        // then
+        verify(dailyTaskStatRepository, times(1))
+                .addDelta(memberId, today, today.plusDays(1), 0, 1);
+        verify(dailyTaskStatRepository, times(1))
+                .addDelta(memberId, today, today.plusDays(1), 0, -1);
+        verifyNoMoreInteractions(dailyTaskStatRepository);
+    }
+
+    @DisplayName("기간과 완료 여부가 그대로면 통계를 갱신하지 않는다.")
+    @Test
+    void replaceUnchanged() {
+        // given
+        TaskSpan before = new TaskSpan(1L, 1L, "할 일", today, null, false);
+        TaskSpan after = new TaskSpan(1L, 1L, "수정 할 일", today, today, false);
+
+        // when
+        dailyTaskStatsService.replace(memberId, before, after);
+
+        // then
+        verifyNoInteractions(dailyTaskStatRepository);
+    }
+
+    @DisplayName("기간이 바뀌면 이전 기간을 빼고 새 기간을 더한다.")
+    @Test
+    void replaceRange() {
+        // given
+        TaskSpan before = new TaskSpan(1L, 1L, "할 일", today, today.plusDays(1), true);
+        TaskSpan after = new TaskSpan(1L, 1L, "할 일", today.plusDays(3), null, false);
+
+        // when
+        dailyTaskStatsService.replace(memberId, before, after);
+
+        // then
+        verify(dailyTaskStatRepository, times(1))
+                .addDelta(memberId, today, today.plusDays(1), -1, -1);
+        verify(dailyTaskStatRepository, times(1))
+                .addDelta(memberId, today.plusDays(3), today.plusDays(3), 1, 0);
+    }
+
+    @DisplayName("통계를 다시 계산하면 기존 행을 지운 뒤 할 일로 다시 채운다.")
+    @Test
+    void rebuild() {
+        // when
+        dailyTaskStatsService.rebuild(memberId);
+
+        // then
+        InOrder inOrder = inOrder(dailyTaskStatRepository);
+        inOrder.verify(dailyTaskStatRepository).deleteByMemberId(memberId);
+        inOrder.verify(dailyTaskStatRepository).insertFromTasks(memberId);
+    }
+}
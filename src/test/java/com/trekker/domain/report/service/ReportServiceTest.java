@@ -4,11 +4,21 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.trekker.domain.report.dao.DailyTaskStatRepository;
+import com.trekker.domain.report.dto.ReportDailyResDto;
 import com.trekker.domain.report.dto.ReportResDto;
+import com.trekker.domain.report.entity.DailyTaskStat;
 import com.trekker.domain.retrospective.dao.RetrospectiveSkillRepository;
-import com.trekker.domain.task.dao.TaskRepository;
+import com.trekker.domain.task.dao.RecurringTaskRepository;
+import com.trekker.domain.task.dto.RecurringTaskDto;
 import com.trekker.domain.task.dto.SkillCountDto;
-import com.trekker.domain.task.entity.Task;
+import com.trekker.domain.task.entity.RecurrenceFrequency;
+import com.trekker.domain.task.util.RecurrenceRule;
+import java.time.DayOfWeek;
+import com.trekker.global.config.jpa.ParallelQueryExecutor;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.pagination.CursorPage;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -19,10 +29,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 class ReportServiceTest {
@@ -32,14 +42,18 @@ class ReportServiceTest {
     @Mock
     private RetrospectiveSkillRepository retrospectiveSkillRepository;
     @Mock
-    private TaskRepository taskRepository;
+    private DailyTaskStatRepository dailyTaskStatRepository;
+    @Mock
+    private RecurringTaskRepository recurringTaskRepository;
+    @Spy
+    private ParallelQueryExecutor parallelQueryExecutor = new ParallelQueryExecutor(4, 1000);
 
     private Long memberId;
     private List<SkillCountDto> mockSoftSkillList;
     private List<SkillCountDto> mockHardSkillList;
     private LocalDate today;
-    private Task task1;
-    private Task task2;
+    private DailyTaskStat todayStat;
+    private DailyTaskStat tomorrowStat;
 
     @BeforeEach
     void setUp() {
@@ -59,19 +73,19 @@ class ReportServiceTest {
                 new SkillCountDto("Spring", 2L)
         );
 
-        task1 = Task.builder()
-                .id(1L)
-                .name("미완료 할 일")
-                .isCompleted(false)
-                .start_date(today)
+        // 오늘: 미완료 할 일 1개 + 완료 할 일 1개, 내일: 완료 할 일 1개
+        todayStat = DailyTaskStat.builder()
+                .memberId(memberId)
+                .statDate(today)
+                .total(2)
+                .completed(1)
                 .build();
 
-        task2 = Task.builder()
-                .id(2L)
-                .name("완료 할 일")
-                .isCompleted(true)
-                .start_date(today)
-                .end_date(today.plusDays(3))
+        tomorrowStat = DailyTaskStat.builder()
+                .memberId(memberId)
+                .statDate(today.plusDays(1))
+                .total(1)
+                .completed(1)
                 .build();
     }
 
@@ -80,15 +94,12 @@ class ReportServiceTest {
     @Test
     void getMemberReport() {
         // given
-        LocalDate startOfMonth = LocalDate.of(today.getYear(), today.getMonth(), 1);
-        LocalDate endOfMonth = startOfMonth.withDayOfMonth(startOfMonth.lengthOfMonth());
-
         when(retrospectiveSkillRepository.findTopSkillsByMemberIdAndType(memberId, "soft",
                 PageRequest.of(0, 3))).thenReturn(mockSoftSkillList);
         when(retrospectiveSkillRepository.findTopSkillsByMemberIdAndType(memberId, "hard",
                 PageRequest.of(0, 3))).thenReturn(mockHardSkillList);
-        when(taskRepository.findTasksInMonth(memberId, startOfMonth, endOfMonth)).thenReturn(
-                List.of(task1, task2));
+        when(dailyTaskStatRepository.findStatsInRange(eq(memberId), any(LocalDate.class),
+                any(LocalDate.class))).thenReturn(List.of(todayStat, tomorrowStat));
 
         // when
         ReportResDto memberReport = reportService.getMemberReport(memberId);
@@ -101,24 +112,130 @@ class ReportServiceTest {
         // 오늘의 경우 할 일 2개중 1개만 완료 50% -> 40
         assertThat(memberReport.dailyProgressRatesInMonth().get(today)).isEqualTo(40);
         assertThat(memberReport.dailyProgressRatesInMonth().get(today.plusDays(1))).isEqualTo(100);
-        // 오늘 완료한 할일은 1개(task2)
+        // 오늘 완료한 할일은 1개
         assertThat(memberReport.weeklyCompletedTasks().get(today)).isEqualTo(1);
 
     }
 
+    @DisplayName("여러 달에 걸친 기간의 날짜별 통계를 배열로 조회합니다.")
+    @Test
+    void getDailyReport() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 11, 29);
+        LocalDate endDate = LocalDate.of(2024, 12, 2);
+        DailyTaskStat novemberStat = DailyTaskStat.builder()
+                .memberId(memberId)
+                .statDate(LocalDate.of(2024, 11, 30))
+                .total(2)
+                .completed(1)
+                .build();
+        DailyTaskStat decemberStat = DailyTaskStat.builder()
+                .memberId(memberId)
+                .statDate(endDate)
+                .total(1)
+                .completed(1)
+                .build();
+
+        when(dailyTaskStatRepository.findStatsInRange(memberId, startDate, endDate))
+                .thenReturn(List.of(novemberStat, decemberStat));
+
+        // when
+        ReportDailyResDto dailyReport = reportService.getDailyReport(memberId, startDate,
+                endDate);
+
+        // then
+        assertThat(dailyReport.startDate()).isEqualTo(startDate);
+        assertThat(dailyReport.totalTasks()).containsExactly(0, 2, 0, 1);
+        assertThat(dailyReport.completedTasks()).containsExactly(0, 1, 0, 1);
+        assertThat(dailyReport.progressRates()).containsExactly(0, 40, 0, 100);
+    }
+
+    @DisplayName("반복 할 일은 기간 안의 발생만 날짜별 통계에 더해집니다.")
+    @Test
+    void getDailyReportWithRecurringTasks() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 11, 29);
+        LocalDate endDate = LocalDate.of(2024, 12, 2);
+        // 금요일에 시작한 매주 월/금 반복 할 일 (첫 발생만 완료)
+        RecurringTaskDto habit = new RecurringTaskDto(1L, 1L, "운동", startDate, null,
+                RecurrenceFrequency.WEEKLY, 1,
+                RecurrenceRule.weekdayMask(List.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)),
+                new byte[]{0b01});
+
+        when(dailyTaskStatRepository.findStatsInRange(memberId, startDate, endDate))
+                .thenReturn(List.of());
+        when(recurringTaskRepository.findRecurringTasksByMemberId(memberId, startDate, endDate))
+                .thenReturn(List.of(habit));
+
+        // when
+        ReportDailyResDto dailyReport = reportService.getDailyReport(memberId, startDate,
+                endDate);
+
+        // then
+        assertThat(dailyReport.totalTasks()).containsExactly(1, 0, 0, 1);
+        assertThat(dailyReport.completedTasks()).containsExactly(1, 0, 0, 0);
+    }
+
+    @DisplayName("종료 날짜가 시작 날짜 이전이거나 기간이 최대 일 수를 넘으면 예외가 발생한다.")
+    @Test
+    void failToGetDailyReportWhenRangeIsInvalid() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+
+        // when & then
+        assertThatThrownBy(() -> reportService.getDailyReport(memberId, startDate,
+                startDate.minusDays(1)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.REPORT_BAD_REQUEST.getMessage());
+        assertThatThrownBy(() -> reportService.getDailyReport(memberId, startDate,
+                startDate.plusDays(ReportService.MAX_REPORT_DAYS)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.REPORT_BAD_REQUEST.getMessage());
+        verifyNoInteractions(dailyTaskStatRepository);
+    }
+
     @DisplayName("회원의 전체 스킬 리스트를 조회합니다.")
     @Test
     void getMemberSkillList() {
         // given
         String type = "hard";
-        when(retrospectiveSkillRepository.findTopSkillsByMemberIdAndType(memberId, type, Pageable.unpaged())).thenReturn(
-                mockHardSkillList);
+        when(retrospectiveSkillRepository.findSkillsByMemberIdAndTypeAfter(memberId, type,
+                Long.MAX_VALUE, "", PageRequest.of(0, 21))).thenReturn(mockHardSkillList);
+
+        // when
+        CursorPage<SkillCountDto> memberSkillList = reportService.getMemberSkillList(memberId,
+                type, null, 20);
+
+        // then
+        assertThat(memberSkillList.content()).isEqualTo(mockHardSkillList);
+        assertThat(memberSkillList.content().size()).isEqualTo(4);
+        assertThat(memberSkillList.hasNext()).isFalse();
+    }
+
+    @DisplayName("스킬 목록의 다음 페이지는 이전 페이지 마지막 스킬의 (사용 횟수, 이름) 이후부터 조회합니다.")
+    @Test
+    void getMemberSkillListNextPage() {
+        // given
+        String type = "hard";
+        when(retrospectiveSkillRepository.findSkillsByMemberIdAndTypeAfter(memberId, type,
+                Long.MAX_VALUE, "", PageRequest.of(0, 3)))
+                .thenReturn(mockHardSkillList.subList(0, 3));
+        CursorPage<SkillCountDto> first = reportService.getMemberSkillList(memberId, type, null, 2);
+
+        when(retrospectiveSkillRepository.findSkillsByMemberIdAndTypeAfter(memberId, type, 4L,
+                "Spring Boot", PageRequest.of(0, 3)))
+                .thenReturn(mockHardSkillList.subList(2, 4));
 
         // when
-        List<SkillCountDto> memberSkillList = reportService.getMemberSkillList(memberId, type);
+        CursorPage<SkillCountDto> second = reportService.getMemberSkillList(memberId, type,
+                first.nextCursor(), 2);
 
         // then
-        assertThat(memberSkillList).isEqualTo(mockHardSkillList);
-        assertThat(memberSkillList.size()).isEqualTo(4);
+        assertThat(first.content()).extracting(SkillCountDto::skillName)
+                .containsExactly("Java", "Spring Boot");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.content()).extracting(SkillCountDto::skillName)
+                .containsExactly("SQL", "Spring");
+        assertThat(second.hasNext()).isFalse();
     }
 }
\ No newline at end of file
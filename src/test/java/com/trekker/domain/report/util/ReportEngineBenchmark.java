@@ -0,0 +1,130 @@
+package com.trekker.domain.report.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trekker.domain.report.entity.DailyTaskStat;
+import com.trekker.domain.task.dto.DailyTaskCounts;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 날짜 키 맵 기반 리포트 계산과 일 단위 배열 기반 계산의 연산당 시간·할당량 비교
+ * <p>
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class ReportEngineBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @DisplayName("한 달 리포트: 맵 vs 배열")
+    @Test
+    void month() {
+        compare("1 month", LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31));
+    }
+
+    @DisplayName("1년 리포트: 맵 vs 배열")
+    @Test
+    void year() {
+        compare("12 months", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    }
+
+    private void compare(String name, LocalDate startDate, LocalDate endDate) {
+        List<DailyTaskStat> stats = stats(startDate, endDate);
+
+        Map<LocalDate, Integer> mapRates = mapEngine(stats);
+        int[] arrayRates = ProgressRateCalculator.calculateProgressRates(
+                DailyTaskStatArrays.toCounts(stats, startDate, endDate));
+        for (DailyTaskStat stat : stats) {
+            int index = (int) (stat.getStatDate().toEpochDay() - startDate.toEpochDay());
+            assertThat(arrayRates[index]).isEqualTo(mapRates.get(stat.getStatDate()));
+        }
+
+        double[] map = measure(() -> mapEngine(stats));
+        double[] array = measure(() -> ProgressRateCalculator.calculateProgressRates(
+                DailyTaskStatArrays.toCounts(stats, startDate, endDate)));
+
+        System.out.printf("%-10s time   map=%10.1f ns  array=%10.1f ns%n", name, map[0],
+                array[0]);
+        System.out.printf("%-10s alloc  map=%10.1f B   array=%10.1f B%n", name, map[1],
+                array[1]);
+        assertThat(array[1]).isLessThan(map[1]);
+    }
+
+    /**
+     * 배열 계산 이전의 방식: 날짜별 문자열 키 맵을 만든 뒤 스트림으로 진행률 맵 생성
+     */
+    private Map<LocalDate, Integer> mapEngine(List<DailyTaskStat> stats) {
+        Map<LocalDate, Map<String, Integer>> dailyTaskStats = new HashMap<>();
+        for (DailyTaskStat stat : stats) {
+            Map<String, Integer> dailyStats = new HashMap<>();
+            dailyStats.put("totalTasks", stat.getTotal());
+            dailyStats.put("completedTasks", stat.getCompleted());
+            dailyTaskStats.put(stat.getStatDate(), dailyStats);
+        }
+        return dailyTaskStats.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> {
+                            int completed = entry.getValue().getOrDefault("completedTasks", 0);
+                            int total = entry.getValue().getOrDefault("totalTasks", 0);
+                            if (completed == 0 || total == 0) {
+                                return 0;
+                            }
+                            double progressRate = (completed / (double) total) * 100;
+                            return progressRate <= 30 ? 20 : progressRate <= 50 ? 40
+                                    : progressRate <= 70 ? 60 : progressRate <= 99 ? 80 : 100;
+                        }));
+    }
+
+    // 평일마다 할 일이 있는 기간의 통계 행
+    private List<DailyTaskStat> stats(LocalDate startDate, LocalDate endDate) {
+        List<DailyTaskStat> stats = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (date.getDayOfWeek().getValue() >= 6) {
+                continue;
+            }
+            int total = 1 + date.getDayOfMonth() % 5;
+            stats.add(DailyTaskStat.builder()
+                    .memberId(1L)
+                    .statDate(date)
+                    .total(total)
+                    .completed(date.getDayOfMonth() % (total + 1))
+                    .build());
+        }
+        return stats;
+    }
+
+    /**
+     * @return [연산당 ns, 연산당 할당 바이트]
+     */
+    private double[] measure(Supplier<Object> operation) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = operation.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        assertThat(sink).isNotNull();
+        return new double[]{(double) elapsed / ITERATIONS, (double) allocated / ITERATIONS};
+    }
+}
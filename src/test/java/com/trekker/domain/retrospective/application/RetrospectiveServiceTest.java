@@ -1,22 +1,29 @@
 package com.trekker.domain.retrospective.application;
 
+import static com.trekker.global.version.DataAggregate.RETROSPECTIVE;
+import static com.trekker.global.version.DataAggregate.TASK;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.trekker.domain.member.entity.Member;
 import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.report.service.DailyTaskStatsService;
 import com.trekker.domain.retrospective.dao.RetrospectiveRepository;
 import com.trekker.domain.retrospective.dao.RetrospectiveSkillRepository;
 import com.trekker.domain.retrospective.dao.SkillRepository;
+import com.trekker.domain.retrospective.dto.RetrospectiveSkillRowDto;
 import com.trekker.domain.retrospective.dto.req.RetrospectiveReqDto;
 import com.trekker.domain.retrospective.dto.res.RetrospectiveResDto;
 import com.trekker.domain.retrospective.entity.Retrospective;
 import com.trekker.domain.retrospective.entity.RetrospectiveSkill;
 import com.trekker.domain.retrospective.entity.Skill;
+import com.trekker.domain.task.cache.TaskIntervalIndexCache;
 import com.trekker.domain.task.dao.TaskRepository;
+import com.trekker.domain.task.dto.TaskSpan;
 import com.trekker.domain.task.entity.Task;
 import com.trekker.global.exception.custom.BusinessException;
 import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.version.DataVersions;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -44,6 +51,12 @@ class RetrospectiveServiceTest {
     private SkillRepository skillRepository;
     @Mock
     private TaskRepository taskRepository;
+    @Mock
+    private TaskIntervalIndexCache taskIntervalIndexCache;
+    @Mock
+    private DailyTaskStatsService dailyTaskStatsService;
+    @Mock
+    private DataVersions dataVersions;
 
     private Task task;
     private Skill softSkill;
@@ -105,6 +118,10 @@ class RetrospectiveServiceTest {
         assertThat(retrospectiveId).isEqualTo(retrospective.getId());
         assertThat(task.getIsCompleted()).isEqualTo(true);
         verify(retrospectiveRepository, times(1)).save(any(Retrospective.class));
+        verify(dailyTaskStatsService, times(1)).replace(eq(memberId), any(TaskSpan.class),
+                eq(TaskSpan.from(task)));
+        verify(taskIntervalIndexCache, times(1)).put(memberId, TaskSpan.from(task));
+        verify(dataVersions, times(1)).bump(memberId, TASK, RETROSPECTIVE);
     }
 
     @DisplayName("존재하지 않는 태스크로 회고를 추가하려 하면 예외가 발생한다.")
@@ -144,28 +161,58 @@ class RetrospectiveServiceTest {
     @Test
     void getRetrospective() {
         // given
-        retrospective.getRetrospectiveSkillList().add(
-                RetrospectiveSkill.builder()
-                        .id(1L)
-                        .skill(softSkill)
-                        .type("소프트")
-                        .retrospective(retrospective)
-                        .build()
-        );
+        when(retrospectiveRepository.findRetrospectiveRowsByTaskId(task.getId())).thenReturn(
+                List.of(retrospectiveRow("소프트", softSkill.getName()),
+                        retrospectiveRow("하드", hardSkill.getName())));
 
-        when(taskRepository.findTaskByIdWithProjectAndMemberWithRetrospective(task.getId()))
-                .thenReturn(Optional.of(task));
-        when(retrospectiveRepository.findByIdWithSkillList(retrospective.getId()))
-                .thenReturn(Optional.of(retrospective));
+        // when
+        RetrospectiveResDto resDto = retrospectiveService.getRetrospective(memberId, task.getId());
+
+        // then
+        assertThat(resDto.softSkillList()).containsExactly(softSkill.getName());
+        assertThat(resDto.hardSkillList()).containsExactly(hardSkill.getName());
+        assertThat(resDto.content()).isEqualTo(retrospective.getContent());
+        verify(taskRepository, never()).findTaskByIdWithProjectAndMemberWithRetrospective(any());
+    }
+
+    @DisplayName("스킬이 없는 회고는 빈 스킬 목록으로 조회한다.")
+    @Test
+    void getRetrospectiveWithoutSkills() {
+        // given
+        when(retrospectiveRepository.findRetrospectiveRowsByTaskId(task.getId())).thenReturn(
+                List.of(retrospectiveRow(null, null)));
 
         // when
         RetrospectiveResDto resDto = retrospectiveService.getRetrospective(memberId, task.getId());
 
         // then
-        assertThat(resDto.softSkillList().size()).isEqualTo(1);
+        assertThat(resDto.softSkillList()).isEmpty();
+        assertThat(resDto.hardSkillList()).isEmpty();
         assertThat(resDto.content()).isEqualTo(retrospective.getContent());
     }
 
+    @DisplayName("할 일이 없거나 회고가 없거나 소유자가 아니면 회고를 조회할 수 없다.")
+    @Test
+    void getRetrospectiveFail() {
+        // given
+        RetrospectiveSkillRowDto otherMemberRow = new RetrospectiveSkillRowDto(2L, "할 일",
+                retrospective.getId(), retrospective.getContent(), null, null);
+        RetrospectiveSkillRowDto noRetrospectiveRow = new RetrospectiveSkillRowDto(memberId,
+                "할 일", null, null, null, null);
+        when(retrospectiveRepository.findRetrospectiveRowsByTaskId(task.getId()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(otherMemberRow))
+                .thenReturn(List.of(noRetrospectiveRow));
+
+        // when & then
+        assertThatThrownBy(() -> retrospectiveService.getRetrospective(memberId, task.getId()))
+                .hasMessageContaining(ErrorCode.TASK_NOT_FOUND.getMessage());
+        assertThatThrownBy(() -> retrospectiveService.getRetrospective(memberId, task.getId()))
+                .hasMessageContaining(ErrorCode.ACCESS_DENIED_EXCEPTION.getMessage());
+        assertThatThrownBy(() -> retrospectiveService.getRetrospective(memberId, task.getId()))
+                .hasMessageContaining(ErrorCode.RETROSPECTIVE_NOT_FOUND.getMessage());
+    }
+
     @DisplayName("기존 회고를 업데이트 한다.")
     @Test
     void updateRetrospective() {
@@ -199,6 +246,7 @@ class RetrospectiveServiceTest {
         assertThat(retrospective.getContent()).isEqualTo(updateDto.content());
         verify(retrospectiveSkillRepository, times(1)).deleteAll(anyList());
         verify(retrospectiveSkillRepository, times(1)).saveAll(anyList());
+        verify(dataVersions, times(1)).bump(memberId, RETROSPECTIVE);
     }
 
 
@@ -221,5 +269,14 @@ class RetrospectiveServiceTest {
 
         // then
         assertThat(task.getIsCompleted()).isEqualTo(false);
+        verify(dailyTaskStatsService, times(1)).replace(eq(memberId), any(TaskSpan.class),
+                eq(TaskSpan.from(completedTask)));
+        verify(taskIntervalIndexCache, times(1)).put(memberId, TaskSpan.from(completedTask));
+        verify(dataVersions, times(1)).bump(memberId, TASK, RETROSPECTIVE);
+    }
+
+    private RetrospectiveSkillRowDto retrospectiveRow(String skillType, String skillName) {
+        return new RetrospectiveSkillRowDto(memberId, "할 일", retrospective.getId(),
+                retrospective.getContent(), skillType, skillName);
     }
-}
\ No newline at end of file
+}
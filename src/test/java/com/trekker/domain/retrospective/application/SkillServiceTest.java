@@ -8,6 +8,9 @@ import static org.mockito.Mockito.when;
 import com.trekker.domain.retrospective.dao.SkillRepository;
 import com.trekker.domain.retrospective.dto.res.SkillDetailResDto;
 import com.trekker.domain.retrospective.dto.res.SkillSummaryResDto;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.pagination.CursorPage;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 @ExtendWith(MockitoExtension.class)
 class SkillServiceTest {
@@ -57,15 +61,56 @@ class SkillServiceTest {
                 new SkillDetailResDto(2L, LocalDate.now(), null,
                         "Task B", "Retrospective B")
         );
-        when(skillRepository.findSkillDetailsBySkillIdAndMemberId(skillId, memberId)).thenReturn(
-                mockDetails);
+        when(skillRepository.findSkillDetailsBySkillIdAndMemberId(skillId, memberId, 0L,
+                PageRequest.of(0, 21))).thenReturn(mockDetails);
 
         // when
-        List<SkillDetailResDto> details = skillService.getSkillDetailsBySkillIdAndMemberId(memberId,
-                skillId);
+        CursorPage<SkillDetailResDto> details = skillService.getSkillDetailsBySkillIdAndMemberId(
+                memberId, skillId, null, 20);
 
         // then
-        assertThat(details).hasSize(2);
-        verify(skillRepository, times(1)).findSkillDetailsBySkillIdAndMemberId(skillId, memberId);
+        assertThat(details.content()).hasSize(2);
+        assertThat(details.hasNext()).isFalse();
+        verify(skillRepository, times(1)).findSkillDetailsBySkillIdAndMemberId(skillId, memberId,
+                0L, PageRequest.of(0, 21));
+    }
+
+    @DisplayName("다음 페이지는 이전 페이지 마지막 할 일 이후부터 조회합니다.")
+    @Test
+    void getSkillDetailsNextPage() {
+        // given
+        Long memberId = 1L;
+        Long skillId = 1L;
+        when(skillRepository.findSkillDetailsBySkillIdAndMemberId(skillId, memberId, 0L,
+                PageRequest.of(0, 2))).thenReturn(List.of(
+                new SkillDetailResDto(3L, LocalDate.now(), null, "Task A", "Retrospective A"),
+                new SkillDetailResDto(7L, LocalDate.now(), null, "Task B", "Retrospective B")));
+        CursorPage<SkillDetailResDto> first = skillService.getSkillDetailsBySkillIdAndMemberId(
+                memberId, skillId, null, 1);
+
+        when(skillRepository.findSkillDetailsBySkillIdAndMemberId(skillId, memberId, 3L,
+                PageRequest.of(0, 2))).thenReturn(List.of(
+                new SkillDetailResDto(7L, LocalDate.now(), null, "Task B", "Retrospective B")));
+
+        // when
+        CursorPage<SkillDetailResDto> second = skillService.getSkillDetailsBySkillIdAndMemberId(
+                memberId, skillId, first.nextCursor(), 1);
+
+        // then
+        assertThat(first.content()).extracting(SkillDetailResDto::taskId).containsExactly(3L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.content()).extracting(SkillDetailResDto::taskId).containsExactly(7L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @DisplayName("페이지 크기가 허용 범위를 벗어나면 예외가 발생합니다.")
+    @Test
+    void getSkillDetailsFailInvalidSize() {
+        // when & then
+        assertThatThrownBy(() -> skillService.getSkillDetailsBySkillIdAndMemberId(1L, 1L, null,
+                CursorPage.MAX_SIZE + 1))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.BAD_REQUEST.getMessage());
+        verifyNoInteractions(skillRepository);
     }
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.trekker.domain.task.application;
+
+import static com.trekker.global.version.DataAggregate.TASK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.trekker.domain.member.entity.Member;
+import com.trekker.domain.project.dao.ProjectRepository;
+import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.task.dao.RecurringTaskRepository;
+import com.trekker.domain.task.dto.req.RecurringTaskReqDto;
+import com.trekker.domain.task.entity.RecurrenceFrequency;
+import com.trekker.domain.task.entity.RecurringTask;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.version.DataVersions;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringTaskServiceTest {
+
+    private static final LocalDate PROJECT_START = LocalDate.of(2024, 11, 1);
+    private static final LocalDate PROJECT_END = LocalDate.of(2024, 12, 31);
+
+    @InjectMocks
+    private RecurringTaskService recurringTaskService;
+    @Mock
+    private RecurringTaskRepository recurringTaskRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private DataVersions dataVersions;
+    private Project project;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder()
+                .id(1L)
+                .build();
+        project = Project.builder()
+                .id(1L)
+                .member(member)
+                .startDate(PROJECT_START)
+                .endDate(PROJECT_END)
+                .build();
+    }
+
+    @DisplayName("반복 할 일을 추가하고, 종료일이 없으면 프로젝트 종료일까지 반복한다.")
+    @Test
+    void addRecurringTask() {
+        // given
+        RecurringTaskReqDto reqDto = RecurringTaskReqDto.builder()
+                .name("운동")
+                .startDate(PROJECT_START)
+                .frequency(RecurrenceFrequency.WEEKLY)
+                .interval(1)
+                .weekdays(Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY))
+                .build();
+        RecurringTask saved = reqDto.toEntity(project, PROJECT_END);
+
+        when(projectRepository.findProjectByIdWIthMember(project.getId())).thenReturn(
+                Optional.of(project));
+        when(recurringTaskRepository.save(any())).thenReturn(saved);
+
+        // when
+        recurringTaskService.addRecurringTask(member.getId(), project.getId(), reqDto);
+
+        // then
+        ArgumentCaptor<RecurringTask> captor = ArgumentCaptor.forClass(RecurringTask.class);
+        verify(recurringTaskRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getEndDate()).isEqualTo(PROJECT_END);
+        assertThat(captor.getValue().getWeekdays()).isEqualTo(0b10001);
+        verify(dataVersions, times(1)).bump(member.getId(), TASK);
+    }
+
+    @DisplayName("매주 반복에 요일이 없으면 예외를 발생한다.")
+    @Test
+    void addRecurringTaskFailWeeklyWithoutWeekdays() {
+        // given
+        RecurringTaskReqDto reqDto = RecurringTaskReqDto.builder()
+                .name("운동")
+                .startDate(PROJECT_START)
+                .frequency(RecurrenceFrequency.WEEKLY)
+                .interval(1)
+                .build();
+
+        when(projectRepository.findProjectByIdWIthMember(project.getId())).thenReturn(
+                Optional.of(project));
+
+        // when & then
+        assertThatThrownBy(() -> recurringTaskService.addRecurringTask(member.getId(),
+                project.getId(), reqDto))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.TASK_BAD_REQUEST.getMessage());
+        verify(recurringTaskRepository, never()).save(any());
+    }
+
+    @DisplayName("반복 할 일의 발생일을 완료하면 해당 날짜만 완료된다.")
+    @Test
+    void updateOccurrenceCompleted() {
+        // given
+        RecurringTask recurringTask = dailyTask();
+        LocalDate date = PROJECT_START.plusDays(20);
+
+        when(recurringTaskRepository.findByIdWithProject(recurringTask.getId())).thenReturn(
+                Optional.of(recurringTask));
+
+        // when
+        recurringTaskService.updateOccurrenceCompleted(member.getId(), recurringTask.getId(),
+                date, true);
+
+        // then
+        assertThat(recurringTask.isCompletedOn(date)).isTrue();
+        assertThat(recurringTask.isCompletedOn(date.minusDays(2))).isFalse();
+        verify(dataVersions, times(1)).bump(member.getId(), TASK);
+    }
+
+    @DisplayName("발생일이 아닌 날짜는 완료할 수 없다.")
+    @Test
+    void updateOccurrenceCompletedFailNotOccurrence() {
+        // given
+        RecurringTask recurringTask = dailyTask();
+
+        when(recurringTaskRepository.findByIdWithProject(recurringTask.getId())).thenReturn(
+                Optional.of(recurringTask));
+
+        // when & then
+        // 이틀마다 반복하므로 시작일 다음 날은 발생일이 아님
+        assertThatThrownBy(() -> recurringTaskService.updateOccurrenceCompleted(member.getId(),
+                recurringTask.getId(), PROJECT_START.plusDays(1), true))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.TASK_BAD_REQUEST.getMessage());
+        verifyNoInteractions(dataVersions);
+    }
+
+    @DisplayName("반복 할 일을 삭제한다.")
+    @Test
+    void deleteRecurringTask() {
+        // given
+        RecurringTask recurringTask = dailyTask();
+
+        when(recurringTaskRepository.findByIdWithProject(recurringTask.getId())).thenReturn(
+                Optional.of(recurringTask));
+
+        // when
+        recurringTaskService.deleteRecurringTask(member.getId(), recurringTask.getId());
+
+        // then
+        verify(recurringTaskRepository, times(1)).delete(recurringTask);
+        verify(dataVersions, times(1)).bump(member.getId(), TASK);
+    }
+
+    private RecurringTask dailyTask() {
+        return RecurringTask.builder()
+                .id(1L)
+                .name("독서")
+                .startDate(PROJECT_START)
+                .endDate(PROJECT_END)
+                .frequency(RecurrenceFrequency.DAILY)
+                .repeatInterval(2)
+                .project(project)
+                .build();
+    }
+}
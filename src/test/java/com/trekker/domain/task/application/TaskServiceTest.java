@@ -1,21 +1,36 @@
 package com.trekker.domain.task.application;
 
+import static com.trekker.global.version.DataAggregate.RETROSPECTIVE;
+import static com.trekker.global.version.DataAggregate.TASK;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.*;
 
 import com.trekker.domain.member.entity.Member;
 import com.trekker.domain.project.dao.ProjectRepository;
+import com.trekker.domain.project.dto.ProjectSummaryDto;
 import com.trekker.domain.project.dto.res.ProjectWithTaskInfoResDto;
 import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.report.service.DailyTaskStatsService;
+import com.trekker.domain.retrospective.entity.Retrospective;
+import com.trekker.domain.task.cache.TaskIntervalIndexCache;
+import com.trekker.domain.task.dao.RecurringTaskRepository;
 import com.trekker.domain.task.dao.TaskRepository;
+import com.trekker.domain.task.dto.TaskSpan;
+import com.trekker.domain.task.dto.req.TaskBatchReqDto;
+import com.trekker.domain.task.dto.req.TaskBatchUpdateReqDto;
 import com.trekker.domain.task.dto.req.TaskReqDto;
+import com.trekker.domain.task.dto.res.TaskAchievementResDto;
+import com.trekker.domain.task.dto.res.TaskBatchResDto;
 import com.trekker.domain.task.entity.Task;
 import com.trekker.global.exception.custom.BusinessException;
 import com.trekker.global.exception.enums.ErrorCode;
+import com.trekker.global.version.DataVersions;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,7 +46,15 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
     @Mock
+    private RecurringTaskRepository recurringTaskRepository;
+    @Mock
     private ProjectRepository projectRepository;
+    @Mock
+    private TaskIntervalIndexCache taskIntervalIndexCache;
+    @Mock
+    private DailyTaskStatsService dailyTaskStatsService;
+    @Mock
+    private DataVersions dataVersions;
     private Project project;
     private Member member;
     @BeforeEach
@@ -52,6 +75,8 @@ class TaskServiceTest {
         TaskReqDto mockDto = mock(TaskReqDto.class);
         Task task = Task.builder()
                 .id(1L)
+                .project(project)
+                .start_date(LocalDate.now())
                 .build();
 
         when(mockDto.startDate()).thenReturn(LocalDate.now());
@@ -64,6 +89,9 @@ class TaskServiceTest {
 
         // then
         assertThat(taskId).isEqualTo(task.getId());
+        verify(dailyTaskStatsService, times(1)).add(member.getId(), TaskSpan.from(task));
+        verify(taskIntervalIndexCache, times(1)).put(member.getId(), TaskSpan.from(task));
+        verify(dataVersions, times(1)).bump(member.getId(), TASK);
     }
     @DisplayName("작업 시작 날짜가 프로젝트 시작 날짜 이전이면 예외를 발생한다.")
     @Test
@@ -101,25 +129,78 @@ class TaskServiceTest {
     @Test
     void getTaskList() {
         // given
-        Task task = Task.builder()
-                .id(1L)
-                .start_date(LocalDate.now())
-                .isCompleted(true)
-                .build();
+        LocalDate today = LocalDate.now();
+        TaskSpan task = new TaskSpan(1L, project.getId(), "할 일", today, null, true);
+        TaskSpan otherProjectTask = new TaskSpan(2L, 2L, "다른 프로젝트 할 일", today, null, true);
 
-        when(projectRepository.findProjectByIdWIthMember(project.getId())).thenReturn(
-                Optional.of(project));
-        when(taskRepository.findTasksWithinDateRange(eq(project.getId()), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(List.of(task));
+        when(projectRepository.findProjectSummaryById(project.getId())).thenReturn(
+                Optional.of(projectSummary(member.getId())));
+        when(taskIntervalIndexCache.findOverlapping(eq(member.getId()), any(LocalDate.class),
+                any(LocalDate.class))).thenReturn(List.of(task, otherProjectTask));
 
         // when
-        ProjectWithTaskInfoResDto result = taskService.getTaskList(member.getId(), project.getId(), LocalDate.now());
+        ProjectWithTaskInfoResDto result = taskService.getTaskList(member.getId(), project.getId(), today);
 
         // then
         assertThat(result.taskList().size()).isEqualTo(1);
-        assertThat(result.taskList().get(0).name()).isEqualTo(task.getName());
-        verify(taskRepository, times(1)).findTasksWithinDateRange(eq(project.getId()), any(LocalDate.class), any(LocalDate.class));
+        assertThat(result.taskList().get(0).name()).isEqualTo(task.name());
+        verify(taskRepository, never()).findTaskSpansByMemberId(any());
+        verify(projectRepository, never()).findProjectByIdWIthMember(any());
+    }
+
+    @DisplayName("프로젝트 소유자가 아니면 할 일 목록을 조회할 수 없다.")
+    @Test
+    void getTaskListFailUserIsNotOwner() {
+        // given
+        when(projectRepository.findProjectSummaryById(project.getId())).thenReturn(
+                Optional.of(projectSummary(2L)));
+
+        // when & then
+        assertThatThrownBy(() -> taskService.getTaskList(member.getId(), project.getId(),
+                LocalDate.now()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.ACCESS_DENIED_EXCEPTION.getMessage());
+        verify(taskIntervalIndexCache, never()).findOverlapping(any(), any(), any());
+    }
+    @DisplayName("기준 날짜를 중심으로 날짜별 할 일 수와 완료된 할 일 수를 조회한다.")
+    @Test
+    void getAchievement() {
+        // given
+        LocalDate reqDate = LocalDate.of(2024, 11, 27);
+        TaskSpan completedTask = new TaskSpan(1L, project.getId(), "완료 할 일",
+                reqDate.minusDays(1), reqDate.plusDays(1), true);
+        TaskSpan openTask = new TaskSpan(2L, project.getId(), "미완료 할 일", reqDate, null, false);
+
+        when(projectRepository.findProjectSummaryById(project.getId())).thenReturn(
+                Optional.of(projectSummary(member.getId())));
+        when(taskIntervalIndexCache.findOverlapping(member.getId(), reqDate.minusDays(2),
+                reqDate.plusDays(2))).thenReturn(List.of(completedTask, openTask));
+
+        // when
+        TaskAchievementResDto result = taskService.getAchievement(member.getId(),
+                project.getId(), reqDate, 2);
+
+        // then
+        assertThat(result.startDate()).isEqualTo(reqDate.minusDays(2));
+        assertThat(result.endDate()).isEqualTo(reqDate.plusDays(2));
+        assertThat(result.achievements().size()).isEqualTo(5);
+        assertThat(result.achievements().get(2).totalCount()).isEqualTo(2);
+        assertThat(result.achievements().get(2).completedCount()).isEqualTo(1);
+        assertThat(result.achievements().get(0).isCompleted()).isFalse();
+        assertThat(result.achievements().get(1).isCompleted()).isTrue();
+    }
+
+    @DisplayName("성취도 조회 기간이 허용 범위를 넘으면 예외를 발생한다.")
+    @Test
+    void getAchievementWithInvalidRadius() {
+        // when & then
+        assertThatThrownBy(() -> taskService.getAchievement(member.getId(), project.getId(),
+                LocalDate.now(), TaskService.MAX_ACHIEVEMENT_RADIUS + 1))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.TASK_BAD_REQUEST.getMessage());
+        verify(taskIntervalIndexCache, never()).findOverlapping(any(), any(), any());
     }
+
     @DisplayName("할 일을 업데이트 한다.")
     @Test
     void updateTask() {
@@ -143,6 +224,10 @@ class TaskServiceTest {
 
         // then
         assertThat(task.getName()).isEqualTo(taskReqDto.name());
+        verify(dailyTaskStatsService, times(1)).replace(eq(member.getId()), any(TaskSpan.class),
+                eq(TaskSpan.from(task)));
+        verify(taskIntervalIndexCache, times(1)).put(member.getId(), TaskSpan.from(task));
+        verify(dataVersions, times(1)).bump(member.getId(), TASK);
     }
     @DisplayName("할 일을 삭제한다.")
     @Test
@@ -163,6 +248,131 @@ class TaskServiceTest {
 
         // then
         verify(taskRepository, times(1)).delete(task);
+        verify(dailyTaskStatsService, times(1)).remove(member.getId(), TaskSpan.from(task));
+        verify(taskIntervalIndexCache, times(1)).remove(member.getId(), task.getId());
+        verify(dataVersions, times(1)).bump(member.getId(), TASK);
+
+    }
+
+    @DisplayName("회고가 있는 할 일을 삭제하면 회고 데이터 버전도 올린다.")
+    @Test
+    void deleteTaskWithRetrospective() {
+        // given
+        Retrospective retrospective = Retrospective.builder()
+                .id(1L)
+                .content("회고")
+                .build();
+        Task task = Task.builder()
+                .id(1L)
+                .name("할 일")
+                .project(project)
+                .start_date(LocalDate.now())
+                .retrospective(retrospective)
+                .build();
+
+        when(taskRepository.findTaskByIdWithProjectAndMember(task.getId())).thenReturn(
+                Optional.of(task));
+
+        // when
+        taskService.deleteTask(member.getId(), task.getId());
+
+        // then
+        verify(taskRepository, times(1)).delete(task);
+        verify(dataVersions, times(1)).bump(member.getId(), TASK, RETROSPECTIVE);
+        verify(dataVersions, never()).bump(member.getId(), TASK);
+    }
+
+    @DisplayName("할 일을 한 번에 추가, 수정, 삭제한다.")
+    @Test
+    void applyTaskBatch() {
+        // given
+        TaskReqDto taskReqDto = TaskReqDto.builder()
+                .name("수정 할 일")
+                .startDate(LocalDate.now())
+                .build();
+        Task updateTask = Task.builder()
+                .id(2L)
+                .name("할 일")
+                .project(project)
+                .start_date(LocalDate.now())
+                .build();
+        Task deleteTask = Task.builder()
+                .id(3L)
+                .project(project)
+                .start_date(LocalDate.now())
+                .build();
+        Task createdTask = Task.builder()
+                .id(4L)
+                .project(project)
+                .start_date(LocalDate.now())
+                .build();
+        TaskBatchReqDto reqDto = TaskBatchReqDto.builder()
+                .createList(List.of(taskReqDto))
+                .updateList(List.of(new TaskBatchUpdateReqDto(updateTask.getId(), taskReqDto)))
+                .deleteList(List.of(deleteTask.getId()))
+                .build();
+
+        when(projectRepository.findProjectByIdWIthMember(project.getId())).thenReturn(
+                Optional.of(project));
+        when(taskRepository.findTasksByProjectIdAndIdIn(project.getId(),
+                Set.of(updateTask.getId(), deleteTask.getId())))
+                .thenReturn(List.of(updateTask, deleteTask));
+        when(taskRepository.saveAll(anyList())).thenReturn(List.of(createdTask));
+
+        // when
+        TaskBatchResDto resDto = taskService.applyTaskBatch(member.getId(), project.getId(),
+                reqDto);
+
+        // then
+        assertThat(resDto).isEqualTo(new TaskBatchResDto(List.of(createdTask.getId()), 1, 1));
+        assertThat(updateTask.getName()).isEqualTo(taskReqDto.name());
+        verify(taskRepository, times(1)).deleteAll(List.of(deleteTask));
+        verify(taskRepository, times(1)).flush();
+        verify(dailyTaskStatsService, times(1)).rebuild(member.getId());
+        verify(taskIntervalIndexCache, times(1)).evict(member.getId());
+        verify(dataVersions, times(1)).bump(member.getId(), TASK, RETROSPECTIVE);
+    }
+
+    @DisplayName("일괄 처리할 할 일이 프로젝트에 없으면 전체를 취소하고 예외를 발생한다.")
+    @Test
+    void applyTaskBatchFailTaskNotInProject() {
+        // given
+        TaskBatchReqDto reqDto = TaskBatchReqDto.builder()
+                .deleteList(List.of(99L))
+                .build();
+
+        when(projectRepository.findProjectByIdWIthMember(project.getId())).thenReturn(
+                Optional.of(project));
+        when(taskRepository.findTasksByProjectIdAndIdIn(project.getId(), Set.of(99L)))
+                .thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> taskService.applyTaskBatch(member.getId(), project.getId(),
+                reqDto))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.TASK_NOT_FOUND.getMessage());
+        verify(taskRepository, never()).deleteAll(any());
+        verify(dailyTaskStatsService, never()).rebuild(any());
+    }
+
+    @DisplayName("일괄 처리할 할 일 수가 최대 개수를 넘으면 예외를 발생한다.")
+    @Test
+    void applyTaskBatchFailTooLarge() {
+        // given
+        TaskBatchReqDto reqDto = TaskBatchReqDto.builder()
+                .deleteList(Collections.nCopies(TaskService.MAX_BATCH_SIZE + 1, 1L))
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> taskService.applyTaskBatch(member.getId(), project.getId(),
+                reqDto))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.TASK_BAD_REQUEST.getMessage());
+        verify(projectRepository, never()).findProjectByIdWIthMember(any());
+    }
 
+    private ProjectSummaryDto projectSummary(Long ownerId) {
+        return new ProjectSummaryDto(project.getId(), ownerId, "개인", "프로젝트", null,
+                project.getStartDate(), null);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,130 @@
+package com.trekker.domain.task.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trekker.domain.task.dao.TaskRepository;
+import com.trekker.domain.task.dto.TaskSpan;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class TaskIntervalIndexCacheTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.of(2024, 12, 1);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskIntervalIndexCache taskIntervalIndexCache;
+
+    @BeforeEach
+    void setUp() {
+        taskIntervalIndexCache = new TaskIntervalIndexCache(taskRepository, 100, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("회원의 할 일은 처음 조회할 때 한 번만 DB에서 읽는다.")
+    @Test
+    void loadOnce() {
+        // given
+        when(taskRepository.findTaskSpansByMemberId(MEMBER_ID))
+                .thenReturn(List.of(span(1L, TODAY, null)));
+
+        // when
+        List<TaskSpan> today = taskIntervalIndexCache.findOn(MEMBER_ID, TODAY);
+        List<TaskSpan> month = taskIntervalIndexCache.findOverlapping(MEMBER_ID, TODAY,
+                TODAY.plusDays(30));
+
+        // then
+        assertThat(today).hasSize(1);
+        assertThat(month).hasSize(1);
+        verify(taskRepository, times(1)).findTaskSpansByMemberId(MEMBER_ID);
+    }
+
+    @DisplayName("할 일 변경은 커밋 후에 인덱스에 반영된다.")
+    @Test
+    void applyAfterCommit() {
+        // given
+        when(taskRepository.findTaskSpansByMemberId(MEMBER_ID))
+                .thenReturn(List.of(span(1L, TODAY, null)));
+        taskIntervalIndexCache.findOn(MEMBER_ID, TODAY);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        taskIntervalIndexCache.put(MEMBER_ID, span(2L, TODAY, TODAY.plusDays(1)));
+        taskIntervalIndexCache.remove(MEMBER_ID, 1L);
+        List<TaskSpan> beforeCommit = taskIntervalIndexCache.findOn(MEMBER_ID, TODAY);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(beforeCommit).extracting(TaskSpan::taskId).containsExactly(1L);
+        assertThat(taskIntervalIndexCache.findOn(MEMBER_ID, TODAY))
+                .extracting(TaskSpan::taskId).containsExactly(2L);
+        verify(taskRepository, times(1)).findTaskSpansByMemberId(MEMBER_ID);
+    }
+
+    @DisplayName("무효화하면 다음 조회 때 DB에서 다시 읽는다.")
+    @Test
+    void evict() {
+        // given
+        when(taskRepository.findTaskSpansByMemberId(MEMBER_ID))
+                .thenReturn(List.of(span(1L, TODAY, null)))
+                .thenReturn(List.of());
+        taskIntervalIndexCache.findOn(MEMBER_ID, TODAY);
+
+        // when
+        taskIntervalIndexCache.evict(MEMBER_ID);
+
+        // then
+        assertThat(taskIntervalIndexCache.findOn(MEMBER_ID, TODAY)).isEmpty();
+        verify(taskRepository, times(2)).findTaskSpansByMemberId(MEMBER_ID);
+    }
+
+    @DisplayName("변경을 반영해도 DB에서 읽은 시점 기준으로 만료되어 다시 읽는다.")
+    @Test
+    void expireAfterLoadDespiteUpdates() {
+        // given
+        AtomicLong nanos = new AtomicLong();
+        taskIntervalIndexCache = new TaskIntervalIndexCache(taskRepository, 100, 60, nanos::get);
+        when(taskRepository.findTaskSpansByMemberId(MEMBER_ID))
+                .thenReturn(List.of(span(1L, TODAY, null)))
+                .thenReturn(List.of(span(3L, TODAY, null)));
+        taskIntervalIndexCache.findOn(MEMBER_ID, TODAY);
+
+        // when
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(40));
+        taskIntervalIndexCache.put(MEMBER_ID, span(2L, TODAY, null));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        // then
+        assertThat(taskIntervalIndexCache.findOn(MEMBER_ID, TODAY))
+                .extracting(TaskSpan::taskId).containsExactly(3L);
+        verify(taskRepository, times(2)).findTaskSpansByMemberId(MEMBER_ID);
+    }
+
+    private TaskSpan span(Long taskId, LocalDate startDate, LocalDate endDate) {
+        return new TaskSpan(taskId, 1L, "할 일", startDate, endDate, false);
+    }
+}
@@ -0,0 +1,69 @@
+package com.trekker.domain.task.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trekker.domain.task.entity.RecurrenceFrequency;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecurrenceRuleTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 11, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 11, 30);
+
+    @DisplayName("interval일마다 반복하면 기간 안의 첫 발생일부터 interval일 간격으로 발생한다.")
+    @Test
+    void dailyWithInterval() {
+        // given
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceFrequency.DAILY, 2, 0,
+                LocalDate.of(2024, 11, 1), null);
+
+        // when
+        List<Integer> offsets = offsets(rule, LocalDate.of(2024, 11, 4),
+                LocalDate.of(2024, 11, 10));
+
+        // then
+        assertThat(offsets).containsExactly(4, 6, 8);
+    }
+
+    @DisplayName("interval주마다 반복하면 시작일이 속한 주부터 interval주 간격의 지정 요일에만 발생한다.")
+    @Test
+    void weeklyWithInterval() {
+        // given
+        // 2024-11-06은 수요일, 시작 주의 월요일(11-04)은 시작일 이전이므로 제외
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceFrequency.WEEKLY, 2,
+                RecurrenceRule.weekdayMask(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY)),
+                LocalDate.of(2024, 11, 6), null);
+
+        // when
+        List<Integer> offsets = offsets(rule, FROM, TO);
+
+        // then
+        // 11-06, 11-18(월), 11-20(수)
+        assertThat(offsets).containsExactly(0, 12, 14);
+    }
+
+    @DisplayName("반복 종료일 이후와 반복 시작일 이전에는 발생하지 않는다.")
+    @Test
+    void clippedToRecurrencePeriod() {
+        // given
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceFrequency.DAILY, 1, 0,
+                LocalDate.of(2024, 11, 10), LocalDate.of(2024, 11, 12));
+
+        // when & then
+        assertThat(offsets(rule, FROM, TO)).containsExactly(0, 1, 2);
+        assertThat(offsets(rule, LocalDate.of(2024, 11, 13), TO)).isEmpty();
+        assertThat(rule.occursOn(LocalDate.of(2024, 11, 9))).isFalse();
+        assertThat(rule.occursOn(LocalDate.of(2024, 11, 11))).isTrue();
+    }
+
+    private List<Integer> offsets(RecurrenceRule rule, LocalDate from, LocalDate to) {
+        List<Integer> offsets = new ArrayList<>();
+        rule.forEachOccurrence(from, to, offsets::add);
+        return offsets;
+    }
+}
@@ -0,0 +1,80 @@
+package com.trekker.domain.task.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trekker.domain.task.dto.DailyTaskCounts;
+import com.trekker.domain.task.dto.RecurringOccurrence;
+import com.trekker.domain.task.dto.RecurringTaskDto;
+import com.trekker.domain.task.entity.RecurrenceFrequency;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecurringTaskExpanderTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 11, 24);
+    private static final LocalDate TO = LocalDate.of(2024, 11, 30);
+
+    @DisplayName("여러 반복 할 일의 발생을 날짜 순으로 펼치고 완료 비트맵으로 완료 여부를 채운다.")
+    @Test
+    void expandSortedByDate() {
+        // given
+        RecurringTaskDto everyThreeDays = daily(1L, LocalDate.of(2024, 11, 24), 3,
+                CompletionBitmap.set(CompletionBitmap.empty(), 3, true));
+        RecurringTaskDto everyDay = daily(2L, LocalDate.of(2024, 11, 29), 1,
+                CompletionBitmap.empty());
+
+        // when
+        List<RecurringOccurrence> occurrences = RecurringTaskExpander.expand(
+                List.of(everyThreeDays, everyDay), FROM, TO);
+
+        // then
+        assertThat(occurrences).extracting(RecurringOccurrence::date).containsExactly(
+                LocalDate.of(2024, 11, 24), LocalDate.of(2024, 11, 27),
+                LocalDate.of(2024, 11, 29), LocalDate.of(2024, 11, 30),
+                LocalDate.of(2024, 11, 30));
+        assertThat(occurrences).extracting(RecurringOccurrence::completed)
+                .containsExactly(false, true, false, false, false);
+    }
+
+    @DisplayName("오래 계속된 반복 할 일도 조회 기간의 발생만 집계한다.")
+    @Test
+    void countOnlyRequestedRange() {
+        // given
+        LocalDate startDate = LocalDate.of(2020, 1, 1);
+        int offset = (int) ChronoUnit.DAYS.between(startDate, LocalDate.of(2024, 11, 26));
+        RecurringTaskDto habit = daily(1L, startDate, 1,
+                CompletionBitmap.set(CompletionBitmap.empty(), offset, true));
+
+        // when
+        DailyTaskCounts counts = RecurringTaskExpander.count(List.of(habit), FROM, TO);
+
+        // then
+        assertThat(counts.total()).containsExactly(1, 1, 1, 1, 1, 1, 1);
+        assertThat(counts.completed()).containsExactly(0, 0, 1, 0, 0, 0, 0);
+    }
+
+    @DisplayName("완료를 취소하면 비트맵 끝의 빈 바이트를 제거한다.")
+    @Test
+    void completionBitmapTrimmed() {
+        // given
+        byte[] bits = CompletionBitmap.set(CompletionBitmap.empty(), 10, true);
+
+        // when
+        byte[] cleared = CompletionBitmap.set(bits, 10, false);
+
+        // then
+        assertThat(bits).hasSize(2);
+        assertThat(CompletionBitmap.get(bits, 10)).isTrue();
+        assertThat(CompletionBitmap.get(bits, 100)).isFalse();
+        assertThat(cleared).isEmpty();
+    }
+
+    private RecurringTaskDto daily(Long id, LocalDate startDate, int interval,
+            byte[] completions) {
+        return new RecurringTaskDto(id, 1L, "반복 할 일 " + id, startDate, null,
+                RecurrenceFrequency.DAILY, interval, 0, completions);
+    }
+}
@@ -0,0 +1,99 @@
+package com.trekker.domain.task.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trekker.domain.task.dto.DailyTaskCounts;
+import com.trekker.domain.task.dto.TaskSpan;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TaskDailyCounterTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 11, 24);
+    private static final LocalDate TO = LocalDate.of(2024, 11, 30);
+
+    @DisplayName("기간에 걸친 할 일은 기간 안의 날짜에만 집계된다.")
+    @Test
+    void countClippedToRange() {
+        // given
+        List<TaskSpan> tasks = List.of(
+                task(LocalDate.of(2024, 11, 20), LocalDate.of(2024, 11, 25), true),
+                task(LocalDate.of(2024, 11, 29), LocalDate.of(2024, 12, 5), false));
+
+        // when
+        DailyTaskCounts counts = TaskDailyCounter.count(tasks, FROM, TO);
+
+        // then
+        assertThat(counts.total()).containsExactly(1, 1, 0, 0, 0, 1, 1);
+        assertThat(counts.completed()).containsExactly(1, 1, 0, 0, 0, 0, 0);
+    }
+
+    @DisplayName("종료일이 없는 할 일은 시작일 하루에만 집계된다.")
+    @Test
+    void countSingleDayTask() {
+        // given
+        List<TaskSpan> tasks = List.of(task(LocalDate.of(2024, 11, 26), null, true));
+
+        // when
+        DailyTaskCounts counts = TaskDailyCounter.count(tasks, FROM, TO);
+
+        // then
+        assertThat(counts.total()).containsExactly(0, 0, 1, 0, 0, 0, 0);
+        assertThat(counts.isCompleted(2)).isTrue();
+        assertThat(counts.isCompleted(3)).isFalse();
+    }
+
+    @DisplayName("기간과 겹치지 않는 할 일은 집계하지 않는다.")
+    @Test
+    void ignoreTasksOutsideRange() {
+        // given
+        List<TaskSpan> tasks = List.of(
+                task(LocalDate.of(2024, 11, 1), LocalDate.of(2024, 11, 23), true),
+                task(LocalDate.of(2024, 12, 1), null, true));
+
+        // when
+        DailyTaskCounts counts = TaskDailyCounter.count(tasks, FROM, TO);
+
+        // then
+        assertThat(counts.total()).containsOnly(0);
+        assertThat(counts.completed()).containsOnly(0);
+    }
+
+    @DisplayName("날짜마다 전체 할 일을 확인한 결과와 같다.")
+    @Test
+    void sameAsNaiveCount() {
+        // given
+        Random random = new Random(42);
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 3, 31);
+        List<TaskSpan> tasks = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDate start = from.minusDays(10).plusDays(random.nextInt(110));
+            LocalDate end = random.nextBoolean() ? null : start.plusDays(random.nextInt(30) + 1);
+            tasks.add(new TaskSpan((long) i, 1L, "할 일", start, end, random.nextBoolean()));
+        }
+
+        // when
+        DailyTaskCounts counts = TaskDailyCounter.count(tasks, from, to);
+
+        // then
+        for (int i = 0; i < counts.days(); i++) {
+            LocalDate date = counts.dateAt(i);
+            List<TaskSpan> active = tasks.stream()
+                    .filter(task -> TaskFilter.isDateWithinRange(date, task.startDate(),
+                            task.endDate()))
+                    .toList();
+            assertThat(counts.total()[i]).isEqualTo(active.size());
+            assertThat(counts.completed()[i])
+                    .isEqualTo((int) active.stream().filter(TaskSpan::completed).count());
+        }
+    }
+
+    private TaskSpan task(LocalDate startDate, LocalDate endDate, boolean isCompleted) {
+        return new TaskSpan(1L, 1L, "할 일", startDate, endDate, isCompleted);
+    }
+}
@@ -0,0 +1,102 @@
+package com.trekker.domain.task.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trekker.domain.task.dto.TaskSpan;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TaskIntervalIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2024, 11, 1);
+
+    @DisplayName("기간과 겹치는 할 일만 시작일 순으로 조회한다.")
+    @Test
+    void findOverlapping() {
+        // given
+        TaskIntervalIndex index = TaskIntervalIndex.of(List.of(
+                span(3L, BASE.plusDays(10), BASE.plusDays(12)),
+                span(1L, BASE, BASE.plusDays(30)),
+                span(2L, BASE.plusDays(2), null),
+                span(4L, BASE.plusDays(20), BASE.plusDays(25))));
+
+        // when
+        List<TaskSpan> result = index.findOverlapping(BASE.plusDays(2), BASE.plusDays(10));
+
+        // then
+        assertThat(result).extracting(TaskSpan::taskId).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("종료일이 없는 할 일은 시작일에만 조회된다.")
+    @Test
+    void findSingleDayTask() {
+        // given
+        TaskIntervalIndex index = TaskIntervalIndex.of(List.of(span(1L, BASE, null)));
+
+        // when & then
+        assertThat(index.findOn(BASE)).hasSize(1);
+        assertThat(index.findOn(BASE.plusDays(1))).isEmpty();
+    }
+
+    @DisplayName("할 일을 추가, 교체, 삭제한 새 인덱스를 만들고 기존 인덱스는 바뀌지 않는다.")
+    @Test
+    void withAndWithout() {
+        // given
+        TaskIntervalIndex index = TaskIntervalIndex.of(List.of(span(1L, BASE, BASE.plusDays(3))));
+
+        // when
+        TaskIntervalIndex added = index.with(span(2L, BASE.plusDays(5), BASE.plusDays(6)));
+        TaskIntervalIndex replaced = added.with(span(1L, BASE, BASE.plusDays(10)));
+        TaskIntervalIndex removed = replaced.without(2L);
+
+        // then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(added.findOn(BASE.plusDays(5))).extracting(TaskSpan::taskId)
+                .containsExactly(2L);
+        assertThat(replaced.size()).isEqualTo(2);
+        assertThat(replaced.findOn(BASE.plusDays(5))).extracting(TaskSpan::taskId)
+                .containsExactly(1L, 2L);
+        assertThat(removed.findOn(BASE.plusDays(5))).extracting(TaskSpan::taskId)
+                .containsExactly(1L);
+        assertThat(removed.without(1L).size()).isZero();
+    }
+
+    @DisplayName("모든 할 일을 확인한 결과와 같다.")
+    @Test
+    void sameAsNaiveScan() {
+        // given
+        Random random = new Random(7);
+        List<TaskSpan> spans = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            LocalDate start = BASE.plusDays(random.nextInt(365));
+            LocalDate end = random.nextInt(4) == 0 ? null : start.plusDays(random.nextInt(60) + 1);
+            spans.add(span(id, start, end));
+        }
+        TaskIntervalIndex index = TaskIntervalIndex.of(spans);
+
+        for (int i = 0; i < 200; i++) {
+            LocalDate from = BASE.plusDays(random.nextInt(400) - 20);
+            LocalDate to = from.plusDays(random.nextInt(40));
+
+            // when
+            List<TaskSpan> result = index.findOverlapping(from, to);
+
+            // then
+            List<Long> expected = spans.stream()
+                    .filter(span -> !span.startDate().isAfter(to)
+                            && !span.lastDate().isBefore(from))
+                    .map(TaskSpan::taskId)
+                    .toList();
+            assertThat(result).extracting(TaskSpan::taskId)
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private TaskSpan span(Long taskId, LocalDate startDate, LocalDate endDate) {
+        return new TaskSpan(taskId, 1L, "할 일 " + taskId, startDate, endDate, false);
+    }
+}
@@ -5,23 +5,36 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.when;
 
+import com.trekker.domain.member.cache.MemberIdentityCache;
 import com.trekker.domain.member.dao.MemberRepository;
 import com.trekker.domain.member.dao.MemberWithdrawalFeedbackRepository;
 import com.trekker.domain.member.dto.req.MemberWithdrawalReqDto;
 import com.trekker.domain.member.entity.Member;
 import com.trekker.domain.member.entity.SocialProvider;
+import com.trekker.global.auth.custom.CustomUserDetails;
+import com.trekker.global.auth.custom.CustomUserDetailsService;
+import com.trekker.global.auth.dto.GoogleIdentityDto;
+import com.trekker.global.auth.dto.req.GoogleLoginReqDto;
 import com.trekker.global.auth.dto.res.AuthResDto;
-import com.trekker.global.config.redis.dao.RedisRepository;
+import com.trekker.global.auth.dto.res.GoogleRes;
+import com.trekker.global.auth.store.TokenStore;
 import com.trekker.global.config.security.TokenProvider;
+import com.trekker.global.config.security.revocation.RevocationEpochCache;
 import com.trekker.global.exception.custom.BusinessException;
 import com.trekker.global.exception.enums.ErrorCode;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -34,28 +47,38 @@ class AuthServiceTest {
     private TokenProvider tokenProvider;
 
     @Mock
-    private RedisRepository redisRepository;
+    private TokenStore tokenStore;
 
     @Mock
     private UnlinkService unlinkService;
     @Mock
     private MemberWithdrawalFeedbackRepository feedbackRepository;
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+    @Mock
+    private GoogleTokenValidator googleTokenValidator;
+    @Mock
+    private GoogleIdTokenVerifier googleIdTokenVerifier;
+    @Mock
+    private MemberIdentityCache memberIdentityCache;
+    @Mock
+    private RevocationEpochCache revocationEpochCache;
 
     @Test
     void logout() {
         // given
         String jwtToken = "validJwtToken";
         String userId = "12345";
-        long expiration = 3600000L;
 
-        when(tokenProvider.getExpiration(jwtToken)).thenReturn(expiration);
         when(tokenProvider.getUserIdFromToken(jwtToken)).thenReturn(userId);
 
         // when
         authService.logout(jwtToken);
 
         // then
-        verify(redisRepository, times(1)).logoutTokens(jwtToken, expiration, userId);
+        ArgumentCaptor<Long> epochMillis = ArgumentCaptor.forClass(Long.class);
+        verify(revocationEpochCache, times(1)).update(eq(userId), epochMillis.capture());
+        verify(tokenStore, times(1)).logoutTokens(userId, epochMillis.getValue());
     }
     @DisplayName("Refresh 토큰을 이용하여 새로운 Access 토큰을 발급한다.")
     @Test
@@ -98,7 +121,7 @@ class AuthServiceTest {
         String validToken = "validJwtToken";
         AuthResDto authResDto = new AuthResDto(validToken, validToken, false);
 
-        when(redisRepository.retrieveAuthResponse(tempToken)).thenReturn(authResDto);
+        when(tokenStore.retrieveAuthResponse(tempToken)).thenReturn(authResDto);
 
         //when
         AuthResDto resultDto = authService.retrieveAuthResponse(tempToken);
@@ -112,9 +135,10 @@ class AuthServiceTest {
     void deleteAccount() {
         // given
         Long id = 1L;
+        SocialProvider socialProvider = mock(SocialProvider.class);
         Member member = Member.builder()
                 .id(1L)
-                .socialProvider(mock(SocialProvider.class))
+                .socialProvider(socialProvider)
                 .build();
         MemberWithdrawalReqDto reqDto = new MemberWithdrawalReqDto("accessToken", "feedback",
                 "reason");
@@ -127,7 +151,9 @@ class AuthServiceTest {
         // then
         verify(unlinkService, times(1)).unlink(member, reqDto);
         verify(memberRepository, times(1)).findByIdWithSocialAndOnboarding(id);
+        verify(memberIdentityCache, times(1)).invalidate(socialProvider);
         assertThat(member.isDelete()).isTrue();
+        assertThat(member.getSocialProvider()).isNull();
     }
 
     @DisplayName("존재하지 않는 회원 삭제 시 예외가 발생한다.")
@@ -147,4 +173,35 @@ class AuthServiceTest {
         verify(memberRepository, times(1)).findByIdWithSocialAndOnboarding(nonExistentId);
         verify(unlinkService, never()).unlink(any(Member.class),any());
     }
-}
\ No newline at end of file
+
+    @DisplayName("Google ID 토큰으로 로그인하면 Google API를 호출하지 않고 로컬 검증 결과로 회원을 조회한다.")
+    @Test
+    void authenticateGoogleUserWithIdToken() {
+        // given
+        GoogleLoginReqDto request = new GoogleLoginReqDto("user@gmail.com", "google-sub",
+                null, "idToken");
+        Map<String, Object> attributes = Map.of("sub", "google-sub");
+        CustomUserDetails userDetails = CustomUserDetails.builder()
+                .id("1")
+                .isCompleted(true)
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .attributes(attributes)
+                .build();
+        AuthResDto authResDto = new AuthResDto("access", "refresh", false);
+
+        when(googleIdTokenVerifier.verify("idToken")).thenReturn(new GoogleIdentityDto(
+                "google-sub", "user@gmail.com", attributes, Instant.now().plusSeconds(60)));
+        when(customUserDetailsService.loadSocialUser("google", "google-sub", "user@gmail.com",
+                attributes)).thenReturn(userDetails);
+        when(tokenProvider.createAuthResponse(any(Authentication.class))).thenReturn(authResDto);
+
+        // when
+        GoogleRes googleRes = authService.authenticateGoogleUser(request);
+
+        // then
+        assertThat(googleRes.authResDto()).isEqualTo(authResDto);
+        assertThat(googleRes.isCompleted()).isTrue();
+        verify(googleTokenValidator, never()).validateAccessToken(any());
+        verify(customUserDetailsService, never()).loadUser(any());
+    }
+}
@@ -0,0 +1,214 @@
+package com.trekker.global.auth.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import com.trekker.global.auth.dto.GoogleIdentityDto;
+import com.trekker.global.config.http.OutboundHttpClients;
+import com.trekker.global.config.http.OutboundTarget;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+class GoogleIdTokenVerifierTest {
+
+    private static final String CLIENT_ID = "trekker-client-id";
+    private static final String ISSUER = "https://accounts.google.com";
+
+    private HttpServer server;
+    private OutboundHttpClients outboundHttpClients;
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicReference<String> jwkSet = new AtomicReference<>();
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private RSAKey signingKey;
+    private GoogleIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        signingKey = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        jwkSet.set(new JWKSet(signingKey.toPublicJWK()).toString());
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/certs", exchange -> {
+            jwksRequests.incrementAndGet();
+            byte[] body = jwkSet.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        outboundHttpClients = new OutboundHttpClients(new StandardEnvironment(), meterRegistry);
+        verifier = new GoogleIdTokenVerifier(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/certs",
+                CLIENT_ID, 100, 60_000, outboundHttpClients);
+        verifier.refreshKeys();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboundHttpClients.destroy();
+        server.stop(0);
+    }
+
+    @DisplayName("Google 키로 서명된 ID 토큰을 로컬에서 검증하고, 같은 토큰은 다시 검증하지 않는다.")
+    @Test
+    void verifyValidToken() throws Exception {
+        // given
+        String idToken = sign(signingKey, ISSUER, CLIENT_ID, Instant.now().plusSeconds(600));
+
+        // when
+        GoogleIdentityDto first = verifier.verify(idToken);
+        GoogleIdentityDto second = verifier.verify(idToken);
+
+        // then
+        assertThat(first.googleId()).isEqualTo("google-sub");
+        assertThat(first.email()).isEqualTo("user@gmail.com");
+        assertThat(second).isSameAs(first);
+        assertThat(jwksRequests.get()).isEqualTo(1);
+    }
+
+    @DisplayName("다른 클라이언트에 발급된 ID 토큰은 거부한다.")
+    @Test
+    void rejectOtherAudience() throws Exception {
+        // given
+        String idToken = sign(signingKey, ISSUER, "other-client", Instant.now().plusSeconds(600));
+
+        // when & then
+        assertBadRequest(idToken);
+    }
+
+    @DisplayName("Google이 아닌 발급자의 ID 토큰은 거부한다.")
+    @Test
+    void rejectOtherIssuer() throws Exception {
+        // given
+        String idToken = sign(signingKey, "https://evil.example.com", CLIENT_ID,
+                Instant.now().plusSeconds(600));
+
+        // when & then
+        assertBadRequest(idToken);
+    }
+
+    @DisplayName("만료된 ID 토큰은 거부한다.")
+    @Test
+    void rejectExpiredToken() throws Exception {
+        // given
+        String idToken = sign(signingKey, ISSUER, CLIENT_ID, Instant.now().minusSeconds(600));
+
+        // when & then
+        assertBadRequest(idToken);
+    }
+
+    @DisplayName("공개 키 목록에 없는 키로 서명된 ID 토큰은 거부한다.")
+    @Test
+    void rejectUnknownKey() throws Exception {
+        // given
+        RSAKey otherKey = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        String idToken = sign(otherKey, ISSUER, CLIENT_ID, Instant.now().plusSeconds(600));
+
+        // when & then
+        assertBadRequest(idToken);
+    }
+
+    @DisplayName("공개 키를 갱신하면 새 키로 서명된 ID 토큰을 검증한다.")
+    @Test
+    void verifyAfterKeyRotation() throws Exception {
+        // given
+        RSAKey rotatedKey = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        jwkSet.set(new JWKSet(List.of(signingKey.toPublicJWK(),
+                rotatedKey.toPublicJWK())).toString());
+        verifier.refreshKeys();
+        String idToken = sign(rotatedKey, ISSUER, CLIENT_ID, Instant.now().plusSeconds(600));
+
+        // when
+        GoogleIdentityDto identity = verifier.verify(idToken);
+
+        // then
+        assertThat(identity.googleId()).isEqualTo("google-sub");
+    }
+
+    @DisplayName("주기 갱신 전에 교체된 키의 ID 토큰이 오면 동시 호출 수 제한을 거쳐 공개 키를 다시 받는다.")
+    @Test
+    void refreshOnUnknownKeyThroughBulkhead() throws Exception {
+        // given
+        RSAKey rotatedKey = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        jwkSet.set(new JWKSet(List.of(signingKey.toPublicJWK(),
+                rotatedKey.toPublicJWK())).toString());
+        String idToken = sign(rotatedKey, ISSUER, CLIENT_ID, Instant.now().plusSeconds(600));
+
+        // when
+        GoogleIdentityDto identity = verifier.verify(idToken);
+
+        // then
+        assertThat(identity.googleId()).isEqualTo("google-sub");
+        assertThat(jwksRequests.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("http.outbound.requests")
+                .tag("target", OutboundTarget.GOOGLE_JWKS.getName())
+                .tag("outcome", "success")
+                .timer().count()).isEqualTo(2);
+    }
+
+    @DisplayName("알 수 없는 키 ID의 토큰이 반복되어도 최소 간격 안에서는 공개 키를 한 번만 다시 받는다.")
+    @Test
+    void refreshOnUnknownKeyAtMostOncePerInterval() throws Exception {
+        // given
+        RSAKey unknownKey = new RSAKeyGenerator(2048).keyID("unknown").generate();
+        String idToken = sign(unknownKey, ISSUER, CLIENT_ID, Instant.now().plusSeconds(600));
+        String otherIdToken = sign(unknownKey, ISSUER, CLIENT_ID,
+                Instant.now().plusSeconds(900));
+
+        // when & then
+        assertBadRequest(idToken);
+        assertBadRequest(otherIdToken);
+        assertThat(jwksRequests.get()).isEqualTo(2);
+    }
+
+    private void assertBadRequest(String idToken) {
+        assertThatThrownBy(() -> verifier.verify(idToken))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.BAD_REQUEST);
+    }
+
+    private String sign(RSAKey key, String issuer, String audience, Instant expiresAt)
+            throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("google-sub")
+                .issuer(issuer)
+                .audience(audience)
+                .claim("email", "user@gmail.com")
+                .issueTime(Date.from(expiresAt.minusSeconds(3600)))
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
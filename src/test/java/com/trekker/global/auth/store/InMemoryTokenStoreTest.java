@@ -0,0 +1,89 @@
+package com.trekker.global.auth.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.trekker.global.auth.dto.RefreshTokenInfoDto;
+import com.trekker.global.auth.dto.res.AuthResDto;
+import com.trekker.global.config.security.revocation.RevocationEpochCache;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryTokenStoreTest {
+
+    private RevocationEpochCache revocationEpochCache;
+    private InMemoryTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        revocationEpochCache = new RevocationEpochCache();
+        tokenStore = new InMemoryTokenStore(revocationEpochCache, 1000, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenStore.destroy();
+    }
+
+    @DisplayName("저장된 Refresh 토큰과 일치하면 권한 정보를 조회한다.")
+    @Test
+    void findAuthorities() {
+        // given
+        tokenStore.storeRefreshToken(new RefreshTokenInfoDto("1", "refresh", "ROLE_USER"));
+
+        // when & then
+        assertThat(tokenStore.findAuthorities("1", "refresh")).isEqualTo("ROLE_USER");
+        assertThat(tokenStore.findAuthorities("1", "other")).isNull();
+        assertThat(tokenStore.findAuthorities("2", "refresh")).isNull();
+    }
+
+    @DisplayName("Refresh 토큰은 현재 토큰이 일치할 때 한 번만 교체된다.")
+    @Test
+    void rotateRefreshTokenOnce() {
+        // given
+        tokenStore.storeRefreshToken(new RefreshTokenInfoDto("1", "refresh", "ROLE_USER"));
+
+        // when
+        String first = tokenStore.rotateRefreshToken("1", "refresh", "next");
+        String second = tokenStore.rotateRefreshToken("1", "refresh", "other");
+
+        // then
+        assertThat(first).isEqualTo("ROLE_USER");
+        assertThat(second).isNull();
+        assertThat(tokenStore.findAuthorities("1", "next")).isEqualTo("ROLE_USER");
+    }
+
+    @DisplayName("임시 토큰은 한 번만 조회할 수 있다.")
+    @Test
+    void retrieveAuthResponseOnce() {
+        // given
+        AuthResDto authResDto = new AuthResDto("access", "refresh", true);
+        String tempToken = tokenStore.storeAuthResponseWithTempToken(authResDto);
+
+        // when
+        AuthResDto first = tokenStore.retrieveAuthResponse(tempToken);
+        AuthResDto second = tokenStore.retrieveAuthResponse(tempToken);
+
+        // then
+        assertThat(first).isEqualTo(authResDto);
+        assertThat(second).isNull();
+    }
+
+    @DisplayName("로그아웃하면 Refresh 토큰이 삭제되고 폐기 기준 시각이 기록된다.")
+    @Test
+    void logoutTokens() {
+        // given
+        tokenStore.storeRefreshToken(new RefreshTokenInfoDto("1", "refresh", "ROLE_USER"));
+        long epochMillis = Instant.now().toEpochMilli();
+
+        // when
+        tokenStore.logoutTokens("1", epochMillis);
+
+        // then
+        assertThat(tokenStore.findAuthorities("1", "refresh")).isNull();
+        assertThat(tokenStore.findRevocationEpochs()).containsExactly(entry("1", epochMillis));
+    }
+}
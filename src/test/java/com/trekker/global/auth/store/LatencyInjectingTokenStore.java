@@ -0,0 +1,89 @@
+package com.trekker.global.auth.store;
+
+import com.trekker.global.auth.dto.RefreshTokenInfoDto;
+import com.trekker.global.auth.dto.res.AuthResDto;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * 장애 주입 테스트용 토큰 저장소
+ * <p>
+ * 지정한 지연 시간만큼 대기한 뒤, 명령 제한 시간을 넘으면 Lettuce처럼 시간 초과 예외를 던진다.
+ */
+class LatencyInjectingTokenStore implements TokenStore {
+
+    private final Map<String, String> authorities = new ConcurrentHashMap<>();
+    private final long commandTimeoutMillis;
+    private volatile long latencyMillis;
+
+    LatencyInjectingTokenStore(long commandTimeoutMillis) {
+        this.commandTimeoutMillis = commandTimeoutMillis;
+    }
+
+    void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public void storeRefreshToken(RefreshTokenInfoDto tokenData) {
+        delay();
+        authorities.put(tokenData.userAccount() + ":" + tokenData.refreshToken(),
+                tokenData.authorities());
+    }
+
+    @Override
+    public String findAuthorities(String userAccount, String refreshToken) {
+        delay();
+        return authorities.get(userAccount + ":" + refreshToken);
+    }
+
+    @Override
+    public String rotateRefreshToken(String userAccount, String currentRefreshToken,
+            String newRefreshToken) {
+        delay();
+        String current = authorities.remove(userAccount + ":" + currentRefreshToken);
+        if (current != null) {
+            authorities.put(userAccount + ":" + newRefreshToken, current);
+        }
+        return current;
+    }
+
+    @Override
+    public void logoutTokens(String userId, long epochMillis) {
+        delay();
+        authorities.keySet().removeIf(key -> key.startsWith(userId + ":"));
+    }
+
+    @Override
+    public Map<String, Long> findRevocationEpochs() {
+        delay();
+        return Map.of();
+    }
+
+    @Override
+    public String storeAuthResponseWithTempToken(AuthResDto authResDto) {
+        delay();
+        return "temp";
+    }
+
+    @Override
+    public AuthResDto retrieveAuthResponse(String tempToken) {
+        delay();
+        return null;
+    }
+
+    private void delay() {
+        long latency = latencyMillis;
+        if (latency <= 0) {
+            return;
+        }
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(
+                Math.min(latency, commandTimeoutMillis)));
+        if (latency >= commandTimeoutMillis) {
+            throw new QueryTimeoutException("Redis command timed out");
+        }
+    }
+}
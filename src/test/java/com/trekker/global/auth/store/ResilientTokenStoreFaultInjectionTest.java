@@ -0,0 +1,134 @@
+package com.trekker.global.auth.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trekker.global.auth.dto.RefreshTokenInfoDto;
+import com.trekker.global.exception.custom.BusinessException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Redis 응답 지연 상황에서 요청 지연 시간이 제한되는지 확인하는 장애 주입 테스트
+ * <p>
+ * 실행: ./gradlew faultInjectionTest
+ */
+@Tag("fault-injection")
+class ResilientTokenStoreFaultInjectionTest {
+
+    private static final long COMMAND_TIMEOUT_MILLIS = 300;
+    private static final long SLOW_CALL_MILLIS = 100;
+    private static final int THREADS = 8;
+    private static final int REQUESTS = 5_000;
+    private static final int MEMBERS = 50;
+
+    private LatencyInjectingTokenStore redis;
+    private ResilientTokenStore tokenStore;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        redis = new LatencyInjectingTokenStore(COMMAND_TIMEOUT_MILLIS);
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("tokenStore",
+                CircuitBreakerConfig.custom()
+                        .slidingWindowSize(20)
+                        .minimumNumberOfCalls(10)
+                        .slowCallDurationThreshold(Duration.ofMillis(SLOW_CALL_MILLIS))
+                        .slowCallRateThreshold(50)
+                        .waitDurationInOpenState(Duration.ofSeconds(5))
+                        .ignoreExceptions(BusinessException.class)
+                        .build());
+        tokenStore = new ResilientTokenStore(redis, circuitBreaker, new SimpleMeterRegistry(),
+                Duration.ofSeconds(30), 1_000);
+        executor = Executors.newFixedThreadPool(THREADS);
+
+        // 정상 상태에서 회원별 Refresh 토큰을 한 번씩 확인
+        for (int member = 0; member < MEMBERS; member++) {
+            tokenStore.storeRefreshToken(new RefreshTokenInfoDto(
+                    String.valueOf(member), "refresh-" + member, "ROLE_USER"));
+            tokenStore.findAuthorities(String.valueOf(member), "refresh-" + member);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("Redis가 느려져도 차단기가 열린 뒤에는 요청이 즉시 처리되어 p99 지연 시간이 제한된다.")
+    @Test
+    void boundedLatencyDuringSlowRedis() throws Exception {
+        // 모든 명령이 제한 시간 직전까지 지연
+        redis.setLatencyMillis(COMMAND_TIMEOUT_MILLIS - 50);
+        Result result = run();
+
+        report("slow", result);
+        assertThat(result.p99Millis()).isLessThan(SLOW_CALL_MILLIS);
+        assertThat(result.failed()).isZero();
+    }
+
+    @DisplayName("Redis 명령이 시간 초과되어도 최근 토큰으로 응답하고 p99 지연 시간이 제한된다.")
+    @Test
+    void boundedLatencyDuringTimeouts() throws Exception {
+        // 모든 명령이 시간 초과
+        redis.setLatencyMillis(COMMAND_TIMEOUT_MILLIS * 10);
+        Result result = run();
+
+        report("timeout", result);
+        assertThat(result.p99Millis()).isLessThan(SLOW_CALL_MILLIS);
+        assertThat(result.failed()).isZero();
+    }
+
+    private Result run() throws Exception {
+        List<Callable<Long>> requests = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            String member = String.valueOf(i % MEMBERS);
+            requests.add(() -> {
+                long start = System.nanoTime();
+                try {
+                    tokenStore.findAuthorities(member, "refresh-" + member);
+                } catch (BusinessException e) {
+                    return -1L;
+                }
+                return System.nanoTime() - start;
+            });
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        int failed = 0;
+        for (Future<Long> future : executor.invokeAll(requests)) {
+            long latency = future.get();
+            if (latency < 0) {
+                failed++;
+            } else {
+                latencies.add(latency);
+            }
+        }
+        Collections.sort(latencies);
+        long p99 = latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1);
+        return new Result(p99 / 1_000_000.0, latencies.get(latencies.size() - 1) / 1_000_000.0,
+                failed);
+    }
+
+    private void report(String scenario, Result result) {
+        System.out.printf("[%s] p99=%.2fms max=%.2fms failed=%d%n",
+                scenario, result.p99Millis(), result.maxMillis(), result.failed());
+    }
+
+    private record Result(double p99Millis, double maxMillis, int failed) {
+
+    }
+}
@@ -0,0 +1,96 @@
+package com.trekker.global.auth.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientTokenStoreTest {
+
+    @Mock
+    private TokenStore delegate;
+
+    private CircuitBreaker circuitBreaker;
+    private ResilientTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.ofDefaults("tokenStore");
+        tokenStore = new ResilientTokenStore(delegate, circuitBreaker, new SimpleMeterRegistry(),
+                Duration.ofSeconds(30), 100);
+    }
+
+    @DisplayName("저장소에 접근할 수 없으면 최근에 확인한 Refresh 토큰으로 권한 정보를 반환한다.")
+    @Test
+    void findAuthoritiesFromNearCache() {
+        // given
+        when(delegate.findAuthorities("1", "refresh"))
+                .thenReturn("ROLE_USER")
+                .thenThrow(new QueryTimeoutException("timeout"));
+        tokenStore.findAuthorities("1", "refresh");
+
+        // when
+        String authorities = tokenStore.findAuthorities("1", "refresh");
+
+        // then
+        assertThat(authorities).isEqualTo("ROLE_USER");
+    }
+
+    @DisplayName("최근에 확인하지 않은 토큰은 저장소 장애 시 잘못된 토큰이 아닌 일시적 오류로 처리한다.")
+    @Test
+    void findAuthoritiesUnavailable() {
+        // given
+        when(delegate.findAuthorities("1", "refresh"))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> tokenStore.findAuthorities("1", "refresh"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.TOKEN_STORE_UNAVAILABLE);
+    }
+
+    @DisplayName("로그아웃하면 저장소 장애 중에도 최근 토큰으로 대체하지 않는다.")
+    @Test
+    void logoutInvalidatesNearCache() {
+        // given
+        when(delegate.findAuthorities("1", "refresh"))
+                .thenReturn("ROLE_USER")
+                .thenThrow(new QueryTimeoutException("timeout"));
+        tokenStore.findAuthorities("1", "refresh");
+        tokenStore.logoutTokens("1", System.currentTimeMillis());
+
+        // when & then
+        assertThatThrownBy(() -> tokenStore.findAuthorities("1", "refresh"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @DisplayName("차단기가 열려 있으면 저장소를 호출하지 않고 즉시 실패한다.")
+    @Test
+    void failFastWhenOpen() {
+        // given
+        circuitBreaker.transitionToOpenState();
+
+        // when & then
+        assertThatThrownBy(() -> tokenStore.retrieveAuthResponse("temp"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.TOKEN_STORE_UNAVAILABLE);
+        verify(delegate, never()).retrieveAuthResponse("temp");
+    }
+}
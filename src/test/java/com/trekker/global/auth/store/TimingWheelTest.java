@@ -0,0 +1,102 @@
+package com.trekker.global.auth.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 64;
+    private static final long START = 1_700_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(START);
+    // 키별 만료 콜백을 받은 시각
+    private final Map<String, Long> expiredAt = new HashMap<>();
+    private TimingWheel<String> timingWheel;
+
+    @BeforeEach
+    void setUp() {
+        timingWheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE,
+                (key, expiresAtMillis) -> expiredAt.put(key, clock.get()),
+                clock::get, false);
+    }
+
+    @DisplayName("휠 한 바퀴보다 긴 만료 시간도 만료 시각이 지난 첫 틱에 만료된다.")
+    @Test
+    void expireAcrossLevels() {
+        // given
+        long shortTtl = START + 30_000;
+        long longTtl = START + TimeUnit.DAYS.toMillis(7);
+        timingWheel.schedule("short", shortTtl);
+        timingWheel.schedule("long", longTtl);
+
+        // when
+        advanceUntil(longTtl + TICK_MILLIS);
+
+        // then
+        assertThat(expiredAt.get("short")).isBetween(shortTtl, shortTtl + TICK_MILLIS);
+        assertThat(expiredAt.get("long")).isBetween(longTtl, longTtl + TICK_MILLIS);
+    }
+
+    @DisplayName("7일 만료 항목은 만료 시간에 비례해 다시 확인되지 않고 단계 수 이내로만 옮겨진다.")
+    @Test
+    void cascadeBoundedByLevels() {
+        // given
+        long longTtl = START + TimeUnit.DAYS.toMillis(7);
+        timingWheel.schedule("long", longTtl);
+
+        // when
+        advanceUntil(longTtl + TICK_MILLIS);
+
+        // then
+        assertThat(expiredAt).containsOnlyKeys("long");
+        assertThat(timingWheel.cascaded()).isLessThanOrEqualTo(3);
+    }
+
+    @DisplayName("이미 지난 만료 시각은 다음 틱에 만료된다.")
+    @Test
+    void expirePastDeadlineOnNextTick() {
+        // given
+        timingWheel.schedule("past", START - 5_000);
+
+        // when
+        clock.addAndGet(TICK_MILLIS);
+        timingWheel.tick();
+
+        // then
+        assertThat(expiredAt).containsKey("past");
+    }
+
+    @DisplayName("한 바퀴 이상 틱을 건너뛰면 지난 항목은 만료하고 나머지는 다시 배치한다.")
+    @Test
+    void rebuildAfterClockJump() {
+        // given
+        long near = START + 10_000;
+        long far = START + TimeUnit.HOURS.toMillis(3);
+        timingWheel.schedule("near", near);
+        timingWheel.schedule("far", far);
+
+        // when
+        clock.addAndGet(TimeUnit.HOURS.toMillis(1));
+        timingWheel.tick();
+
+        // then
+        assertThat(expiredAt).containsOnlyKeys("near");
+        advanceUntil(far + TICK_MILLIS);
+        assertThat(expiredAt.get("far")).isBetween(far, far + TICK_MILLIS);
+    }
+
+    private void advanceUntil(long untilMillis) {
+        while (clock.get() < untilMillis) {
+            clock.addAndGet(TICK_MILLIS);
+            timingWheel.tick();
+        }
+    }
+}
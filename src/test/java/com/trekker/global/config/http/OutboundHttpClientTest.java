@@ -0,0 +1,126 @@
+package com.trekker.global.config.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+class OutboundHttpClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundHttpClient client;
+    private final CountDownLatch slowRequestReceived = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, "ok"));
+        server.createContext("/slow", exchange -> {
+            slowRequestReceived.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "slow");
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        meterRegistry = new SimpleMeterRegistry();
+        client = new OutboundHttpClient("stub", new OutboundHttpSettings(
+                Duration.ofMillis(500), Duration.ofMillis(300), 1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        client.close();
+        server.stop(0);
+    }
+
+    @DisplayName("커넥션 풀을 재사용하여 요청하고 대상별 지연 시간을 기록한다.")
+    @Test
+    void executeAndRecordMetrics() {
+        // when
+        String first = client.execute(rest -> rest.getForObject(baseUrl + "/ok", String.class));
+        String second = client.execute(rest -> rest.getForObject(baseUrl + "/ok", String.class));
+
+        // then
+        assertThat(first).isEqualTo("ok");
+        assertThat(second).isEqualTo("ok");
+        assertThat(meterRegistry.get("http.outbound.requests")
+                .tag("target", "stub")
+                .tag("outcome", "success")
+                .timer()
+                .count()).isEqualTo(2);
+    }
+
+    @DisplayName("응답 제한 시간을 넘기면 실패하고 오류로 기록한다.")
+    @Test
+    void responseTimeout() {
+        // when & then
+        assertThatThrownBy(() -> client.execute(
+                rest -> rest.getForObject(baseUrl + "/slow", String.class)))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(meterRegistry.get("http.outbound.requests")
+                .tag("outcome", "error")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @DisplayName("동시 호출 한도를 넘은 요청은 기다리지 않고 즉시 거부된다.")
+    @Test
+    void rejectWhenBulkheadFull() throws Exception {
+        // given
+        OutboundHttpClient slowClient = new OutboundHttpClient("slow-stub",
+                new OutboundHttpSettings(Duration.ofMillis(500), Duration.ofSeconds(5), 1),
+                meterRegistry);
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> slowClient
+                .execute(rest -> rest.getForObject(baseUrl + "/slow", String.class)));
+        assertThat(slowRequestReceived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> slowClient.execute(
+                rest -> rest.getForObject(baseUrl + "/ok", String.class)))
+                .isInstanceOf(BulkheadFullException.class);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertThat(elapsedMillis).isLessThan(100);
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        slowClient.close();
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+}
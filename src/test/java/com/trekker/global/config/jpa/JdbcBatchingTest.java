@@ -0,0 +1,131 @@
+package com.trekker.global.config.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_CLASS;
+import static org.springframework.test.context.jdbc.SqlConfig.TransactionMode.ISOLATED;
+
+import com.github.gavlyukovskiy.boot.jdbc.decorator.DataSourceDecoratorAutoConfiguration;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import com.trekker.domain.project.dao.ProjectRepository;
+import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.task.dao.TaskRepository;
+import com.trekker.domain.task.entity.Task;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * 시퀀스로 ID를 미리 받은 할 일이 JDBC 배치로 INSERT 되는지 검증한다.
+ * <p>
+ * IDENTITY 였다면 할 일마다 INSERT를 한 번씩 실행하므로, 실행 횟수가 배치 크기로 나눈 횟수 이하인지 확인한다.
+ * Docker가 필요하므로 기본 테스트에서 제외되며 ./gradlew dbTest 로 실행한다.
+ */
+@Tag("db")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(DataSourceDecoratorAutoConfiguration.class)
+@Import(JdbcBatchingTest.InsertCounterConfig.class)
+@TestPropertySource(properties = {
+        "ACTIVE_PROFILE=db-test",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=" + JdbcBatchingTest.BATCH_SIZE,
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "decorator.datasource.p6spy.enable-logging=false"
+})
+@Sql(scripts = "/db/query-plan-dataset.sql", executionPhase = BEFORE_TEST_CLASS,
+        config = @SqlConfig(encoding = "UTF-8", transactionMode = ISOLATED))
+class JdbcBatchingTest {
+
+    static final int BATCH_SIZE = 30;
+    private static final int TASKS = 100;
+    private static final Long PROJECT_ID = 207L;
+
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4.3");
+
+    @Autowired
+    private InsertCounter insertCounter;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @DisplayName("할 일 100개를 저장하면 배치 크기 단위로 INSERT 한다.")
+    @Test
+    void insertTasksInBatches() {
+        // given
+        Project project = projectRepository.findById(PROJECT_ID).orElseThrow();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder()
+                    .name("배치 할 일 " + i)
+                    .start_date(LocalDate.of(2024, 3, 1))
+                    .isCompleted(false)
+                    .project(project)
+                    .build());
+        }
+        insertCounter.reset();
+
+        // when
+        taskRepository.saveAll(tasks);
+        taskRepository.flush();
+
+        // then
+        assertThat(tasks).allSatisfy(task -> assertThat(task.getId()).isNotNull());
+        assertThat(insertCounter.count())
+                .isLessThanOrEqualTo((TASKS + BATCH_SIZE - 1) / BATCH_SIZE);
+    }
+
+    @TestConfiguration
+    static class InsertCounterConfig {
+
+        @Bean
+        InsertCounter insertCounter() {
+            return new InsertCounter();
+        }
+    }
+
+    /**
+     * tasks 테이블 INSERT 실행 횟수를 세는 p6spy 리스너 (배치 실행은 한 번으로 센다)
+     */
+    static class InsertCounter extends SimpleJdbcEventListener {
+
+        private final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation,
+                long timeElapsedNanos, SQLException e) {
+            String sql = statementInformation.getStatementQuery();
+            if (sql != null && sql.stripLeading().regionMatches(true, 0, "insert into tasks", 0,
+                    17)) {
+                executions.incrementAndGet();
+            }
+        }
+
+        void reset() {
+            executions.set(0);
+        }
+
+        int count() {
+            return executions.get();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.trekker.global.config.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_CLASS;
+import static org.springframework.test.context.jdbc.SqlConfig.TransactionMode.ISOLATED;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.trekker.domain.member.application.MemberExportService;
+import com.trekker.domain.member.util.ExportFormat;
+import com.trekker.domain.project.dao.ProjectRepository;
+import com.trekker.domain.task.dao.RecurringTaskRepository;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * 회원 데이터 내보내기의 최대 힙 사용량이 데이터 양과 무관한지 검증
+ * <p>
+ * 할 일 50개인 회원과 100,000개인 회원을 내보내며, 일정 바이트를 쓸 때마다 GC 후 사용 중인 힙을 기록한다.
+ * 결과를 메모리에 모두 올렸다면 큰 회원의 최대 사용량이 결과 크기(수십 MB)만큼 늘어난다.
+ * Docker가 필요하며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "ACTIVE_PROFILE=db-test",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false"
+})
+@Sql(scripts = {"/db/query-plan-dataset.sql", "/db/export-dataset.sql"},
+        executionPhase = BEFORE_TEST_CLASS,
+        config = @SqlConfig(encoding = "UTF-8", transactionMode = ISOLATED))
+class MemberExportBenchmark {
+
+    private static final Long SMALL_MEMBER_ID = 1L;
+    private static final Long LARGE_MEMBER_ID = 2001L;
+    private static final long SAMPLE_BYTES = 1L << 20;
+    private static final long HEAP_MARGIN_BYTES = 16L << 20;
+
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4.3");
+
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private RecurringTaskRepository recurringTaskRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("할 일 100,000개 회원의 내보내기 최대 힙 사용량은 할 일 50개 회원과 비슷하다.")
+    @Test
+    void exportWithConstantMemory() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        MemberExportService memberExportService = new MemberExportService(projectRepository,
+                recurringTaskRepository, objectMapper, transactionManager, 1);
+
+        for (ExportFormat format : ExportFormat.values()) {
+            HeapSamplingOutputStream small = export(memberExportService, SMALL_MEMBER_ID, format);
+            HeapSamplingOutputStream large = export(memberExportService, LARGE_MEMBER_ID, format);
+
+            System.out.printf("%-6s small: %,12d B  peak heap %,12d B%n", format,
+                    small.written, small.peakHeap);
+            System.out.printf("%-6s large: %,12d B  peak heap %,12d B%n", format,
+                    large.written, large.peakHeap);
+            assertThat(large.written).isGreaterThan(small.written * 100);
+            assertThat(large.peakHeap).isLessThan(small.peakHeap + HEAP_MARGIN_BYTES);
+        }
+    }
+
+    private HeapSamplingOutputStream export(MemberExportService memberExportService,
+            Long memberId, ExportFormat format) throws Exception {
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+        out.sample();
+        memberExportService.export(memberId, format).writeTo(out);
+        out.sample();
+        return out;
+    }
+
+    /**
+     * 쓴 바이트 수를 세고, {@link #SAMPLE_BYTES}마다 GC 후 사용 중인 힙을 기록한다. (내용은 버림)
+     */
+    private class HeapSamplingOutputStream extends OutputStream {
+
+        private long written;
+        private long nextSample = SAMPLE_BYTES;
+        private long peakHeap;
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count(len);
+        }
+
+        private void count(int len) {
+            written += len;
+            if (written >= nextSample) {
+                nextSample += SAMPLE_BYTES;
+                sample();
+            }
+        }
+
+        void sample() {
+            System.gc();
+            peakHeap = Math.max(peakHeap, memoryMXBean.getHeapMemoryUsage().getUsed());
+        }
+    }
+}
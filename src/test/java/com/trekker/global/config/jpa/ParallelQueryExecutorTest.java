@@ -0,0 +1,186 @@
+package com.trekker.global.config.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ParallelQueryExecutorTest {
+
+    private ParallelQueryExecutor parallelQueryExecutor;
+
+    @AfterEach
+    void tearDown() {
+        parallelQueryExecutor.destroy();
+    }
+
+    @DisplayName("fork한 쿼리는 동시에 실행되고 join 이후 결과를 반환한다.")
+    @Test
+    void forkAndJoin() {
+        // given
+        parallelQueryExecutor = new ParallelQueryExecutor(4, 1000);
+        // 두 쿼리가 동시에 실행되어야만 서로의 대기가 풀림
+        CountDownLatch started = new CountDownLatch(2);
+
+        // when
+        try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.open()) {
+            Supplier<String> first = scope.fork(() -> awaitTogether(started, "first"));
+            Supplier<String> second = scope.fork(() -> awaitTogether(started, "second"));
+            scope.join();
+
+            // then
+            assertThat(first.get()).isEqualTo("first");
+            assertThat(second.get()).isEqualTo("second");
+        }
+    }
+
+    @DisplayName("쿼리 하나가 실패하면 나머지를 취소하고 같은 예외를 던진다.")
+    @Test
+    void failFast() throws InterruptedException {
+        // given
+        parallelQueryExecutor = new ParallelQueryExecutor(4, 5000);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // when & then
+        try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.open()) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return "slow";
+            });
+            scope.fork(() -> {
+                throw new BusinessException(ErrorCode.PROJECT_NOT_FOUND);
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining(ErrorCode.PROJECT_NOT_FOUND.getMessage());
+        }
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @DisplayName("제한 시간 안에 끝나지 않으면 QUERY_TIMEOUT 예외를 던진다.")
+    @Test
+    void timeout() {
+        // given
+        parallelQueryExecutor = new ParallelQueryExecutor(4, 50);
+
+        // when & then
+        try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.open()) {
+            scope.fork(() -> {
+                Thread.sleep(10_000);
+                return "slow";
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining(ErrorCode.QUERY_TIMEOUT.getMessage());
+        }
+    }
+
+    @DisplayName("동시에 실행되는 쿼리 수는 허가 수를 넘지 않는다.")
+    @Test
+    void boundedByPermits() {
+        // given
+        parallelQueryExecutor = new ParallelQueryExecutor(2, 5000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean exceeded = new AtomicBoolean();
+
+        // when
+        try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.open()) {
+            for (int i = 0; i < 8; i++) {
+                scope.fork(() -> {
+                    if (running.incrementAndGet() > 2) {
+                        exceeded.set(true);
+                    }
+                    Thread.sleep(20);
+                    running.decrementAndGet();
+                    return "done";
+                });
+            }
+            scope.join();
+        }
+
+        // then
+        assertThat(exceeded).isFalse();
+    }
+
+    @DisplayName("트랜잭션 안에서는 범위를 열 수 없다.")
+    @Test
+    void openFailInsideTransaction() {
+        // given
+        parallelQueryExecutor = new ParallelQueryExecutor(4, 1000);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> parallelQueryExecutor.open())
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @DisplayName("OSIV처럼 스레드에 엔티티 매니저가 바인딩되어 있으면 범위를 열 수 없다.")
+    @Test
+    void openFailWithBoundEntityManager() {
+        // given
+        parallelQueryExecutor = new ParallelQueryExecutor(4, 1000);
+        Object key = new Object();
+        TransactionSynchronizationManager.bindResource(key,
+                new EntityManagerHolder(mock(EntityManager.class)));
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> parallelQueryExecutor.open())
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(key);
+        }
+    }
+
+    @DisplayName("스레드에 커넥션이 바인딩되어 있으면 범위를 열 수 없다.")
+    @Test
+    void openFailWithBoundConnection() {
+        // given
+        parallelQueryExecutor = new ParallelQueryExecutor(4, 1000);
+        Object key = new Object();
+        TransactionSynchronizationManager.bindResource(key,
+                new ConnectionHolder(mock(Connection.class)));
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> parallelQueryExecutor.open())
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(key);
+        }
+    }
+
+    private String awaitTogether(CountDownLatch started, String result)
+            throws InterruptedException {
+        started.countDown();
+        if (!started.await(1, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("쿼리가 동시에 실행되지 않았습니다.");
+        }
+        return result;
+    }
+}
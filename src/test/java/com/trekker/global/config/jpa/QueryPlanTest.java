@@ -0,0 +1,222 @@
+package com.trekker.global.config.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_CLASS;
+import static org.springframework.test.context.jdbc.SqlConfig.TransactionMode.ISOLATED;
+
+import com.github.gavlyukovskiy.boot.jdbc.decorator.DataSourceDecoratorAutoConfiguration;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import com.trekker.domain.member.dao.MemberRepository;
+import com.trekker.domain.project.dao.ProjectRepository;
+import com.trekker.domain.report.dao.DailyTaskStatRepository;
+import com.trekker.domain.retrospective.dao.RetrospectiveRepository;
+import com.trekker.domain.retrospective.dao.RetrospectiveSkillRepository;
+import com.trekker.domain.retrospective.dao.SkillRepository;
+import com.trekker.domain.task.dao.TaskRepository;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * 마이그레이션으로 만든 스키마에서 주요 조회 쿼리의 실행 계획을 검증한다.
+ * <p>
+ * 리포지토리 메서드가 실제로 실행한 SQL(파라미터 포함)을 p6spy로 수집해 EXPLAIN 하고, 많은 행을 읽을 것으로
+ * 예상되는 테이블에 전체 테이블 스캔(ALL)이나 전체 인덱스 스캔(index)이 있으면 실패한다.
+ * Docker가 필요하므로 기본 테스트에서 제외되며 ./gradlew dbTest 로 실행한다.
+ */
+@Tag("db")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(DataSourceDecoratorAutoConfiguration.class)
+@Import(QueryPlanTest.CapturedSqlConfig.class)
+@TestPropertySource(properties = {
+        "ACTIVE_PROFILE=db-test",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "decorator.datasource.p6spy.enable-logging=false"
+})
+@Sql(scripts = "/db/query-plan-dataset.sql", executionPhase = BEFORE_TEST_CLASS,
+        config = @SqlConfig(encoding = "UTF-8", transactionMode = ISOLATED))
+class QueryPlanTest {
+
+    // 이보다 적은 행을 읽는 테이블의 전체 스캔은 허용 (상수 테이블, 작은 조회 테이블 등)
+    private static final long FULL_SCAN_ROW_LIMIT = 1_000;
+    private static final Long MEMBER_ID = 42L;
+    private static final Long PROJECT_ID = 207L;
+    private static final Long TASK_ID = 2061L;
+
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4.3");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CapturedSql capturedSql;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private RetrospectiveRepository retrospectiveRepository;
+    @Autowired
+    private RetrospectiveSkillRepository retrospectiveSkillRepository;
+    @Autowired
+    private SkillRepository skillRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private DailyTaskStatRepository dailyTaskStatRepository;
+
+    @DisplayName("회원의 할 일 기간 조회는 인덱스를 사용한다.")
+    @Test
+    void findTaskSpansByMemberId() {
+        assertNoFullScan(() -> taskRepository.findTaskSpansByMemberId(MEMBER_ID));
+    }
+
+    @DisplayName("진행 중인 프로젝트 조회는 유형 조건 유무와 관계없이 인덱스를 사용한다.")
+    @Test
+    void findActiveProjects() {
+        assertNoFullScan(() -> projectRepository.findActiveProjects(MEMBER_ID));
+        assertNoFullScan(() -> projectRepository.findActiveProjectsByType(MEMBER_ID, "개인"));
+    }
+
+    @DisplayName("조회 전용 프로젝트, 회원 프로필, 회고 조회는 인덱스를 사용한다.")
+    @Test
+    void findReadProjections() {
+        assertNoFullScan(() -> projectRepository.findProjectSummaryById(PROJECT_ID));
+        assertNoFullScan(() -> memberRepository.findProfileById(MEMBER_ID));
+        assertNoFullScan(() -> retrospectiveRepository.findRetrospectiveRowsByTaskId(TASK_ID));
+    }
+
+    @DisplayName("프로젝트별 완료된 할 일 수 집계는 인덱스를 사용한다.")
+    @Test
+    void findProjectWithTaskCompleted() {
+        assertNoFullScan(() -> projectRepository.findProjectWithTaskCompleted(MEMBER_ID));
+    }
+
+    @DisplayName("키셋 페이지네이션의 ID 조회는 인덱스를 사용한다.")
+    @Test
+    void findKeysetPageIds() {
+        assertNoFullScan(() -> taskRepository.findRetrospectiveTaskIdsByProjectIdAndMemberId(
+                PROJECT_ID, MEMBER_ID, 2061L, PageRequest.of(0, 21)));
+        assertNoFullScan(() -> taskRepository.findTaskRetrospectivesByTaskIdIn(
+                List.of(2061L, 2063L)));
+        assertNoFullScan(() -> projectRepository.findPortfolioProjectIds(MEMBER_ID, 0L,
+                PageRequest.of(0, 21)));
+    }
+
+    @DisplayName("상위 스킬 집계는 인덱스를 사용한다.")
+    @Test
+    void findTopSkills() {
+        assertNoFullScan(() -> retrospectiveSkillRepository.findTopSkillsByMemberIdAndType(
+                MEMBER_ID, "soft", PageRequest.of(0, 3)));
+        assertNoFullScan(() -> retrospectiveSkillRepository.findTopSkillsByType(
+                PROJECT_ID, "hard", PageRequest.of(0, 3)));
+        assertNoFullScan(() -> retrospectiveSkillRepository.findSkillsByMemberIdAndTypeAfter(
+                MEMBER_ID, "soft", 3L, "skill1", PageRequest.of(0, 21)));
+        assertNoFullScan(() -> retrospectiveSkillRepository.findProjectSkillsByProjectIdIn(
+                List.of(PROJECT_ID)));
+    }
+
+    @DisplayName("스킬 조회는 인덱스를 사용한다.")
+    @Test
+    void findSkills() {
+        assertNoFullScan(() -> skillRepository.findByNameIn(List.of("skill1", "skill2")));
+        assertNoFullScan(() -> skillRepository.findAllSkillsWithCountByMemberId(MEMBER_ID));
+        assertNoFullScan(() -> skillRepository.findSkillDetailsBySkillIdAndMemberId(7L,
+                MEMBER_ID, 0L, PageRequest.of(0, 21)));
+    }
+
+    @DisplayName("리포트의 날짜별 할 일 통계 조회는 기본 키 범위로 읽는다.")
+    @Test
+    void findStatsInRange() {
+        assertNoFullScan(() -> dailyTaskStatRepository.findStatsInRange(MEMBER_ID,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)));
+    }
+
+    @DisplayName("소셜 계정으로 회원 정보 조회는 인덱스를 사용한다.")
+    @Test
+    void findIdentityByProviderAndProviderId() {
+        assertNoFullScan(() -> memberRepository.findIdentityByProviderAndProviderId("google",
+                "google-sub"));
+    }
+
+    private void assertNoFullScan(Runnable query) {
+        capturedSql.clear();
+        query.run();
+        List<String> statements = capturedSql.drain();
+        assertThat(statements).isNotEmpty();
+
+        for (String sql : statements) {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+            List<String> fullScans = new ArrayList<>();
+            for (Map<String, Object> row : plan) {
+                String type = String.valueOf(row.get("type"));
+                long rows = row.get("rows") == null ? 0
+                        : ((Number) row.get("rows")).longValue();
+                if (("ALL".equals(type) || "index".equals(type)) && rows > FULL_SCAN_ROW_LIMIT) {
+                    fullScans.add(row.get("table") + "(" + type + ", rows=" + rows + ")");
+                }
+            }
+            assertThat(fullScans)
+                    .as("full scan in plan of: %s%n%s", sql, plan)
+                    .isEmpty();
+        }
+    }
+
+    @TestConfiguration
+    static class CapturedSqlConfig {
+
+        @Bean
+        CapturedSql capturedSql() {
+            return new CapturedSql();
+        }
+    }
+
+    /**
+     * 실행된 SQL을 바인딩된 값과 함께 수집하는 p6spy 리스너
+     */
+    static class CapturedSql extends SimpleJdbcEventListener {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation,
+                long timeElapsedNanos, SQLException e) {
+            String sql = statementInformation.getSqlWithValues();
+            if (sql != null && sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                statements.add(sql);
+            }
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        List<String> drain() {
+            List<String> drained = List.copyOf(statements);
+            statements.clear();
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.trekker.global.config.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_CLASS;
+import static org.springframework.test.context.jdbc.SqlConfig.TransactionMode.ISOLATED;
+
+import com.trekker.domain.member.dao.MemberRepository;
+import com.trekker.domain.member.entity.Member;
+import com.trekker.domain.project.dao.ProjectRepository;
+import com.trekker.domain.project.entity.Project;
+import com.trekker.domain.retrospective.dao.RetrospectiveRepository;
+import com.trekker.domain.retrospective.entity.Retrospective;
+import com.trekker.domain.task.entity.Task;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * 엔티티 조회(JOIN FETCH)와 조회 전용 DTO 프로젝션의 연산당 시간·할당량 비교
+ * <p>
+ * 서비스와 같이 읽기 전용 트랜잭션에서 실행하고, 요청마다 영속성 컨텍스트가 새로 시작되도록 매 연산 후 비운다.
+ * 엔티티 조회는 프로젝션으로 바꾸기 전의 쿼리를 그대로 사용한다.
+ * Docker가 필요하며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(readOnly = true)
+@TestPropertySource(properties = {
+        "ACTIVE_PROFILE=db-test",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false"
+})
+@Sql(scripts = "/db/query-plan-dataset.sql", executionPhase = BEFORE_TEST_CLASS,
+        config = @SqlConfig(encoding = "UTF-8", transactionMode = ISOLATED))
+class ReadProjectionBenchmark {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+    private static final Long MEMBER_ID = 42L;
+    private static final Long PROJECT_ID = 207L;
+    private static final Long TASK_ID = 2061L;
+
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4.3");
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private RetrospectiveRepository retrospectiveRepository;
+
+    @DisplayName("프로젝트 정보 (할 일 목록, 성취도, 스킬 요약): 엔티티 vs 프로젝션")
+    @Test
+    void projectSummary() {
+        compare("project",
+                () -> projectRepository.findProjectByIdWIthMember(PROJECT_ID).orElseThrow(),
+                () -> projectRepository.findProjectSummaryById(PROJECT_ID).orElseThrow());
+    }
+
+    @DisplayName("프로젝트 목록: 엔티티 vs 프로젝션")
+    @Test
+    void projectList() {
+        compare("list",
+                () -> {
+                    Member member = memberRepository.findByIdWithJob(MEMBER_ID).orElseThrow();
+                    List<Project> projects = entityManager.createQuery("""
+                                    SELECT p
+                                    FROM Project p
+                                    WHERE p.member.id = :memberId
+                                    AND p.isCompleted = false
+                                    """, Project.class)
+                            .setParameter("memberId", MEMBER_ID)
+                            .getResultList();
+                    return List.of(member, projects);
+                },
+                () -> List.of(memberRepository.findProfileById(MEMBER_ID).orElseThrow(),
+                        projectRepository.findActiveProjects(MEMBER_ID)));
+    }
+
+    @DisplayName("회고 조회: 엔티티 vs 프로젝션")
+    @Test
+    void retrospective() {
+        compare("retro",
+                () -> {
+                    Task task = entityManager.createQuery("""
+                                    SELECT t
+                                    FROM Task t
+                                    JOIN FETCH t.project p
+                                    LEFT JOIN FETCH t.retrospective r
+                                    JOIN FETCH p.member m
+                                    WHERE t.id =:taskId
+                                    """, Task.class)
+                            .setParameter("taskId", TASK_ID)
+                            .getSingleResult();
+                    Retrospective retrospective = retrospectiveRepository
+                            .findByIdWithSkillList(task.getRetrospective().getId())
+                            .orElseThrow();
+                    return List.of(task.getName(), retrospective.getContent(),
+                            retrospective.getRetrospectiveSkillList().size());
+                },
+                () -> retrospectiveRepository.findRetrospectiveRowsByTaskId(TASK_ID));
+    }
+
+    private void compare(String name, Supplier<Object> entity, Supplier<Object> projection) {
+        double[] entityResult = measure(entity);
+        double[] projectionResult = measure(projection);
+
+        System.out.printf("%-8s time   entity=%10.1f us  projection=%10.1f us%n", name,
+                entityResult[0] / 1_000, projectionResult[0] / 1_000);
+        System.out.printf("%-8s alloc  entity=%10.1f B   projection=%10.1f B%n", name,
+                entityResult[1], projectionResult[1]);
+        assertThat(projectionResult[1]).isLessThan(entityResult[1]);
+    }
+
+    /**
+     * @return [연산당 ns, 연산당 할당 바이트]
+     */
+    private double[] measure(Supplier<Object> operation) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = operation.get();
+            entityManager.clear();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = operation.get();
+            entityManager.clear();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        assertThat(sink).isNotNull();
+        return new double[]{(double) elapsed / ITERATIONS, (double) allocated / ITERATIONS};
+    }
+}
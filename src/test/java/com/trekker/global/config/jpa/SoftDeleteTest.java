@@ -0,0 +1,108 @@
+package com.trekker.global.config.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_CLASS;
+import static org.springframework.test.context.jdbc.SqlConfig.TransactionMode.ISOLATED;
+
+import com.trekker.domain.member.application.DeletedMemberPurger;
+import com.trekker.domain.member.dao.MemberRepository;
+import com.trekker.domain.project.dao.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * 삭제된 행이 엔티티 조회에서 제외되고, 보관 기간이 지난 탈퇴 회원의 데이터가 아카이브 테이블로 옮겨지는지 검증한다.
+ * Docker가 필요하므로 기본 테스트에서 제외되며 ./gradlew dbTest 로 실행한다.
+ */
+@Tag("db")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DeletedMemberPurger.class)
+@TestPropertySource(properties = {
+        "ACTIVE_PROFILE=db-test",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "member-purge.batch-size=20",
+        "member-purge.batch-pause-millis=0"
+})
+@Sql(scripts = "/db/query-plan-dataset.sql", executionPhase = BEFORE_TEST_CLASS,
+        config = @SqlConfig(encoding = "UTF-8", transactionMode = ISOLATED))
+class SoftDeleteTest {
+
+    // 프로젝트 9991 ~ 9995, 할 일 99901 ~ 99950을 가진 회원
+    private static final Long MEMBER_ID = 1999L;
+    private static final Long PROJECT_ID = 9991L;
+
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4.3");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private DeletedMemberPurger deletedMemberPurger;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("UPDATE members SET is_delete = true, updated_time = ? "
+                + "WHERE member_id = ?", "2024-01-01 00:00:00", MEMBER_ID);
+        jdbcTemplate.update("UPDATE projects SET is_delete = true WHERE project_id = ?",
+                PROJECT_ID);
+    }
+
+    @DisplayName("삭제된 회원과 프로젝트는 엔티티 조회에서 제외된다.")
+    @Test
+    void deletedRowsAreFiltered() {
+        assertThat(memberRepository.findById(MEMBER_ID)).isEmpty();
+        assertThat(projectRepository.findById(PROJECT_ID)).isEmpty();
+        assertThat(projectRepository.findById(PROJECT_ID + 1)).isPresent();
+    }
+
+    @DisplayName("탈퇴 회원의 할 일, 회고, 프로젝트를 아카이브 테이블로 옮긴 뒤 삭제한다.")
+    @Test
+    void purgeDeletedMember() {
+        // when
+        int batches = deletedMemberPurger.purge();
+
+        // then
+        assertThat(batches).isGreaterThanOrEqualTo(4);
+        assertThat(count("SELECT COUNT(*) FROM projects WHERE member_id = ?")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM projects_archive WHERE member_id = ?"))
+                .isEqualTo(5);
+        assertThat(count("""
+                SELECT COUNT(*) FROM tasks_archive t
+                JOIN projects_archive p ON p.project_id = t.project_id
+                WHERE p.member_id = ?
+                """)).isEqualTo(50);
+        assertThat(count("""
+                SELECT COUNT(*) FROM retrospectives_archive r
+                JOIN tasks_archive t ON t.task_id = r.task_id
+                JOIN projects_archive p ON p.project_id = t.project_id
+                WHERE p.member_id = ?
+                """)).isEqualTo(25);
+        assertThat(count("SELECT COUNT(*) FROM members WHERE member_id = ?")).isOne();
+        assertThat(count("""
+                SELECT COUNT(*) FROM members WHERE member_id = ? AND purged_time IS NOT NULL
+                """)).isOne();
+        // 정리가 끝난 회원은 다시 대상으로 조회하지 않음
+        assertThat(deletedMemberPurger.purge()).isZero();
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class, MEMBER_ID);
+    }
+}
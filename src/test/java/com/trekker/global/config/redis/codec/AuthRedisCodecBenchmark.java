@@ -0,0 +1,104 @@
+package com.trekker.global.config.redis.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trekker.global.auth.dto.res.AuthResDto;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * 기존 JSON 직렬화와 AuthRedisCodec의 항목당 크기·직렬화 시간 비교
+ * <p>
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class AuthRedisCodecBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer =
+            new GenericJackson2JsonRedisSerializer();
+
+    // 실제 발급 형식과 같은 길이의 토큰
+    private final String accessToken = "eyJhbGciOiJIUzI1NiJ9."
+            + "eyJzdWIiOiIxMjM0NSIsInJvbGVzIjoiUk9MRV9VU0VSIiwiaWF0IjoxNzAwMDAwMDAwLCJleHAi"
+            + "OjE3MDAwMDE4MDB9."
+            + "3q2k8WcQm4m0b8Qb6n2y7rY2mO0bJw4mS2sVtq1Yx0E";
+    private final String refreshToken = "eyJhbGciOiJIUzI1NiJ9."
+            + "eyJzdWIiOiIxMjM0NSIsImlhdCI6MTcwMDAwMDAwMCwiZXhwIjoxNzAwNjA0ODAwfQ."
+            + "Vf8b1wK7c9Jt5q2mQ0pZr3nX6yL4eD1sA8hG2uT0iOk";
+
+    @DisplayName("임시 토큰 응답: JSON vs 바이너리")
+    @Test
+    void authResponse() {
+        AuthResDto authResDto = new AuthResDto(accessToken, refreshToken, false);
+
+        byte[] json = jsonSerializer.serialize(authResDto);
+        byte[] compact = AuthRedisCodec.encodeAuthResponse(authResDto);
+
+        double jsonSer = nanosPerOp(() -> jsonSerializer.serialize(authResDto));
+        double compactSer = nanosPerOp(() -> AuthRedisCodec.encodeAuthResponse(authResDto));
+        double jsonDe = nanosPerOp(() -> jsonSerializer.deserialize(json));
+        double compactDe = nanosPerOp(() -> AuthRedisCodec.decodeAuthResponse(compact));
+
+        report("AuthResDto", json.length, compact.length, jsonSer, compactSer, jsonDe, compactDe);
+        assertThat(compact.length).isLessThan(json.length);
+    }
+
+    @DisplayName("Refresh 토큰 항목: JSON 해시 vs 바이너리")
+    @Test
+    void refreshToken() {
+        Map<String, Object> hash = new HashMap<>();
+        hash.put("refreshToken", refreshToken);
+        hash.put("authorities", "ROLE_USER");
+
+        // 기존 형식: 해시 필드 이름 + JSON 인코딩된 값
+        int jsonBytes = "refreshToken".length() + jsonSerializer.serialize(refreshToken).length
+                + "authorities".length() + jsonSerializer.serialize("ROLE_USER").length;
+        byte[] compact = AuthRedisCodec.encodeRefreshToken(refreshToken, "ROLE_USER");
+
+        double jsonSer = nanosPerOp(() -> {
+            jsonSerializer.serialize(hash.get("refreshToken"));
+            return jsonSerializer.serialize(hash.get("authorities"));
+        });
+        double compactSer = nanosPerOp(
+                () -> AuthRedisCodec.encodeRefreshToken(refreshToken, "ROLE_USER"));
+        byte[] jsonValue = jsonSerializer.serialize(refreshToken);
+        double jsonDe = nanosPerOp(() -> jsonSerializer.deserialize(jsonValue));
+        double compactDe = nanosPerOp(
+                () -> AuthRedisCodec.matchesRefreshToken(compact, refreshToken));
+
+        report("RefreshToken", jsonBytes, compact.length, jsonSer, compactSer, jsonDe, compactDe);
+        assertThat(compact.length).isLessThan(jsonBytes);
+    }
+
+    private double nanosPerOp(Supplier<Object> operation) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = operation.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isNotNull();
+        return (double) elapsed / ITERATIONS;
+    }
+
+    private void report(String name, int jsonBytes, int compactBytes, double jsonSer,
+            double compactSer, double jsonDe, double compactDe) {
+        System.out.printf("%-12s bytes/entry  json=%4d  compact=%4d%n", name, jsonBytes,
+                compactBytes);
+        System.out.printf("%-12s serialize    json=%8.1f ns  compact=%8.1f ns%n", name, jsonSer,
+                compactSer);
+        System.out.printf("%-12s deserialize  json=%8.1f ns  compact=%8.1f ns%n", name, jsonDe,
+                compactDe);
+    }
+}
@@ -0,0 +1,171 @@
+package com.trekker.global.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trekker.global.auth.dto.RefreshTokenInfoDto;
+import com.trekker.global.auth.dto.res.AuthResDto;
+import com.trekker.global.auth.dto.res.RefreshTokenResDto;
+import com.trekker.global.auth.store.TokenStore;
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@ExtendWith(MockitoExtension.class)
+class TokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("trekker-test-secret-key-for-hs256-signing!!".getBytes());
+
+    @Mock
+    private TokenStore tokenStore;
+
+    private TokenProvider tokenProvider;
+    private AuthResDto authResDto;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new TokenProvider(SECRET, tokenStore);
+        Authentication authentication = new UsernamePasswordAuthenticationToken("1", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        authResDto = tokenProvider.createAuthResponse(authentication);
+    }
+
+    @DisplayName("Access 토큰은 한 번의 검증으로 Claims와 Authentication을 만든다.")
+    @Test
+    void verifyAccessToken() {
+        // when
+        Claims claims = tokenProvider.verifyToken(authResDto.accessToken());
+        Authentication authentication = tokenProvider.getAuthentication(claims,
+                authResDto.accessToken());
+
+        // then
+        assertThat(claims.getIssuedAt()).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("1");
+        assertThat(authentication.getAuthorities())
+                .extracting("authority")
+                .containsExactly("ROLE_USER");
+    }
+
+    @DisplayName("토큰의 발급 시각은 밀리초 단위로 읽는다.")
+    @Test
+    void issuedAtInMillis() {
+        // given
+        long before = System.currentTimeMillis();
+        AuthResDto issued = tokenProvider.createAuthResponse(
+                new UsernamePasswordAuthenticationToken("1", null,
+                        List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        long after = System.currentTimeMillis();
+
+        // when
+        Instant issuedAt = TokenProvider.getIssuedAt(
+                tokenProvider.verifyToken(issued.accessToken()));
+
+        // then
+        assertThat(issuedAt.toEpochMilli()).isBetween(before, after);
+    }
+
+    @DisplayName("서명이 올바르지 않은 토큰은 검증 결과가 null이다.")
+    @Test
+    void verifyTamperedToken() {
+        // when
+        Claims claims = tokenProvider.verifyToken(authResDto.accessToken() + "x");
+
+        // then
+        assertThat(claims).isNull();
+    }
+
+    @DisplayName("권한 정보가 없는 Refresh 토큰으로는 인증 정보를 만들지 않는다.")
+    @Test
+    void refreshTokenIsNotAuthentication() {
+        // when
+        Claims claims = tokenProvider.verifyToken(authResDto.refreshToken());
+
+        // then
+        assertThat(tokenProvider.getAuthentication(claims, authResDto.refreshToken())).isNull();
+    }
+
+    @DisplayName("Refresh 토큰과 권한 정보를 한 번에 조회하여 Access 토큰을 갱신한다.")
+    @Test
+    void refreshAccessToken() {
+        // given
+        String refreshToken = authResDto.refreshToken();
+        when(tokenStore.findAuthorities("1", refreshToken)).thenReturn("ROLE_USER");
+
+        // when
+        AuthResDto result = tokenProvider.refreshAccessToken(refreshToken);
+
+        // then
+        assertThat(result.refreshToken()).isEqualTo(refreshToken);
+        assertThat(result.refreshTokenWillExpire()).isFalse();
+        assertThat(tokenProvider.getUserIdFromToken(result.accessToken())).isEqualTo("1");
+    }
+
+    @DisplayName("저장된 Refresh 토큰과 다르면 Access 토큰 갱신에 실패한다.")
+    @Test
+    void failToRefreshWithStaleToken() {
+        // given
+        String refreshToken = authResDto.refreshToken();
+        when(tokenStore.findAuthorities("1", refreshToken)).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> tokenProvider.refreshAccessToken(refreshToken))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.INVALID_REFRESH_TOKEN.getMessage());
+    }
+
+    @DisplayName("Refresh 토큰 재발급은 저장된 토큰을 원자적으로 교체한다.")
+    @Test
+    void reissueRefreshToken() {
+        // given
+        String refreshToken = authResDto.refreshToken();
+        when(tokenStore.rotateRefreshToken(eq("1"), eq(refreshToken), anyString()))
+                .thenReturn("ROLE_USER");
+
+        // when
+        RefreshTokenResDto result = tokenProvider.reissueRefreshToken(refreshToken);
+
+        // then
+        ArgumentCaptor<String> newToken = ArgumentCaptor.forClass(String.class);
+        verify(tokenStore).rotateRefreshToken(eq("1"), eq(refreshToken),
+                newToken.capture());
+        assertThat(result.refreshToken()).isEqualTo(newToken.getValue());
+    }
+
+    @DisplayName("유효하지 않은 Refresh 토큰은 Redis 조회 없이 재발급에 실패한다.")
+    @Test
+    void failToReissueWithInvalidToken() {
+        // when & then
+        assertThatThrownBy(() -> tokenProvider.reissueRefreshToken("invalid"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.INVALID_REFRESH_TOKEN.getMessage());
+        verify(tokenStore, never()).rotateRefreshToken(anyString(), anyString(),
+                anyString());
+    }
+
+    @DisplayName("토큰 발급 시 Refresh 토큰을 한 번에 저장한다.")
+    @Test
+    void storeRefreshTokenOnce() {
+        // then
+        verify(tokenStore).storeRefreshToken(any(RefreshTokenInfoDto.class));
+    }
+}
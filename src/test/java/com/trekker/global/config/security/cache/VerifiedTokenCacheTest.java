@@ -0,0 +1,71 @@
+package com.trekker.global.config.security.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class VerifiedTokenCacheTest {
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private Authentication authentication;
+
+    private VerifiedToken verifiedToken(Instant expiresAt) {
+        return new VerifiedToken(authentication, Instant.now(), expiresAt);
+    }
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(100, 300);
+        authentication = new UsernamePasswordAuthenticationToken("1", "token",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @DisplayName("검증된 토큰은 캐시에서 같은 Authentication을 반환한다.")
+    @Test
+    void getCachedAuthentication() {
+        // given
+        String token = "header.payload.signature";
+        verifiedTokenCache.put(token, verifiedToken(Instant.now().plusSeconds(60)));
+
+        // when
+        VerifiedToken result = verifiedTokenCache.get(token);
+
+        // then
+        assertThat(result.authentication()).isSameAs(authentication);
+    }
+
+    @DisplayName("만료 시각이 지난 토큰은 캐시에서 조회되지 않는다.")
+    @Test
+    void getExpiredToken() {
+        // given
+        String token = "header.payload.expired";
+        verifiedTokenCache.put(token, verifiedToken(Instant.now().minusSeconds(1)));
+
+        // when
+        VerifiedToken result = verifiedTokenCache.get(token);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @DisplayName("캐시에서 제거한 토큰은 조회되지 않는다.")
+    @Test
+    void invalidate() {
+        // given
+        String token = "header.payload.signature";
+        verifiedTokenCache.put(token, verifiedToken(Instant.now().plusSeconds(60)));
+
+        // when
+        verifiedTokenCache.invalidate(token);
+
+        // then
+        assertThat(verifiedTokenCache.get(token)).isNull();
+    }
+}
@@ -0,0 +1,113 @@
+package com.trekker.global.config.security.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationCheckerTest {
+
+    private RevocationEpochCache revocationEpochCache;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationChecker tokenRevocationChecker;
+
+    @BeforeEach
+    void setUp() {
+        revocationEpochCache = new RevocationEpochCache();
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationChecker = new TokenRevocationChecker(revocationEpochCache, meterRegistry);
+    }
+
+    @DisplayName("로그아웃한 적 없는 회원의 토큰은 유효하다.")
+    @Test
+    void notRevokedWithoutEpoch() {
+        // when
+        boolean revoked = tokenRevocationChecker.isRevoked("1", Instant.now());
+
+        // then
+        assertThat(revoked).isFalse();
+    }
+
+    @DisplayName("로그아웃 시각 이전에 발급된 토큰은 폐기된다.")
+    @Test
+    void revokedWhenIssuedBeforeEpoch() {
+        // given
+        Instant logoutAt = Instant.ofEpochMilli(1_700_000_000_500L);
+        revocationEpochCache.update("1", logoutAt.toEpochMilli());
+
+        // when
+        boolean revoked = tokenRevocationChecker.isRevoked("1", logoutAt.minusSeconds(60));
+
+        // then
+        assertThat(revoked).isTrue();
+        assertThat(meterRegistry.get("auth.revocation.rejected").counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("로그아웃 이후 재발급된 토큰은 유효하다.")
+    @Test
+    void notRevokedWhenIssuedAfterEpoch() {
+        // given
+        Instant logoutAt = Instant.ofEpochMilli(1_700_000_000_500L);
+        revocationEpochCache.update("1", logoutAt.toEpochMilli());
+
+        // when
+        boolean revoked = tokenRevocationChecker.isRevoked("1", logoutAt.plusSeconds(1));
+
+        // then
+        assertThat(revoked).isFalse();
+    }
+
+    @DisplayName("로그아웃과 같은 초에 다시 로그인해 발급된 토큰도 유효하고, 그 전에 발급된 토큰은 폐기된다.")
+    @Test
+    void sameSecondReLogin() {
+        // given
+        Instant logoutAt = Instant.ofEpochMilli(1_700_000_000_500L);
+        revocationEpochCache.update("1", logoutAt.toEpochMilli());
+
+        // when & then
+        assertThat(tokenRevocationChecker.isRevoked("1", logoutAt.plusMillis(100))).isFalse();
+        assertThat(tokenRevocationChecker.isRevoked("1", logoutAt.minusMillis(100))).isTrue();
+    }
+
+    @DisplayName("이전 기준 시각으로는 더 늦은 기준 시각을 덮어쓰지 않는다.")
+    @Test
+    void keepLatestEpoch() {
+        // given
+        revocationEpochCache.update("1", 2_000_000L);
+        revocationEpochCache.update("1", 1_000_000L);
+
+        // when
+        boolean revoked = tokenRevocationChecker.isRevoked("1", Instant.ofEpochSecond(1_500L));
+
+        // then
+        assertThat(revoked).isTrue();
+    }
+
+    @DisplayName("만료된 기준 시각은 정리된다.")
+    @Test
+    void evictExpiredEpoch() {
+        // given
+        revocationEpochCache.update("1", 1_000_000L);
+        revocationEpochCache.update("2", 5_000_000L);
+
+        // when
+        revocationEpochCache.evictExpired(2_000_000L);
+
+        // then
+        assertThat(revocationEpochCache.size()).isEqualTo(1);
+        assertThat(tokenRevocationChecker.isRevoked("1", Instant.ofEpochSecond(500L))).isFalse();
+    }
+
+    @DisplayName("이전 형식(초 단위)으로 저장된 기준 시각은 밀리초로 변환한다.")
+    @Test
+    void convertLegacyEpochSeconds() {
+        assertThat(RevocationEpochCache.toEpochMillis(1_700_000_001L))
+                .isEqualTo(1_700_000_001_000L);
+        assertThat(RevocationEpochCache.toEpochMillis(1_700_000_000_500L))
+                .isEqualTo(1_700_000_000_500L);
+    }
+}
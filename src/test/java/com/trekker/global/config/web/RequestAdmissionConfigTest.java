@@ -0,0 +1,39 @@
+package com.trekker.global.config.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestAdmissionConfigTest {
+
+    @DisplayName("동시 요청 수는 풀 크기에서 병렬 쿼리와 내보내기 허가 수를 뺀 값을 넘지 않는다.")
+    @Test
+    void limitWithinConnectionBudget() {
+        // when
+        int limit = RequestAdmissionConfig.limitWithinConnectionBudget(8, 10, 6, 2);
+
+        // then
+        assertThat(limit).isEqualTo(2);
+    }
+
+    @DisplayName("설정한 동시 요청 수가 커넥션 예산 이하이면 그대로 사용한다.")
+    @Test
+    void keepConfiguredLimit() {
+        // when
+        int limit = RequestAdmissionConfig.limitWithinConnectionBudget(4, 10, 4, 2);
+
+        // then
+        assertThat(limit).isEqualTo(4);
+    }
+
+    @DisplayName("커넥션 예산이 없어도 요청을 하나는 처리한다.")
+    @Test
+    void atLeastOne() {
+        // when
+        int limit = RequestAdmissionConfig.limitWithinConnectionBudget(4, 6, 4, 2);
+
+        // then
+        assertThat(limit).isEqualTo(1);
+    }
+}
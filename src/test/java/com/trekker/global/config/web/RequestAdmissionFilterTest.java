@@ -0,0 +1,98 @@
+package com.trekker.global.config.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trekker.global.exception.enums.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestAdmissionFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestAdmissionFilter(1, 50, new ObjectMapper(), meterRegistry);
+    }
+
+    @DisplayName("허가가 남아 있으면 요청을 처리한다.")
+    @Test
+    void admit() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/report"), response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @DisplayName("동시 요청 수가 한도에 도달하면 대기 후 503으로 거절한다.")
+    @Test
+    void rejectWhenSaturated() throws Exception {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Thread inFlight = new Thread(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/report"),
+                        new MockHttpServletResponse(), blockingChain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        inFlight.start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/report"), response, chain);
+        release.countDown();
+        inFlight.join();
+
+        // then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getContentAsString()).contains(ErrorCode.SERVER_BUSY.getMessage());
+        assertThat(meterRegistry.counter("http.server.admission.rejected").count()).isEqualTo(1);
+    }
+
+    @DisplayName("헬스 체크 요청은 한도와 관계없이 처리한다.")
+    @Test
+    void bypassActuator() throws Exception {
+        // given
+        RequestAdmissionFilter saturated = new RequestAdmissionFilter(0, 0, new ObjectMapper(),
+                new SimpleMeterRegistry());
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        saturated.doFilter(new MockHttpServletRequest("GET", "/actuator/health"),
+                new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+    }
+}
@@ -0,0 +1,42 @@
+package com.trekker.global.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.trekker.global.exception.custom.BusinessException;
+import com.trekker.global.exception.enums.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorCodecTest {
+
+    @DisplayName("쉼표나 한글이 포함된 키도 인코딩 전 값으로 복원한다.")
+    @Test
+    void encodeAndDecode() {
+        // when
+        String cursor = CursorCodec.encode(4L, "Spring, 스프링");
+
+        // then
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(CursorCodec.decode(cursor, 2)).containsExactly("4", "Spring, 스프링");
+    }
+
+    @DisplayName("커서가 없으면 첫 페이지로 0을 반환한다.")
+    @Test
+    void decodeIdWithoutCursor() {
+        assertThat(CursorCodec.decodeId(null)).isZero();
+        assertThat(CursorCodec.decodeId(CursorCodec.encode(2061L))).isEqualTo(2061L);
+    }
+
+    @DisplayName("형식이 올바르지 않은 커서는 BAD_REQUEST 예외가 발생한다.")
+    @Test
+    void decodeFailInvalidCursor() {
+        assertThatThrownBy(() -> CursorCodec.decodeId("not a cursor!"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.BAD_REQUEST.getMessage());
+        assertThatThrownBy(() -> CursorCodec.decodeId(CursorCodec.encode("abc")))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(CursorCodec.encode(1L), 2))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package com.trekker.global.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.trekker.global.exception.custom.BusinessException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+class CursorPageTest {
+
+    @DisplayName("요청 크기보다 한 개 더 조회되면 요청 크기만큼 자르고 마지막 항목으로 다음 커서를 만든다.")
+    @Test
+    void ofWithNextPage() {
+        // when
+        CursorPage<Long> page = CursorPage.of(List.of(1L, 2L, 3L), 2, String::valueOf);
+
+        // then
+        assertThat(page.content()).containsExactly(1L, 2L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo("2");
+    }
+
+    @DisplayName("요청 크기 이하로 조회되면 마지막 페이지다.")
+    @Test
+    void ofLastPage() {
+        // when
+        CursorPage<Long> page = CursorPage.of(List.of(1L, 2L), 2, String::valueOf);
+
+        // then
+        assertThat(page.content()).containsExactly(1L, 2L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @DisplayName("조회 크기는 요청 크기보다 하나 크고, 허용 범위를 벗어난 크기는 예외가 발생한다.")
+    @Test
+    void fetchLimit() {
+        assertThat(CursorPage.fetchLimit(20)).isEqualTo(PageRequest.of(0, 21));
+        assertThatThrownBy(() -> CursorPage.fetchLimit(0))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> CursorPage.fetchLimit(CursorPage.MAX_SIZE + 1))
+                .isInstanceOf(BusinessException.class);
+    }
+}
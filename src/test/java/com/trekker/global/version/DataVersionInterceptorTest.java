@@ -0,0 +1,153 @@
+package com.trekker.global.version;
+
+import static com.trekker.global.version.DataAggregate.TASK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trekker.global.auth.custom.CustomUserDetails;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+@ExtendWith(MockitoExtension.class)
+class DataVersionInterceptorTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String PATH = "/api/v1/calendar/today";
+    private static final String ETAG = "\"epoch-1-k-2\"";
+
+    @Mock
+    private DataVersions dataVersions;
+
+    private DataVersionInterceptor dataVersionInterceptor;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        dataVersionInterceptor = new DataVersionInterceptor(dataVersions);
+        response = new MockHttpServletResponse();
+        CustomUserDetails userDetails = CustomUserDetails.builder()
+                .id(String.valueOf(MEMBER_ID))
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("ETag가 일치하면 컨트롤러를 호출하지 않고 304를 반환한다.")
+    @Test
+    void notModified() throws Exception {
+        // given
+        when(dataVersions.etag(any(), any())).thenReturn(ETAG);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+        // when
+        boolean proceed = dataVersionInterceptor.preHandle(request, response, handler("versioned"));
+
+        // then
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+    }
+
+    @DisplayName("프록시가 약한 ETag로 바꾼 경우에도 304를 반환한다.")
+    @Test
+    void notModifiedWithWeakEtag() throws Exception {
+        // given
+        when(dataVersions.etag(any(), any())).thenReturn(ETAG);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + ETAG);
+
+        // when
+        boolean proceed = dataVersionInterceptor.preHandle(request, response, handler("versioned"));
+
+        // then
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @DisplayName("ETag가 다르면 새 ETag를 붙이고 컨트롤러를 호출한다.")
+    @Test
+    void modified() throws Exception {
+        // given
+        when(dataVersions.etag(any(), any())).thenReturn(ETAG);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"epoch-1-k-1\"");
+
+        // when
+        boolean proceed = dataVersionInterceptor.preHandle(request, response, handler("versioned"));
+
+        // then
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+    }
+
+    @DisplayName("GET이 아니거나 버전을 사용하지 않는 API는 ETag를 적용하지 않는다.")
+    @Test
+    void skipWhenNotVersioned() throws Exception {
+        // given
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/api/v1/project");
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/v1/member");
+
+        // when
+        boolean postProceed = dataVersionInterceptor.preHandle(post, response,
+                handler("versioned"));
+        boolean getProceed = dataVersionInterceptor.preHandle(get, response, handler("plain"));
+
+        // then
+        assertThat(postProceed).isTrue();
+        assertThat(getProceed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        verify(dataVersions, never()).etag(any(), any());
+    }
+
+    @DisplayName("버전 저장소에 접근할 수 없으면 ETag 없이 컨트롤러를 호출한다.")
+    @Test
+    void skipWhenStoreUnavailable() throws Exception {
+        // given
+        when(dataVersions.etag(any(), any())).thenReturn(null);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+
+        // when
+        boolean proceed = dataVersionInterceptor.preHandle(request, response, handler("versioned"));
+
+        // then
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    private HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), methodName);
+    }
+
+    static class SampleController {
+
+        @DataVersioned({TASK})
+        public void versioned() {
+        }
+
+        public void plain() {
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.trekker.global.version;
+
+import static com.trekker.global.version.DataAggregate.PROJECT;
+import static com.trekker.global.version.DataAggregate.RETROSPECTIVE;
+import static com.trekker.global.version.DataAggregate.TASK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trekker.global.version.store.InMemoryDataVersionStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class DataVersionsTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final DataAggregate[] TASK_VIEW = {TASK};
+    private static final DataAggregate[] PROJECT_VIEW = {PROJECT, RETROSPECTIVE};
+
+    private DataVersions dataVersions;
+
+    @BeforeEach
+    void setUp() {
+        dataVersions = new DataVersions(new InMemoryDataVersionStore(100, 60));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("데이터가 바뀌지 않으면 같은 ETag를 반환한다.")
+    @Test
+    void sameEtagWithoutChange() {
+        // when
+        String first = dataVersions.etag(MEMBER_ID, TASK_VIEW);
+        String second = dataVersions.etag(MEMBER_ID, TASK_VIEW);
+
+        // then
+        assertThat(first).startsWith("\"").endsWith("\"");
+        assertThat(second).isEqualTo(first);
+    }
+
+    @DisplayName("버전을 올린 데이터 단위를 포함한 ETag만 바뀐다.")
+    @Test
+    void bumpChangesOnlyDependentEtag() {
+        // given
+        String taskEtag = dataVersions.etag(MEMBER_ID, TASK_VIEW);
+        String projectEtag = dataVersions.etag(MEMBER_ID, PROJECT_VIEW);
+
+        // when
+        dataVersions.bump(MEMBER_ID, TASK);
+
+        // then
+        assertThat(dataVersions.etag(MEMBER_ID, TASK_VIEW)).isNotEqualTo(taskEtag);
+        assertThat(dataVersions.etag(MEMBER_ID, PROJECT_VIEW)).isEqualTo(projectEtag);
+    }
+
+    @DisplayName("트랜잭션 안에서는 커밋 후에 버전을 올린다.")
+    @Test
+    void bumpAfterCommit() {
+        // given
+        String before = dataVersions.etag(MEMBER_ID, TASK_VIEW);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        dataVersions.bump(MEMBER_ID, TASK);
+        String beforeCommit = dataVersions.etag(MEMBER_ID, TASK_VIEW);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(beforeCommit).isEqualTo(before);
+        assertThat(dataVersions.etag(MEMBER_ID, TASK_VIEW)).isNotEqualTo(before);
+    }
+
+    @DisplayName("회원마다 다른 ETag를 반환한다.")
+    @Test
+    void etagPerMember() {
+        // when
+        String first = dataVersions.etag(MEMBER_ID, TASK_VIEW);
+        String other = dataVersions.etag(2L, TASK_VIEW);
+
+        // then
+        assertThat(other).isNotEqualTo(first);
+    }
+
+    @DisplayName("저장소가 초기화되면 같은 버전이라도 이전 ETag와 다르다.")
+    @Test
+    void newEpochAfterRestart() {
+        // given
+        String before = dataVersions.etag(MEMBER_ID, TASK_VIEW);
+
+        // when
+        DataVersions restarted = new DataVersions(new InMemoryDataVersionStore(100, 60));
+
+        // then
+        assertThat(restarted.etag(MEMBER_ID, TASK_VIEW)).isNotEqualTo(before);
+    }
+}
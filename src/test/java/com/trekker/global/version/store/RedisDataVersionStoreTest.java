@@ -0,0 +1,113 @@
+package com.trekker.global.version.store;
+
+import static com.trekker.global.version.DataAggregate.RETROSPECTIVE;
+import static com.trekker.global.version.DataAggregate.TASK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trekker.global.version.DataAggregate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class RedisDataVersionStoreTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private FailingRedisTemplate redisTemplate;
+    private RedisDataVersionStore dataVersionStore;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = new FailingRedisTemplate();
+        dataVersionStore = new RedisDataVersionStore(redisTemplate, 60);
+    }
+
+    @DisplayName("버전을 올리지 못하면 다시 올릴 때까지 ETag를 적용하지 않는다.")
+    @Test
+    void getReturnsNullWhileBumpPending() {
+        // given
+        redisTemplate.failing = true;
+        dataVersionStore.bump(MEMBER_ID, Set.of(TASK));
+
+        // when
+        redisTemplate.failing = false;
+        redisTemplate.failBumps = true;
+        DataVersionVector versions = dataVersionStore.get(MEMBER_ID);
+
+        // then
+        assertThat(versions).isNull();
+    }
+
+    @DisplayName("올리지 못한 버전은 조회 전에 다시 올린다.")
+    @Test
+    void getRetriesPendingBump() {
+        // given
+        redisTemplate.failing = true;
+        dataVersionStore.bump(MEMBER_ID, Set.of(TASK));
+        redisTemplate.failing = false;
+
+        // when
+        DataVersionVector versions = dataVersionStore.get(MEMBER_ID);
+
+        // then
+        assertThat(versions).isNotNull();
+        assertThat(redisTemplate.bumpedFields).containsExactly(
+                List.of(String.valueOf(TASK.ordinal())));
+    }
+
+    @DisplayName("올리지 못한 버전은 주기적으로 합쳐서 다시 올리고, 성공하면 더 올리지 않는다.")
+    @Test
+    void retryPendingBumps() {
+        // given
+        redisTemplate.failing = true;
+        dataVersionStore.bump(MEMBER_ID, Set.of(TASK));
+        dataVersionStore.bump(MEMBER_ID, Set.of(RETROSPECTIVE));
+        redisTemplate.failing = false;
+
+        // when
+        dataVersionStore.retryPendingBumps();
+        dataVersionStore.retryPendingBumps();
+
+        // then
+        assertThat(redisTemplate.bumpedFields).containsExactly(
+                List.of(String.valueOf(TASK.ordinal()), String.valueOf(RETROSPECTIVE.ordinal())));
+    }
+
+    /**
+     * 스크립트 실행 결과만 흉내 내는 Redis 템플릿
+     */
+    private static class FailingRedisTemplate extends StringRedisTemplate {
+
+        private boolean failing;
+        private boolean failBumps;
+        private final List<List<String>> bumpedFields = new ArrayList<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+            boolean bump = script.getResultType() == Long.class;
+            if (failing || (bump && failBumps)) {
+                throw new RedisConnectionFailureException("connection refused");
+            }
+            if (bump) {
+                List<String> fields = new ArrayList<>();
+                for (int i = 2; i < args.length; i++) {
+                    fields.add(String.valueOf(args[i]));
+                }
+                bumpedFields.add(fields);
+                return (T) Long.valueOf(1);
+            }
+            List<String> values = new ArrayList<>(List.of("epoch"));
+            for (int i = 0; i < DataAggregate.values().length; i++) {
+                values.add("1");
+            }
+            return (T) values;
+        }
+    }
+}
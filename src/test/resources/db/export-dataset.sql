@@ -0,0 +1,47 @@
+-- 회원 데이터 내보내기 검증용 데이터 (query-plan-dataset.sql 이후 실행)
+-- 회원 2001: 프로젝트 200개, 할 일 100,000개, 회고 50,000개, 회고 스킬 150,000개
+
+SET SESSION cte_max_recursion_depth = 200000;
+
+INSERT INTO onboardings (onboarding_id, is_completed)
+VALUES (2001, 1);
+
+INSERT INTO members (member_id, is_delete, email, role, name, onboarding_id)
+VALUES (2001, 0, 'export@trekker.com', 'USER', '내보내기 회원', 2001);
+
+INSERT INTO projects (project_id, is_delete, type, title, description, start_date, end_date,
+                      is_completed, member_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 200)
+SELECT 10000 + n,
+       0,
+       IF(n % 2 = 0, '개인', '팀'),
+       CONCAT('내보내기', n),
+       '내보내기 검증용 프로젝트, "따옴표" 포함',
+       DATE '2024-01-01',
+       DATE '2024-12-31',
+       n % 5 = 0,
+       2001
+FROM seq;
+
+INSERT INTO tasks (task_id, is_delete, name, start_date, end_date, is_completed, project_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 100000)
+SELECT 100000 + n,
+       0,
+       CONCAT('내보내기 할 일 ', n),
+       DATE_ADD(DATE '2024-01-01', INTERVAL n % 365 DAY),
+       IF(n % 3 = 0, NULL, DATE_ADD(DATE '2024-01-01', INTERVAL n % 365 + n % 14 + 1 DAY)),
+       n % 2,
+       10000 + (n - 1) DIV 500 + 1
+FROM seq;
+
+INSERT INTO retrospectives (retrospective_id, is_delete, content, task_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 50000)
+SELECT 50000 + n, 0, CONCAT('내보내기 회고 ', n, REPEAT(' 본문', 40)), 100000 + 2 * n - 1
+FROM seq;
+
+INSERT INTO retrospective_skills (id, type, retrospective_id, skill_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 150000)
+SELECT 150000 + n, IF(n % 3 = 0, 'soft', 'hard'), 50000 + (n - 1) DIV 3 + 1, n % 500 + 1
+FROM seq;
+
+ANALYZE TABLE projects, tasks, retrospectives, retrospective_skills;
@@ -0,0 +1,62 @@
+-- 실행 계획 검증용 데이터
+-- 회원 2,000명, 프로젝트 10,000개, 할 일 100,000개, 회고 50,000개, 회고 스킬 150,000개
+
+SET SESSION cte_max_recursion_depth = 200000;
+
+INSERT INTO onboardings (onboarding_id, is_completed)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 2000)
+SELECT n, 1
+FROM seq;
+
+INSERT INTO members (member_id, is_delete, email, role, name, onboarding_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 2000)
+SELECT n, 0, CONCAT('member', n, '@trekker.com'), 'USER', CONCAT('회원', n), n
+FROM seq;
+
+INSERT INTO projects (project_id, is_delete, type, title, description, start_date, end_date,
+                      is_completed, member_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000)
+SELECT n,
+       0,
+       IF(n % 2 = 0, '개인', '팀'),
+       CONCAT('프로젝트', n),
+       '실행 계획 검증용 프로젝트',
+       DATE '2024-01-01',
+       DATE '2024-12-31',
+       n % 5 = 0,
+       (n - 1) DIV 5 + 1
+FROM seq;
+
+INSERT INTO tasks (task_id, is_delete, name, start_date, end_date, is_completed, project_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 100000)
+SELECT n,
+       0,
+       CONCAT('할 일 ', n),
+       DATE_ADD(DATE '2024-01-01', INTERVAL n % 365 DAY),
+       IF(n % 3 = 0, NULL, DATE_ADD(DATE '2024-01-01', INTERVAL n % 365 + n % 14 + 1 DAY)),
+       n % 2,
+       (n - 1) DIV 10 + 1
+FROM seq;
+
+INSERT INTO retrospectives (retrospective_id, is_delete, content, task_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 50000)
+SELECT n, 0, CONCAT('회고 ', n), 2 * n - 1
+FROM seq;
+
+INSERT INTO skills (skill_id, name)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 500)
+SELECT n, CONCAT('skill', n)
+FROM seq;
+
+INSERT INTO retrospective_skills (id, type, retrospective_id, skill_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 150000)
+SELECT n, IF(n % 3 = 0, 'soft', 'hard'), (n - 1) DIV 3 + 1, n % 500 + 1
+FROM seq;
+
+-- ID를 직접 넣었으므로 시퀀스를 기존 최대 ID 이후로 맞춤 (V4 마이그레이션과 같은 방식)
+UPDATE task_sequence SET next_val = (SELECT MAX(task_id) FROM tasks) + 50;
+UPDATE project_sequence SET next_val = (SELECT MAX(project_id) FROM projects) + 50;
+UPDATE retrospective_sequence SET next_val = (SELECT MAX(retrospective_id) FROM retrospectives) + 50;
+UPDATE skill_sequence SET next_val = (SELECT MAX(skill_id) FROM skills) + 50;
+
+ANALYZE TABLE members, projects, tasks, retrospectives, skills, retrospective_skills;